@@ -29,7 +29,7 @@ public final class CodeModel extends Model {
     private List<String> content;
 
     @JsonIgnore
-    private boolean initialized;
+    private volatile boolean initialized;
 
     private CodeModel() {
         // Jackson
@@ -93,8 +93,16 @@ public List<? extends CodePackage> getAllPackages() {
         return codePackages;
     }
 
-    private void initialize() {
+    /**
+     * Registers the code items of a deserialized model at its repository. The repository only has to be initialized once, and initializing it while
+     * other threads read the model would modify the repository concurrently.
+     */
+    private synchronized void initialize() {
+        if (initialized) {
+            return;
+        }
         this.codeItemRepository.init();
+        initialized = true;
     }
 
     @Override
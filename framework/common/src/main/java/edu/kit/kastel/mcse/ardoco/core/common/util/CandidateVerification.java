@@ -0,0 +1,58 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import java.util.Objects;
+
+/**
+ * Verification of the indexes that only return the candidates of a lookup instead of scanning all elements. If the
+ * verification is enabled (e.g., via the system property {@value #PROPERTY}), the indexed lookups are repeated with a
+ * full scan and an {@link IllegalStateException} is thrown if the results differ. As this takes as long as the lookups
+ * without an index, it should only be enabled in tests.
+ */
+public final class CandidateVerification {
+
+    /**
+     * System property that enables the verification on startup.
+     */
+    public static final String PROPERTY = "ardoco.verifyCandidates";
+
+    private static volatile boolean enabled = Boolean.getBoolean(PROPERTY);
+
+    private CandidateVerification() {
+        throw new IllegalAccessError();
+    }
+
+    /**
+     * Returns whether indexed lookups are verified against a full scan.
+     *
+     * @return whether the verification is enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the verification of indexed lookups.
+     *
+     * @param enabled whether lookups should be verified
+     */
+    public static void setEnabled(boolean enabled) {
+        CandidateVerification.enabled = enabled;
+    }
+
+    /**
+     * Checks that the result of an indexed lookup equals the result of the full scan.
+     *
+     * @param expected the result of the full scan
+     * @param actual   the result of the indexed lookup
+     * @param index    the name of the index, used in the error message
+     * @param key      the key of the lookup, used in the error message
+     * @throws IllegalStateException if the results differ
+     */
+    public static void verify(Object expected, Object actual, String index, Object key) {
+        if (!Objects.equals(expected, actual)) {
+            throw new IllegalStateException("The candidates of the " + index + " differ from the full scan for '" + key + "': expected " + expected
+                    + " but was " + actual);
+        }
+    }
+}
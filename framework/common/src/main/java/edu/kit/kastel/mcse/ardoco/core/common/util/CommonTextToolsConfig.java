@@ -84,6 +84,10 @@ private CommonTextToolsConfig() {
      * The path to the sqlite database file used by the SEWordSim word similarity measure.
      */
     public static final String SEWORDSIM_DB_FILE_PATH = CONFIG.getProperty("sewordsim_DatabaseFilePath");
+    /**
+     * Decides whether the SEWordSim database is loaded into memory instead of being queried for every comparison.
+     */
+    public static final boolean SEWORDSIM_IN_MEMORY = CONFIG.isPropertyEnabled("sewordsim_InMemory");
 
     /**
      * Decides whether the GloVe similarity measure should be used.
@@ -98,6 +102,11 @@ private CommonTextToolsConfig() {
      */
     public static final String GLOVE_DB_FILE_PATH = CONFIG.getProperty("glove_DatabaseFilePath");
 
+    /**
+     * The maximum number of word pairs whose similarity is cached by WordSimUtils. A capacity of 0 disables the cache.
+     */
+    public static final int WORDSIM_CACHE_CAPACITY = CONFIG.getPropertyAsInt("wordSim_CacheCapacity");
+
     private static ResourceAccessor loadParameters(String filePath) {
         return new ResourceAccessor(filePath, true);
     }
@@ -0,0 +1,209 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.SortedMaps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+
+import edu.kit.kastel.mcse.ardoco.core.api.models.ModelInstance;
+import edu.kit.kastel.mcse.ardoco.core.api.recommendationgenerator.RecommendedInstance;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.NounMapping;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.TermLengthIndex;
+
+/**
+ * Blocks the similarity comparisons of words, noun mappings and recommended instances with the {@link ModelInstance model instances} of a model. Instead
+ * of all instances, only the instances that can be similar are returned as candidates, which are then compared with the methods of
+ * {@link SimilarityUtils} as before.
+ * <p>
+ * Every term that these methods compare with a text is indexed by its number of space-separated parts and its length (see {@link TermLengthIndex}):
+ * the joined name parts, the full name and every name part, and the joined type parts and every type part. A text that is not similar to any of these
+ * terms only passes the proportional comparison of
+ * {@link SimilarityUtils#areWordsOfListsSimilar(ImmutableList, ImmutableList)} if the configured proportion is not positive. In that case, every
+ * instance is a candidate. Full names that are equal ignoring the case have the same length, so they are indexed by their length as well. The
+ * candidates keep the order of the instances.
+ * <p>
+ * The index is created for a fixed list of instances, so it should be created for every run of an informant. If the {@link CandidateVerification} is
+ * enabled, each lookup is repeated on all instances and an {@link IllegalStateException} is thrown if the results differ.
+ */
+@Deterministic
+public final class ModelInstanceIndex {
+
+    private final ImmutableList<ModelInstance> instances;
+    // the positions of the instances by their terms
+    private final TermLengthIndex<Integer> nameTerms = new TermLengthIndex<>();
+    private final TermLengthIndex<Integer> typeTerms = new TermLengthIndex<>();
+    private final MutableSortedMap<Integer, MutableList<Integer>> instancesByFullNameLength = SortedMaps.mutable.empty();
+
+    /**
+     * Creates an index for the given instances.
+     *
+     * @param instances the instances, e.g., {@link edu.kit.kastel.mcse.ardoco.core.api.models.LegacyModelExtractionState#getInstances()}
+     */
+    public ModelInstanceIndex(ImmutableList<ModelInstance> instances) {
+        this.instances = instances;
+        for (int position = 0; position < instances.size(); position++) {
+            ModelInstance instance = instances.get(position);
+            nameTerms.add(String.join(" ", instance.getNameParts()), position);
+            nameTerms.add(instance.getFullName(), position);
+            for (String namePart : instance.getNameParts()) {
+                nameTerms.add(namePart, position);
+            }
+            typeTerms.add(String.join(" ", instance.getTypeParts()), position);
+            for (String typePart : instance.getTypeParts()) {
+                typeTerms.add(typePart, position);
+            }
+            instancesByFullNameLength.getIfAbsentPut(instance.getFullName().length(), Lists.mutable::empty).add(position);
+        }
+    }
+
+    /**
+     * Returns the indexed instances.
+     *
+     * @return the instances
+     */
+    public ImmutableList<ModelInstance> getInstances() {
+        return instances;
+    }
+
+    /**
+     * Returns whether the given word is similar to the name of any instance according to
+     * {@link SimilarityUtils#isWordSimilarToModelInstance(Word, ModelInstance)}.
+     *
+     * @param word the word
+     * @return whether there is a similar instance
+     */
+    public boolean isWordSimilarToAnyInstance(Word word) {
+        var result = toInstances(getCandidates(nameTerms, word.getText())).anySatisfy(instance -> SimilarityUtils.isWordSimilarToModelInstance(word,
+                instance));
+        if (CandidateVerification.isEnabled()) {
+            var expected = instances.anySatisfy(instance -> SimilarityUtils.isWordSimilarToModelInstance(word, instance));
+            CandidateVerification.verify(expected, result, "model instance index", word.getText());
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether the given word is similar to the type of any instance according to
+     * {@link SimilarityUtils#isWordSimilarToModelInstanceType(Word, ModelInstance)}.
+     *
+     * @param word the word
+     * @return whether there is an instance with a similar type
+     */
+    public boolean isWordSimilarToAnyInstanceType(Word word) {
+        var result = toInstances(getCandidates(typeTerms, word.getText())).anySatisfy(instance -> SimilarityUtils.isWordSimilarToModelInstanceType(word,
+                instance));
+        if (CandidateVerification.isEnabled()) {
+            var expected = instances.anySatisfy(instance -> SimilarityUtils.isWordSimilarToModelInstanceType(word, instance));
+            CandidateVerification.verify(expected, result, "model instance index", word.getText());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the instances that are similar to the given recommended instance according to
+     * {@link SimilarityUtils#isRecommendedInstanceSimilarToModelInstance(RecommendedInstance, ModelInstance)}.
+     *
+     * @param recommendedInstance the recommended instance
+     * @return the similar instances in the order of {@link #getInstances()}
+     */
+    public ImmutableList<ModelInstance> getInstancesSimilarToRecommendedInstance(RecommendedInstance recommendedInstance) {
+        var name = recommendedInstance.getName();
+        MutableList<Integer> candidates;
+        if (isProportionAlwaysReached()) {
+            candidates = getAllPositions();
+        } else {
+            // the name is compared as a whole and word by word with the name terms, and ignoring the case with the full names
+            var nameParts = name.split(" ");
+            candidates = Lists.mutable.empty();
+            nameTerms.collectCandidates(String.join(" ", nameParts), candidates);
+            for (String namePart : nameParts) {
+                nameTerms.collectCandidates(namePart, candidates);
+            }
+            var instancesWithEqualLength = instancesByFullNameLength.get(name.length());
+            if (instancesWithEqualLength != null) {
+                candidates.addAll(instancesWithEqualLength);
+            }
+            candidates = inInstanceOrder(candidates);
+        }
+        var result = toInstances(candidates).select(instance -> SimilarityUtils.isRecommendedInstanceSimilarToModelInstance(recommendedInstance,
+                instance));
+        if (CandidateVerification.isEnabled()) {
+            var expected = instances.select(instance -> SimilarityUtils.isRecommendedInstanceSimilarToModelInstance(recommendedInstance, instance));
+            CandidateVerification.verify(expected, result, "model instance index", name);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the noun mappings that are similar to each instance according to
+     * {@link SimilarityUtils#isNounMappingSimilarToModelInstance(NounMapping, ModelInstance)}. The result contains a list for every instance in the
+     * order of {@link #getInstances()}.
+     *
+     * @param nounMappings the noun mappings
+     * @return the similar noun mappings of each instance, each in the order of the given noun mappings
+     */
+    public ImmutableList<ImmutableList<NounMapping>> getSimilarNounMappingsOfInstances(ImmutableList<NounMapping> nounMappings) {
+        MutableList<MutableList<NounMapping>> similarNounMappings = Lists.mutable.withInitialCapacity(instances.size());
+        for (int position = 0; position < instances.size(); position++) {
+            similarNounMappings.add(Lists.mutable.empty());
+        }
+        for (NounMapping nounMapping : nounMappings) {
+            var candidates = getCandidates(nameTerms, nounMapping.getReference());
+            candidates.forEach(position -> {
+                if (SimilarityUtils.isNounMappingSimilarToModelInstance(nounMapping, instances.get(position))) {
+                    similarNounMappings.get(position).add(nounMapping);
+                }
+            });
+        }
+        ImmutableList<ImmutableList<NounMapping>> result = similarNounMappings.collect(MutableList::toImmutable).toImmutable();
+        if (CandidateVerification.isEnabled()) {
+            var expected = instances.collect(instance -> nounMappings.select(nounMapping -> SimilarityUtils.isNounMappingSimilarToModelInstance(
+                    nounMapping, instance)));
+            CandidateVerification.verify(expected, result, "model instance index", nounMappings.size() + " noun mappings");
+        }
+        return result;
+    }
+
+    private MutableList<Integer> getCandidates(TermLengthIndex<Integer> termIndex, String text) {
+        if (isProportionAlwaysReached()) {
+            return getAllPositions();
+        }
+        MutableList<Integer> candidates = Lists.mutable.empty();
+        termIndex.collectCandidates(text, candidates);
+        return inInstanceOrder(candidates);
+    }
+
+    /**
+     * returns whether lists of terms are similar according to their proportion of similar terms even if no terms are similar
+     */
+    private static boolean isProportionAlwaysReached() {
+        return CommonTextToolsConfig.JAROWINKLER_SIMILARITY_THRESHOLD <= 0;
+    }
+
+    private MutableList<Integer> getAllPositions() {
+        MutableList<Integer> positions = Lists.mutable.withInitialCapacity(instances.size());
+        for (int position = 0; position < instances.size(); position++) {
+            positions.add(position);
+        }
+        return positions;
+    }
+
+    private ImmutableList<ModelInstance> toInstances(MutableList<Integer> positions) {
+        return positions.collect(instances::get).toImmutable();
+    }
+
+    private static MutableList<Integer> inInstanceOrder(MutableList<Integer> candidates) {
+        candidates.sortThis();
+        MutableList<Integer> distinctCandidates = Lists.mutable.withInitialCapacity(candidates.size());
+        for (int candidate : candidates) {
+            if (distinctCandidates.isEmpty() || distinctCandidates.getLast() != candidate) {
+                distinctCandidates.add(candidate);
+            }
+        }
+        return distinctCandidates;
+    }
+}
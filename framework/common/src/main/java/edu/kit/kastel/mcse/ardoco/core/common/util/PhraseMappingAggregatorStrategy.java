@@ -1,39 +1,52 @@
 /* Licensed under MIT 2022-2023. */
 package edu.kit.kastel.mcse.ardoco.core.common.util;
 
-import static edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils.cosineSimilarity;
-import static edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils.uniqueDot;
-
+import java.util.OptionalDouble;
+import java.util.function.Function;
 import java.util.function.ToDoubleBiFunction;
+import java.util.stream.DoubleStream;
 
+import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
 import edu.kit.kastel.mcse.ardoco.core.api.textextraction.PhraseMapping;
 import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
 
 @Deterministic
 public enum PhraseMappingAggregatorStrategy implements ToDoubleBiFunction<PhraseMapping, PhraseMapping> {
-    MAX_SIMILARITY((a, b) -> uniqueDot(a.getPhrases(), b.getPhrases()).stream()
-            .mapToDouble(p -> cosineSimilarity(p.first().getPhraseVector().toSortedMap(), p.second().getPhraseVector().toSortedMap()))
-            .max()
-            .orElse(Double.NaN)), //
+    MAX_SIMILARITY(DoubleStream::max), //
 
-    MIN_SIMILARITY((a, b) -> uniqueDot(a.getPhrases(), b.getPhrases()).stream()
-            .mapToDouble(p -> cosineSimilarity(p.first().getPhraseVector().toSortedMap(), p.second().getPhraseVector().toSortedMap()))
-            .min()
-            .orElse(Double.NaN)), //
+    MIN_SIMILARITY(DoubleStream::min), //
 
-    AVG_SIMILARITY((a, b) -> uniqueDot(a.getPhrases(), b.getPhrases()).stream()
-            .mapToDouble(p -> cosineSimilarity(p.first().getPhraseVector().toSortedMap(), p.second().getPhraseVector().toSortedMap()))
-            .average()
-            .orElse(Double.NaN));
+    AVG_SIMILARITY(DoubleStream::average);
 
-    private final ToDoubleBiFunction<PhraseMapping, PhraseMapping> mapper;
+    private final Function<DoubleStream, OptionalDouble> aggregator;
 
-    PhraseMappingAggregatorStrategy(ToDoubleBiFunction<PhraseMapping, PhraseMapping> mapper) {
-        this.mapper = mapper;
+    PhraseMappingAggregatorStrategy(Function<DoubleStream, OptionalDouble> aggregator) {
+        this.aggregator = aggregator;
     }
 
     @Override
     public double applyAsDouble(PhraseMapping phraseMapping, PhraseMapping phraseMapping2) {
-        return this.mapper.applyAsDouble(phraseMapping, phraseMapping2);
+        return applyAsDouble(phraseMapping, phraseMapping2, SimilarityUtils::cosineSimilarity);
+    }
+
+    /**
+     * Aggregates the similarities of all pairs of phrases of the given phrase mappings.
+     *
+     * @param phraseMapping    the first phrase mapping
+     * @param phraseMapping2   the second phrase mapping
+     * @param phraseSimilarity the similarity of two phrases, e.g., {@link PhraseVectorIndex#getSimilarity(Phrase, Phrase)}
+     * @return the aggregated similarity or {@link Double#NaN} if a phrase mapping contains no phrases
+     */
+    public double applyAsDouble(PhraseMapping phraseMapping, PhraseMapping phraseMapping2, ToDoubleBiFunction<Phrase, Phrase> phraseSimilarity) {
+        var phrases = phraseMapping.getPhrases();
+        var phrases2 = phraseMapping2.getPhrases();
+        double[] similarities = new double[phrases.size() * phrases2.size()];
+        int i = 0;
+        for (Phrase phrase : phrases) {
+            for (Phrase phrase2 : phrases2) {
+                similarities[i++] = phraseSimilarity.applyAsDouble(phrase, phrase2);
+            }
+        }
+        return aggregator.apply(DoubleStream.of(similarities)).orElse(Double.NaN);
     }
 }
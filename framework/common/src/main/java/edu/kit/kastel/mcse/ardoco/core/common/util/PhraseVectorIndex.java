@@ -0,0 +1,268 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.SortedMaps;
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.PhraseMapping;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+
+/**
+ * Sparse phrase vectors of a list of phrase mappings. The texts of the words are replaced by integer ids and the norms of the vectors are computed
+ * once, so that the cosine similarity of two phrases (see {@link #getSimilarity(Phrase, Phrase)}) neither creates maps nor recounts words. An inverted
+ * index from the texts to the phrases restricts the phrase mappings that have to be compared with a phrase mapping to the ones whose
+ * {@link PhraseMappingAggregatorStrategy#MAX_SIMILARITY} can exceed a threshold (see {@link #getSimilarPhraseMappingCandidates(PhraseMapping, double)}).
+ * <p>
+ * Phrase mappings can lose phrases but never gain them, so the index stays valid if phrases are removed from the indexed phrase mappings after its
+ * creation. The index is not thread-safe.
+ */
+@Deterministic
+public final class PhraseVectorIndex {
+
+    private final ImmutableList<PhraseMapping> phraseMappings;
+    private final IdentityHashMap<PhraseMapping, Integer> phraseMappingIds = new IdentityHashMap<>();
+    private final IdentityHashMap<Phrase, Integer> phraseIds = new IdentityHashMap<>();
+
+    // by phrase id
+    private final MutableList<Phrase> phrases = Lists.mutable.empty();
+    private final MutableList<SparseVector> vectors = Lists.mutable.empty();
+    private final MutableList<MutableIntList> phraseMappingsOfPhrase = Lists.mutable.empty();
+    // by phrase mapping id
+    private final MutableList<MutableIntList> phrasesOfPhraseMapping = Lists.mutable.empty();
+    // by text id
+    private final MutableList<MutableIntList> postingPhrases = Lists.mutable.empty();
+    private final MutableList<MutableIntList> postingCounts = Lists.mutable.empty();
+
+    private final MutableSortedMap<String, Integer> textIds = SortedMaps.mutable.empty();
+    private final MutableSortedMap<Word, MutableIntList> phraseMappingsByWord = SortedMaps.mutable.empty();
+    private final MutableIntList phraseMappingsWithoutWords = IntLists.mutable.empty();
+
+    // buffers of the candidate generation, which are reset after each use
+    private final long[] dotProducts;
+    private final boolean[] isCandidate;
+
+    /**
+     * Creates the index for the given phrase mappings.
+     *
+     * @param phraseMappings the phrase mappings
+     */
+    public PhraseVectorIndex(ImmutableList<PhraseMapping> phraseMappings) {
+        this.phraseMappings = phraseMappings;
+        for (PhraseMapping phraseMapping : phraseMappings) {
+            addPhraseMapping(phraseMapping);
+        }
+        this.dotProducts = new long[vectors.size()];
+        this.isCandidate = new boolean[phraseMappings.size()];
+    }
+
+    private void addPhraseMapping(PhraseMapping phraseMapping) {
+        int phraseMappingId = phraseMappingIds.size();
+        phraseMappingIds.put(phraseMapping, phraseMappingId);
+
+        MutableIntList phrasesOfMapping = IntLists.mutable.empty();
+        boolean hasWords = false;
+        for (Phrase phrase : phraseMapping.getPhrases()) {
+            int phraseId = phraseIds.computeIfAbsent(phrase, this::addPhrase);
+            if (!phrasesOfMapping.contains(phraseId)) {
+                phrasesOfMapping.add(phraseId);
+                phraseMappingsOfPhrase.get(phraseId).add(phraseMappingId);
+            }
+            for (Word word : phrase.getContainedWords()) {
+                hasWords = true;
+                MutableIntList phraseMappingsOfWord = phraseMappingsByWord.getIfAbsentPut(word, IntLists.mutable::empty);
+                if (phraseMappingsOfWord.isEmpty() || phraseMappingsOfWord.getLast() != phraseMappingId) {
+                    phraseMappingsOfWord.add(phraseMappingId);
+                }
+            }
+        }
+        phrasesOfPhraseMapping.add(phrasesOfMapping);
+        if (!hasWords) {
+            phraseMappingsWithoutWords.add(phraseMappingId);
+        }
+    }
+
+    private int addPhrase(Phrase phrase) {
+        int phraseId = vectors.size();
+        SparseVector vector = toSparseVector(phrase);
+        phrases.add(phrase);
+        vectors.add(vector);
+        phraseMappingsOfPhrase.add(IntLists.mutable.empty());
+        for (int i = 0; i < vector.ids.length; i++) {
+            postingPhrases.get(vector.ids[i]).add(phraseId);
+            postingCounts.get(vector.ids[i]).add(vector.counts[i]);
+        }
+        return phraseId;
+    }
+
+    /**
+     * Returns the cosine similarity of the phrase vectors of the given phrases. The result equals
+     * {@link SimilarityUtils#cosineSimilarity(Phrase, Phrase)}, which is used if a phrase is not indexed.
+     *
+     * @param firstPhrase  the first phrase
+     * @param secondPhrase the second phrase
+     * @return the cosine similarity of the phrase vectors
+     */
+    public double getSimilarity(Phrase firstPhrase, Phrase secondPhrase) {
+        Integer firstPhraseId = phraseIds.get(firstPhrase);
+        Integer secondPhraseId = phraseIds.get(secondPhrase);
+        if (firstPhraseId == null || secondPhraseId == null) {
+            return SimilarityUtils.cosineSimilarity(firstPhrase, secondPhrase);
+        }
+        return cosineSimilarity(vectors.get(firstPhraseId), vectors.get(secondPhraseId));
+    }
+
+    /**
+     * Returns the indexed phrase mappings that can be similar to the given phrase mapping regarding
+     * {@link SimilarityUtils#getPhraseMappingSimilarity(edu.kit.kastel.mcse.ardoco.core.api.textextraction.TextState, PhraseMapping, PhraseMapping, PhraseMappingAggregatorStrategy)}
+     * with {@link PhraseMappingAggregatorStrategy#MAX_SIMILARITY}, i.e., the phrase mappings that share a word with the given phrase mapping or contain
+     * no words (so that one phrase vector can cover the other), and the phrase mappings that contain a phrase whose cosine similarity with a phrase of
+     * the given phrase mapping is greater than the minimum similarity. Thus, every phrase mapping whose similarity is greater than the minimum
+     * similarity is a candidate.
+     *
+     * @param phraseMapping the phrase mapping
+     * @param minSimilarity the minimum similarity
+     * @return the candidates in the order of the indexed phrase mappings
+     */
+    public ImmutableList<PhraseMapping> getSimilarPhraseMappingCandidates(PhraseMapping phraseMapping, double minSimilarity) {
+        Integer phraseMappingId = phraseMappingIds.get(phraseMapping);
+        if (phraseMappingId == null || minSimilarity < 0 || phraseMappingsWithoutWords.contains(phraseMappingId)) {
+            // unknown phrase mappings are compared with all others, all pairs of phrases are similar enough, or all others cover the phrase mapping
+            return phraseMappings;
+        }
+
+        MutableIntList candidates = IntLists.mutable.empty();
+        phraseMappingsWithoutWords.forEach(id -> markCandidate(id, candidates));
+        phrasesOfPhraseMapping.get(phraseMappingId).forEach(phraseId -> {
+            for (Word word : phrases.get(phraseId).getContainedWords()) {
+                phraseMappingsByWord.get(word).forEach(id -> markCandidate(id, candidates));
+            }
+            collectSimilarPhrases(vectors.get(phraseId), minSimilarity, candidates);
+        });
+
+        candidates.sortThis();
+        MutableList<PhraseMapping> result = Lists.mutable.withInitialCapacity(candidates.size());
+        candidates.forEach(id -> {
+            isCandidate[id] = false;
+            result.add(phraseMappings.get(id));
+        });
+        return result.toImmutable();
+    }
+
+    private void collectSimilarPhrases(SparseVector vector, double minSimilarity, MutableIntList candidates) {
+        MutableIntList otherPhrases = IntLists.mutable.empty();
+        for (int i = 0; i < vector.ids.length; i++) {
+            MutableIntList phrasesOfText = postingPhrases.get(vector.ids[i]);
+            MutableIntList counts = postingCounts.get(vector.ids[i]);
+            for (int j = 0; j < phrasesOfText.size(); j++) {
+                int otherPhrase = phrasesOfText.get(j);
+                if (dotProducts[otherPhrase] == 0) {
+                    otherPhrases.add(otherPhrase);
+                }
+                dotProducts[otherPhrase] += (long) vector.counts[i] * counts.get(j);
+            }
+        }
+        otherPhrases.forEach(otherPhrase -> {
+            if (cosineSimilarity(dotProducts[otherPhrase], vector.norm, vectors.get(otherPhrase).norm) > minSimilarity) {
+                phraseMappingsOfPhrase.get(otherPhrase).forEach(id -> markCandidate(id, candidates));
+            }
+            dotProducts[otherPhrase] = 0;
+        });
+    }
+
+    private void markCandidate(int phraseMappingId, MutableIntList candidates) {
+        if (!isCandidate[phraseMappingId]) {
+            isCandidate[phraseMappingId] = true;
+            candidates.add(phraseMappingId);
+        }
+    }
+
+    private SparseVector toSparseVector(Phrase phrase) {
+        var phraseVector = phrase.getPhraseVector();
+        int[] ids = new int[phraseVector.size()];
+        int[] counts = new int[phraseVector.size()];
+        int i = 0;
+        for (var entry : phraseVector.keyValuesView()) {
+            String text = entry.getOne().getText();
+            Integer id = textIds.get(text);
+            if (id == null) {
+                id = textIds.size();
+                textIds.put(text, id);
+                postingPhrases.add(IntLists.mutable.empty());
+                postingCounts.add(IntLists.mutable.empty());
+            }
+            ids[i] = id;
+            counts[i] = entry.getTwo();
+            i++;
+        }
+        return new SparseVector(ids, counts);
+    }
+
+    private static double cosineSimilarity(SparseVector first, SparseVector second) {
+        long dotProduct = 0;
+        int[] firstIds = first.sortedIds;
+        int[] secondIds = second.sortedIds;
+        int i = 0;
+        int j = 0;
+        while (i < firstIds.length && j < secondIds.length) {
+            if (firstIds[i] < secondIds[j]) {
+                i++;
+            } else if (firstIds[i] > secondIds[j]) {
+                j++;
+            } else {
+                dotProduct += (long) first.sortedCounts[i++] * second.sortedCounts[j++];
+            }
+        }
+        return cosineSimilarity(dotProduct, first.norm, second.norm);
+    }
+
+    /**
+     * Calculates the cosine similarity like {@link org.apache.commons.text.similarity.CosineSimilarity}, which returns 0 for vectors without entries.
+     */
+    private static double cosineSimilarity(long dotProduct, double firstNorm, double secondNorm) {
+        if (firstNorm <= 0 || secondNorm <= 0) {
+            return 0.0;
+        }
+        return dotProduct / (firstNorm * secondNorm);
+    }
+
+    /**
+     * A phrase vector whose texts are replaced by ids. The entries are stored in the order of the phrase vector and sorted by id.
+     */
+    private static final class SparseVector {
+        private final int[] ids;
+        private final int[] counts;
+        private final int[] sortedIds;
+        private final int[] sortedCounts;
+        private final double norm;
+
+        private SparseVector(int[] ids, int[] counts) {
+            this.ids = ids;
+            this.counts = counts;
+
+            Integer[] order = new Integer[ids.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Integer.compare(ids[a], ids[b]));
+            this.sortedIds = new int[ids.length];
+            this.sortedCounts = new int[ids.length];
+            double squaredNorm = 0;
+            for (int i = 0; i < order.length; i++) {
+                sortedIds[i] = ids[order[i]];
+                sortedCounts[i] = counts[order[i]];
+                squaredNorm += Math.pow(sortedCounts[i], 2);
+            }
+            this.norm = Math.sqrt(squaredNorm);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.map.MutableMap;
+
+import edu.kit.kastel.mcse.ardoco.core.api.models.LegacyModelExtractionState;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+
+/**
+ * A dictionary from word texts to the similar types of a model (see {@link CommonUtilities#getSimilarTypes(Word, LegacyModelExtractionState)}). The type
+ * identifiers of the model are collected once, and the similar types of every distinct text are looked up only once. Therefore, a dictionary should be
+ * created for every run of an informant, as the model and the similarity configuration do not change during a run. The dictionary is not thread-safe.
+ */
+@Deterministic
+public final class SimilarTypesDictionary {
+
+    private final ImmutableList<String> typeIdentifiers;
+    private final MutableMap<String, ImmutableList<String>> similarTypesByText = Maps.mutable.empty();
+
+    /**
+     * Creates a dictionary for the types of the given model.
+     *
+     * @param modelState the model state containing information about types
+     */
+    public SimilarTypesDictionary(LegacyModelExtractionState modelState) {
+        this.typeIdentifiers = Lists.immutable.withAll(CommonUtilities.getTypeIdentifiers(modelState));
+    }
+
+    /**
+     * Returns the type identifiers of the model that are similar to the given word.
+     *
+     * @param word the word
+     * @return the similar type identifiers in the order of {@link CommonUtilities#getTypeIdentifiers(LegacyModelExtractionState)}
+     */
+    public ImmutableList<String> getSimilarTypes(Word word) {
+        return getSimilarTypes(word.getText());
+    }
+
+    /**
+     * Returns the type identifiers of the model that are similar to the given text.
+     *
+     * @param text the text of a word
+     * @return the similar type identifiers in the order of {@link CommonUtilities#getTypeIdentifiers(LegacyModelExtractionState)}
+     */
+    public ImmutableList<String> getSimilarTypes(String text) {
+        return similarTypesByText.getIfAbsentPutWith(text, this::findSimilarTypes, text);
+    }
+
+    private ImmutableList<String> findSimilarTypes(String text) {
+        return typeIdentifiers.select(typeId -> SimilarityUtils.areWordsSimilar(typeId, text));
+    }
+}
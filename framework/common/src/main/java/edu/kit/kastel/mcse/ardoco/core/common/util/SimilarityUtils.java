@@ -4,6 +4,7 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.ToDoubleBiFunction;
 import java.util.stream.Collectors;
 
 import org.apache.commons.text.similarity.CosineSimilarity;
@@ -14,6 +15,7 @@
 
 import edu.kit.kastel.mcse.ardoco.core.api.models.ModelInstance;
 import edu.kit.kastel.mcse.ardoco.core.api.recommendationgenerator.RecommendedInstance;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
 import edu.kit.kastel.mcse.ardoco.core.api.text.PhraseType;
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
 import edu.kit.kastel.mcse.ardoco.core.api.textextraction.NounMapping;
@@ -307,6 +309,17 @@ private static boolean containsAllNounMappingsOfPhraseMapping(TextState textStat
         return phraseMapping1.getNounMappings(textState).containsAllIterable(phraseMapping2.getNounMappings(textState));
     }
 
+    /**
+     * Calculates the cosine similarity of the phrase vectors of the given phrases.
+     *
+     * @param firstPhrase  the first phrase
+     * @param secondPhrase the second phrase
+     * @return the cosine similarity of the phrase vectors
+     */
+    public static double cosineSimilarity(Phrase firstPhrase, Phrase secondPhrase) {
+        return cosineSimilarity(firstPhrase.getPhraseVector().castToSortedMap(), secondPhrase.getPhraseVector().castToSortedMap());
+    }
+
     static double cosineSimilarity(Map<Word, Integer> firstPhraseVector, Map<Word, Integer> secondPhraseVector) {
 
         CosineSimilarity cosineSimilarity = new CosineSimilarity();
@@ -351,6 +364,27 @@ public static <A, B> ImmutableList<Pair<A, B>> uniqueDot(ImmutableList<A> first,
 
     public static double getPhraseMappingSimilarity(TextState textState, PhraseMapping firstPhraseMapping, PhraseMapping secondPhraseMapping,
             PhraseMappingAggregatorStrategy strategy) {
+        return getPhraseMappingSimilarity(textState, firstPhraseMapping, secondPhraseMapping, strategy, SimilarityUtils::cosineSimilarity);
+    }
+
+    /**
+     * Calculates the similarity of two phrase mappings like {@link #getPhraseMappingSimilarity(TextState, PhraseMapping, PhraseMapping,
+     * PhraseMappingAggregatorStrategy)}, but uses the precomputed phrase vectors of the given index.
+     *
+     * @param textState           the text state
+     * @param firstPhraseMapping  the first phrase mapping
+     * @param secondPhraseMapping the second phrase mapping
+     * @param strategy            the strategy that aggregates the similarities of the phrases
+     * @param phraseVectorIndex   the index of the phrase vectors
+     * @return the similarity of the phrase mappings
+     */
+    public static double getPhraseMappingSimilarity(TextState textState, PhraseMapping firstPhraseMapping, PhraseMapping secondPhraseMapping,
+            PhraseMappingAggregatorStrategy strategy, PhraseVectorIndex phraseVectorIndex) {
+        return getPhraseMappingSimilarity(textState, firstPhraseMapping, secondPhraseMapping, strategy, phraseVectorIndex::getSimilarity);
+    }
+
+    private static double getPhraseMappingSimilarity(TextState textState, PhraseMapping firstPhraseMapping, PhraseMapping secondPhraseMapping,
+            PhraseMappingAggregatorStrategy strategy, ToDoubleBiFunction<Phrase, Phrase> phraseSimilarity) {
         PhraseType firstPhraseType = firstPhraseMapping.getPhraseType();
         PhraseType secondPhraseType = secondPhraseMapping.getPhraseType();
         if (!firstPhraseType.equals(secondPhraseType)) {
@@ -365,7 +399,7 @@ public static double getPhraseMappingSimilarity(TextState textState, PhraseMappi
             return 1.0;
         }
 
-        return strategy.applyAsDouble(firstPhraseMapping, secondPhraseMapping);
+        return strategy.applyAsDouble(firstPhraseMapping, secondPhraseMapping, phraseSimilarity);
     }
 
     private static int similarEntriesOfList(ImmutableList<String> list1, ImmutableList<String> list2) {
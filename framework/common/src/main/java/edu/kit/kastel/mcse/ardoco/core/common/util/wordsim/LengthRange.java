@@ -0,0 +1,88 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim;
+
+/**
+ * A closed range of term lengths. Word similarity measures use it to state which lengths a term must have so that they can consider it similar to
+ * another term (see {@link WordSimMeasure#getSimilarTermLengths(int)}). A range whose minimum is greater than its maximum is empty.
+ *
+ * @param min the minimum length
+ * @param max the maximum length
+ */
+public record LengthRange(int min, int max) {
+
+    /**
+     * The range that contains all lengths.
+     */
+    public static final LengthRange UNBOUNDED = new LengthRange(0, Integer.MAX_VALUE);
+
+    /**
+     * The range that contains no length.
+     */
+    public static final LengthRange EMPTY = new LengthRange(1, 0);
+
+    /**
+     * Creates a range. Negative minimums are raised to 0.
+     *
+     * @param min the minimum length
+     * @param max the maximum length
+     */
+    public LengthRange(int min, int max) {
+        this.min = Math.max(0, min);
+        this.max = max;
+    }
+
+    /**
+     * Creates a range from bounds that may exceed the range of integers. The bounds are clamped to the valid lengths.
+     *
+     * @param min the minimum length
+     * @param max the maximum length
+     * @return the range
+     */
+    public static LengthRange of(long min, long max) {
+        return new LengthRange((int) Math.max(0, Math.min(min, Integer.MAX_VALUE)), (int) Math.max(-1, Math.min(max, Integer.MAX_VALUE)));
+    }
+
+    /**
+     * Checks whether the given length is within this range.
+     *
+     * @param length the length
+     * @return {@code true} if the length is within this range
+     */
+    public boolean contains(int length) {
+        return min <= length && length <= max;
+    }
+
+    /**
+     * Checks whether this range contains no length.
+     *
+     * @return {@code true} if this range is empty
+     */
+    public boolean isEmpty() {
+        return min > max;
+    }
+
+    /**
+     * Checks whether this range contains all lengths.
+     *
+     * @return {@code true} if this range is unbounded
+     */
+    public boolean isUnbounded() {
+        return min == 0 && max == Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the smallest range that contains this and the given range.
+     *
+     * @param other the other range
+     * @return the range that spans both ranges
+     */
+    public LengthRange span(LengthRange other) {
+        if (isEmpty()) {
+            return other;
+        }
+        if (other.isEmpty()) {
+            return this;
+        }
+        return new LengthRange(Math.min(min, other.min), Math.max(max, other.max));
+    }
+}
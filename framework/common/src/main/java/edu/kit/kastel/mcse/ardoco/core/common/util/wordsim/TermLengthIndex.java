@@ -0,0 +1,115 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim;
+
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.SortedMaps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+
+/**
+ * Blocks the comparisons of {@link WordSimUtils#areWordsSimilar(String, String)} by indexing elements by the number of space-separated parts and the
+ * length of their terms. Terms with a different number of parts are never similar (see {@link WordSimUtils#countParts(String)}), and the configured
+ * measures state which lengths a similar term can have (see {@link WordSimUtils#getSimilarTermLengths(int)}). Both are necessary conditions of a
+ * similar pair, so the candidates of a term contain every element with a similar term. Terms whose length changes if they are lower-cased are
+ * candidates for every term with the same number of parts.
+ * <p>
+ * The candidates are neither ordered nor distinct, as the callers know best how to order their elements. The index is not thread-safe.
+ *
+ * @param <T> the type of the indexed elements
+ */
+@Deterministic
+public final class TermLengthIndex<T> {
+
+    private final MutableSortedMap<Integer, MutableSortedMap<Integer, MutableList<T>>> elementsByPartsAndLength = SortedMaps.mutable.empty();
+    private final MutableSortedMap<Integer, MutableList<T>> caseVariantLengthElementsByParts = SortedMaps.mutable.empty();
+
+    /**
+     * Adds an element for the given term.
+     *
+     * @param term    the term
+     * @param element the element
+     */
+    public void add(String term, T element) {
+        int parts = WordSimUtils.countParts(term);
+        if (WordSimUtils.hasCaseInvariantLength(term)) {
+            elementsByPartsAndLength.getIfAbsentPut(parts, SortedMaps.mutable::empty).getIfAbsentPut(term.length(), Lists.mutable::empty).add(element);
+        } else {
+            caseVariantLengthElementsByParts.getIfAbsentPut(parts, Lists.mutable::empty).add(element);
+        }
+    }
+
+    /**
+     * Removes an element that was added for the given term. The element is identified by its identity.
+     *
+     * @param term    the term the element was added for
+     * @param element the element
+     * @return whether the element was removed
+     */
+    public boolean remove(String term, T element) {
+        int parts = WordSimUtils.countParts(term);
+        if (!WordSimUtils.hasCaseInvariantLength(term)) {
+            var elements = caseVariantLengthElementsByParts.get(parts);
+            if (elements == null || !removeIdentical(elements, element)) {
+                return false;
+            }
+            if (elements.isEmpty()) {
+                caseVariantLengthElementsByParts.remove(parts);
+            }
+            return true;
+        }
+        var elementsByLength = elementsByPartsAndLength.get(parts);
+        var elements = elementsByLength == null ? null : elementsByLength.get(term.length());
+        if (elements == null || !removeIdentical(elements, element)) {
+            return false;
+        }
+        if (elements.isEmpty()) {
+            elementsByLength.remove(term.length());
+            if (elementsByLength.isEmpty()) {
+                elementsByPartsAndLength.remove(parts);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the elements whose terms can be similar to the given term to the candidates.
+     *
+     * @param term       the term
+     * @param candidates the collection the candidates are added to
+     */
+    public void collectCandidates(String term, MutableCollection<T> candidates) {
+        int parts = WordSimUtils.countParts(term);
+        var caseVariantLengthElements = caseVariantLengthElementsByParts.get(parts);
+        if (caseVariantLengthElements != null) {
+            candidates.addAll(caseVariantLengthElements);
+        }
+        var elementsByLength = elementsByPartsAndLength.get(parts);
+        if (elementsByLength == null) {
+            return;
+        }
+        LengthRange lengths = WordSimUtils.hasCaseInvariantLength(term) ? WordSimUtils.getSimilarTermLengths(term.length()) : LengthRange.UNBOUNDED;
+        if (lengths.isEmpty()) {
+            return;
+        }
+        if (lengths.isUnbounded()) {
+            elementsByLength.forEachValue(candidates::addAll);
+            return;
+        }
+        var subMap = lengths.max() == Integer.MAX_VALUE ?
+                elementsByLength.tailMap(lengths.min()) :
+                elementsByLength.subMap(lengths.min(), lengths.max() + 1);
+        subMap.forEachValue(candidates::addAll);
+    }
+
+    private static <T> boolean removeIdentical(MutableList<T> elements, T element) {
+        int index = elements.detectIndex(it -> it == element);
+        if (index < 0) {
+            return false;
+        }
+        elements.remove(index);
+        return true;
+    }
+}
@@ -0,0 +1,181 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.strategy.ComparisonStrategy;
+
+/**
+ * A bounded, thread-safe cache for the verdicts of word similarity comparisons. Entries are keyed by the terms that are compared (see
+ * {@link ComparisonContext#firstTerm()} and {@link ComparisonContext#secondTerm()}), the set of measures and the strategy that combined them. The terms
+ * are used exactly as the measures receive them: as measures may be case-sensitive or asymmetric, the terms are neither lower-cased nor reordered.
+ * <p>
+ * The cache is split into segments that are locked independently. Each segment evicts its least recently used entry once it exceeds its share of the
+ * capacity.
+ */
+@Deterministic
+public final class WordSimCache {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+
+    private final Segment[] segments;
+    private final int capacity;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Creates a new cache that holds at most the specified number of entries.
+     *
+     * @param capacity the maximum number of entries. A capacity of 0 disables the cache.
+     */
+    public WordSimCache(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity must not be negative");
+        }
+        this.capacity = capacity;
+        // small caches use a single segment, so that they evict exactly their least recently used entry
+        int segmentCount = Math.min(MAX_SEGMENTS, Math.max(1, capacity / MIN_SEGMENT_CAPACITY));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int segmentCapacity = capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0);
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    /**
+     * Returns the cached verdict for the specified comparison or calculates and caches it if it is not cached yet. The verdict is calculated outside
+     * of any lock, so the same comparison may be calculated more than once if it is requested concurrently.
+     *
+     * @param ctx         the comparison
+     * @param measureSet  the id of the set of measures that is used for the comparison
+     * @param strategy    the strategy that is used for the comparison
+     * @param calculation calculates the verdict if it is not cached
+     * @return the verdict
+     */
+    public boolean computeIfAbsent(ComparisonContext ctx, int measureSet, ComparisonStrategy strategy, BooleanSupplier calculation) {
+        if (capacity == 0) {
+            misses.incrementAndGet();
+            return calculation.getAsBoolean();
+        }
+        Key key = new Key(ctx.firstTerm(), ctx.secondTerm(), measureSet, strategy);
+        Segment segment = segmentFor(key);
+        Boolean cached = segment.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        boolean verdict = calculation.getAsBoolean();
+        segment.put(key, verdict);
+        return verdict;
+    }
+
+    /**
+     * Removes all entries from this cache. The statistics are kept.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Returns the number of entries in this cache.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of entries of this cache.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the statistics of this cache since it was created.
+     *
+     * @return the statistics
+     */
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(hits.get(), misses.get(), evictions.get());
+    }
+
+    private Segment segmentFor(Key key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[Math.floorMod(hash, segments.length)];
+    }
+
+    private record Key(String firstTerm, String secondTerm, int measureSet, ComparisonStrategy strategy) {
+    }
+
+    @Deterministic
+    private final class Segment {
+        private final Map<Key, Boolean> entries;
+
+        private Segment(int segmentCapacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Boolean> eldest) {
+                    if (size() > segmentCapacity) {
+                        evictions.incrementAndGet();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private synchronized Boolean get(Key key) {
+            return entries.get(key);
+        }
+
+        private synchronized void put(Key key, boolean verdict) {
+            entries.put(key, verdict);
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Statistics of a {@link WordSimCache}.
+     *
+     * @param hits      the number of comparisons that were answered by the cache
+     * @param misses    the number of comparisons that had to be calculated
+     * @param evictions the number of entries that were evicted to stay within the capacity
+     */
+    public record CacheStatistics(long hits, long misses, long evictions) {
+        /**
+         * Returns the share of comparisons that were answered by the cache.
+         *
+         * @return the hit rate between 0 and 1, or 0 if there were no comparisons
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
@@ -14,4 +14,19 @@ public interface WordSimMeasure {
      */
     boolean areWordsSimilar(ComparisonContext ctx);
 
+    /**
+     * Returns the lengths that a term must have so that this measure can consider it similar to a term of the given length, regardless of the order
+     * of both terms in the {@link ComparisonContext}. Lengths are the {@link String#length()} of {@link ComparisonContext#firstTerm()} and
+     * {@link ComparisonContext#secondTerm()}. The range only has to hold for terms whose length does not change if they are lower-cased. Callers can
+     * use the range to skip comparisons that cannot succeed, so it must never exclude a length of a similar term.
+     * <p>
+     * The default implementation does not restrict the length.
+     *
+     * @param length the length of the term
+     * @return the lengths of terms that may be similar to the term
+     */
+    default LengthRange getSimilarTermLengths(int length) {
+        return LengthRange.UNBOUNDED;
+    }
+
 }
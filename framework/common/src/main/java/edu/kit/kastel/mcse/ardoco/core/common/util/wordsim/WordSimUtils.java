@@ -10,6 +10,7 @@
 import org.sqlite.SQLiteOpenMode;
 
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.common.util.CommonTextToolsConfig;
 import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.strategy.ComparisonStrategy;
 
 /**
@@ -18,13 +19,19 @@
  * measures. These fallbacks can be changed with the {@link #setMeasures(Collection)} and
  * {@link #setStrategy(ComparisonStrategy)} methods. Any calls to methods that provide their own measures or strategies
  * will not utilize these fallbacks. Any calls that do not provide their own measures or strategies will utilize them.
- * As of right now, no protections against simultaneous write access from multiple threads exist. Therefore, this class
- * is not threadsafe.
+ * <p>
+ * The verdicts of comparisons are memoized in a {@link WordSimCache}, as the same word pairs are compared many times
+ * during a run. The cache assumes that measures only depend on the compared terms of a {@link ComparisonContext}. It is
+ * cleared whenever {@link #setMeasures(Collection)} or {@link #setStrategy(ComparisonStrategy)} change the
+ * configuration. Comparisons may run concurrently, but changing the configuration while comparisons are running is not
+ * supported.
  */
 public class WordSimUtils {
 
-    private static ImmutableList<WordSimMeasure> measures = WordSimLoader.loadUsingProperties();
-    private static ComparisonStrategy strategy = ComparisonStrategy.AT_LEAST_ONE;
+    private static volatile ImmutableList<WordSimMeasure> measures = WordSimLoader.loadUsingProperties();
+    private static volatile ComparisonStrategy strategy = ComparisonStrategy.AT_LEAST_ONE;
+    private static volatile int measureSet;
+    private static final WordSimCache cache = new WordSimCache(Math.max(0, CommonTextToolsConfig.WORDSIM_CACHE_CAPACITY));
 
     private WordSimUtils() {
     }
@@ -35,8 +42,14 @@ private WordSimUtils() {
      *
      * @param measures the measures to use
      */
-    public static void setMeasures(Collection<WordSimMeasure> measures) {
-        WordSimUtils.measures = Lists.immutable.withAll(measures);
+    public static synchronized void setMeasures(Collection<WordSimMeasure> measures) {
+        ImmutableList<WordSimMeasure> newMeasures = Lists.immutable.withAll(measures);
+        if (newMeasures.equals(WordSimUtils.measures)) {
+            return;
+        }
+        WordSimUtils.measures = newMeasures;
+        WordSimUtils.measureSet++;
+        cache.clear();
     }
 
     /**
@@ -45,8 +58,29 @@ public static void setMeasures(Collection<WordSimMeasure> measures) {
      *
      * @param strategy the new default strategy
      */
-    public static void setStrategy(ComparisonStrategy strategy) {
+    public static synchronized void setStrategy(ComparisonStrategy strategy) {
+        if (strategy == WordSimUtils.strategy) {
+            return;
+        }
         WordSimUtils.strategy = strategy;
+        cache.clear();
+    }
+
+    /**
+     * Returns the statistics of the cache that memoizes the verdicts of comparisons.
+     *
+     * @return the statistics of the cache
+     */
+    public static WordSimCache.CacheStatistics getCacheStatistics() {
+        return cache.getStatistics();
+    }
+
+    /**
+     * Removes all memoized verdicts of comparisons. This is required if the configured measures change their behavior
+     * without being replaced by {@link #setMeasures(Collection)}.
+     */
+    public static void clearCache() {
+        cache.clear();
     }
 
     /**
@@ -66,13 +100,48 @@ public static boolean areWordsSimilar(ComparisonContext ctx, ComparisonStrategy
             return false;
         }
 
-        return strategy.areWordsSimilar(ctx, measures.toList());
+        // read the id before the measures, so that a concurrent change of the measures never caches a verdict under the new id
+        int currentMeasureSet = measureSet;
+        ImmutableList<WordSimMeasure> currentMeasures = measures;
+        return cache.computeIfAbsent(ctx, currentMeasureSet, strategy, () -> strategy.areWordsSimilar(ctx, currentMeasures.castToList()));
     }
 
     private static boolean splitLengthTest(ComparisonContext ctx) {
-        var first = ctx.firstTerm().toLowerCase();
-        var second = ctx.secondTerm().toLowerCase();
-        return (first.split(" ").length == second.split(" ").length);
+        return countParts(ctx.firstTerm()) == countParts(ctx.secondTerm());
+    }
+
+    /**
+     * Returns the number of space-separated parts of the given term. Terms with a different number of parts are never considered similar.
+     *
+     * @param term the term
+     * @return the number of parts
+     */
+    public static int countParts(String term) {
+        // lower-casing the term, as the measures do, neither adds nor removes spaces
+        return term.split(" ").length;
+    }
+
+    /**
+     * Returns the lengths that a term must have so that the configured measures and the default strategy can consider it similar to a term of the
+     * given length (see {@link WordSimMeasure#getSimilarTermLengths(int)}). The range only holds for terms that have a
+     * {@link #hasCaseInvariantLength(String) case-invariant length}.
+     *
+     * @param length the length of the term
+     * @return the lengths of terms that may be similar to the term
+     */
+    public static LengthRange getSimilarTermLengths(int length) {
+        return strategy.getSimilarTermLengths(length, measures.castToList());
+    }
+
+    /**
+     * Checks whether lower-casing the given term keeps its length. Only such terms can be compared by their length (see
+     * {@link #getSimilarTermLengths(int)}).
+     *
+     * @param term the term
+     * @return {@code true} if the lower-cased term has the same length as the term
+     */
+    public static boolean hasCaseInvariantLength(String term) {
+        return term.toLowerCase().length() == term.length();
     }
 
     /**
@@ -2,6 +2,7 @@
 package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.measures.equality;
 
 import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.ComparisonContext;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.LengthRange;
 import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.WordSimMeasure;
 
 /**
@@ -15,4 +16,10 @@ public boolean areWordsSimilar(ComparisonContext ctx) {
         return ctx.firstTerm().equalsIgnoreCase(ctx.secondTerm());
     }
 
+    @Override
+    public LengthRange getSimilarTermLengths(int length) {
+        // equalsIgnoreCase compares the terms char by char
+        return new LengthRange(length, length);
+    }
+
 }
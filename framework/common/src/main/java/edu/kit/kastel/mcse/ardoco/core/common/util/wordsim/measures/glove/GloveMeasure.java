@@ -1,6 +1,7 @@
 /* Licensed under MIT 2022-2023. */
 package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.measures.glove;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.sql.SQLException;
 
@@ -12,6 +13,8 @@
 import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.vector.RetrieveVectorException;
 import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.vector.VectorBasedWordSimMeasure;
 import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.vector.VectorSqliteDatabase;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.vector.WordVectorDataSource;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.vector.WordVectorStore;
 
 /**
  * This word similarity measures utilizes GloVe trained word vector representations to calculate word similarity. It
@@ -25,12 +28,14 @@ public class GloveMeasure extends VectorBasedWordSimMeasure {
     private final double similarityThreshold;
 
     /**
-     * Constructs a new {@link GloveMeasure} using the settings provided by {@link CommonTextToolsConfig}.
+     * Constructs a new {@link GloveMeasure} using the settings provided by {@link CommonTextToolsConfig}. If the configured file is a
+     * {@link WordVectorStore}, the vectors are read from the memory-mapped store instead of the sqlite database.
      *
      * @throws SQLException if establishing the connection to the data source fails
+     * @throws IOException  if the word vector store cannot be opened
      */
-    public GloveMeasure() throws SQLException {
-        this(new VectorSqliteDatabase(Path.of(CommonTextToolsConfig.GLOVE_DB_FILE_PATH)), CommonTextToolsConfig.GLOVE_SIMILARITY_THRESHOLD);
+    public GloveMeasure() throws SQLException, IOException {
+        this(openDataSource(Path.of(CommonTextToolsConfig.GLOVE_DB_FILE_PATH)), CommonTextToolsConfig.GLOVE_SIMILARITY_THRESHOLD);
     }
 
     /**
@@ -40,7 +45,7 @@ public GloveMeasure() throws SQLException {
      * @param similarityThreshold the threshold above which words are considered similar, between 0 and 1
      * @throws IllegalArgumentException if the given threshold is not between 0 and 1
      */
-    public GloveMeasure(VectorSqliteDatabase dataSource, double similarityThreshold) throws IllegalArgumentException {
+    public GloveMeasure(WordVectorDataSource dataSource, double similarityThreshold) throws IllegalArgumentException {
         super(dataSource);
 
         this.similarityThreshold = similarityThreshold;
@@ -63,4 +68,11 @@ public boolean areWordsSimilar(ComparisonContext ctx) {
         return similarity >= this.similarityThreshold;
     }
 
+    private static WordVectorDataSource openDataSource(Path file) throws SQLException, IOException {
+        if (WordVectorStore.isStore(file)) {
+            return WordVectorStore.open(file);
+        }
+        return new VectorSqliteDatabase(file);
+    }
+
 }
@@ -5,6 +5,7 @@
 
 import edu.kit.kastel.mcse.ardoco.core.common.util.CommonTextToolsConfig;
 import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.ComparisonContext;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.LengthRange;
 import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.WordSimMeasure;
 
 /**
@@ -12,6 +13,11 @@
  */
 public class JaroWinklerMeasure implements WordSimMeasure {
 
+    // the winkler boost only applies above this jaro similarity and adds at most 4 * 0.1 of the remaining distance
+    private static final double BOOST_THRESHOLD = 0.7;
+    private static final double MAX_BOOST = 0.4;
+    private static final double EPSILON = 1e-9;
+
     private final JaroWinklerSimilarity jaroWinklerSimilarity = new JaroWinklerSimilarity();
 
     private final double similarityThreshold;
@@ -43,4 +49,23 @@ public boolean areWordsSimilar(ComparisonContext ctx) {
         return similarity >= this.similarityThreshold;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The jaro similarity of two terms with lengths {@code s <= l} and {@code m} matching characters is
+     * {@code (m / s + m / l + (m - t) / m) / 3 <= (2 + s / l) / 3}, as {@code m <= s}. The jaro similarity that is required to reach the threshold
+     * therefore bounds the ratio of the lengths of both terms. Identical terms are similar regardless of the threshold, but have the same length.
+     */
+    @Override
+    public LengthRange getSimilarTermLengths(int length) {
+        double minJaroSimilarity = similarityThreshold <= BOOST_THRESHOLD ?
+                similarityThreshold :
+                Math.max(BOOST_THRESHOLD, (similarityThreshold - MAX_BOOST) / (1.0 - MAX_BOOST));
+        double minLengthRatio = 3.0 * minJaroSimilarity - 2.0 - EPSILON;
+        if (minLengthRatio <= 0.0) {
+            return LengthRange.UNBOUNDED;
+        }
+        return LengthRange.of((long) Math.ceil(length * minLengthRatio), (long) Math.floor(length / minLengthRatio));
+    }
+
 }
@@ -0,0 +1,149 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.measures.levenshtein;
+
+import org.apache.commons.text.similarity.LevenshteinDistance;
+
+/**
+ * Calculates the levenshtein distance between two char sequences up to a limit. Callers that only need to know whether the distance stays within a small
+ * limit do not need the full distance: the calculation stops as soon as the distance is known to exceed the limit.
+ * <p>
+ * If the shorter sequence has at most 64 chars, the distance is calculated with the bit-parallel algorithm of Myers in the formulation of Hyyrö, which
+ * processes a whole column of the dynamic programming matrix with a few operations on a {@code long}. Longer sequences are delegated to the banded
+ * algorithm of {@link LevenshteinDistance}. Like {@link LevenshteinDistance}, the distance is calculated on UTF-16 chars.
+ */
+public final class BoundedLevenshteinDistance {
+
+    private static final int MAX_PATTERN_LENGTH = Long.SIZE;
+    private static final int TABLE_SIZE = 256;
+
+    private static final ThreadLocal<PatternMasks> PATTERN_MASKS = ThreadLocal.withInitial(PatternMasks::new);
+
+    private BoundedLevenshteinDistance() {
+        throw new IllegalAccessError();
+    }
+
+    /**
+     * Calculates the levenshtein distance between the given sequences if it does not exceed the given limit.
+     *
+     * @param first  the first sequence
+     * @param second the second sequence
+     * @param limit  the maximum distance of interest, must be non-negative
+     * @return the distance, or -1 if the distance is greater than the limit
+     */
+    public static int distance(CharSequence first, CharSequence second, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must be a non-negative integer: " + limit);
+        }
+        CharSequence pattern = first.length() <= second.length() ? first : second;
+        CharSequence text = pattern == first ? second : first;
+        int m = pattern.length();
+        int n = text.length();
+
+        if (n - m > limit) {
+            return -1;
+        }
+        if (m == 0) {
+            return n;
+        }
+        if (m > MAX_PATTERN_LENGTH) {
+            return new LevenshteinDistance(limit).apply(first, second);
+        }
+
+        PatternMasks masks = PATTERN_MASKS.get();
+        masks.fill(pattern);
+        try {
+            return myers(masks, text, m, limit);
+        } finally {
+            masks.clear(pattern);
+        }
+    }
+
+    private static int myers(PatternMasks masks, CharSequence text, int m, int limit) {
+        int n = text.length();
+        long last = 1L << (m - 1);
+        long positiveVertical = m == MAX_PATTERN_LENGTH ? -1L : (1L << m) - 1;
+        long negativeVertical = 0L;
+        int score = m;
+
+        for (int j = 0; j < n; j++) {
+            long equal = masks.get(text.charAt(j));
+            long vertical = equal | negativeVertical;
+            long horizontal = (((equal & positiveVertical) + positiveVertical) ^ positiveVertical) | equal;
+            long positiveHorizontal = negativeVertical | ~(horizontal | positiveVertical);
+            long negativeHorizontal = positiveVertical & horizontal;
+
+            if ((positiveHorizontal & last) != 0) {
+                score++;
+            } else if ((negativeHorizontal & last) != 0) {
+                score--;
+            }
+            // the score changes by at most one per remaining column, so it cannot get back within the limit
+            if (score - (n - j - 1) > limit) {
+                return -1;
+            }
+
+            positiveHorizontal = (positiveHorizontal << 1) | 1L;
+            negativeHorizontal <<= 1;
+            positiveVertical = negativeHorizontal | ~(vertical | positiveHorizontal);
+            negativeVertical = positiveHorizontal & vertical;
+        }
+        return score <= limit ? score : -1;
+    }
+
+    /**
+     * The match masks of a pattern: for every char, the bits of the positions at which the char occurs in the pattern. Chars below {@link #TABLE_SIZE}
+     * are looked up in a table, all other chars of the pattern are kept in a short list.
+     */
+    private static final class PatternMasks {
+        private final long[] table = new long[TABLE_SIZE];
+        private final char[] otherChars = new char[MAX_PATTERN_LENGTH];
+        private final long[] otherMasks = new long[MAX_PATTERN_LENGTH];
+        private int otherCount;
+
+        private void fill(CharSequence pattern) {
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                long bit = 1L << i;
+                if (c < TABLE_SIZE) {
+                    table[c] |= bit;
+                } else {
+                    addOther(c, bit);
+                }
+            }
+        }
+
+        private void addOther(char c, long bit) {
+            for (int k = 0; k < otherCount; k++) {
+                if (otherChars[k] == c) {
+                    otherMasks[k] |= bit;
+                    return;
+                }
+            }
+            otherChars[otherCount] = c;
+            otherMasks[otherCount] = bit;
+            otherCount++;
+        }
+
+        private long get(char c) {
+            if (c < TABLE_SIZE) {
+                return table[c];
+            }
+            for (int k = 0; k < otherCount; k++) {
+                if (otherChars[k] == c) {
+                    return otherMasks[k];
+                }
+            }
+            return 0L;
+        }
+
+        private void clear(CharSequence pattern) {
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c < TABLE_SIZE) {
+                    table[c] = 0L;
+                }
+            }
+            otherCount = 0;
+        }
+    }
+}
@@ -1,10 +1,9 @@
 /* Licensed under MIT 2022-2023. */
 package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.measures.levenshtein;
 
-import org.apache.commons.text.similarity.LevenshteinDistance;
-
 import edu.kit.kastel.mcse.ardoco.core.common.util.CommonTextToolsConfig;
 import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.ComparisonContext;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.LengthRange;
 import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.WordSimMeasure;
 
 /**
@@ -20,10 +19,10 @@
  * <li><b>threshold:</b> A number between 0 and 1 that serves as a word-dependent distance limit. The levenshtein
  * distance between the words must be lower than the threshold multiplied by the length of the shorter word.</li>
  * </ul>
+ * As only distances up to these limits are of interest, the distance is calculated by {@link BoundedLevenshteinDistance}.
  */
 public class LevenshteinMeasure implements WordSimMeasure {
 
-    private final LevenshteinDistance levenshteinDistance = new LevenshteinDistance();
     private final int minLength;
     private final int maxDistance;
     private final double threshold;
@@ -66,14 +65,19 @@ public boolean areWordsSimilar(ComparisonContext ctx) {
         String firstWord = ctx.firstTerm().toLowerCase();
         String secondWord = ctx.secondTerm().toLowerCase();
 
-        int maxDynamicDistance = (int) Math.min(this.maxDistance, this.threshold * Math.min(firstWord.length(), secondWord.length()));
-        int distance = this.levenshteinDistance.apply(firstWord, secondWord);
-
         if (firstWord.length() <= this.minLength) {
-            return distance <= this.maxDistance && (secondWord.contains(firstWord) || firstWord.contains(secondWord));
+            return (secondWord.contains(firstWord) || firstWord.contains(secondWord))
+                    && BoundedLevenshteinDistance.distance(firstWord, secondWord, this.maxDistance) >= 0;
         } else {
-            return distance <= maxDynamicDistance;
+            int maxDynamicDistance = (int) Math.min(this.maxDistance, this.threshold * Math.min(firstWord.length(), secondWord.length()));
+            return BoundedLevenshteinDistance.distance(firstWord, secondWord, maxDynamicDistance) >= 0;
         }
     }
 
+    @Override
+    public LengthRange getSimilarTermLengths(int length) {
+        // the lengths of terms within the maximum distance differ by at most this distance
+        return LengthRange.of((long) length - this.maxDistance, (long) length + this.maxDistance);
+    }
+
 }
@@ -1,6 +1,7 @@
 /* Licensed under MIT 2022-2023. */
 package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.measures.ngram;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 import edu.kit.kastel.mcse.ardoco.core.common.util.CommonTextToolsConfig;
@@ -33,6 +34,7 @@ public enum Variant {
     private final Variant variant;
     private final int n;
     private final double similarityThreshold;
+    private final ThreadLocal<Workspace> workspaces = ThreadLocal.withInitial(Workspace::new);
 
     /**
      * Constructs a new {@link NgramMeasure} using the settings provided by
@@ -68,9 +70,13 @@ public NgramMeasure(Variant variant, int n, double similarityThreshold) throws I
     public boolean areWordsSimilar(ComparisonContext ctx) {
         Objects.requireNonNull(ctx);
 
-        double distance = calculateDistance(ctx.firstTerm(), ctx.secondTerm());
+        String firstTerm = ctx.firstTerm();
+        String secondTerm = ctx.secondTerm();
+        int maxLength = Math.max(firstTerm.length(), secondTerm.length());
 
-        double normalizedDistance = distance / Math.max(ctx.firstTerm().length(), ctx.secondTerm().length());
+        double distance = calculateDistance(firstTerm, secondTerm, maxLength);
+
+        double normalizedDistance = distance / maxLength;
 
         double similarity = 1.0 - normalizedDistance;
 
@@ -85,60 +91,76 @@ public boolean areWordsSimilar(ComparisonContext ctx) {
      * @return the distance
      */
     public double calculateDistance(String x, String y) {
+        return calculateDistance(x, y, 0);
+    }
+
+    /**
+     * Calculates the distance between the two given strings. The matrix of the distance function is calculated row by row, keeping only the previous
+     * and the current row. As the distance cannot be smaller than the smallest value of any row, the calculation stops as soon as a row shows that the
+     * words cannot reach the similarity threshold. In this case, {@link Double#POSITIVE_INFINITY} is returned.
+     *
+     * @param x         the first string
+     * @param y         the second string
+     * @param maxLength the length used to normalize the distance, or 0 to always calculate the exact distance
+     * @return the distance, or {@link Double#POSITIVE_INFINITY} if the words are not similar
+     */
+    private double calculateDistance(String x, String y, int maxLength) {
         Objects.requireNonNull(x);
         Objects.requireNonNull(y);
-        StringBuilder xBuilder = new StringBuilder(x);
-        StringBuilder yBuilder = new StringBuilder(y);
 
-        if (xBuilder.isEmpty() || yBuilder.isEmpty()) {
-            return Math.max(xBuilder.length(), yBuilder.length());
+        if (x.isEmpty() || y.isEmpty()) {
+            return Math.max(x.length(), y.length());
         }
 
-        int k = xBuilder.length();
-        int l = yBuilder.length();
-        double[][] d = new double[k + 1][l + 1];
-
-        for (int u = 1; u <= n - 1; u++) {
-            if (variant == Variant.LUCENE) {
-                xBuilder = new StringBuilder().append(LUCENE_PREFIX_CHARACTER).append(xBuilder);
-                yBuilder = new StringBuilder().append(LUCENE_PREFIX_CHARACTER).append(yBuilder);
-            } else if (variant == Variant.POSITIONAL) {
-                xBuilder = new StringBuilder().append(xBuilder.charAt(0)).append(xBuilder);
-                yBuilder = new StringBuilder().append(yBuilder.charAt(0)).append(yBuilder);
-            } else {
-                throw new UnsupportedOperationException("unknown variant: " + variant);
-            }
-        }
+        int k = x.length();
+        int l = y.length();
+        Workspace workspace = workspaces.get();
+        char[] xChars = workspace.padded(0, x, prefix(x));
+        char[] yChars = workspace.padded(1, y, prefix(y));
+        double[] previous = workspace.row(0, l + 1);
+        double[] current = workspace.row(1, l + 1);
 
-        for (int i = 0; i <= k; i++) {
-            d[i][0] = i;
-        }
-
-        for (int j = 1; j <= l; j++) {
-            d[0][j] = j;
+        for (int j = 0; j <= l; j++) {
+            previous[j] = j;
         }
 
         for (int i = 1; i <= k; i++) {
+            current[0] = i;
+            double rowMinimum = current[0];
             for (int j = 1; j <= l; j++) {
-                double dN = dN(n, i - 1, j - 1, xBuilder.toString(), yBuilder.toString());
+                double dN = dN(n, i - 1, j - 1, xChars, yChars);
 
-                d[i][j] = min(d[i - 1][j] + 1.0, d[i][j - 1] + 1.0, d[i - 1][j - 1] + dN);
+                current[j] = min(previous[j] + 1.0, current[j - 1] + 1.0, previous[j - 1] + dN);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (maxLength > 0 && 1.0 - rowMinimum / maxLength < this.similarityThreshold) {
+                return Double.POSITIVE_INFINITY;
             }
+            double[] swap = previous;
+            previous = current;
+            current = swap;
         }
 
-        return d[k][l];
+        return previous[l];
     }
 
-    private double dN(int n, int i, int j, String x, String y) {
+    private char prefix(String word) {
+        return switch (variant) {
+        case LUCENE -> LUCENE_PREFIX_CHARACTER;
+        case POSITIONAL -> word.charAt(0);
+        };
+    }
+
+    private double dN(int n, int i, int j, char[] x, char[] y) {
         double sum = 0.0;
         double actualN = n;
 
         for (int u = 1; u <= n; u++) {
-            double diff = d1(x.charAt(i + u - 1), y.charAt(j + u - 1));
+            double diff = d1(x[i + u - 1], y[j + u - 1]);
 
             sum += diff;
 
-            if (variant == Variant.LUCENE && diff == 0 && x.charAt(i + u - 1) == LUCENE_PREFIX_CHARACTER) {
+            if (variant == Variant.LUCENE && diff == 0 && x[i + u - 1] == LUCENE_PREFIX_CHARACTER) {
                 actualN -= 1.0; // Ignore prefix character in LUCENE mode
             }
         }
@@ -154,4 +176,32 @@ private double min(double a, double b, double c) {
         return Math.min(a, Math.min(b, c));
     }
 
+    /**
+     * The buffers of a thread for calculating distances: the words with their n-1 prefix characters and two rows of the distance matrix. The buffers
+     * grow as needed and are reused, so that calculating a distance does not allocate.
+     */
+    private final class Workspace {
+        private final char[][] words = { new char[0], new char[0] };
+        private final double[][] rows = { new double[0], new double[0] };
+
+        private char[] padded(int index, String word, char prefix) {
+            int prefixLength = n - 1;
+            int length = prefixLength + word.length();
+            if (words[index].length < length) {
+                words[index] = new char[length];
+            }
+            char[] chars = words[index];
+            Arrays.fill(chars, 0, prefixLength, prefix);
+            word.getChars(0, word.length(), chars, prefixLength);
+            return chars;
+        }
+
+        private double[] row(int index, int length) {
+            if (rows[index].length < length) {
+                rows[index] = new double[length];
+            }
+            return rows[index];
+        }
+    }
+
 }
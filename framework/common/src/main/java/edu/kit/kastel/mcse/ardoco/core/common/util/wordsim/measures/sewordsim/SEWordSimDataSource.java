@@ -28,6 +28,7 @@ public class SEWordSimDataSource implements AutoCloseable {
 
     private final Connection connection;
     private final PreparedStatement selectStatement;
+    private final PreparedStatement existsStatement;
     private final PorterStemmer stemmer = new PorterStemmer();
 
     /**
@@ -46,6 +47,7 @@ public SEWordSimDataSource(Path sqliteFile) throws SQLException {
 
         this.connection = cfg.createConnection("jdbc:sqlite:" + sqliteFile);
         this.selectStatement = this.connection.prepareStatement(SELECT_QUERY);
+        this.existsStatement = this.connection.prepareStatement(EXISTS_QUERY);
     }
 
     /**
@@ -64,13 +66,11 @@ public boolean containsWord(String word) throws SQLException {
 
         word = this.stemmer.stem(word);
 
-        try (var statement = this.connection.prepareStatement(EXISTS_QUERY)) {
-            statement.setString(1, word);
+        this.existsStatement.setString(1, word);
 
-            try (var result = statement.executeQuery()) {
-                if (result.next()) {
-                    return result.getInt("ex") > 0;
-                }
+        try (var result = this.existsStatement.executeQuery()) {
+            if (result.next()) {
+                return result.getInt("ex") > 0;
             }
         }
 
@@ -134,6 +134,8 @@ public List<String> getAllWords() throws SQLException {
      */
     @Override
     public void close() throws SQLException {
+        this.existsStatement.close();
+        this.selectStatement.close();
         this.connection.close();
     }
 
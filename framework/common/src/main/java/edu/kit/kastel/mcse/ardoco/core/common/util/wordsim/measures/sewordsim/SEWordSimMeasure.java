@@ -4,6 +4,7 @@
 import java.nio.file.Path;
 import java.sql.SQLException;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,16 +20,18 @@ public class SEWordSimMeasure implements WordSimMeasure {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SEWordSimMeasure.class);
 
-    private final SEWordSimDataSource dataSource;
+    private final SimilarityLookup dataSource;
     private final double similarityThreshold;
 
     /**
-     * Constructs a new {@link SEWordSimMeasure} using the settings provided by {@link CommonTextToolsConfig}.
+     * Constructs a new {@link SEWordSimMeasure} using the settings provided by {@link CommonTextToolsConfig}. If
+     * {@link CommonTextToolsConfig#SEWORDSIM_IN_MEMORY} is enabled, the database is loaded into a
+     * {@link SEWordSimTable}.
      *
      * @throws SQLException if establishing the connection to the data source fails
      */
     public SEWordSimMeasure() throws SQLException {
-        this(new SEWordSimDataSource(Path.of(CommonTextToolsConfig.SEWORDSIM_DB_FILE_PATH)), CommonTextToolsConfig.SEWORDSIM_SIMILARITY_THRESHOLD);
+        this(createLookup(Path.of(CommonTextToolsConfig.SEWORDSIM_DB_FILE_PATH)), CommonTextToolsConfig.SEWORDSIM_SIMILARITY_THRESHOLD);
     }
 
     /**
@@ -38,7 +41,21 @@ public SEWordSimMeasure() throws SQLException {
      * @param similarityThreshold the threshold above which words are considered similar, between 0 and 1
      */
     public SEWordSimMeasure(SEWordSimDataSource dataSource, double similarityThreshold) {
-        this.dataSource = Objects.requireNonNull(dataSource);
+        this(Objects.requireNonNull(dataSource)::getSimilarity, similarityThreshold);
+    }
+
+    /**
+     * Constructs a new {@link SEWordSimMeasure} instance that looks up similarities in memory.
+     *
+     * @param table               the table from which word similarities are loaded
+     * @param similarityThreshold the threshold above which words are considered similar, between 0 and 1
+     */
+    public SEWordSimMeasure(SEWordSimTable table, double similarityThreshold) {
+        this(Objects.requireNonNull(table)::getSimilarity, similarityThreshold);
+    }
+
+    private SEWordSimMeasure(SimilarityLookup dataSource, double similarityThreshold) {
+        this.dataSource = dataSource;
         this.similarityThreshold = similarityThreshold;
 
         if (similarityThreshold < 0.0 || similarityThreshold > 1.0) {
@@ -64,4 +81,18 @@ public boolean areWordsSimilar(ComparisonContext ctx) {
         return similarity >= this.similarityThreshold;
     }
 
+    private static SimilarityLookup createLookup(Path sqliteFile) throws SQLException {
+        if (CommonTextToolsConfig.SEWORDSIM_IN_MEMORY) {
+            SEWordSimTable table = SEWordSimTable.load(sqliteFile);
+            LOGGER.info("Loaded {} SEWordSim pairs into memory (about {} MB)", table.size(), table.estimateMemoryUsage() / (1024 * 1024));
+            return table::getSimilarity;
+        }
+        return new SEWordSimDataSource(sqliteFile)::getSimilarity;
+    }
+
+    @FunctionalInterface
+    private interface SimilarityLookup {
+        Optional<Double> getSimilarity(String firstWord, String secondWord) throws SQLException;
+    }
+
 }
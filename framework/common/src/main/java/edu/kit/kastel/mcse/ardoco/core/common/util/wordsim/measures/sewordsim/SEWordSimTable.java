@@ -0,0 +1,317 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.measures.sewordsim;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.sqlite.SQLiteConfig;
+
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.WordSimUtils;
+import opennlp.tools.stemmer.PorterStemmer;
+
+/**
+ * An in-memory copy of the {@code wsim} table of the SEWordSim sqlite database. The table is read once by {@link #load(Path)}; afterwards, lookups
+ * neither use JDBC nor the database file. Its answers are the same as the answers of {@link SEWordSimDataSource}.
+ * <p>
+ * The terms are kept in a dictionary that assigns each term an id. The similarities are kept in an open addressing hash table that maps the ids of a
+ * pair of terms to their similarity. The similarities are kept as doubles, so that comparisons with a threshold give the same results as with the values
+ * of the database. The stems of recently looked up words are cached, as the stemmer is comparatively slow.
+ */
+@Deterministic
+public final class SEWordSimTable {
+
+    private static final String SELECT_ALL_QUERY = "SELECT `term_1`, `term_2`, `similarity` FROM `wsim`;";
+    private static final long EMPTY_KEY = -1L;
+    private static final int STEM_CACHE_CAPACITY = 10_000;
+
+    // estimated sizes of the objects in bytes, assuming compressed references
+    private static final int OBJECT_HEADER_SIZE = 16;
+    private static final int STRING_SIZE = 24;
+    private static final int REFERENCE_SIZE = 4;
+
+    private final TermDictionary terms;
+    private final BitSet firstTerms;
+    private final long[] pairKeys;
+    private final double[] pairSimilarities;
+    private final int pairMask;
+    private final int pairCount;
+
+    private final PorterStemmer stemmer = new PorterStemmer();
+    private final Map<String, String> stemCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > STEM_CACHE_CAPACITY;
+        }
+    };
+
+    private SEWordSimTable(TermDictionary terms, BitSet firstTerms, long[] pairKeys, double[] pairSimilarities, int pairCount) {
+        this.terms = terms;
+        this.firstTerms = firstTerms;
+        this.pairKeys = pairKeys;
+        this.pairSimilarities = pairSimilarities;
+        this.pairMask = pairKeys.length - 1;
+        this.pairCount = pairCount;
+    }
+
+    /**
+     * Reads the {@code wsim} table of the given SEWordSim sqlite database into memory.
+     *
+     * @param sqliteFile the path to the sqlite database file
+     * @return the table
+     * @throws SQLException if reading the database fails
+     */
+    public static SEWordSimTable load(Path sqliteFile) throws SQLException {
+        if (!Files.exists(sqliteFile)) {
+            throw new IllegalArgumentException("sqliteFile does not exist: " + sqliteFile);
+        }
+
+        SQLiteConfig cfg = WordSimUtils.getSqLiteConfig();
+        TermDictionary terms = new TermDictionary();
+        BitSet firstTerms = new BitSet();
+        PairTableBuilder pairs = new PairTableBuilder();
+
+        try (Connection connection = cfg.createConnection("jdbc:sqlite:" + sqliteFile); Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery(SELECT_ALL_QUERY)) {
+            while (result.next()) {
+                int firstId = terms.add(result.getString("term_1"));
+                int secondId = terms.add(result.getString("term_2"));
+                firstTerms.set(firstId);
+                pairs.putIfAbsent(key(firstId, secondId), result.getDouble("similarity"));
+            }
+        }
+
+        return new SEWordSimTable(terms, firstTerms, pairs.keys, pairs.similarities, pairs.size);
+    }
+
+    /**
+     * Checks whether the stemmed version of the given word is contained in the table.
+     *
+     * @param word the word to be checked
+     * @return {@code true} if the stemmed version of the given word is contained in the table
+     */
+    public boolean containsWord(String word) {
+        Objects.requireNonNull(word);
+
+        if (word.isEmpty()) {
+            return false;
+        }
+
+        int id = terms.indexOf(stem(word));
+        return id >= 0 && firstTerms.get(id);
+    }
+
+    /**
+     * Attempts to retrieve the similarity score for the given pair of words.
+     *
+     * @param firstWord  the first word
+     * @param secondWord the second word
+     * @return the similarity score, ranging from {@code 0.0} to {@code 1.0}, or {@link Optional#empty()} if the table
+     *         does not contain the given word pair
+     */
+    public Optional<Double> getSimilarity(String firstWord, String secondWord) {
+        Objects.requireNonNull(firstWord);
+        Objects.requireNonNull(secondWord);
+
+        int firstId = terms.indexOf(stem(firstWord));
+        if (firstId < 0) {
+            return Optional.empty();
+        }
+        int secondId = terms.indexOf(stem(secondWord));
+        if (secondId < 0) {
+            return Optional.empty();
+        }
+
+        long key = key(firstId, secondId);
+        int slot = slot(key, pairMask);
+        while (pairKeys[slot] != EMPTY_KEY) {
+            if (pairKeys[slot] == key) {
+                return Optional.of(pairSimilarities[slot]);
+            }
+            slot = (slot + 1) & pairMask;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets all words that occur as first term of a pair in the table.
+     *
+     * @return a list of these words in the order of their first occurrence
+     */
+    public List<String> getAllWords() {
+        List<String> words = new ArrayList<>(firstTerms.cardinality());
+        for (int id = firstTerms.nextSetBit(0); id >= 0; id = firstTerms.nextSetBit(id + 1)) {
+            words.add(terms.get(id));
+        }
+        return words;
+    }
+
+    /**
+     * Returns the number of pairs in this table.
+     *
+     * @return the number of pairs
+     */
+    public int size() {
+        return pairCount;
+    }
+
+    /**
+     * Estimates the heap memory that is used by this table, excluding the stem cache.
+     *
+     * @return the estimated memory usage in bytes
+     */
+    public long estimateMemoryUsage() {
+        return terms.estimateMemoryUsage() + arraySize(firstTerms.size() / Byte.SIZE) + arraySize((long) pairKeys.length * Long.BYTES) + arraySize(
+                (long) pairSimilarities.length * Double.BYTES);
+    }
+
+    private String stem(String word) {
+        synchronized (stemCache) {
+            return stemCache.computeIfAbsent(word, stemmer::stem);
+        }
+    }
+
+    private static long key(int firstId, int secondId) {
+        return ((long) firstId << Integer.SIZE) | (secondId & 0xFFFFFFFFL);
+    }
+
+    private static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int slot(String term, int mask) {
+        int hash = term.hashCode() * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static long arraySize(long bytes) {
+        return OBJECT_HEADER_SIZE + bytes;
+    }
+
+    /**
+     * Assigns consecutive ids to terms. The ids are looked up in an open addressing hash table that stores the id plus one of the term in each slot.
+     */
+    private static final class TermDictionary {
+        private String[] terms = new String[1024];
+        private int[] slots = new int[2048];
+        private int size;
+
+        private int add(String term) {
+            Objects.requireNonNull(term);
+            int slot = findSlot(term);
+            if (slots[slot] != 0) {
+                return slots[slot] - 1;
+            }
+            if (size == terms.length) {
+                terms = Arrays.copyOf(terms, size * 2);
+            }
+            terms[size] = term;
+            slots[slot] = ++size;
+            if (size * 2 > slots.length) {
+                rehash(slots.length * 2);
+            }
+            return size - 1;
+        }
+
+        private int indexOf(String term) {
+            return slots[findSlot(term)] - 1;
+        }
+
+        private String get(int id) {
+            return terms[id];
+        }
+
+        private int findSlot(String term) {
+            int mask = slots.length - 1;
+            int slot = slot(term, mask);
+            while (slots[slot] != 0 && !terms[slots[slot] - 1].equals(term)) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void rehash(int capacity) {
+            slots = new int[capacity];
+            int mask = capacity - 1;
+            for (int id = 0; id < size; id++) {
+                int slot = slot(terms[id], mask);
+                while (slots[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                slots[slot] = id + 1;
+            }
+        }
+
+        private long estimateMemoryUsage() {
+            long usage = arraySize((long) terms.length * REFERENCE_SIZE) + arraySize((long) slots.length * Integer.BYTES);
+            for (int id = 0; id < size; id++) {
+                // the byte array of a string has one byte per character if the string only contains latin-1 characters
+                usage += STRING_SIZE + arraySize(terms[id].length());
+            }
+            return usage;
+        }
+    }
+
+    /**
+     * Builds the open addressing hash table of the pairs. The table is kept at most half full.
+     */
+    private static final class PairTableBuilder {
+        private long[] keys = newKeys(1024);
+        private double[] similarities = new double[1024];
+        private int size;
+
+        private void putIfAbsent(long key, double similarity) {
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (keys[slot] != EMPTY_KEY) {
+                if (keys[slot] == key) {
+                    return; // keep the first row of a pair, like a query without an index
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            similarities[slot] = similarity;
+            size++;
+            if (size * 2 > keys.length) {
+                rehash(keys.length * 2);
+            }
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            double[] oldSimilarities = similarities;
+            keys = newKeys(capacity);
+            similarities = new double[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY_KEY) {
+                    int slot = slot(oldKeys[i], mask);
+                    while (keys[slot] != EMPTY_KEY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    similarities[slot] = oldSimilarities[i];
+                }
+            }
+        }
+
+        private static long[] newKeys(int capacity) {
+            long[] keys = new long[capacity];
+            Arrays.fill(keys, EMPTY_KEY);
+            return keys;
+        }
+    }
+}
@@ -4,6 +4,7 @@
 import java.util.List;
 
 import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.ComparisonContext;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.LengthRange;
 import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.WordSimMeasure;
 
 /**
@@ -23,4 +24,18 @@ public boolean areWordsSimilar(ComparisonContext ctx, List<WordSimMeasure> measu
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * As a pair of words is only similar if a measure accepts it, the lengths are the span of the lengths of all measures.
+     */
+    @Override
+    public LengthRange getSimilarTermLengths(int length, List<WordSimMeasure> measures) {
+        LengthRange lengths = LengthRange.EMPTY;
+        for (WordSimMeasure measure : measures) {
+            lengths = lengths.span(measure.getSimilarTermLengths(length));
+        }
+        return lengths;
+    }
+
 }
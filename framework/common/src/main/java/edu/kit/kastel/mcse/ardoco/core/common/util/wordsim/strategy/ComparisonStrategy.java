@@ -4,6 +4,7 @@
 import java.util.List;
 
 import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.ComparisonContext;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.LengthRange;
 import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.WordSimMeasure;
 
 /**
@@ -25,4 +26,18 @@ public interface ComparisonStrategy {
      */
     boolean areWordsSimilar(ComparisonContext ctx, List<WordSimMeasure> measures);
 
+    /**
+     * Returns the lengths that a term must have so that this strategy can consider it similar to a term of the given length when it combines the
+     * verdicts of the specified measures (see {@link WordSimMeasure#getSimilarTermLengths(int)}).
+     * <p>
+     * The default implementation does not restrict the length.
+     *
+     * @param length   the length of the term
+     * @param measures the measures to use
+     * @return the lengths of terms that may be similar to the term
+     */
+    default LengthRange getSimilarTermLengths(int length, List<WordSimMeasure> measures) {
+        return LengthRange.UNBOUNDED;
+    }
+
 }
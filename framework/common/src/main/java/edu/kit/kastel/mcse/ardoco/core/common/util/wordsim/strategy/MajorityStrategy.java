@@ -4,6 +4,7 @@
 import java.util.List;
 
 import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.ComparisonContext;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.LengthRange;
 import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.WordSimMeasure;
 
 /**
@@ -25,4 +26,18 @@ public boolean areWordsSimilar(ComparisonContext ctx, List<WordSimMeasure> measu
         return acceptances > (measures.size() / 2);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * As a pair of words is only similar if at least one measure accepts it, the lengths are the span of the lengths of all measures.
+     */
+    @Override
+    public LengthRange getSimilarTermLengths(int length, List<WordSimMeasure> measures) {
+        LengthRange lengths = LengthRange.EMPTY;
+        for (WordSimMeasure measure : measures) {
+            lengths = lengths.span(measure.getSimilarTermLengths(length));
+        }
+        return lengths;
+    }
+
 }
@@ -1,7 +1,9 @@
 /* Licensed under MIT 2022-2023. */
 package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.vector;
 
+import java.nio.FloatBuffer;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -11,15 +13,17 @@
 /**
  * A vector based word similarity measure uses vector embeddings of words to compare their similarity. To get vector
  * embeddings of passed words, a {@link WordVectorDataSource} is required. Instances of this class additionally manage a
- * cache to improve lookup speeds.
+ * cache to improve lookup speeds. The cache also keeps the norms of the vectors, so that comparing cached vectors only
+ * requires their dot product. For data sources that return views instead of copies (see
+ * {@link WordVectorDataSource#getVectorBuffer(String)}), the cache holds these views and does not copy any vector.
  */
 @Deterministic
 public abstract class VectorBasedWordSimMeasure implements WordSimMeasure {
 
-    private static final float[] ZERO_VECTOR = new float[0];
+    private static final NormedVector ZERO_VECTOR = new NormedVector(FloatBuffer.allocate(0), 0.0);
 
     private final WordVectorDataSource vectorDataSource;
-    private final Map<String, float[]> vectorCache = new LinkedHashMap<>();
+    private final Map<String, NormedVector> vectorCache = new LinkedHashMap<>();
 
     /**
      * Constructs a new {@link VectorBasedWordSimMeasure} instance
@@ -48,30 +52,72 @@ public double compareVectors(String firstWord, String secondWord) throws Retriev
             return 1.0;
         }
 
-        float[] firstVec = getVectorFromCacheOrDatabase(firstWord);
+        NormedVector firstVec = getVectorFromCacheOrDatabase(firstWord);
 
-        if (VectorUtils.isZero(firstVec)) {
+        if (firstVec.norm() == 0.0) {
             return 0.0; // no vector representation for the first word
         }
 
-        float[] secondVec = getVectorFromCacheOrDatabase(secondWord);
+        NormedVector secondVec = getVectorFromCacheOrDatabase(secondWord);
 
-        if (VectorUtils.isZero(secondVec)) {
+        if (secondVec.norm() == 0.0) {
             return 0.0; // no vector representation for the second word
         }
 
-        return VectorUtils.cosineSimilarity(firstVec, secondVec);
+        return VectorUtils.cosineSimilarity(firstVec.vector(), firstVec.norm(), secondVec.vector(), secondVec.norm());
     }
 
-    private float[] getVectorFromCacheOrDatabase(String word) throws RetrieveVectorException {
-        float[] vector = this.vectorCache.getOrDefault(word, null);
+    /**
+     * Compares the given word with each of the other words by computing the cosine similarity between their respective
+     * vector representations. The vector of the given word is only retrieved once. If the vector representation for a
+     * word is not found, a similarity score of {@code 0.0} will be returned for it.
+     *
+     * @param word       the word
+     * @param otherWords the other words
+     * @return the similarity scores in the order of the other words, between 0.0 and 1.0 (inclusive)
+     * @throws RetrieveVectorException if an error occurs while retrieving the word vectors
+     */
+    public double[] compareVectors(String word, List<String> otherWords) throws RetrieveVectorException {
+        Objects.requireNonNull(word);
+        Objects.requireNonNull(otherWords);
+
+        double[] similarities = new double[otherWords.size()];
+        NormedVector vector = getVectorFromCacheOrDatabase(word);
+
+        for (int i = 0; i < similarities.length; i++) {
+            String otherWord = Objects.requireNonNull(otherWords.get(i));
+            if (word.equals(otherWord)) {
+                similarities[i] = 1.0;
+                continue;
+            }
+            if (vector.norm() == 0.0) {
+                continue; // no vector representation for the word
+            }
+            NormedVector otherVector = getVectorFromCacheOrDatabase(otherWord);
+            if (otherVector.norm() != 0.0) {
+                similarities[i] = VectorUtils.cosineSimilarity(vector.vector(), vector.norm(), otherVector.vector(), otherVector.norm());
+            }
+        }
+
+        return similarities;
+    }
+
+    private NormedVector getVectorFromCacheOrDatabase(String word) throws RetrieveVectorException {
+        NormedVector vector = this.vectorCache.getOrDefault(word, null);
 
         if (vector == null) {
-            vector = this.vectorDataSource.getWordVector(word).orElse(ZERO_VECTOR);
+            vector = retrieveVector(word);
             this.vectorCache.put(word, vector);
         }
 
         return vector;
     }
 
+    private NormedVector retrieveVector(String word) throws RetrieveVectorException {
+        return this.vectorDataSource.getVectorBuffer(word).map(vector -> new NormedVector(vector, VectorUtils.norm(vector))).orElse(ZERO_VECTOR);
+    }
+
+    private record NormedVector(FloatBuffer vector, double norm) {
+    }
+
 }
@@ -1,6 +1,7 @@
 /* Licensed under MIT 2022-2023. */
 package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.vector;
 
+import java.nio.FloatBuffer;
 import java.util.Objects;
 
 /**
@@ -47,6 +48,8 @@ public static double cosineSimilarity(double[] firstVec, double[] secondVec) {
 
     /**
      * Calculates the cosine similarity between the two given vectors. The two given vectors must have the same length.
+     * The calculation works directly on the floats and gives the same results as
+     * {@link #cosineSimilarity(double[], double[])} for the widened vectors.
      *
      * @param firstVec  the first vector
      * @param secondVec the second vector
@@ -56,15 +59,175 @@ public static double cosineSimilarity(double[] firstVec, double[] secondVec) {
     public static double cosineSimilarity(float[] firstVec, float[] secondVec) {
         Objects.requireNonNull(firstVec);
         Objects.requireNonNull(secondVec);
+        if (firstVec.length != secondVec.length) {
+            throw new IllegalArgumentException("vector length does not match!");
+        }
+
+        return cosineSimilarity(firstVec, norm(firstVec), secondVec, norm(secondVec));
+    }
+
+    /**
+     * Calculates the cosine similarity between the two given vectors using their precalculated norms (see
+     * {@link #norm(float[])}). Callers that compare the same vectors many times can cache the norms, so that only the
+     * dot product has to be calculated. If both vectors are zero, the resulting similarity is 1.0. If only one of the
+     * vectors is zero, the resulting similarity is 0.0.
+     *
+     * @param firstVec   the first vector
+     * @param firstNorm  the norm of the first vector
+     * @param secondVec  the second vector
+     * @param secondNorm the norm of the second vector
+     * @return the cosine similarity
+     * @throws IllegalArgumentException if the vectors have different lengths
+     */
+    public static double cosineSimilarity(float[] firstVec, double firstNorm, float[] secondVec, double secondNorm) {
+        if (firstVec.length != secondVec.length) {
+            throw new IllegalArgumentException("vector length does not match!");
+        }
+
+        if (firstNorm == 0.0 && secondNorm == 0.0) {
+            return 1.0; // similarity between 0 and 0 should probably be 1.0
+        }
+
+        if (firstNorm == 0.0 || secondNorm == 0.0) {
+            return 0.0; // similarity between 0 and something else should probably be 0.0
+        }
+
+        return dotProduct(firstVec, secondVec) / (firstNorm * secondNorm);
+    }
+
+    /**
+     * Calculates the cosine similarity between the two given vectors using their precalculated norms (see
+     * {@link #norm(FloatBuffer)}). The remaining entries of the buffers are compared, the positions of the buffers are
+     * not changed. If both vectors are zero, the resulting similarity is 1.0. If only one of the vectors is zero, the
+     * resulting similarity is 0.0.
+     *
+     * @param firstVec   the first vector
+     * @param firstNorm  the norm of the first vector
+     * @param secondVec  the second vector
+     * @param secondNorm the norm of the second vector
+     * @return the cosine similarity
+     * @throws IllegalArgumentException if the vectors have different lengths
+     */
+    public static double cosineSimilarity(FloatBuffer firstVec, double firstNorm, FloatBuffer secondVec, double secondNorm) {
+        if (firstVec.remaining() != secondVec.remaining()) {
+            throw new IllegalArgumentException("vector length does not match!");
+        }
+
+        if (firstNorm == 0.0 && secondNorm == 0.0) {
+            return 1.0; // similarity between 0 and 0 should probably be 1.0
+        }
+
+        if (firstNorm == 0.0 || secondNorm == 0.0) {
+            return 0.0; // similarity between 0 and something else should probably be 0.0
+        }
+
+        return dotProduct(firstVec, secondVec) / (firstNorm * secondNorm);
+    }
+
+    /**
+     * Calculates the cosine similarities between one vector and many other vectors. All vectors must have the same
+     * length. The norms of the other vectors can be cached by the caller (see {@link #norm(float[])}).
+     *
+     * @param vector      the vector that is compared to all other vectors
+     * @param vectorNorm  the norm of the vector
+     * @param others      the other vectors
+     * @param othersNorms the norms of the other vectors
+     * @param result      the array the similarities are written to, must have at least the length of {@code others}
+     * @throws IllegalArgumentException if the vectors have different lengths
+     */
+    public static void cosineSimilarities(float[] vector, double vectorNorm, float[][] others, double[] othersNorms, double[] result) {
+        Objects.requireNonNull(vector);
+        if (othersNorms.length < others.length || result.length < others.length) {
+            throw new IllegalArgumentException("arrays of norms and results are shorter than the array of vectors");
+        }
+
+        for (int i = 0; i < others.length; i++) {
+            result[i] = cosineSimilarity(vector, vectorNorm, others[i], othersNorms[i]);
+        }
+    }
+
+    /**
+     * Calculates the cosine similarities between one vector and many other vectors. All vectors must have the same
+     * length.
+     *
+     * @param vector the vector that is compared to all other vectors
+     * @param others the other vectors
+     * @return the similarities in the order of the other vectors
+     * @throws IllegalArgumentException if the vectors have different lengths
+     */
+    public static double[] cosineSimilarities(float[] vector, float[][] others) {
+        double[] othersNorms = new double[others.length];
+        for (int i = 0; i < others.length; i++) {
+            othersNorms[i] = norm(others[i]);
+        }
+        double[] result = new double[others.length];
+        cosineSimilarities(vector, norm(vector), others, othersNorms, result);
+        return result;
+    }
+
+    /**
+     * Calculates the euclidean norm of the given vector.
+     *
+     * @param vector the vector
+     * @return the norm, which is 0.0 if and only if the vector is zero
+     */
+    public static double norm(float[] vector) {
+        double squaredNorm = 0.0;
+        for (float entry : vector) {
+            double value = entry;
+            squaredNorm += value * value;
+        }
+        return Math.sqrt(squaredNorm);
+    }
 
-        double[] firstVecDouble = new double[firstVec.length];
-        double[] secondVecDouble = new double[secondVec.length];
+    /**
+     * Calculates the euclidean norm of the remaining entries of the given vector without changing its position.
+     *
+     * @param vector the vector
+     * @return the norm, which is 0.0 if and only if the vector is zero
+     */
+    public static double norm(FloatBuffer vector) {
+        double squaredNorm = 0.0;
+        for (int i = vector.position(); i < vector.limit(); i++) {
+            double value = vector.get(i);
+            squaredNorm += value * value;
+        }
+        return Math.sqrt(squaredNorm);
+    }
+
+    /**
+     * Calculates the dot product of the given vectors. The products of the entries are calculated and summed up in
+     * double precision. The two given vectors must have the same length.
+     *
+     * @param firstVec  the first vector
+     * @param secondVec the second vector
+     * @return the dot product
+     */
+    public static double dotProduct(float[] firstVec, float[] secondVec) {
+        double dotProduct = 0.0;
         for (int i = 0; i < firstVec.length; i++) {
-            firstVecDouble[i] = firstVec[i];
-            secondVecDouble[i] = secondVec[i];
+            dotProduct += (double) firstVec[i] * secondVec[i];
         }
+        return dotProduct;
+    }
 
-        return cosineSimilarity(firstVecDouble, secondVecDouble);
+    /**
+     * Calculates the dot product of the remaining entries of the given vectors without changing their positions. The
+     * products of the entries are calculated and summed up in double precision. The two given vectors must have the
+     * same number of remaining entries.
+     *
+     * @param firstVec  the first vector
+     * @param secondVec the second vector
+     * @return the dot product
+     */
+    public static double dotProduct(FloatBuffer firstVec, FloatBuffer secondVec) {
+        int firstOffset = firstVec.position();
+        int secondOffset = secondVec.position();
+        double dotProduct = 0.0;
+        for (int i = 0; i < firstVec.remaining(); i++) {
+            dotProduct += (double) firstVec.get(firstOffset + i) * secondVec.get(secondOffset + i);
+        }
+        return dotProduct;
     }
 
     /**
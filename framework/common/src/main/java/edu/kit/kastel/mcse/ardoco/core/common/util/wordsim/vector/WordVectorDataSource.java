@@ -1,6 +1,7 @@
 /* Licensed under MIT 2022-2023. */
 package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.vector;
 
+import java.nio.FloatBuffer;
 import java.util.Optional;
 
 /**
@@ -18,4 +19,18 @@ public interface WordVectorDataSource {
      */
     Optional<float[]> getWordVector(String word) throws RetrieveVectorException;
 
+    /**
+     * Attempts to retrieve the vector representation for the given word as a buffer. Data sources that keep their vectors
+     * in memory can return a view of the vector instead of a copy. By default, the result of
+     * {@link #getWordVector(String)} is wrapped.
+     *
+     * @param word the word
+     * @return the vector representation of that word, or {@link Optional#empty()} if no vector representation for the
+     *         given word exists
+     * @throws RetrieveVectorException if an error occurs while trying to retrieve the vector
+     */
+    default Optional<FloatBuffer> getVectorBuffer(String word) throws RetrieveVectorException {
+        return getWordVector(word).map(FloatBuffer::wrap);
+    }
+
 }
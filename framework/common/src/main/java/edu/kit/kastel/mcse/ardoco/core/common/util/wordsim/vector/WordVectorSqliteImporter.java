@@ -3,17 +3,27 @@
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
@@ -23,33 +33,55 @@
 import org.sqlite.SQLiteOpenMode;
 
 /**
- * Reads a file containing word vector embeddings and inserts them into a sqlite database.
+ * Reads a file containing word vector embeddings and writes them into a sqlite database or into a {@link WordVectorStore}.
  * <p>
- * The database must contain a table called {@code words} with two columns: {@code word} and {@code vec}. The
- * {@code word} column must be a {@code TEXT} column while the {@code vec} column must be a {@code BLOB}. Vector
- * representations will be inserted as a consecutive sequence of floats. The amount of floats in a sequence depends on
- * the dimension of the vectors.
+ * The vector file must be in the format of GloVe or fastText, i.e., one word per line followed by the components of its vector, separated by spaces. A
+ * fastText header line that contains the number of words and the dimension is skipped. The file is read as a stream: lines are parsed in batches by
+ * several threads, while the batches are written in the order of the file.
  * <p>
- * This class can be customized by extending it and overriding the {@link #processWord(String)} and
- * {@link #filterWord(String)} methods. Both methods are called for each word and allow filtering/modifying words before
- * they are inserted into the databse.
+ * If the output is a sqlite database, it must contain (or will be created with) a table called {@code words} with two columns: {@code word} and
+ * {@code vec}. The {@code word} column must be a {@code TEXT} column while the {@code vec} column must be a {@code BLOB}. Vector representations will be
+ * inserted as a consecutive sequence of floats. The amount of floats in a sequence depends on the dimension of the vectors. Each batch is inserted in its
+ * own transaction together with the number of the last line that it contains, and the index on the {@code word} column is only built once all vectors
+ * are inserted. If an import is interrupted, importing the same file into the same database again resumes after the last inserted batch.
+ * <p>
+ * If the output is a {@link WordVectorStore}, the store is written by a {@link WordVectorStoreConverter} once all vectors are read. As the store is only
+ * replaced at the very end, an interrupted import leaves no partial store behind and is simply started again.
+ * <p>
+ * This class can be customized by extending it and overriding the {@link #processWord(String)} and {@link #filterWord(String)} methods. Both methods
+ * are called for each word and allow filtering/modifying words before they are inserted into the databse. As lines are parsed concurrently, both
+ * methods may be called by several threads at once.
  */
 public class WordVectorSqliteImporter {
 
     private static final int DEFAULT_MAX_WORD_LENGTH = 300;
+    private static final int DEFAULT_BATCH_SIZE = 10_000;
+    private static final long PROGRESS_INTERVAL = 100_000;
+    private static final int PARSER_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
     private static final Logger LOGGER = LoggerFactory.getLogger(WordVectorSqliteImporter.class);
 
+    private static final String CREATE_WORDS_TABLE = "CREATE TABLE IF NOT EXISTS `words` (`word` TEXT NOT NULL, `vec` BLOB NOT NULL);";
+    private static final String CREATE_PROGRESS_TABLE = "CREATE TABLE IF NOT EXISTS `import_progress` (`source` TEXT PRIMARY KEY, `line` INTEGER NOT NULL);";
+    private static final String CREATE_INDEX = "CREATE INDEX IF NOT EXISTS `words_word` ON `words` (`word`);";
+    private static final String DROP_INDEX = "DROP INDEX IF EXISTS `words_word`;";
+    private static final String INSERT_QUERY = "INSERT INTO `words` (`word`, `vec`) VALUES (?, ?);";
+    private static final String SELECT_PROGRESS_QUERY = "SELECT `line` FROM `import_progress` WHERE `source` = ?;";
+    private static final String UPDATE_PROGRESS_QUERY = "INSERT OR REPLACE INTO `import_progress` (`source`, `line`) VALUES (?, ?);";
+
     /**
      * Launches an import process. The first string in the args array must be the path to the file containing the vector
-     * representations. The second string in the args array must be the path to the sqlite database file. The third
-     * string in the args array must be the dimension of the vectors.
+     * representations. The second string in the args array must be the path to the output file. The third
+     * string in the args array must be the dimension of the vectors. The optional fourth string is the format of the output file, i.e.,
+     * {@code sqlite} (default) or {@code store}.
      *
      * @param args the args array
      * @throws IOException  if an io error occurs
      * @throws SQLException if a database related error occurs
      */
     public static void main(String[] args) throws SQLException, IOException {
-        ImportResult result = new WordVectorSqliteImporter(Path.of(args[0]), Path.of(args[1]), Integer.parseInt(args[2])).beginImport();
+        OutputFormat format = args.length > 3 ? OutputFormat.valueOf(args[3].toUpperCase(Locale.ROOT)) : OutputFormat.SQLITE;
+        ImportResult result = new WordVectorSqliteImporter(Path.of(args[0]), Path.of(args[1]), Integer.parseInt(args[2]), DEFAULT_MAX_WORD_LENGTH, 0, -1L,
+                false, format, DEFAULT_BATCH_SIZE).beginImport();
 
         LOGGER.info("Inserted: {}\n", result.inserted);
         LOGGER.info("Skipped: ({})", result.skippedWords.size());
@@ -59,6 +91,20 @@ public static void main(String[] args) throws SQLException, IOException {
     record ImportResult(long inserted, ImmutableList<String> skippedWords) {
     }
 
+    /**
+     * The formats that the importer can write.
+     */
+    public enum OutputFormat {
+        /**
+         * A sqlite database in the format of the {@link VectorSqliteDatabase}.
+         */
+        SQLITE,
+        /**
+         * A file in the format of the {@link WordVectorStore}.
+         */
+        STORE
+    }
+
     private final Path vectorFile;
     private final Path dbFile;
     private final int dimension;
@@ -67,6 +113,8 @@ record ImportResult(long inserted, ImmutableList<String> skippedWords) {
     private final long endLine;
     private final int maxWordLength;
     private final boolean dryRun;
+    private final OutputFormat format;
+    private final int batchSize;
 
     /**
      * Constructs a new {@link WordVectorSqliteImporter} instance.
@@ -80,7 +128,7 @@ public WordVectorSqliteImporter(Path vectorFile, Path dbFile, int dimension) {
     }
 
     /**
-     * Constructs a new {@link WordVectorSqliteImporter} instance. To start the import process, call
+     * Constructs a new {@link WordVectorSqliteImporter} instance that inserts into a sqlite database. To start the import process, call
      * {@link #beginImport()}.
      *
      * @param vectorFile    the path ot the file that contains the vector representations for each word
@@ -88,30 +136,57 @@ public WordVectorSqliteImporter(Path vectorFile, Path dbFile, int dimension) {
      * @param dimension     the dimension of the vectors
      * @param maxWordLength the maximum length a word is allowed to have to be inserted into the database
      * @param startLine     at which line of the {@code vectorFile} this importer will start inserting
-     * @param endLine       at which line of the {@code vectorFile} this importer will stop inserting
+     * @param endLine       at which line of the {@code vectorFile} this importer will stop inserting (inclusive), or a negative number to insert all
+     *                      lines
      * @param dryRun        whether this importer should actually insert. Use {@code false} to run this importer without
      *                      actually inserting anything
      */
     public WordVectorSqliteImporter(Path vectorFile, Path dbFile, int dimension, int maxWordLength, long startLine, long endLine, boolean dryRun) {
+        this(vectorFile, dbFile, dimension, maxWordLength, startLine, endLine, dryRun, OutputFormat.SQLITE, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructs a new {@link WordVectorSqliteImporter} instance. To start the import process, call {@link #beginImport()}.
+     *
+     * @param vectorFile    the path ot the file that contains the vector representations for each word
+     * @param outputFile    the path to the file into which the vector representations will be written
+     * @param dimension     the dimension of the vectors
+     * @param maxWordLength the maximum length a word is allowed to have to be inserted into the database
+     * @param startLine     at which line of the {@code vectorFile} this importer will start inserting
+     * @param endLine       at which line of the {@code vectorFile} this importer will stop inserting (inclusive), or a negative number to insert all
+     *                      lines
+     * @param dryRun        whether this importer should actually insert. Use {@code false} to run this importer without
+     *                      actually inserting anything
+     * @param format        the format of the output file
+     * @param batchSize     the number of lines that are parsed and inserted together
+     */
+    public WordVectorSqliteImporter(Path vectorFile, Path outputFile, int dimension, int maxWordLength, long startLine, long endLine, boolean dryRun,
+            OutputFormat format, int batchSize) {
         this.vectorFile = vectorFile;
-        this.dbFile = dbFile;
+        this.dbFile = outputFile;
         this.dimension = dimension;
         this.maxWordLength = maxWordLength;
         this.startLine = startLine;
         this.endLine = endLine;
         this.dryRun = dryRun;
+        this.format = format;
+        this.batchSize = batchSize;
 
         if (!Files.exists(vectorFile)) {
             throw new IllegalStateException("vectorFile does not exist: " + vectorFile);
         }
 
-        if (!Files.exists(dbFile)) {
-            throw new IllegalStateException("dbFile does not exist: " + dbFile);
+        if (this.dimension <= 0) {
+            throw new IllegalArgumentException("dimension must be a positive integer");
         }
 
         if (this.maxWordLength < 0) {
             throw new IllegalArgumentException("maxWordLength must be a non-negative integer");
         }
+
+        if (this.batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be a positive integer");
+        }
     }
 
     /**
@@ -119,81 +194,158 @@ public WordVectorSqliteImporter(Path vectorFile, Path dbFile, int dimension, int
      *
      * @return the result of the import process
      * @throws SQLException          if an error occurs while interacting with the database
-     * @throws IOException           if an error occurs while interacting with the vector file
+     * @throws IOException           if an error occurs while interacting with the vector file or the store
      * @throws IllegalStateException if a vector with an invalid dimension is found
      */
     public ImportResult beginImport() throws SQLException, IOException, IllegalStateException {
         final List<String> skippedWords = new ArrayList<>();
 
-        long linesRead = 0;
         long inserted = 0;
 
-        try (Connection connection = connect();
-                PreparedStatement statement = prepareSelect(connection);
-                var in = Files.newInputStream(vectorFile, StandardOpenOption.READ);
-                var bufferedReader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+        ExecutorService parsers = Executors.newFixedThreadPool(PARSER_THREADS);
+        try (BatchWriter writer = openWriter(); BufferedReader reader = Files.newBufferedReader(vectorFile, StandardCharsets.UTF_8)) {
+            long resumeLine = writer.getLastWrittenLine();
+            if (resumeLine > 0) {
+                LOGGER.info("Resuming import of {} after line {}", vectorFile, resumeLine);
+            }
+            long firstLine = Math.max(Math.max(startLine, 1), resumeLine + 1);
+            var progress = new Progress(firstLine);
 
-            ByteBuffer buffer = ByteBuffer.allocate(dimension * 4);
+            Deque<Future<ParsedBatch>> pendingBatches = new ArrayDeque<>();
+            List<String> lines = new ArrayList<>(batchSize);
+            long batchStartLine = 0;
+            long linesRead = 0;
 
-            while (bufferedReader.ready() && linesRead < endLine) {
-                var line = bufferedReader.readLine();
+            String line;
+            while ((endLine < 0 || linesRead < endLine) && (line = reader.readLine()) != null) {
                 linesRead++;
-
-                if (linesRead >= startLine) {
-                    var parts = line.split(" ", -1);
-                    if (parts.length - 1 != this.dimension) {
-                        throw new IllegalStateException("importer has read line with invalid vector dimension: \"" + line + "\"");
-                    }
-
-                    // Process the word
-                    String word = parts[0];
-                    // Filter out weird words from dataset
-                    if (word.length() > this.maxWordLength || !filterWord(word)) {
-                        skippedWords.add(word);
-                        continue;
-                    }
-                    word = processWord(word);
-
-                    // Process the vector
-                    buffer.clear();
-                    for (int i = 0; i < parts.length - 1; i++) {
-                        float value = Float.parseFloat(parts[i + 1]);
-                        buffer.putFloat(value);
-                    }
-
-                    insertIntoDatabase(statement, buffer, word);
-                    inserted++;
+                if (linesRead < firstLine || linesRead == 1 && WordVectorStoreConverter.isFastTextHeader(line)) {
+                    continue;
+                }
+                if (lines.isEmpty()) {
+                    batchStartLine = linesRead;
+                }
+                lines.add(line);
+                if (lines.size() == batchSize) {
+                    pendingBatches.add(submit(parsers, lines, batchStartLine));
+                    lines = new ArrayList<>(batchSize);
+                }
+                // keep the parsers busy, but do not read ahead further than necessary
+                if (pendingBatches.size() > 2 * PARSER_THREADS) {
+                    inserted += write(writer, await(pendingBatches.poll()), skippedWords, progress);
                 }
             }
+            if (!lines.isEmpty()) {
+                pendingBatches.add(submit(parsers, lines, batchStartLine));
+            }
+            while (!pendingBatches.isEmpty()) {
+                inserted += write(writer, await(pendingBatches.poll()), skippedWords, progress);
+            }
+
+            LOGGER.info("Read all vectors, finishing {}", dbFile);
+            writer.finish();
+        } finally {
+            parsers.shutdownNow();
         }
 
         return new ImportResult(inserted, Lists.immutable.withAll(skippedWords));
     }
 
-    private void insertIntoDatabase(PreparedStatement statement, ByteBuffer buffer, String word) throws SQLException {
-        if (!dryRun) {
-            statement.setString(1, word);
-            statement.setBytes(2, buffer.array());
-            statement.execute();
-        } else {
-            LOGGER.debug("Would have inserted: {}", word);
+    private Future<ParsedBatch> submit(ExecutorService parsers, List<String> lines, long firstLineNumber) {
+        return parsers.submit(() -> parse(lines, firstLineNumber));
+    }
+
+    private static ParsedBatch await(Future<ParsedBatch> batch) throws IOException {
+        try {
+            return batch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while parsing vectors");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException("Unable to parse vectors", e.getCause());
+        }
+    }
+
+    private static long write(BatchWriter writer, ParsedBatch batch, List<String> skippedWords, Progress progress) throws SQLException, IOException {
+        long inserted = writer.write(batch);
+        skippedWords.addAll(batch.skippedWords());
+        progress.update(batch.lastLine(), inserted);
+        return inserted;
+    }
+
+    private ParsedBatch parse(List<String> lines, long firstLineNumber) {
+        List<String> words = new ArrayList<>(lines.size());
+        List<float[]> vectors = new ArrayList<>(lines.size());
+        List<String> skippedWords = new ArrayList<>();
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            // fastText files end each line with a space
+            var parts = line.stripTrailing().split(" ", -1);
+            // GloVe files contain a few words with spaces, but a line with too many numbers has the wrong dimension
+            int wordParts = parts.length - this.dimension;
+            if (wordParts < 1 || wordParts > 1 && !containsNonNumber(parts, 1, wordParts)) {
+                throw new IllegalStateException("importer has read line " + (firstLineNumber + i) + " with invalid vector dimension: \"" + line + "\"");
+            }
+
+            // Process the word
+            String word = wordParts == 1 ? parts[0] : String.join(" ", Arrays.copyOf(parts, wordParts));
+            // Filter out weird words from dataset
+            if (word.length() > this.maxWordLength || !filterWord(word)) {
+                skippedWords.add(word);
+                continue;
+            }
+            words.add(processWord(word));
+
+            // Process the vector
+            float[] vector = new float[this.dimension];
+            for (int j = 0; j < vector.length; j++) {
+                vector[j] = Float.parseFloat(parts[wordParts + j]);
+            }
+            vectors.add(vector);
+        }
+
+        return new ParsedBatch(firstLineNumber + lines.size() - 1, words, vectors, skippedWords);
+    }
+
+    private static boolean containsNonNumber(String[] parts, int from, int to) {
+        for (int i = from; i < to; i++) {
+            try {
+                Float.parseFloat(parts[i]);
+            } catch (NumberFormatException e) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private BatchWriter openWriter() throws SQLException, IOException {
+        if (dryRun) {
+            return new DryRunWriter();
         }
+        return switch (format) {
+        case SQLITE -> new SqliteWriter();
+        case STORE -> new StoreWriter();
+        };
     }
 
     private Connection connect() throws SQLException {
         var cfg = new SQLiteConfig();
         cfg.setLockingMode(SQLiteConfig.LockingMode.EXCLUSIVE);
-        cfg.setJournalMode(SQLiteConfig.JournalMode.OFF);
+        // unlike no journal at all, the write-ahead log keeps the database intact if the import is interrupted
+        cfg.setJournalMode(SQLiteConfig.JournalMode.WAL);
         cfg.setSynchronous(SQLiteConfig.SynchronousMode.OFF);
         cfg.setOpenMode(SQLiteOpenMode.NOMUTEX);
 
         return cfg.createConnection("jdbc:sqlite:" + this.dbFile.toAbsolutePath());
     }
 
-    private PreparedStatement prepareSelect(Connection conn) throws SQLException {
-        return conn.prepareStatement("INSERT INTO `words` (`word`, `vec`) VALUES (?, ?);");
-    }
-
     /**
      * This method is called for each word that is read from the vector file. The string that is returned will then be
      * used for insertion.
@@ -216,4 +368,181 @@ protected boolean filterWord(String word) {
         return true;
     }
 
+    /**
+     * The words and vectors of consecutive lines of the vector file.
+     *
+     * @param lastLine     the number of the last line of the batch
+     * @param words        the processed words that are inserted
+     * @param vectors      the vectors of the words
+     * @param skippedWords the words that were filtered
+     */
+    private record ParsedBatch(long lastLine, List<String> words, List<float[]> vectors, List<String> skippedWords) {
+    }
+
+    private interface BatchWriter extends AutoCloseable {
+        /**
+         * Returns the number of the last line that was written by a previous, interrupted import.
+         *
+         * @return the line number, or 0 if no line was written
+         */
+        long getLastWrittenLine() throws SQLException;
+
+        long write(ParsedBatch batch) throws SQLException, IOException;
+
+        void finish() throws SQLException, IOException;
+
+        @Override
+        void close() throws SQLException, IOException;
+    }
+
+    private final class SqliteWriter implements BatchWriter {
+        private final Connection connection;
+        private final PreparedStatement insertStatement;
+        private final PreparedStatement progressStatement;
+        private final String source = vectorFile.toAbsolutePath().toString();
+
+        private SqliteWriter() throws SQLException {
+            this.connection = connect();
+            try {
+                this.connection.setAutoCommit(false);
+                try (Statement statement = this.connection.createStatement()) {
+                    statement.execute(CREATE_WORDS_TABLE);
+                    statement.execute(CREATE_PROGRESS_TABLE);
+                    // inserting without an index is considerably faster, the index is built again by finish()
+                    statement.execute(DROP_INDEX);
+                }
+                this.connection.commit();
+                this.insertStatement = this.connection.prepareStatement(INSERT_QUERY);
+                this.progressStatement = this.connection.prepareStatement(UPDATE_PROGRESS_QUERY);
+            } catch (SQLException e) {
+                this.connection.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public long getLastWrittenLine() throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement(SELECT_PROGRESS_QUERY)) {
+                statement.setString(1, source);
+                try (ResultSet result = statement.executeQuery()) {
+                    return result.next() ? result.getLong("line") : 0;
+                }
+            }
+        }
+
+        @Override
+        public long write(ParsedBatch batch) throws SQLException {
+            ByteBuffer buffer = ByteBuffer.allocate(dimension * Float.BYTES);
+            for (int i = 0; i < batch.words().size(); i++) {
+                buffer.clear();
+                for (float value : batch.vectors().get(i)) {
+                    buffer.putFloat(value);
+                }
+                insertStatement.setString(1, batch.words().get(i));
+                insertStatement.setBytes(2, buffer.array().clone());
+                insertStatement.addBatch();
+            }
+            insertStatement.executeBatch();
+            progressStatement.setString(1, source);
+            progressStatement.setLong(2, batch.lastLine());
+            progressStatement.executeUpdate();
+            connection.commit();
+            return batch.words().size();
+        }
+
+        @Override
+        public void finish() throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_INDEX);
+                connection.commit();
+                // leave a single database file behind
+                connection.setAutoCommit(true);
+                statement.execute("PRAGMA journal_mode = DELETE;");
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try (connection) {
+                insertStatement.close();
+                progressStatement.close();
+            }
+        }
+    }
+
+    private final class StoreWriter implements BatchWriter {
+        private final WordVectorStoreConverter converter;
+
+        private StoreWriter() throws IOException {
+            this.converter = new WordVectorStoreConverter(dbFile);
+        }
+
+        @Override
+        public long getLastWrittenLine() {
+            return 0;
+        }
+
+        @Override
+        public long write(ParsedBatch batch) throws IOException {
+            for (int i = 0; i < batch.words().size(); i++) {
+                converter.add(batch.words().get(i), batch.vectors().get(i));
+            }
+            return batch.words().size();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            converter.finish();
+        }
+
+        @Override
+        public void close() throws IOException {
+            converter.close();
+        }
+    }
+
+    private static final class DryRunWriter implements BatchWriter {
+        @Override
+        public long getLastWrittenLine() {
+            return 0;
+        }
+
+        @Override
+        public long write(ParsedBatch batch) {
+            batch.words().forEach(word -> LOGGER.debug("Would have inserted: {}", word));
+            return batch.words().size();
+        }
+
+        @Override
+        public void finish() {
+            // nothing was written
+        }
+
+        @Override
+        public void close() {
+            // nothing was opened
+        }
+    }
+
+    private static final class Progress {
+        private final long startTime = System.nanoTime();
+        private final long firstLine;
+        private long nextReport;
+        private long inserted;
+
+        private Progress(long firstLine) {
+            this.firstLine = firstLine;
+            this.nextReport = firstLine + PROGRESS_INTERVAL;
+        }
+
+        private void update(long lastLine, long newlyInserted) {
+            inserted += newlyInserted;
+            if (lastLine < nextReport) {
+                return;
+            }
+            nextReport = lastLine + PROGRESS_INTERVAL;
+            long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime));
+            LOGGER.info("Imported {} words up to line {} ({} lines/s)", inserted, lastLine, (lastLine - firstLine + 1) / seconds);
+        }
+    }
 }
@@ -0,0 +1,255 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.vector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A read-only store of word vectors in a flat binary file that is memory-mapped. Looking up a vector neither touches a database nor copies the file
+ * contents into the heap: the word table is searched directly in the mapped file and {@link #getVectorBuffer(String)} returns a view of the vector in
+ * the mapped file. As the file is mapped, all processes that open the same store share its pages through the page cache of the operating system.
+ * <p>
+ * Stores are created by the {@link WordVectorStoreConverter}. The file starts with a header (see {@link #MAGIC}) that is followed by an open addressing
+ * hash table over the UTF-8 bytes of the words, the word entries, the words and the vectors. All numbers are stored in little-endian byte order.
+ */
+public final class WordVectorStore implements WordVectorDataSource, AutoCloseable {
+
+    /**
+     * The first bytes of every store file.
+     */
+    static final byte[] MAGIC = "ARDOCOWV".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int ENTRY_SIZE = Long.BYTES + Integer.BYTES;
+    static final int EMPTY_SLOT = 0;
+
+    private static final long MAX_CHUNK_SIZE = Integer.MAX_VALUE;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final int dimension;
+    private final int wordCount;
+    private final int slotMask;
+    private final long entriesOffset;
+    private final long wordsOffset;
+    private final ByteBuffer metadata;
+    private final FloatBuffer[] vectorChunks;
+    private final int vectorsPerChunk;
+
+    private WordVectorStore(Path file, FileChannel channel) throws IOException {
+        this.file = file;
+        this.channel = channel;
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // read until the header is complete or the file ends
+        }
+        header.flip();
+        if (header.remaining() < HEADER_SIZE || !hasMagic(header)) {
+            throw new IOException("Not a word vector store: " + file);
+        }
+        int version = header.getInt(8);
+        if (version != VERSION) {
+            throw new IOException("Unsupported word vector store version " + version + ": " + file);
+        }
+        this.dimension = header.getInt(12);
+        this.wordCount = header.getInt(16);
+        int slotCount = header.getInt(20);
+        long tableOffset = header.getLong(24);
+        this.entriesOffset = header.getLong(32) - tableOffset;
+        this.wordsOffset = header.getLong(40) - tableOffset;
+        long vectorsOffset = header.getLong(48);
+        long expectedSize = vectorsOffset + (long) wordCount * dimension * Float.BYTES;
+        if (dimension <= 0 || Integer.bitCount(slotCount) != 1 || vectorsOffset - tableOffset > MAX_CHUNK_SIZE || channel.size() < expectedSize) {
+            throw new IOException("Corrupted word vector store: " + file);
+        }
+        this.slotMask = slotCount - 1;
+
+        this.metadata = channel.map(FileChannel.MapMode.READ_ONLY, tableOffset, vectorsOffset - tableOffset).order(ByteOrder.LITTLE_ENDIAN);
+
+        long vectorSize = (long) dimension * Float.BYTES;
+        this.vectorsPerChunk = (int) Math.max(1, MAX_CHUNK_SIZE / vectorSize);
+        int chunkCount = (int) ((wordCount + (long) vectorsPerChunk - 1) / vectorsPerChunk);
+        this.vectorChunks = new FloatBuffer[chunkCount];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            long firstVector = (long) chunk * vectorsPerChunk;
+            long vectors = Math.min(vectorsPerChunk, wordCount - firstVector);
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, vectorsOffset + firstVector * vectorSize, vectors * vectorSize);
+            vectorChunks[chunk] = mapped.order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+        }
+    }
+
+    /**
+     * Opens the store in the given file.
+     *
+     * @param file the store file
+     * @return the opened store
+     * @throws IOException if the file cannot be read or is not a valid store
+     */
+    public static WordVectorStore open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new WordVectorStore(file, channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether the given file starts like a word vector store.
+     *
+     * @param file the file
+     * @return true, if the file is a word vector store
+     */
+    public static boolean isStore(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<float[]> getWordVector(String word) {
+        return getVectorBuffer(word).map(buffer -> {
+            float[] vector = new float[dimension];
+            buffer.get(0, vector);
+            return vector;
+        });
+    }
+
+    /**
+     * Returns a read-only view of the vector of the given word. The view does not copy the vector out of the mapped file.
+     *
+     * @param word the word
+     * @return the vector, or {@link Optional#empty()} if the store contains no vector for the word
+     */
+    @Override
+    public Optional<FloatBuffer> getVectorBuffer(String word) {
+        int index = indexOf(word);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        FloatBuffer chunk = vectorChunks[index / vectorsPerChunk];
+        return Optional.of(chunk.slice((index % vectorsPerChunk) * dimension, dimension).asReadOnlyBuffer());
+    }
+
+    /**
+     * Returns whether the store contains a vector for the given word.
+     *
+     * @param word the word
+     * @return true, if the store contains the word
+     */
+    public boolean contains(String word) {
+        return indexOf(word) >= 0;
+    }
+
+    /**
+     * Returns the dimension of the vectors.
+     *
+     * @return the dimension
+     */
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * Returns the number of words in this store.
+     *
+     * @return the number of words
+     */
+    public int size() {
+        return wordCount;
+    }
+
+    /**
+     * Returns the file of this store.
+     *
+     * @return the file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Closes the file channel of this store. The mapped memory is released once the store is no longer referenced.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int indexOf(String word) {
+        byte[] bytes = Objects.requireNonNull(word).getBytes(StandardCharsets.UTF_8);
+        int slot = hash(bytes) & slotMask;
+        while (true) {
+            int value = metadata.getInt(slot * Integer.BYTES);
+            if (value == EMPTY_SLOT) {
+                return -1;
+            }
+            int index = value - 1;
+            if (wordEquals(index, bytes)) {
+                return index;
+            }
+            slot = (slot + 1) & slotMask;
+        }
+    }
+
+    private boolean wordEquals(int index, byte[] bytes) {
+        int entry = (int) (entriesOffset + (long) index * ENTRY_SIZE);
+        int length = metadata.getInt(entry + Long.BYTES);
+        if (length != bytes.length) {
+            return false;
+        }
+        int start = (int) (wordsOffset + metadata.getLong(entry));
+        for (int i = 0; i < length; i++) {
+            if (metadata.get(start + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasMagic(ByteBuffer header) {
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (header.get(i) != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calculates the hash of a word as FNV-1a over its UTF-8 bytes followed by a final avalanche step.
+     *
+     * @param bytes the UTF-8 bytes of the word
+     * @return the hash
+     */
+    static int hash(byte[] bytes) {
+        int hash = 0x811c9dc5;
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= 0x01000193;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+}
@@ -0,0 +1,322 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.vector;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sqlite.SQLiteConfig;
+
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.WordSimUtils;
+
+/**
+ * Converts word vectors into the file format of the {@link WordVectorStore}. Vectors can be read from a sqlite database in the format of the
+ * {@link VectorSqliteDatabase} or from a text file in the format of GloVe or fastText, i.e., one word per line followed by the components of its
+ * vector, separated by spaces. A fastText header line that contains the number of words and the dimension is skipped.
+ * <p>
+ * While converting, the vectors are written to a temporary file next to the target, so that only the words are kept in memory. If a word occurs more
+ * than once, its first vector is used.
+ */
+@Deterministic
+public final class WordVectorStoreConverter implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WordVectorStoreConverter.class);
+
+    private static final String SELECT_ALL_QUERY = "SELECT `word`, `vec` FROM `words`";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int VECTOR_ALIGNMENT = 64;
+
+    private final Path storeFile;
+    private final Path vectorFile;
+    private final FileChannel vectorChannel;
+    private final Map<String, Integer> indices = new LinkedHashMap<>();
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private int dimension = -1;
+    private long duplicates;
+
+    /**
+     * Creates a new converter that writes the store to the given file once {@link #finish()} is called.
+     *
+     * @param storeFile the file of the store
+     * @throws IOException if the temporary vector file cannot be created
+     */
+    public WordVectorStoreConverter(Path storeFile) throws IOException {
+        this.storeFile = storeFile.toAbsolutePath();
+        Files.createDirectories(this.storeFile.getParent());
+        this.vectorFile = Files.createTempFile(this.storeFile.getParent(), this.storeFile.getFileName().toString(), ".vectors.tmp");
+        this.vectorChannel = FileChannel.open(vectorFile, StandardOpenOption.WRITE, StandardOpenOption.READ);
+    }
+
+    /**
+     * Converts the vectors of a sqlite database in the format of the {@link VectorSqliteDatabase} into a store.
+     *
+     * @param sqliteFile the sqlite database
+     * @param storeFile  the file of the store
+     * @return the number of words in the store
+     * @throws IOException  if the store cannot be written
+     * @throws SQLException if the database cannot be read
+     */
+    public static int convertSqlite(Path sqliteFile, Path storeFile) throws IOException, SQLException {
+        if (!Files.exists(sqliteFile)) {
+            throw new IllegalArgumentException("sqliteFile does not exist: " + sqliteFile);
+        }
+        SQLiteConfig cfg = WordSimUtils.getSqLiteConfig();
+        try (var converter = new WordVectorStoreConverter(storeFile); Connection connection = cfg.createConnection("jdbc:sqlite:" + sqliteFile);
+                PreparedStatement statement = connection.prepareStatement(SELECT_ALL_QUERY); ResultSet result = statement.executeQuery()) {
+            while (result.next()) {
+                ByteBuffer vector = ByteBuffer.wrap(result.getBytes("vec"));
+                float[] components = new float[vector.capacity() / Float.BYTES];
+                for (int i = 0; i < components.length; i++) {
+                    components[i] = vector.getFloat();
+                }
+                converter.add(result.getString("word"), components);
+            }
+            return converter.finish();
+        }
+    }
+
+    /**
+     * Converts the vectors of a GloVe or fastText text file into a store.
+     *
+     * @param textFile  the text file
+     * @param storeFile the file of the store
+     * @return the number of words in the store
+     * @throws IOException if the text file cannot be read, contains invalid vectors or if the store cannot be written
+     */
+    public static int convertTextFile(Path textFile, Path storeFile) throws IOException {
+        try (var converter = new WordVectorStoreConverter(storeFile); BufferedReader reader = Files.newBufferedReader(textFile, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            long lineNumber = 1;
+            if (line != null && isFastTextHeader(line)) {
+                converter.dimension = Integer.parseInt(line.trim().split(" ")[1]);
+                line = reader.readLine();
+                lineNumber++;
+            }
+            for (; line != null; line = reader.readLine(), lineNumber++) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                converter.addLine(line, lineNumber);
+            }
+            return converter.finish();
+        }
+    }
+
+    /**
+     * Converts word vectors into a store. The first argument is the format of the input ({@code sqlite} or {@code text}), the second argument the input
+     * file and the third argument the file of the store.
+     *
+     * @param args the arguments
+     * @throws IOException  if an io error occurs
+     * @throws SQLException if a database related error occurs
+     */
+    public static void main(String[] args) throws IOException, SQLException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("Usage: (sqlite|text) <input file> <store file>");
+        }
+        Path input = Path.of(args[1]);
+        Path output = Path.of(args[2]);
+        int words = switch (args[0]) {
+        case "sqlite" -> convertSqlite(input, output);
+        case "text" -> convertTextFile(input, output);
+        default -> throw new IllegalArgumentException("Unknown input format: " + args[0]);
+        };
+        LOGGER.info("Converted {} words into {}", words, output);
+    }
+
+    /**
+     * Adds the vector of a word. If the word was already added, the vector is ignored.
+     *
+     * @param word   the word
+     * @param vector the vector
+     * @throws IOException              if the vector cannot be written
+     * @throws IllegalArgumentException if the vector has a different dimension than the previous vectors
+     */
+    public void add(String word, float[] vector) throws IOException {
+        if (dimension < 0) {
+            dimension = vector.length;
+        }
+        if (vector.length != dimension || dimension == 0) {
+            throw new IllegalArgumentException("Vector of '" + word + "' has dimension " + vector.length + " instead of " + dimension);
+        }
+        if (indices.putIfAbsent(word, indices.size()) != null) {
+            duplicates++;
+            return;
+        }
+        for (float component : vector) {
+            if (buffer.remaining() < Float.BYTES) {
+                flush(vectorChannel);
+            }
+            buffer.putFloat(component);
+        }
+    }
+
+    /**
+     * Writes the store file and removes the temporary vector file.
+     *
+     * @return the number of words in the store
+     * @throws IOException if the store cannot be written
+     */
+    public int finish() throws IOException {
+        flush(vectorChannel);
+        if (duplicates > 0) {
+            LOGGER.info("Skipped {} duplicate words", duplicates);
+        }
+        int wordCount = indices.size();
+        int slotCount = Integer.highestOneBit(Math.max(2, wordCount * 2 - 1)) << 1;
+        int[] slots = new int[slotCount];
+        byte[][] words = new byte[wordCount][];
+        long wordsLength = 0;
+        int index = 0;
+        for (String word : indices.keySet()) {
+            byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+            words[index] = bytes;
+            wordsLength += bytes.length;
+            int slot = WordVectorStore.hash(bytes) & (slotCount - 1);
+            while (slots[slot] != WordVectorStore.EMPTY_SLOT) {
+                slot = (slot + 1) & (slotCount - 1);
+            }
+            slots[slot] = index + 1;
+            index++;
+        }
+
+        long tableOffset = WordVectorStore.HEADER_SIZE;
+        long entriesOffset = tableOffset + (long) slotCount * Integer.BYTES;
+        long wordsOffset = entriesOffset + (long) wordCount * WordVectorStore.ENTRY_SIZE;
+        long vectorsOffset = align(wordsOffset + wordsLength);
+
+        Path temporaryStoreFile = Files.createTempFile(storeFile.getParent(), storeFile.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(temporaryStoreFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                buffer.put(WordVectorStore.MAGIC)
+                        .putInt(WordVectorStore.VERSION)
+                        .putInt(Math.max(dimension, 0))
+                        .putInt(wordCount)
+                        .putInt(slotCount)
+                        .putLong(tableOffset)
+                        .putLong(entriesOffset)
+                        .putLong(wordsOffset)
+                        .putLong(vectorsOffset);
+                pad(out, tableOffset);
+                for (int slot : slots) {
+                    putInt(out, slot);
+                }
+                long wordOffset = 0;
+                for (byte[] word : words) {
+                    putLong(out, wordOffset);
+                    putInt(out, word.length);
+                    wordOffset += word.length;
+                }
+                for (byte[] word : words) {
+                    putBytes(out, word);
+                }
+                pad(out, vectorsOffset);
+                flush(out);
+                long vectorsSize = vectorChannel.size();
+                for (long transferred = 0; transferred < vectorsSize;) {
+                    transferred += vectorChannel.transferTo(transferred, vectorsSize - transferred, out.position(vectorsOffset + transferred));
+                }
+            }
+            Files.move(temporaryStoreFile, storeFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryStoreFile);
+        }
+        return wordCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        vectorChannel.close();
+        Files.deleteIfExists(vectorFile);
+    }
+
+    private void addLine(String line, long lineNumber) throws IOException {
+        String[] parts = line.stripTrailing().split(" ", -1);
+        int components = dimension < 0 ? parts.length - 1 : dimension;
+        int wordParts = parts.length - components;
+        if (components <= 0 || wordParts < 1) {
+            throw new IOException("Line " + lineNumber + " has an invalid vector dimension");
+        }
+        String word = wordParts == 1 ? parts[0] : String.join(" ", Arrays.copyOf(parts, wordParts));
+        float[] vector = new float[components];
+        try {
+            for (int i = 0; i < components; i++) {
+                vector[i] = Float.parseFloat(parts[wordParts + i]);
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("Line " + lineNumber + " contains an invalid vector component", e);
+        }
+        add(word, vector);
+    }
+
+    static boolean isFastTextHeader(String line) {
+        String[] parts = line.trim().split(" ");
+        return parts.length == 2 && parts[0].chars().allMatch(Character::isDigit) && parts[1].chars().allMatch(Character::isDigit);
+    }
+
+    private static long align(long offset) {
+        return (offset + VECTOR_ALIGNMENT - 1) / VECTOR_ALIGNMENT * VECTOR_ALIGNMENT;
+    }
+
+    private void putInt(FileChannel out, int value) throws IOException {
+        if (buffer.remaining() < Integer.BYTES) {
+            flush(out);
+        }
+        buffer.putInt(value);
+    }
+
+    private void putLong(FileChannel out, long value) throws IOException {
+        if (buffer.remaining() < Long.BYTES) {
+            flush(out);
+        }
+        buffer.putLong(value);
+    }
+
+    private void putBytes(FileChannel out, byte[] bytes) throws IOException {
+        int written = 0;
+        while (written < bytes.length) {
+            if (!buffer.hasRemaining()) {
+                flush(out);
+            }
+            int length = Math.min(buffer.remaining(), bytes.length - written);
+            buffer.put(bytes, written, length);
+            written += length;
+        }
+    }
+
+    private void pad(FileChannel out, long offset) throws IOException {
+        flush(out);
+        long padding = offset - out.position();
+        for (long i = 0; i < padding; i++) {
+            if (!buffer.hasRemaining()) {
+                flush(out);
+            }
+            buffer.put((byte) 0);
+        }
+    }
+
+    private void flush(FileChannel out) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+}
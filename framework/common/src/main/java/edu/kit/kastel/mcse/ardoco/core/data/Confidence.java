@@ -2,29 +2,53 @@
 package edu.kit.kastel.mcse.ardoco.core.data;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
 import edu.kit.kastel.mcse.ardoco.core.common.AggregationFunctions;
 import edu.kit.kastel.mcse.ardoco.core.common.ICopyable;
-import edu.kit.kastel.mcse.ardoco.core.common.tuple.Triple;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Claimant;
 
 /**
  * This class represents a confidence for a certain (intermediate) result.
  * Different {@link Claimant Claimants} can add their confidences that get aggregated via one of the {@link AggregationFunctions} to a single confidence value.
+ * <p>
+ * The confidences of one claimant are aggregated with {@link AggregationFunctions#MAX}, so only the maximum per claimant is kept (in order of the first
+ * claim). For {@link AggregationFunctions#ROLLING_AVERAGE}, the rolling average over all added values is maintained incrementally. The aggregated value is
+ * cached until the next change. Recording the method of the claimant that added a confidence requires a stack walk and is therefore only done if
+ * {@link #setClaimantAttribution(boolean) claimant attribution} is enabled (e.g., via the system property {@value #ATTRIBUTION_PROPERTY}).
  */
 @Deterministic
 public final class Confidence implements Comparable<Confidence>, ICopyable<Confidence> {
 
+    /**
+     * System property that enables the {@link #setClaimantAttribution(boolean) claimant attribution} on startup.
+     */
+    public static final String ATTRIBUTION_PROPERTY = "ardoco.confidence.attribution";
+
+    private static final int INITIAL_CAPACITY = 2;
+
+    private static volatile boolean claimantAttribution = Boolean.getBoolean(ATTRIBUTION_PROPERTY);
+
     private final AggregationFunctions confidenceAggregator;
 
-    // Claimant, Confidence, MethodName
-    private List<Triple<Claimant, Double, String>> agentConfidences;
+    private Claimant[] claimants;
+    private double[] maxConfidences;
+    private int[] claimCounts;
+    private String[][] claimantMethods;
+    private int size;
+
+    private int valueCount;
+    private double firstValue;
+    private double rollingAverage;
+
+    private double cachedConfidence = Double.NaN;
 
     /**
      * Constructor for the confidence with a given aggregator function.
@@ -33,7 +57,9 @@ public final class Confidence implements Comparable<Confidence>, ICopyable<Confi
      */
     public Confidence(AggregationFunctions confidenceAggregator) {
         this.confidenceAggregator = confidenceAggregator;
-        this.agentConfidences = new ArrayList<>();
+        this.claimants = new Claimant[INITIAL_CAPACITY];
+        this.maxConfidences = new double[INITIAL_CAPACITY];
+        this.claimCounts = new int[INITIAL_CAPACITY];
     }
 
     /**
@@ -48,9 +74,39 @@ public Confidence(Claimant claimant, double probability, AggregationFunctions co
         this.addAgentConfidence(claimant, probability);
     }
 
-    private Confidence(AggregationFunctions confidenceAggregator, List<Triple<Claimant, Double, String>> agentConfidence) {
-        this(confidenceAggregator);
-        this.agentConfidences = new ArrayList<>(agentConfidence);
+    private Confidence(Confidence other) {
+        this.confidenceAggregator = other.confidenceAggregator;
+        int capacity = Math.max(INITIAL_CAPACITY, other.size);
+        this.claimants = Arrays.copyOf(other.claimants, capacity);
+        this.maxConfidences = Arrays.copyOf(other.maxConfidences, capacity);
+        this.claimCounts = Arrays.copyOf(other.claimCounts, capacity);
+        if (other.claimantMethods != null) {
+            this.claimantMethods = Arrays.copyOf(other.claimantMethods, capacity);
+        }
+        this.size = other.size;
+        this.valueCount = other.valueCount;
+        this.firstValue = other.firstValue;
+        this.rollingAverage = other.rollingAverage;
+        this.cachedConfidence = other.cachedConfidence;
+    }
+
+    /**
+     * Enables or disables the recording of the claimant's methods that add confidences. As this requires a stack walk for every added confidence, it should
+     * only be enabled for debugging.
+     *
+     * @param enabled whether the attribution should be recorded
+     */
+    public static void setClaimantAttribution(boolean enabled) {
+        claimantAttribution = enabled;
+    }
+
+    /**
+     * Returns whether the methods of the claimants that add confidences are recorded.
+     *
+     * @return whether the claimant attribution is enabled
+     */
+    public static boolean isClaimantAttribution() {
+        return claimantAttribution;
     }
 
     /**
@@ -60,14 +116,29 @@ private Confidence(AggregationFunctions confidenceAggregator, List<Triple<Claima
      */
     public Set<Claimant> getClaimants() {
         Set<Claimant> identitySet = new LinkedHashSet<>();
-        for (var confidence : this.agentConfidences)
-            identitySet.add(confidence.first());
+        for (int i = 0; i < size; i++)
+            identitySet.add(claimants[i]);
         return identitySet;
     }
 
+    /**
+     * Returns the methods of the given claimant that added confidences. The methods are only recorded if the {@link #setClaimantAttribution(boolean) claimant
+     * attribution} was enabled when the confidences were added.
+     *
+     * @param claimant the claimant
+     * @return the recorded method names in order of their first occurrence
+     */
+    public List<String> getMethodsOfClaimant(Claimant claimant) {
+        int index = indexOf(claimant);
+        if (index < 0 || claimantMethods == null || claimantMethods[index] == null) {
+            return List.of();
+        }
+        return List.of(claimantMethods[index]);
+    }
+
     @Override
     public Confidence createCopy() {
-        return new Confidence(this.confidenceAggregator, this.agentConfidences);
+        return new Confidence(this);
     }
 
     /**
@@ -77,18 +148,20 @@ public Confidence createCopy() {
      * @param confidence the confidence
      */
     public void addAgentConfidence(Claimant claimant, double confidence) {
-        String method = getMethodInClaimant(claimant);
-        agentConfidences.add(new Triple<>(claimant, confidence, method));
+        int index = claim(claimant, confidence, 1);
+        addToRollingAverage(confidence);
+        if (claimantAttribution) {
+            addMethod(index, getMethodInClaimant(claimant));
+        }
+        cachedConfidence = Double.NaN;
     }
 
-    private String getMethodInClaimant(Claimant claimant) {
-        var trace = new Exception().getStackTrace();
-        for (var te : trace) {
-            if (te.getClassName().equals(claimant.getClass().getName())) {
-                return te.getMethodName();
-            }
-        }
-        return "Unknown Method";
+    private static String getMethodInClaimant(Claimant claimant) {
+        String claimantClass = claimant.getClass().getName();
+        return StackWalker.getInstance()
+                .walk(frames -> frames.filter(frame -> frame.getClassName().equals(claimantClass)).findFirst())
+                .map(StackWalker.StackFrame::getMethodName)
+                .orElse("Unknown Method");
     }
 
     @Override
@@ -109,21 +182,48 @@ public String toString() {
      * @return the (aggregated) confidence value
      */
     public double getConfidence() {
-        if (agentConfidences.isEmpty()) {
+        if (Double.isNaN(cachedConfidence)) {
+            cachedConfidence = aggregate();
+        }
+        return cachedConfidence;
+    }
+
+    private double aggregate() {
+        if (size == 0) {
             return 0;
         }
-        if (confidenceAggregator == AggregationFunctions.ROLLING_AVERAGE) {
-            // No aggregate
-            return confidenceAggregator.applyAsDouble(agentConfidences.stream().map(Triple::second).toList());
+        return switch (confidenceAggregator) {
+        case ROLLING_AVERAGE -> rollingAverage;
+        case MAX -> {
+            double max = maxConfidences[0];
+            for (int i = 1; i < size; i++) {
+                max = Math.max(max, maxConfidences[i]);
+            }
+            yield max;
+        }
+        case MIN -> {
+            double min = maxConfidences[0];
+            for (int i = 1; i < size; i++) {
+                min = Math.min(min, maxConfidences[i]);
+            }
+            yield min;
         }
-        var groupAggregator = AggregationFunctions.MAX;
-        var claimantGroupings = agentConfidences.stream().collect(Collectors.groupingBy(Triple::first)).values();
-        var claimantConfidences = claimantGroupings.stream().map(l -> l.stream().map(Triple::second).toList()).map(groupAggregator::applyAsDouble).toList();
-        return confidenceAggregator.applyAsDouble(claimantConfidences);
+        case AVERAGE -> Arrays.stream(maxConfidences, 0, size).average().orElse(0);
+        case SUM -> Arrays.stream(maxConfidences, 0, size).sum();
+        case USE_MOST_RECENT -> maxConfidences[size - 1];
+        default -> {
+            List<Double> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(maxConfidences[i]);
+            }
+            yield confidenceAggregator.applyAsDouble(values);
+        }
+        };
     }
 
     /**
-     * Merges two confidences two one w.r.t. the aggregators
+     * Merges two confidences two one w.r.t. the aggregators. Claimants that contributed to both confidences get the local aggregation of their (maximum)
+     * confidences, all other claimants keep their confidence.
      *
      * @param a                first confidence
      * @param b                second confidence
@@ -134,28 +234,44 @@ public double getConfidence() {
     public static Confidence merge(Confidence a, Confidence b, AggregationFunctions globalAggregator, AggregationFunctions localAggregator) {
         var result = new Confidence(globalAggregator);
 
-        for (var aConf : a.agentConfidences) {
-            var bConf = b.agentConfidences.stream().filter(p -> p.first().equals(aConf.first())).findFirst().orElse(null);
-            if (bConf == null) {
-                result.addAgentConfidence(aConf.first(), aConf.second());
+        Map<Claimant, Integer> indicesOfB = new LinkedHashMap<>(b.size * 2);
+        for (int i = 0; i < b.size; i++) {
+            indicesOfB.put(b.claimants[i], i);
+        }
+
+        boolean[] mergedOfB = new boolean[b.size];
+        for (int i = 0; i < a.size; i++) {
+            Integer indexOfB = indicesOfB.get(a.claimants[i]);
+            if (indexOfB == null) {
+                result.addMerged(a.claimants[i], a.maxConfidences[i]);
             } else {
-                result.addAgentConfidence(aConf.first(), localAggregator.applyAsDouble(List.of(aConf.second(), bConf.second())));
+                mergedOfB[indexOfB] = true;
+                result.addMerged(a.claimants[i], localAggregator.applyAsDouble(List.of(a.maxConfidences[i], b.maxConfidences[indexOfB])));
             }
         }
 
-        for (var bConf : b.agentConfidences) {
-            var aConf = a.agentConfidences.stream().anyMatch(p -> p.first().equals(bConf.first()));
-            if (!aConf) {
-                result.addAgentConfidence(bConf.first(), bConf.second());
+        for (int i = 0; i < b.size; i++) {
+            if (!mergedOfB[i]) {
+                result.addMerged(b.claimants[i], b.maxConfidences[i]);
             }
         }
 
         return result;
     }
 
+    private void addMerged(Claimant claimant, double confidence) {
+        claim(claimant, confidence, 1);
+        addToRollingAverage(confidence);
+        cachedConfidence = Double.NaN;
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(agentConfidences, confidenceAggregator);
+        int result = Objects.hash(confidenceAggregator, size, valueCount, rollingAverage);
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Objects.hash(claimants[i], maxConfidences[i], claimCounts[i]);
+        }
+        return result;
     }
 
     @Override
@@ -167,10 +283,99 @@ public boolean equals(Object obj) {
             return false;
         }
         var other = (Confidence) obj;
-        return Objects.equals(agentConfidences, other.agentConfidences) && confidenceAggregator == other.confidenceAggregator;
+        if (confidenceAggregator != other.confidenceAggregator || size != other.size || valueCount != other.valueCount || Double.compare(rollingAverage,
+                other.rollingAverage) != 0) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(claimants[i], other.claimants[i]) || Double.compare(maxConfidences[i], other.maxConfidences[i]) != 0
+                    || claimCounts[i] != other.claimCounts[i]) {
+                return false;
+            }
+        }
+        return true;
     }
 
+    /**
+     * Adds all confidences of the given confidence to this confidence, as if they had been added one by one.
+     *
+     * @param other the confidence whose confidences are added
+     */
     public void addAllConfidences(Confidence other) {
-        this.agentConfidences.addAll(other.agentConfidences);
+        if (other.size == 0) {
+            return;
+        }
+        for (int i = 0; i < other.size; i++) {
+            int index = claim(other.claimants[i], other.maxConfidences[i], other.claimCounts[i]);
+            if (other.claimantMethods != null && other.claimantMethods[i] != null) {
+                for (String method : other.claimantMethods[i]) {
+                    addMethod(index, method);
+                }
+            }
+        }
+        if (valueCount == 0) {
+            firstValue = other.firstValue;
+            rollingAverage = other.rollingAverage;
+        } else {
+            // Continuing the rolling average of this confidence with the values of the other confidence
+            rollingAverage = other.rollingAverage + Math.scalb(rollingAverage - other.firstValue, -other.valueCount);
+        }
+        valueCount += other.valueCount;
+        cachedConfidence = Double.NaN;
+    }
+
+    private int claim(Claimant claimant, double confidence, int count) {
+        int index = indexOf(claimant);
+        if (index >= 0) {
+            maxConfidences[index] = Math.max(maxConfidences[index], confidence);
+            claimCounts[index] += count;
+            return index;
+        }
+        if (size == claimants.length) {
+            int capacity = size * 2;
+            claimants = Arrays.copyOf(claimants, capacity);
+            maxConfidences = Arrays.copyOf(maxConfidences, capacity);
+            claimCounts = Arrays.copyOf(claimCounts, capacity);
+            if (claimantMethods != null) {
+                claimantMethods = Arrays.copyOf(claimantMethods, capacity);
+            }
+        }
+        claimants[size] = claimant;
+        maxConfidences[size] = confidence;
+        claimCounts[size] = count;
+        return size++;
+    }
+
+    private int indexOf(Claimant claimant) {
+        for (int i = 0; i < size; i++) {
+            if (claimants[i] == claimant || claimants[i].equals(claimant)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void addToRollingAverage(double confidence) {
+        if (valueCount == 0) {
+            firstValue = confidence;
+            rollingAverage = confidence;
+        } else {
+            rollingAverage = (rollingAverage + confidence) / 2;
+        }
+        valueCount++;
+    }
+
+    private void addMethod(int index, String method) {
+        if (claimantMethods == null) {
+            claimantMethods = new String[claimants.length][];
+        }
+        String[] methods = claimantMethods[index];
+        if (methods == null) {
+            claimantMethods[index] = new String[] { method };
+        } else if (!Arrays.asList(methods).contains(method)) {
+            String[] extended = Arrays.copyOf(methods, methods.length + 1);
+            extended[methods.length] = method;
+            claimantMethods[index] = extended;
+        }
     }
 }
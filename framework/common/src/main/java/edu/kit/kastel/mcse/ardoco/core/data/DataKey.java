@@ -0,0 +1,32 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.data;
+
+import java.util.Objects;
+
+/**
+ * A typed key for data in a {@link DataRepository}. The key combines the data identifier with the class of the data that is stored under it, so that
+ * fetching data with a key does not need an additional class argument.
+ *
+ * @param identifier the data identifier
+ * @param type       the class of the data
+ * @param <T>        the type of the data
+ */
+public record DataKey<T extends PipelineStepData>(String identifier, Class<T> type) {
+
+    public DataKey {
+        Objects.requireNonNull(identifier);
+        Objects.requireNonNull(type);
+    }
+
+    /**
+     * Creates a new key for the given identifier and class of data.
+     *
+     * @param identifier the data identifier
+     * @param type       the class of the data
+     * @param <T>        the type of the data
+     * @return the key
+     */
+    public static <T extends PipelineStepData> DataKey<T> of(String identifier, Class<T> type) {
+        return new DataKey<>(identifier, type);
+    }
+}
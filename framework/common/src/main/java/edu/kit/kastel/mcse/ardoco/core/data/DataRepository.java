@@ -2,8 +2,7 @@
 package edu.kit.kastel.mcse.ardoco.core.data;
 
 import java.util.Optional;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,14 +11,21 @@
  * This class represents a data repository that can be used to store and fetch certain data ({@link PipelineStepData}.
  * Data can be added and fetched with the help of a data identifier (as string). Fetching also needs the necessary class
  * of data that is expected.
+ * <p>
+ * Alternatively, data can be accessed with a typed {@link DataKey}.
+ * <p>
+ * The repository can be accessed concurrently by pipeline steps that are executed in parallel. Its contents are kept in an
+ * immutable {@link DataRepositorySnapshot} that is replaced on every modification, so reads never block and
+ * {@link #snapshot()} is a constant-time operation. Each entry carries a version that is incremented whenever its data is
+ * replaced, which allows observers (e.g., exporters or progress monitors) to detect changes.
  */
 public class DataRepository {
     private static final Logger logger = LoggerFactory.getLogger(DataRepository.class);
 
-    private final SortedMap<String, PipelineStepData> data;
+    private final AtomicReference<DataRepositorySnapshot> data;
 
     public DataRepository() {
-        this.data = new TreeMap<>();
+        this.data = new AtomicReference<>(DataRepositorySnapshot.EMPTY);
     }
 
     /**
@@ -33,14 +39,27 @@ public DataRepository() {
      * @param <T> Type of data that is expected and cast into
      */
     public <T extends PipelineStepData> Optional<T> getData(String identifier, Class<T> clazz) {
-        var possibleData = data.get(identifier);
-        if (possibleData != null) {
-            return possibleData.asPipelineStepData(clazz);
+        var currentData = data.get();
+        if (currentData.containsData(identifier)) {
+            return currentData.getData(identifier, clazz);
         }
         logger.warn("Could not find data for id '{}'", identifier);
         return Optional.empty();
     }
 
+    /**
+     * Returns the data that is stored for the given key. If data with such key does not exist or has a different type,
+     * this method will return an empty Optional
+     *
+     * @param key the key of the data
+     * @return Optional containing the requested data. The optional is empty is data could not be found or has a
+     *         different type.
+     * @param <T> Type of data that is expected
+     */
+    public <T extends PipelineStepData> Optional<T> getData(DataKey<T> key) {
+        return getData(key.identifier(), key.type());
+    }
+
     /**
      * Adds data to this repository using the identifier. If data with the given identifier already exists, overwrites
      * it.
@@ -49,9 +68,50 @@ public <T extends PipelineStepData> Optional<T> getData(String identifier, Class
      * @param pipelineStepData Data that should be saved
      */
     public void addData(String identifier, PipelineStepData pipelineStepData) {
-        if (data.put(identifier, pipelineStepData) != null) {
+        var previousData = data.getAndUpdate(currentData -> currentData.with(identifier, pipelineStepData));
+        if (previousData.containsData(identifier)) {
             logger.warn("Overriding data with identifier '{}'", identifier);
         }
     }
 
+    /**
+     * Adds data to this repository using the given key. If data with the given key already exists, overwrites it.
+     *
+     * @param key              the key of the data
+     * @param pipelineStepData Data that should be saved
+     * @param <T>              Type of the data
+     */
+    public <T extends PipelineStepData> void addData(DataKey<T> key, T pipelineStepData) {
+        addData(key.identifier(), pipelineStepData);
+    }
+
+    /**
+     * Returns the current version of the entry with the given identifier. See {@link DataRepositorySnapshot#getVersion(String)}.
+     *
+     * @param identifier Data identifier
+     * @return the version of the entry, or 0 if no data is stored for the identifier
+     */
+    public long getVersion(String identifier) {
+        return data.get().getVersion(identifier);
+    }
+
+    /**
+     * Returns the number of modifications of this repository.
+     *
+     * @return the version of this repository
+     */
+    public long getVersion() {
+        return data.get().getVersion();
+    }
+
+    /**
+     * Returns a read-only snapshot of the current contents of this repository. Later modifications of the repository are
+     * not visible in the snapshot.
+     *
+     * @return the snapshot
+     */
+    public DataRepositorySnapshot snapshot() {
+        return data.get();
+    }
+
 }
@@ -0,0 +1,126 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.data;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * An immutable view of the contents of a {@link DataRepository} at one point in time. A snapshot records which data was stored under which identifier
+ * together with the version of each entry. Creating a snapshot is cheap, as the repository never modifies a snapshot after it has been published.
+ * <p>
+ * Note that a snapshot only fixes the references to the stored {@link PipelineStepData}. Data that is modified in place (e.g., states that are filled by
+ * agents) is observed in its current state.
+ */
+public final class DataRepositorySnapshot {
+
+    static final DataRepositorySnapshot EMPTY = new DataRepositorySnapshot(Collections.emptySortedMap(), 0);
+
+    private final SortedMap<String, Entry> entries;
+    private final long version;
+
+    private DataRepositorySnapshot(SortedMap<String, Entry> entries, long version) {
+        this.entries = entries;
+        this.version = version;
+    }
+
+    /**
+     * Returns data with the given identifier and casts the {@link PipelineStepData} into the given class, if possible.
+     *
+     * @param identifier Data identifier string
+     * @param clazz      class that the data should have
+     * @param <T>        Type of data that is expected and cast into
+     * @return Optional containing the requested data cast into the given class. The optional is empty if data could not be found, was added as
+     *         {@code null} or casting was unsuccessful.
+     */
+    public <T extends PipelineStepData> Optional<T> getData(String identifier, Class<T> clazz) {
+        var entry = entries.get(identifier);
+        if (entry == null || entry.data() == null) {
+            return Optional.empty();
+        }
+        return entry.data().asPipelineStepData(clazz);
+    }
+
+    /**
+     * Returns the data that is stored for the given key.
+     *
+     * @param key the key of the data
+     * @param <T> Type of data that is expected
+     * @return Optional containing the requested data. The optional is empty if data could not be found or has a different type.
+     */
+    public <T extends PipelineStepData> Optional<T> getData(DataKey<T> key) {
+        return getData(key.identifier(), key.type());
+    }
+
+    /**
+     * Returns whether data is stored for the given identifier.
+     *
+     * @param identifier Data identifier string
+     * @return true, if data is stored for the identifier
+     */
+    public boolean containsData(String identifier) {
+        return entries.containsKey(identifier);
+    }
+
+    /**
+     * Returns the version of the entry with the given identifier. The version starts with 1 when data is added for the first time and is incremented
+     * whenever the data is replaced. If no data is stored for the identifier, the version is 0.
+     *
+     * @param identifier Data identifier string
+     * @return the version of the entry
+     */
+    public long getVersion(String identifier) {
+        var entry = entries.get(identifier);
+        return entry == null ? 0 : entry.version();
+    }
+
+    /**
+     * Returns the version of the repository at the time of this snapshot, i.e., the number of modifications that happened before this snapshot was
+     * taken.
+     *
+     * @return the version of the repository
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the identifiers of all stored data.
+     *
+     * @return the identifiers
+     */
+    public SortedSet<String> getIdentifiers() {
+        SortedSet<String> identifiers = new TreeSet<>();
+        entries.forEach((identifier, entry) -> identifiers.add(identifier));
+        return Collections.unmodifiableSortedSet(identifiers);
+    }
+
+    /**
+     * Returns the identifiers of the entries that were added or replaced after the given (older) snapshot was taken.
+     *
+     * @param older an older snapshot of the same repository
+     * @return the identifiers of the changed entries
+     */
+    public SortedSet<String> getChangedIdentifiers(DataRepositorySnapshot older) {
+        SortedSet<String> changed = new TreeSet<>();
+        entries.forEach((identifier, entry) -> {
+            if (entry.version() != older.getVersion(identifier)) {
+                changed.add(identifier);
+            }
+        });
+        return changed;
+    }
+
+    DataRepositorySnapshot with(String identifier, PipelineStepData data) {
+        SortedMap<String, Entry> newEntries = new TreeMap<>(entries);
+        var previous = entries.get(identifier);
+        newEntries.put(identifier, new Entry(data, previous == null ? 1 : previous.version() + 1));
+        return new DataRepositorySnapshot(Collections.unmodifiableSortedMap(newEntries), version + 1);
+    }
+
+    private record Entry(PipelineStepData data, long version) {
+    }
+}
@@ -0,0 +1,31 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.pipeline;
+
+import java.util.SortedSet;
+
+import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
+
+/**
+ * A pipeline step that declares which data of the {@link DataRepository} it reads and writes. A {@link Pipeline} in
+ * {@link PipelineExecutionMode#PARALLEL parallel mode} uses the declarations to run steps that access disjoint data concurrently. Steps that do not implement
+ * this interface are never run concurrently with other steps.
+ * <p>
+ * The declarations have to be complete: a step that reads or writes data (including data that is reachable via mutable state objects) without declaring it
+ * may produce results that differ from the sequential execution.
+ */
+public interface DataDependent {
+
+    /**
+     * Returns the identifiers of the data this step reads from the {@link DataRepository}.
+     *
+     * @return the identifiers of the read data
+     */
+    SortedSet<String> getReadDataIdentifiers();
+
+    /**
+     * Returns the identifiers of the data this step adds to the {@link DataRepository} or modifies.
+     *
+     * @return the identifiers of the written data
+     */
+    SortedSet<String> getWrittenDataIdentifiers();
+}
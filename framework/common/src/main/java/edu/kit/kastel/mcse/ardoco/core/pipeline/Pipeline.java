@@ -7,16 +7,24 @@
 import java.util.List;
 import java.util.SortedMap;
 
+import edu.kit.kastel.mcse.ardoco.core.configuration.ChildClassConfigurable;
+import edu.kit.kastel.mcse.ardoco.core.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
 
 /**
  * Class that represents a pipeline that can consist of multiple {@link AbstractPipelineStep AbstractPipelineSteps}.
  * Steps are executed consecutively one after another in the order they were added to the pipeline. Execution calls the
  * {@link #run()} method of the different {@link AbstractPipelineStep AbstractPipelineSteps}.
+ * <p>
+ * In {@link PipelineExecutionMode#PARALLEL parallel mode}, steps that access disjoint data (see {@link DataDependent}) are executed concurrently.
  */
 public class Pipeline extends AbstractPipelineStep {
     private final List<AbstractPipelineStep> pipelineSteps;
 
+    @Configurable
+    @ChildClassConfigurable
+    private PipelineExecutionMode executionMode = PipelineExecutionMode.SEQUENTIAL;
+
     /**
      * Constructs a Pipeline with the given id and {@link DataRepository}.
      *
@@ -59,30 +67,54 @@ public boolean addPipelineStep(AbstractPipelineStep pipelineStep) {
         return this.pipelineSteps.add(pipelineStep);
     }
 
+    /**
+     * Returns how the steps of this pipeline are executed.
+     *
+     * @return the execution mode
+     */
+    public PipelineExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    /**
+     * Sets how the steps of this pipeline are executed. The mode can also be configured via {@code <ClassName>::executionMode}.
+     *
+     * @param executionMode the execution mode
+     */
+    public void setExecutionMode(PipelineExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+
     @Override
     public final void run() {
         preparePipelineSteps();
-        for (var pipelineStep : this.pipelineSteps) {
-            logger.info("Starting {} - {}", this.getId(), pipelineStep.getId());
-            var start = Instant.now();
-
-            pipelineStep.run();
-
-            if (logger.isInfoEnabled()) {
-                var end = Instant.now();
-                var duration = Duration.between(start, end);
-                long minutesPart = duration.toMinutes();
-                int secondsPart = duration.toSecondsPart();
-                int millisPart = duration.toMillisPart();
-                String durationString;
-                if (minutesPart > 0) {
-                    durationString = String.format("%02d:%02d.%03d", minutesPart, secondsPart, millisPart);
-                } else {
-                    durationString = String.format("%01d.%03d s", secondsPart, millisPart);
-                }
-
-                logger.info("Finished {} - {} in {}", this.getId(), pipelineStep.getId(), durationString);
+        if (executionMode == PipelineExecutionMode.PARALLEL && this.pipelineSteps.size() > 1) {
+            PipelineStepScheduler.run(this.pipelineSteps, this::runPipelineStep);
+        } else {
+            this.pipelineSteps.forEach(this::runPipelineStep);
+        }
+    }
+
+    private void runPipelineStep(AbstractPipelineStep pipelineStep) {
+        logger.info("Starting {} - {}", this.getId(), pipelineStep.getId());
+        var start = Instant.now();
+
+        pipelineStep.run();
+
+        if (logger.isInfoEnabled()) {
+            var end = Instant.now();
+            var duration = Duration.between(start, end);
+            long minutesPart = duration.toMinutes();
+            int secondsPart = duration.toSecondsPart();
+            int millisPart = duration.toMillisPart();
+            String durationString;
+            if (minutesPart > 0) {
+                durationString = String.format("%02d:%02d.%03d", minutesPart, secondsPart, millisPart);
+            } else {
+                durationString = String.format("%01d.%03d s", secondsPart, millisPart);
             }
+
+            logger.info("Finished {} - {} in {}", this.getId(), pipelineStep.getId(), durationString);
         }
     }
 
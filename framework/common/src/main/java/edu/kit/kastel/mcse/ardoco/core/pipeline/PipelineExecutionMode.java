@@ -0,0 +1,17 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.pipeline;
+
+/**
+ * Defines how a {@link Pipeline} executes its steps.
+ */
+public enum PipelineExecutionMode {
+    /**
+     * Steps are executed one after another in the order they were added to the pipeline.
+     */
+    SEQUENTIAL,
+    /**
+     * Steps are executed as soon as all preceding steps they depend on are finished. The dependencies are derived from the {@link DataDependent} declarations
+     * of the steps; steps without declarations depend on all preceding steps and all following steps depend on them.
+     */
+    PARALLEL
+}
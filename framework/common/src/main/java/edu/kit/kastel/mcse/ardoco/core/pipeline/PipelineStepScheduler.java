@@ -0,0 +1,94 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.pipeline;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Runs pipeline steps along the dependency graph that is derived from their {@link DataDependent} declarations. A step depends on a preceding step if one of
+ * them writes data the other one reads or writes, or if one of them does not declare its data access. Steps are started as soon as all steps they depend on
+ * are finished, so the observable result equals the one of the sequential execution as long as the declarations are complete.
+ * <p>
+ * All pipelines share one bounded executor. Nested pipelines that wait for their steps do not starve the executor, as waiting workers are compensated by the
+ * {@link ForkJoinPool}.
+ */
+final class PipelineStepScheduler {
+
+    private static final ForkJoinPool EXECUTOR = new ForkJoinPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+    private PipelineStepScheduler() {
+        throw new IllegalAccessError();
+    }
+
+    /**
+     * Runs the given steps. Returns after all steps have finished. If steps failed, the failure of the first failed step (in the order of the given list) is
+     * rethrown; steps that depend on a failed step are not executed.
+     *
+     * @param steps  the steps in their sequential order
+     * @param runner the action that runs a single step
+     */
+    static void run(List<? extends AbstractPipelineStep> steps, Consumer<AbstractPipelineStep> runner) {
+        List<List<Integer>> dependencies = calculateDependencies(steps);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(steps.size());
+        for (int i = 0; i < steps.size(); i++) {
+            AbstractPipelineStep step = steps.get(i);
+            CompletableFuture<?>[] predecessors = dependencies.get(i).stream().map(futures::get).toArray(CompletableFuture<?>[]::new);
+            futures.add(CompletableFuture.allOf(predecessors).thenRunAsync(() -> runner.accept(step), EXECUTOR));
+        }
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).handle((result, exception) -> null).join();
+        for (var future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Calculates the direct dependencies of the steps. The i-th entry contains the indices of all preceding steps the i-th step depends on.
+     *
+     * @param steps the steps in their sequential order
+     * @return the dependencies of each step
+     */
+    static List<List<Integer>> calculateDependencies(List<? extends AbstractPipelineStep> steps) {
+        List<List<Integer>> dependencies = new ArrayList<>(steps.size());
+        for (int j = 0; j < steps.size(); j++) {
+            List<Integer> dependenciesOfStep = new ArrayList<>();
+            for (int i = 0; i < j; i++) {
+                if (conflict(steps.get(i), steps.get(j))) {
+                    dependenciesOfStep.add(i);
+                }
+            }
+            dependencies.add(Collections.unmodifiableList(dependenciesOfStep));
+        }
+        return Collections.unmodifiableList(dependencies);
+    }
+
+    private static boolean conflict(AbstractPipelineStep earlier, AbstractPipelineStep later) {
+        if (!(earlier instanceof DataDependent earlierStep) || !(later instanceof DataDependent laterStep)) {
+            return true;
+        }
+        SortedSet<String> earlierWrites = earlierStep.getWrittenDataIdentifiers();
+        SortedSet<String> laterWrites = laterStep.getWrittenDataIdentifiers();
+        return intersect(earlierWrites, laterStep.getReadDataIdentifiers()) || intersect(earlierWrites, laterWrites) || intersect(earlierStep
+                .getReadDataIdentifiers(), laterWrites);
+    }
+
+    private static boolean intersect(SortedSet<String> first, SortedSet<String> second) {
+        return !Collections.disjoint(first, second);
+    }
+}
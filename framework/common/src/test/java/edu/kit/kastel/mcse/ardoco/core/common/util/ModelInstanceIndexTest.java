@@ -0,0 +1,182 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.SortedSets;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.models.LegacyModelExtractionStateByArCoTL;
+import edu.kit.kastel.mcse.ardoco.core.api.models.ModelInstance;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.ArchitectureModel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.architecture.ArchitectureComponent;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.architecture.ArchitectureItem;
+import edu.kit.kastel.mcse.ardoco.core.api.recommendationgenerator.RecommendedInstance;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.NounMapping;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Claimant;
+
+class ModelInstanceIndexTest {
+
+    private static final List<String> TEXTS = List.of("database", "Database", "DataBase", "databases", "data base", "media", "MediaAccess", "media access",
+            "mediaaccess", "access", "Access", "store", "store server", "user", "users", "UserManagement", "user management", "management", "Component",
+            "component", "basic", "BasicComponent", "basic component", "composite", "Server", "ſtore", "İndex", "a", "", "the media access layer");
+
+    private final ImmutableList<ModelInstance> instances = createInstances();
+
+    @Test
+    void testWordLookupsEqualExhaustiveScan() {
+        ModelInstanceIndex index = new ModelInstanceIndex(instances);
+        for (String text : TEXTS) {
+            Word word = named(Word.class, "getText", text);
+            assertEquals(instances.anySatisfy(instance -> SimilarityUtils.isWordSimilarToModelInstance(word, instance)), index.isWordSimilarToAnyInstance(
+                    word), word.getText());
+            assertEquals(instances.anySatisfy(instance -> SimilarityUtils.isWordSimilarToModelInstanceType(word, instance)), index
+                    .isWordSimilarToAnyInstanceType(word), word.getText());
+        }
+        assertTrue(index.isWordSimilarToAnyInstance(named(Word.class, "getText", "database")));
+        assertFalse(index.isWordSimilarToAnyInstance(named(Word.class, "getText", "composite")));
+        assertTrue(index.isWordSimilarToAnyInstanceType(named(Word.class, "getText", "component")));
+    }
+
+    @Test
+    void testRecommendedInstanceLookupsEqualExhaustiveScan() {
+        ModelInstanceIndex index = new ModelInstanceIndex(instances);
+        for (String text : TEXTS) {
+            RecommendedInstance recommendedInstance = new DummyRecommendedInstance(text);
+            assertEquals(instances.select(instance -> SimilarityUtils.isRecommendedInstanceSimilarToModelInstance(recommendedInstance, instance)), index
+                    .getInstancesSimilarToRecommendedInstance(recommendedInstance), text);
+        }
+    }
+
+    @Test
+    void testNounMappingLookupsEqualExhaustiveScan() {
+        ModelInstanceIndex index = new ModelInstanceIndex(instances);
+        ImmutableList<NounMapping> nounMappings = Lists.immutable.fromStream(TEXTS.stream().map(text -> named(NounMapping.class, "getReference", text)));
+
+        var expected = instances.collect(instance -> nounMappings.select(nounMapping -> SimilarityUtils.isNounMappingSimilarToModelInstance(nounMapping,
+                instance)));
+        var similarNounMappings = index.getSimilarNounMappingsOfInstances(nounMappings);
+        assertEquals(expected, similarNounMappings);
+        assertEquals(instances.size(), similarNounMappings.size());
+        assertTrue(similarNounMappings.anySatisfy(list -> list.notEmpty()));
+    }
+
+    private static ImmutableList<ModelInstance> createInstances() {
+        String[] names = { "Database", "MediaAccess", "UserManagement", "FileStorage", "Index" };
+        String[] types = { "BasicComponent", "BasicComponent", "CompositeComponent", "Store", "Interface" };
+        List<ArchitectureItem> components = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            components.add(new ArchitectureComponent(names[i], "component-" + i, new TreeSet<>(), new TreeSet<>(), new TreeSet<>(), types[i]));
+        }
+        return new LegacyModelExtractionStateByArCoTL(new ArchitectureModel(components)).getInstances();
+    }
+
+    /**
+     * creates an object of the given interface that only supports the given getter, which returns the given text
+     */
+    private static <T> T named(Class<T> type, String getter, String text) {
+        Object object = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> switch (method.getName()) {
+        case "equals" -> proxy == args[0];
+        case "hashCode" -> System.identityHashCode(proxy);
+        case "toString" -> text;
+        default -> {
+            if (method.getName().equals(getter)) {
+                yield text;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        }
+        });
+        return type.cast(object);
+    }
+
+    private static final class DummyRecommendedInstance extends RecommendedInstance {
+
+        private final String name;
+
+        private DummyRecommendedInstance(String name) {
+            super(name, name);
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public ImmutableList<NounMapping> getNameMappings() {
+            return Lists.immutable.empty();
+        }
+
+        @Override
+        public ImmutableList<NounMapping> getTypeMappings() {
+            return Lists.immutable.empty();
+        }
+
+        @Override
+        public double getProbability() {
+            return 0;
+        }
+
+        @Override
+        public void addProbability(Claimant claimant, double probability) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addMappings(NounMapping nameMapping, NounMapping typeMapping) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addMappings(ImmutableList<NounMapping> nameMapping, ImmutableList<NounMapping> typeMapping) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addName(NounMapping nameMapping) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addType(NounMapping typeMapping) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getType() {
+            return "";
+        }
+
+        @Override
+        public void setType(String type) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void setName(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ImmutableSortedSet<Integer> getSentenceNumbers() {
+            return SortedSets.immutable.empty();
+        }
+
+        @Override
+        public ImmutableList<Claimant> getClaimants() {
+            return Lists.immutable.empty();
+        }
+    }
+}
@@ -0,0 +1,285 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.SortedMaps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
+import edu.kit.kastel.mcse.ardoco.core.api.text.PhraseType;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Sentence;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.NounMapping;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.PhraseMapping;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.PhraseMappingChangeListener;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.TextState;
+
+class PhraseVectorIndexTest {
+
+    private static final List<String> VOCABULARY = List.of("the", "a", "component", "server", "database", "cache", "store", "user", "interface", "of",
+            "logic", "web", "ui", "registry", "service");
+    private static final double MIN_SIMILARITY = 0.4;
+
+    @Test
+    void testSimilaritiesEqualMapBasedSimilarities() {
+        ImmutableList<PhraseMapping> phraseMappings = createPhraseMappings(new Random(42), 80);
+        PhraseVectorIndex index = new PhraseVectorIndex(phraseMappings);
+        Phrase unknownPhrase = createPhrase(List.of(new DummyWord("unknown", 1000, 0), new DummyWord("component", 1000, 1)));
+
+        for (PhraseMapping phraseMapping : phraseMappings) {
+            for (PhraseMapping other : phraseMappings) {
+                for (PhraseMappingAggregatorStrategy strategy : PhraseMappingAggregatorStrategy.values()) {
+                    assertEquals(strategy.applyAsDouble(phraseMapping, other), strategy.applyAsDouble(phraseMapping, other, index::getSimilarity));
+                }
+            }
+            for (Phrase phrase : phraseMapping.getPhrases()) {
+                assertEquals(SimilarityUtils.cosineSimilarity(phrase, unknownPhrase), index.getSimilarity(phrase, unknownPhrase));
+                assertEquals(SimilarityUtils.cosineSimilarity(unknownPhrase, unknownPhrase), index.getSimilarity(unknownPhrase, unknownPhrase));
+            }
+        }
+    }
+
+    @Test
+    void testCandidatesContainAllSimilarPhraseMappings() {
+        Random random = new Random(7);
+        ImmutableList<PhraseMapping> phraseMappings = createPhraseMappings(random, 200);
+        PhraseVectorIndex index = new PhraseVectorIndex(phraseMappings);
+        assertCandidatesContainAllSimilarPhraseMappings(phraseMappings, index);
+
+        // the index stays valid if phrase mappings lose phrases
+        for (PhraseMapping phraseMapping : phraseMappings) {
+            if (phraseMapping.getPhrases().size() > 1 && random.nextBoolean()) {
+                phraseMapping.removePhrase(phraseMapping.getPhrases().getFirst());
+            }
+        }
+        assertCandidatesContainAllSimilarPhraseMappings(phraseMappings, index);
+    }
+
+    private static void assertCandidatesContainAllSimilarPhraseMappings(ImmutableList<PhraseMapping> phraseMappings, PhraseVectorIndex index) {
+        int comparisons = 0;
+        for (PhraseMapping phraseMapping : phraseMappings) {
+            ImmutableList<PhraseMapping> candidates = index.getSimilarPhraseMappingCandidates(phraseMapping, MIN_SIMILARITY);
+            assertEquals(phraseMappings.select(candidates::contains), candidates);
+            comparisons += candidates.size();
+
+            for (PhraseMapping other : phraseMappings) {
+                boolean covers = covers(phraseMapping, other) || covers(other, phraseMapping);
+                if (covers || PhraseMappingAggregatorStrategy.MAX_SIMILARITY.applyAsDouble(phraseMapping, other) > MIN_SIMILARITY) {
+                    assertTrue(candidates.contains(other), phraseMapping + " / " + other);
+                }
+            }
+        }
+        assertTrue(comparisons < phraseMappings.size() * phraseMappings.size());
+    }
+
+    private static boolean covers(PhraseMapping phraseMapping, PhraseMapping other) {
+        return phraseMapping.getPhraseVector().keysView().containsAll(other.getPhraseVector().keysView().toSortedSet());
+    }
+
+    private static ImmutableList<PhraseMapping> createPhraseMappings(Random random, int count) {
+        MutableList<Phrase> phrases = Lists.mutable.empty();
+        for (int sentence = 0; phrases.size() < count; sentence++) {
+            MutableList<Word> words = Lists.mutable.empty();
+            int length = 2 + random.nextInt(6);
+            for (int position = 0; position < length; position++) {
+                words.add(new DummyWord(VOCABULARY.get(random.nextInt(VOCABULARY.size())), sentence, position));
+            }
+            phrases.add(createPhrase(words));
+            // a nested phrase that shares the words of the phrase
+            phrases.add(createPhrase(words.subList(random.nextInt(length), length)));
+        }
+        phrases.add(createPhrase(List.of()));
+
+        MutableList<PhraseMapping> phraseMappings = Lists.mutable.empty();
+        for (int i = 0; i < phrases.size(); i++) {
+            MutableList<Phrase> phrasesOfMapping = Lists.mutable.with(phrases.get(i));
+            if (random.nextInt(3) == 0) {
+                phrasesOfMapping.add(phrases.get(random.nextInt(phrases.size())));
+            }
+            phraseMappings.add(new DummyPhraseMapping(phrasesOfMapping));
+        }
+        return phraseMappings.toImmutable();
+    }
+
+    private static Phrase createPhrase(List<Word> words) {
+        return new DummyPhrase(Lists.immutable.withAll(words));
+    }
+
+    private static ImmutableSortedMap<Word, Integer> toPhraseVector(ImmutableList<Word> words) {
+        MutableSortedMap<Word, Integer> phraseVector = SortedMaps.mutable.empty();
+        words.groupBy(Word::getText).forEachKeyMultiValues((text, wordsOfText) -> phraseVector.put(wordsOfText.iterator().next(), Lists.immutable
+                .withAll(wordsOfText)
+                .size()));
+        return phraseVector.toImmutable();
+    }
+
+    private record DummyWord(String text, int sentenceNo, int position) implements Word {
+        @Override
+        public int getSentenceNo() {
+            return sentenceNo;
+        }
+
+        @Override
+        public Sentence getSentence() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public POSTag getPosTag() {
+            return POSTag.NOUN;
+        }
+
+        @Override
+        public Word getPreWord() {
+            return null;
+        }
+
+        @Override
+        public Word getNextWord() {
+            return null;
+        }
+
+        @Override
+        public int getPosition() {
+            return position;
+        }
+
+        @Override
+        public String getLemma() {
+            return text;
+        }
+
+        @Override
+        public ImmutableList<Word> getOutgoingDependencyWordsWithType(DependencyTag dependencyTag) {
+            return Lists.immutable.empty();
+        }
+
+        @Override
+        public ImmutableList<Word> getIncomingDependencyWordsWithType(DependencyTag dependencyTag) {
+            return Lists.immutable.empty();
+        }
+
+        @Override
+        public Phrase getPhrase() {
+            return null;
+        }
+    }
+
+    private static final class DummyPhrase implements Phrase {
+        private final ImmutableList<Word> words;
+
+        private DummyPhrase(ImmutableList<Word> words) {
+            this.words = words;
+        }
+
+        @Override
+        public int getSentenceNo() {
+            return words.isEmpty() ? 0 : words.get(0).getSentenceNo();
+        }
+
+        @Override
+        public String getText() {
+            return words.collect(Word::getText).makeString(" ");
+        }
+
+        @Override
+        public PhraseType getPhraseType() {
+            return PhraseType.NP;
+        }
+
+        @Override
+        public ImmutableList<Word> getContainedWords() {
+            return words;
+        }
+
+        @Override
+        public ImmutableList<Phrase> getSubPhrases() {
+            return Lists.immutable.empty();
+        }
+
+        @Override
+        public boolean isSuperPhraseOf(Phrase other) {
+            return false;
+        }
+
+        @Override
+        public boolean isSubPhraseOf(Phrase other) {
+            return false;
+        }
+
+        @Override
+        public ImmutableSortedMap<Word, Integer> getPhraseVector() {
+            return toPhraseVector(words);
+        }
+
+        @Override
+        public String toString() {
+            return "Phrase{" + "text='" + getText() + '\'' + '}';
+        }
+    }
+
+    private static final class DummyPhraseMapping implements PhraseMapping {
+        private final MutableList<Phrase> phrases;
+
+        private DummyPhraseMapping(MutableList<Phrase> phrases) {
+            this.phrases = phrases;
+        }
+
+        @Override
+        public ImmutableList<NounMapping> getNounMappings(TextState textState) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ImmutableList<Phrase> getPhrases() {
+            return phrases.toImmutable();
+        }
+
+        @Override
+        public PhraseType getPhraseType() {
+            return PhraseType.NP;
+        }
+
+        @Override
+        public ImmutableSortedMap<Word, Integer> getPhraseVector() {
+            return toPhraseVector(phrases.flatCollect(Phrase::getContainedWords).toImmutable());
+        }
+
+        @Override
+        public void removePhrase(Phrase phrase) {
+            phrases.remove(phrase);
+        }
+
+        @Override
+        public void registerChangeListener(PhraseMappingChangeListener listener) {
+            // not needed
+        }
+
+        @Override
+        public void onDelete(PhraseMapping replacement) {
+            // not needed
+        }
+
+        @Override
+        public String toString() {
+            return "PhraseMapping{" + "phrases=" + phrases + '}';
+        }
+    }
+}
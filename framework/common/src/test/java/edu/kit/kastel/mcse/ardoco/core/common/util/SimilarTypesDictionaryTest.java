@@ -0,0 +1,49 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.models.LegacyModelExtractionState;
+import edu.kit.kastel.mcse.ardoco.core.api.models.LegacyModelExtractionStateByArCoTL;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.ArchitectureModel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.architecture.ArchitectureComponent;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.architecture.ArchitectureItem;
+
+class SimilarTypesDictionaryTest {
+
+    @Test
+    void testSimilarTypesEqualFilteredTypeIdentifiers() {
+        LegacyModelExtractionState modelState = createModelState("BasicComponent", "composite_component", "DataStore");
+        SimilarTypesDictionary dictionary = new SimilarTypesDictionary(modelState);
+        var typeIdentifiers = Lists.immutable.withAll(CommonUtilities.getTypeIdentifiers(modelState));
+
+        for (String text : List.of("component", "Component", "components", "basic", "store", "datastore", "server", "the", "composite")) {
+            assertEquals(typeIdentifiers.select(typeId -> SimilarityUtils.areWordsSimilar(typeId, text)), dictionary.getSimilarTypes(text), text);
+        }
+        assertTrue(dictionary.getSimilarTypes("component").contains("Component"));
+        assertTrue(dictionary.getSimilarTypes("server").isEmpty());
+    }
+
+    @Test
+    void testSimilarTypesAreLookedUpOnce() {
+        SimilarTypesDictionary dictionary = new SimilarTypesDictionary(createModelState("BasicComponent"));
+        assertSame(dictionary.getSimilarTypes("component"), dictionary.getSimilarTypes("component"));
+    }
+
+    private static LegacyModelExtractionState createModelState(String... types) {
+        List<ArchitectureItem> components = new ArrayList<>();
+        for (int i = 0; i < types.length; i++) {
+            components.add(new ArchitectureComponent("Component" + i, "component-" + i, new TreeSet<>(), new TreeSet<>(), new TreeSet<>(), types[i]));
+        }
+        return new LegacyModelExtractionStateByArCoTL(new ArchitectureModel(components));
+    }
+}
@@ -0,0 +1,80 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.measures.equality.EqualityMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.measures.jarowinkler.JaroWinklerMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.measures.levenshtein.LevenshteinMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.strategy.ComparisonStrategy;
+
+class SimilarTermLengthsTest {
+
+    @Test
+    void testMeasuresNeverExcludeSimilarTerms() {
+        List<WordSimMeasure> measures = new ArrayList<>(List.of(new EqualityMeasure(), new LevenshteinMeasure(), new LevenshteinMeasure(0, 3, 0.5)));
+        for (double threshold : new double[] { 0.0, 0.5, 0.7, 0.8, 0.85, 0.9, 0.95, 1.0 }) {
+            measures.add(new JaroWinklerMeasure(threshold));
+        }
+
+        List<String> words = randomWords(new Random(42), 600);
+        // the winkler boost makes these words exactly as similar as the default threshold requires
+        words.add("abcd");
+        words.add("abcdxxxx");
+
+        for (WordSimMeasure measure : measures) {
+            for (String first : words) {
+                LengthRange lengths = measure.getSimilarTermLengths(first.length());
+                for (String second : words) {
+                    if (measure.areWordsSimilar(new ComparisonContext(first, second)) || measure.areWordsSimilar(new ComparisonContext(second, first))) {
+                        assertTrue(lengths.contains(second.length()), measure + ": " + first + " / " + second);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testStrategiesSpanMeasures() {
+        List<WordSimMeasure> measures = List.of(new EqualityMeasure(), new LevenshteinMeasure(0, 2, 1.0), new JaroWinklerMeasure(0.9));
+        assertEquals(new LengthRange(3, 12), ComparisonStrategy.AT_LEAST_ONE.getSimilarTermLengths(6, measures));
+        assertEquals(new LengthRange(3, 12), ComparisonStrategy.MAJORITY.getSimilarTermLengths(6, measures));
+        assertTrue(ComparisonStrategy.AT_LEAST_ONE.getSimilarTermLengths(6, List.of()).isEmpty());
+        assertTrue(ComparisonStrategy.AT_LEAST_ONE.getSimilarTermLengths(6, List.of(new JaroWinklerMeasure(0.5))).isUnbounded());
+        assertTrue(ComparisonStrategy.AT_LEAST_ONE.getSimilarTermLengths(6, List.of(ctx -> true)).isUnbounded());
+    }
+
+    @Test
+    void testCountParts() {
+        for (String term : randomWords(new Random(7), 200)) {
+            String withSpaces = term.replace('e', ' ');
+            assertEquals(withSpaces.toLowerCase().split(" ").length, WordSimUtils.countParts(withSpaces), withSpaces);
+        }
+        assertTrue(WordSimUtils.hasCaseInvariantLength("Component"));
+        assertFalse(WordSimUtils.hasCaseInvariantLength("İstanbul"));
+    }
+
+    private static List<String> randomWords(Random random, int count) {
+        String alphabet = "abcdeABCxy";
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            StringBuilder builder = new StringBuilder();
+            String base = i > 0 && random.nextBoolean() ? words.get(random.nextInt(words.size())) : "";
+            builder.append(base, 0, base.isEmpty() ? 0 : random.nextInt(base.length() + 1));
+            int length = random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            words.add(builder.toString());
+        }
+        return words;
+    }
+}
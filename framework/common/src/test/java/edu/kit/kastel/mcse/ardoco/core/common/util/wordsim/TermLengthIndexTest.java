@@ -0,0 +1,52 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.junit.jupiter.api.Test;
+
+class TermLengthIndexTest {
+
+    private static final List<String> TERMS = List.of("database", "Database", "databases", "data base", "media access", "MediaAccess", "store", "ſtore",
+            "İndex", "index", "a", "", "the media access layer", "user management", "UserManagement");
+
+    @Test
+    void testCandidatesContainSimilarTerms() {
+        TermLengthIndex<String> index = new TermLengthIndex<>();
+        TERMS.forEach(term -> index.add(term, term));
+
+        for (String term : TERMS) {
+            MutableList<String> candidates = Lists.mutable.empty();
+            index.collectCandidates(term, candidates);
+            for (String other : TERMS) {
+                if (WordSimUtils.areWordsSimilar(term, other)) {
+                    assertTrue(candidates.contains(other), term + " / " + other);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testRemove() {
+        TermLengthIndex<String> index = new TermLengthIndex<>();
+        TERMS.forEach(term -> index.add(term, term));
+
+        assertTrue(index.remove("database", "database"));
+        assertFalse(index.remove("database", "database"));
+        assertFalse(index.remove("store", "Database"));
+        assertTrue(index.remove("ſtore", "ſtore"));
+
+        MutableList<String> candidates = Lists.mutable.empty();
+        index.collectCandidates("database", candidates);
+        assertFalse(candidates.contains("database"));
+        assertTrue(candidates.contains("Database"));
+        candidates.clear();
+        index.collectCandidates("store", candidates);
+        assertFalse(candidates.contains("ſtore"));
+    }
+}
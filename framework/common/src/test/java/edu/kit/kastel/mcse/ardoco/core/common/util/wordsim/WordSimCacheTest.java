@@ -0,0 +1,87 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.measures.equality.EqualityMeasure;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.strategy.ComparisonStrategy;
+
+class WordSimCacheTest {
+
+    @AfterEach
+    void resetWordSimUtils() {
+        WordSimUtils.setMeasures(WordSimLoader.loadUsingProperties().castToList());
+        WordSimUtils.setStrategy(ComparisonStrategy.AT_LEAST_ONE);
+    }
+
+    @Test
+    void testHitsAndMisses() {
+        WordSimCache cache = new WordSimCache(10);
+        AtomicInteger calculations = new AtomicInteger();
+
+        assertTrue(cache.computeIfAbsent(new ComparisonContext("model", "models"), 0, ComparisonStrategy.AT_LEAST_ONE, () -> {
+            calculations.incrementAndGet();
+            return true;
+        }));
+        assertTrue(cache.computeIfAbsent(new ComparisonContext("model", "models"), 0, ComparisonStrategy.AT_LEAST_ONE, () -> {
+            calculations.incrementAndGet();
+            return false;
+        }));
+        assertEquals(1, calculations.get());
+
+        // different terms, measure sets and strategies are cached separately
+        assertFalse(cache.computeIfAbsent(new ComparisonContext("models", "model"), 0, ComparisonStrategy.AT_LEAST_ONE, () -> false));
+        assertFalse(cache.computeIfAbsent(new ComparisonContext("model", "models"), 1, ComparisonStrategy.AT_LEAST_ONE, () -> false));
+        assertFalse(cache.computeIfAbsent(new ComparisonContext("model", "models"), 0, ComparisonStrategy.MAJORITY, () -> false));
+
+        assertEquals(new WordSimCache.CacheStatistics(1, 4, 0), cache.getStatistics());
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    void testEviction() {
+        WordSimCache cache = new WordSimCache(20);
+        for (int i = 0; i < 100; i++) {
+            cache.computeIfAbsent(new ComparisonContext("word" + i, "other"), 0, ComparisonStrategy.AT_LEAST_ONE, () -> true);
+        }
+        assertTrue(cache.size() <= 20);
+        assertEquals(100 - cache.size(), cache.getStatistics().evictions());
+    }
+
+    @Test
+    void testDisabledCache() {
+        WordSimCache cache = new WordSimCache(0);
+        AtomicInteger calculations = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            cache.computeIfAbsent(new ComparisonContext("model", "models"), 0, ComparisonStrategy.AT_LEAST_ONE, () -> calculations.incrementAndGet() > 0);
+        }
+        assertEquals(3, calculations.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testInvalidationByConfigurationChange() {
+        WordSimUtils.setMeasures(List.of(new EqualityMeasure()));
+        assertFalse(WordSimUtils.areWordsSimilar("component", "components"));
+
+        WordSimUtils.setMeasures(List.of(ctx -> ctx.firstTerm().startsWith(ctx.secondTerm()) || ctx.secondTerm().startsWith(ctx.firstTerm())));
+        assertTrue(WordSimUtils.areWordsSimilar("component", "components"));
+
+        long hits = WordSimUtils.getCacheStatistics().hits();
+        assertTrue(WordSimUtils.areWordsSimilar("component", "components"));
+        assertEquals(hits + 1, WordSimUtils.getCacheStatistics().hits());
+
+        WordSimUtils.setStrategy(ComparisonStrategy.MAJORITY);
+        long misses = WordSimUtils.getCacheStatistics().misses();
+        assertTrue(WordSimUtils.areWordsSimilar("component", "components"));
+        assertEquals(misses + 1, WordSimUtils.getCacheStatistics().misses());
+    }
+}
@@ -0,0 +1,118 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.measures.levenshtein;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.ComparisonContext;
+
+class BoundedLevenshteinDistanceTest {
+
+    private static final String ALPHABET = "abcdeäß€ _";
+    private static final LevenshteinDistance FULL_DISTANCE = new LevenshteinDistance();
+
+    @Test
+    void testExamples() {
+        assertEquals(0, BoundedLevenshteinDistance.distance("", "", 0));
+        assertEquals(3, BoundedLevenshteinDistance.distance("", "abc", 3));
+        assertEquals(-1, BoundedLevenshteinDistance.distance("abc", "", 2));
+        assertEquals(3, BoundedLevenshteinDistance.distance("kitten", "sitting", 3));
+        assertEquals(-1, BoundedLevenshteinDistance.distance("kitten", "sitting", 2));
+        assertEquals(1, BoundedLevenshteinDistance.distance("component", "components", 1));
+        assertThrows(IllegalArgumentException.class, () -> BoundedLevenshteinDistance.distance("a", "b", -1));
+    }
+
+    @Test
+    void testEqualsFullDistance() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            String first = randomString(random, random.nextInt(i % 10 == 0 ? 100 : 20));
+            String second = random.nextBoolean() ? mutate(random, first) : randomString(random, random.nextInt(20));
+            int limit = random.nextInt(6);
+            int expected = FULL_DISTANCE.apply(first, second);
+            assertEquals(expected <= limit ? expected : -1, BoundedLevenshteinDistance.distance(first, second, limit), first + " / " + second);
+        }
+    }
+
+    @Test
+    void testPatternLengthBoundary() {
+        Random random = new Random(7);
+        for (int length = 60; length <= 70; length++) {
+            for (int i = 0; i < 200; i++) {
+                String first = randomString(random, length);
+                String second = mutate(random, first);
+                int expected = FULL_DISTANCE.apply(first, second);
+                assertEquals(expected <= 4 ? expected : -1, BoundedLevenshteinDistance.distance(first, second, 4));
+            }
+        }
+    }
+
+    @Test
+    void testIdenticalDecisionsToFullDistance() {
+        Random random = new Random(1);
+        for (int minLength = 0; minLength <= 4; minLength++) {
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                for (double threshold : new double[] { 0.0, 0.3, 0.9, 1.0 }) {
+                    LevenshteinMeasure measure = new LevenshteinMeasure(minLength, maxDistance, threshold);
+                    for (int i = 0; i < 500; i++) {
+                        String first = randomString(random, random.nextInt(12));
+                        String second = random.nextBoolean() ? mutate(random, first) : randomString(random, random.nextInt(12));
+                        var ctx = new ComparisonContext(first, second);
+                        assertEquals(fullDistanceDecision(first, second, minLength, maxDistance, threshold), measure.areWordsSimilar(ctx), first + " / "
+                                + second);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The decision of {@link LevenshteinMeasure} before it used {@link BoundedLevenshteinDistance}.
+     */
+    private static boolean fullDistanceDecision(String first, String second, int minLength, int maxDistance, double threshold) {
+        String firstWord = first.toLowerCase();
+        String secondWord = second.toLowerCase();
+        int maxDynamicDistance = (int) Math.min(maxDistance, threshold * Math.min(firstWord.length(), secondWord.length()));
+        int distance = FULL_DISTANCE.apply(firstWord, secondWord);
+        if (firstWord.length() <= minLength) {
+            return distance <= maxDistance && (secondWord.contains(firstWord) || firstWord.contains(secondWord));
+        }
+        return distance <= maxDynamicDistance;
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    private static String mutate(Random random, String string) {
+        StringBuilder builder = new StringBuilder(string);
+        int edits = random.nextInt(5);
+        for (int i = 0; i < edits; i++) {
+            int position = builder.isEmpty() ? 0 : random.nextInt(builder.length());
+            char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            switch (random.nextInt(3)) {
+            case 0 -> builder.insert(position, c);
+            case 1 -> {
+                if (!builder.isEmpty()) {
+                    builder.deleteCharAt(position);
+                }
+            }
+            default -> {
+                if (!builder.isEmpty()) {
+                    builder.setCharAt(position, c);
+                }
+            }
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -7,6 +7,7 @@
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.Random;
 
 import org.apache.commons.text.similarity.LevenshteinDistance;
 import org.junit.jupiter.api.Test;
@@ -84,4 +85,71 @@ void testConstructor() {
         new NgramMeasure(NgramMeasure.Variant.POSITIONAL, Integer.MAX_VALUE, 1.0);
     }
 
+    @Test
+    void testEqualsMatrixImplementation() {
+        Random random = new Random(42);
+        String alphabet = "abcde \nÄ";
+        for (NgramMeasure.Variant variant : NgramMeasure.Variant.values()) {
+            for (int n = 1; n <= 4; n++) {
+                for (double threshold : new double[] { 0.0, 0.5, 0.7, 0.9, 1.0 }) {
+                    var measure = new NgramMeasure(variant, n, threshold);
+                    for (int i = 0; i < 300; i++) {
+                        String x = randomWord(random, alphabet);
+                        String y = random.nextBoolean() ? x.substring(0, x.length() / 2) + randomWord(random, alphabet) : randomWord(random, alphabet);
+                        double expectedDistance = matrixDistance(variant, n, x, y);
+                        assertEquals(expectedDistance, measure.calculateDistance(x, y));
+
+                        double expectedSimilarity = 1.0 - expectedDistance / Math.max(x.length(), y.length());
+                        assertEquals(expectedSimilarity >= threshold, measure.areWordsSimilar(new ComparisonContext(x, y)), x + " / " + y);
+                    }
+                }
+            }
+        }
+    }
+
+    private static String randomWord(Random random, String alphabet) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(10);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * The distance as calculated by the full matrix implementation that {@link NgramMeasure} used before.
+     */
+    private static double matrixDistance(NgramMeasure.Variant variant, int n, String x, String y) {
+        if (x.isEmpty() || y.isEmpty()) {
+            return Math.max(x.length(), y.length());
+        }
+        int k = x.length();
+        int l = y.length();
+        String xPadded = (variant == NgramMeasure.Variant.LUCENE ? "\n" : String.valueOf(x.charAt(0))).repeat(n - 1) + x;
+        String yPadded = (variant == NgramMeasure.Variant.LUCENE ? "\n" : String.valueOf(y.charAt(0))).repeat(n - 1) + y;
+        double[][] d = new double[k + 1][l + 1];
+        for (int i = 0; i <= k; i++) {
+            d[i][0] = i;
+        }
+        for (int j = 1; j <= l; j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= k; i++) {
+            for (int j = 1; j <= l; j++) {
+                double sum = 0.0;
+                double actualN = n;
+                for (int u = 1; u <= n; u++) {
+                    double diff = xPadded.charAt(i + u - 2) == yPadded.charAt(j + u - 2) ? 0.0 : 1.0;
+                    sum += diff;
+                    if (variant == NgramMeasure.Variant.LUCENE && diff == 0 && xPadded.charAt(i + u - 2) == '\n') {
+                        actualN -= 1.0;
+                    }
+                }
+                double dN = (1.0 / actualN) * sum;
+                d[i][j] = Math.min(d[i - 1][j] + 1.0, Math.min(d[i][j - 1] + 1.0, d[i - 1][j - 1] + dN));
+            }
+        }
+        return d[k][l];
+    }
+
 }
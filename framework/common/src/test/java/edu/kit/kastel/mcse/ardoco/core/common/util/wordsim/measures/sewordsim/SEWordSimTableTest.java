@@ -0,0 +1,88 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.measures.sewordsim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.ComparisonContext;
+
+class SEWordSimTableTest {
+
+    private static final List<String> TERMS = List.of("compon", "servic", "databas", "cach", "store", "user", "interfac", "request", "server", "client");
+
+    @TempDir
+    Path directory;
+
+    private Path sqliteFile;
+
+    @BeforeEach
+    void createDatabase() throws SQLException {
+        sqliteFile = directory.resolve("sewordsim.sqlite");
+        Random random = new Random(42);
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + sqliteFile); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE wsim (term_1 TEXT, term_2 TEXT, similarity REAL)");
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO wsim VALUES (?, ?, ?)")) {
+                // the last term only occurs as second term
+                for (String first : TERMS.subList(0, TERMS.size() - 1)) {
+                    for (String second : TERMS) {
+                        if (random.nextInt(3) > 0) {
+                            insert.setString(1, first);
+                            insert.setString(2, second);
+                            insert.setDouble(3, random.nextDouble());
+                            insert.executeUpdate();
+                        }
+                    }
+                }
+                insert.setString(1, "compon");
+                insert.setString(2, "servic");
+                insert.setDouble(3, 0.9999999999);
+                insert.executeUpdate();
+            }
+        }
+    }
+
+    @Test
+    void testEqualsDataSource() throws SQLException {
+        SEWordSimTable table = SEWordSimTable.load(sqliteFile);
+        List<String> words = List.of("components", "component", "services", "database", "caching", "stores", "users", "interfaces", "requests", "servers",
+                "clients", "", "unknown", "Component");
+        try (SEWordSimDataSource dataSource = new SEWordSimDataSource(sqliteFile)) {
+            for (String first : words) {
+                assertEquals(dataSource.containsWord(first), table.containsWord(first), first);
+                for (String second : words) {
+                    assertEquals(dataSource.getSimilarity(first, second), table.getSimilarity(first, second), first + " / " + second);
+                }
+            }
+            assertEquals(dataSource.getAllWords().stream().sorted().toList(), table.getAllWords().stream().sorted().toList());
+        }
+        assertFalse(table.containsWord("clients"));
+        assertTrue(table.containsWord("components"));
+        assertTrue(table.estimateMemoryUsage() > 0);
+    }
+
+    @Test
+    void testMeasureWithTable() throws SQLException {
+        var dataSourceMeasure = new SEWordSimMeasure(new SEWordSimDataSource(sqliteFile), 0.5);
+        var tableMeasure = new SEWordSimMeasure(SEWordSimTable.load(sqliteFile), 0.5);
+        for (String first : TERMS) {
+            for (String second : TERMS) {
+                var ctx = new ComparisonContext(first, second);
+                assertEquals(dataSourceMeasure.areWordsSimilar(ctx), tableMeasure.areWordsSimilar(ctx));
+            }
+        }
+    }
+}
@@ -7,7 +7,10 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -55,6 +58,75 @@ void testDoubleCosineSimilarity() {
         }
     }
 
+    @Test
+    void testFloatKernelEqualsDoubleCosineSimilarity() {
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            float[] first = randomVector(random, 300);
+            float[] second = randomVector(random, 300);
+            double expected = VectorUtils.cosineSimilarity(toDouble(first), toDouble(second));
+
+            assertEquals(expected, VectorUtils.cosineSimilarity(first, second));
+            assertEquals(expected, VectorUtils.cosineSimilarity(first, VectorUtils.norm(first), second, VectorUtils.norm(second)));
+        }
+
+        for (Example example : EXAMPLES) {
+            assertEquals(VectorUtils.cosineSimilarity(toDouble(example.firstVec), toDouble(example.secondVec)), VectorUtils.cosineSimilarity(
+                    example.firstVec, example.secondVec));
+        }
+    }
+
+    @Test
+    void testBatchedCosineSimilarities() {
+        Random random = new Random(7);
+        float[] vector = randomVector(random, 50);
+        float[][] others = new float[20][];
+        for (int i = 0; i < others.length; i++) {
+            others[i] = i == 3 ? new float[50] : randomVector(random, 50);
+        }
+
+        double[] similarities = VectorUtils.cosineSimilarities(vector, others);
+        assertEquals(others.length, similarities.length);
+        for (int i = 0; i < others.length; i++) {
+            assertEquals(VectorUtils.cosineSimilarity(vector, others[i]), similarities[i]);
+        }
+        assertEquals(0.0, similarities[3]);
+        assertThrows(IllegalArgumentException.class, () -> VectorUtils.cosineSimilarities(vector, new float[][] { new float[2] }));
+    }
+
+    private static float[] randomVector(Random random, int length) {
+        float[] vector = new float[length];
+        for (int i = 0; i < length; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private static double[] toDouble(float[] vector) {
+        double[] result = new double[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            result[i] = vector[i];
+        }
+        return result;
+    }
+
+    @Test
+    void testFloatBufferCosineSimilarity() {
+        assertThrows(IllegalArgumentException.class, () -> VectorUtils.cosineSimilarity(FloatBuffer.allocate(1), 0.0, FloatBuffer.allocate(2), 0.0));
+
+        for (Example example : EXAMPLES) {
+            int length = example.secondVec.length;
+            FloatBuffer firstBuffer = FloatBuffer.wrap(example.firstVec);
+            // a view into a larger direct buffer, like the views of a word vector store
+            FloatBuffer secondBuffer = ByteBuffer.allocateDirect((length + 2) * Float.BYTES).asFloatBuffer().put(1.0f).put(example.secondVec).put(1.0f)
+                    .position(1).limit(length + 1);
+
+            double result = VectorUtils.cosineSimilarity(firstBuffer, VectorUtils.norm(firstBuffer), secondBuffer, VectorUtils.norm(secondBuffer));
+            assertEquals(VectorUtils.cosineSimilarity(example.firstVec, example.secondVec), result, 1e-12);
+            assertEquals(1, secondBuffer.position());
+        }
+    }
+
     @Test
     void testIsZero() {
         assertThrows(NullPointerException.class, () -> VectorUtils.isZero((float[]) null));
@@ -0,0 +1,157 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.vector;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WordVectorSqliteImporterTest {
+
+    private static final int WORDS = 250;
+    private static final int DIMENSION = 4;
+    private static final int BATCH_SIZE = 16;
+
+    @TempDir
+    Path directory;
+
+    private Path vectorFile;
+    private float[][] vectors;
+
+    @BeforeEach
+    void createVectorFile() throws IOException {
+        vectorFile = directory.resolve("vectors.vec");
+        vectors = new float[WORDS][DIMENSION];
+        Random random = new Random(42);
+        // a fastText file, including its header and the trailing space of each line
+        StringBuilder content = new StringBuilder(WORDS + " " + DIMENSION + "\n");
+        for (int i = 0; i < WORDS; i++) {
+            content.append(word(i));
+            for (int j = 0; j < DIMENSION; j++) {
+                vectors[i][j] = random.nextFloat() - 0.5f;
+                content.append(' ').append(vectors[i][j]);
+            }
+            content.append(" \n");
+        }
+        Files.writeString(vectorFile, content, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testImportIntoNewDatabase() throws Exception {
+        Path dbFile = directory.resolve("vectors.sqlite");
+        var result = new WordVectorSqliteImporter(vectorFile, dbFile, DIMENSION, 300, 0, -1L, false, WordVectorSqliteImporter.OutputFormat.SQLITE,
+                BATCH_SIZE).beginImport();
+
+        assertEquals(WORDS, result.inserted());
+        assertTrue(result.skippedWords().isEmpty());
+        assertEquals(WORDS, countRows(dbFile));
+        assertAllVectors(dbFile);
+    }
+
+    @Test
+    void testResumeAfterInterruption() throws Exception {
+        Path dbFile = directory.resolve("vectors.sqlite");
+        // the first import stops after line 101, i.e., in the middle of a batch
+        var first = new WordVectorSqliteImporter(vectorFile, dbFile, DIMENSION, 300, 0, 101L, false, WordVectorSqliteImporter.OutputFormat.SQLITE,
+                BATCH_SIZE).beginImport();
+        assertEquals(100, first.inserted());
+
+        var second = new WordVectorSqliteImporter(vectorFile, dbFile, DIMENSION, 300, 0, -1L, false, WordVectorSqliteImporter.OutputFormat.SQLITE,
+                BATCH_SIZE).beginImport();
+        assertEquals(WORDS - 100, second.inserted());
+        assertEquals(WORDS, countRows(dbFile));
+        assertAllVectors(dbFile);
+
+        var third = new WordVectorSqliteImporter(vectorFile, dbFile, DIMENSION, 300, 0, -1L, false, WordVectorSqliteImporter.OutputFormat.SQLITE,
+                BATCH_SIZE).beginImport();
+        assertEquals(0, third.inserted());
+        assertEquals(WORDS, countRows(dbFile));
+    }
+
+    @Test
+    void testImportIntoStore() throws Exception {
+        Path storeFile = directory.resolve("vectors.wv");
+        var importer = new WordVectorSqliteImporter(vectorFile, storeFile, DIMENSION, 300, 0, -1L, false, WordVectorSqliteImporter.OutputFormat.STORE,
+                BATCH_SIZE) {
+            @Override
+            protected boolean filterWord(String word) {
+                return !word.endsWith("7");
+            }
+        };
+        var result = importer.beginImport();
+
+        assertEquals(List.of("word7", "word17", "word27"), result.skippedWords().take(3).castToList());
+        assertEquals(WORDS - result.skippedWords().size(), result.inserted());
+        try (WordVectorStore store = WordVectorStore.open(storeFile)) {
+            assertEquals(result.inserted(), store.size());
+            for (int i = 0; i < WORDS; i++) {
+                if (word(i).endsWith("7")) {
+                    assertTrue(store.getWordVector(word(i)).isEmpty());
+                } else {
+                    assertArrayEquals(vectors[i], store.getWordVector(word(i)).orElseThrow());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testInvalidDimension() throws IOException {
+        Files.writeString(vectorFile, "word 1.0 2.0\n", StandardCharsets.UTF_8);
+        var importer = new WordVectorSqliteImporter(vectorFile, directory.resolve("vectors.sqlite"), DIMENSION);
+        assertThrows(IllegalStateException.class, importer::beginImport);
+    }
+
+    @Test
+    void testTooManyComponents() throws IOException {
+        // a vector file with one component more than expected must not be imported with the first component as part of the word
+        Files.writeString(vectorFile, "word 1.0 2.0 3.0 4.0 5.0\n", StandardCharsets.UTF_8);
+        var importer = new WordVectorSqliteImporter(vectorFile, directory.resolve("vectors.sqlite"), DIMENSION);
+        assertThrows(IllegalStateException.class, importer::beginImport);
+    }
+
+    @Test
+    void testWordWithSpaces() throws Exception {
+        Files.writeString(vectorFile, "at the 1.0 2.0 3.0 4.0\n", StandardCharsets.UTF_8);
+        Path dbFile = directory.resolve("vectors.sqlite");
+        var result = new WordVectorSqliteImporter(vectorFile, dbFile, DIMENSION).beginImport();
+
+        assertEquals(1, result.inserted());
+        try (VectorSqliteDatabase database = new VectorSqliteDatabase(dbFile)) {
+            assertArrayEquals(new float[] { 1.0f, 2.0f, 3.0f, 4.0f }, database.getWordVector("at the").orElseThrow());
+        }
+    }
+
+    private static String word(int index) {
+        return "word" + index;
+    }
+
+    private static long countRows(Path dbFile) throws Exception {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + dbFile); Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery("SELECT COUNT(*) FROM words")) {
+            return result.getLong(1);
+        }
+    }
+
+    private void assertAllVectors(Path dbFile) throws Exception {
+        try (VectorSqliteDatabase database = new VectorSqliteDatabase(dbFile)) {
+            for (int i = 0; i < WORDS; i++) {
+                assertArrayEquals(vectors[i], database.getWordVector(word(i)).orElseThrow());
+            }
+        }
+    }
+}
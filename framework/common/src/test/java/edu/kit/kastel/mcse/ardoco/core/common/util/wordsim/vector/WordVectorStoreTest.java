@@ -0,0 +1,165 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.vector;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.measures.glove.GloveMeasure;
+
+class WordVectorStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testConvertGloveTextFile() throws IOException, RetrieveVectorException {
+        Path textFile = directory.resolve("glove.txt");
+        Files.writeString(textFile, """
+                model 1.0 2.0 3.0
+                component -0.5 0.25 4.0
+                größe 0.0 1.5 -2.0
+                model 9.0 9.0 9.0
+                """, StandardCharsets.UTF_8);
+        Path storeFile = directory.resolve("glove.wv");
+
+        assertEquals(3, WordVectorStoreConverter.convertTextFile(textFile, storeFile));
+        assertTrue(WordVectorStore.isStore(storeFile));
+        assertFalse(WordVectorStore.isStore(textFile));
+
+        try (WordVectorStore store = WordVectorStore.open(storeFile)) {
+            assertEquals(3, store.getDimension());
+            assertEquals(3, store.size());
+            assertArrayEquals(new float[] { 1.0f, 2.0f, 3.0f }, store.getWordVector("model").orElseThrow());
+            assertArrayEquals(new float[] { -0.5f, 0.25f, 4.0f }, store.getWordVector("component").orElseThrow());
+            assertArrayEquals(new float[] { 0.0f, 1.5f, -2.0f }, store.getWordVector("größe").orElseThrow());
+            assertTrue(store.getWordVector("missing").isEmpty());
+            assertFalse(store.contains("Model"));
+
+            FloatBuffer buffer = store.getVectorBuffer("component").orElseThrow();
+            assertEquals(3, buffer.remaining());
+            assertTrue(buffer.isReadOnly());
+            assertEquals(4.0f, buffer.get(2));
+        }
+    }
+
+    @Test
+    void testConvertFastTextFile() throws IOException, RetrieveVectorException {
+        Path textFile = directory.resolve("fasttext.vec");
+        Files.writeString(textFile, """
+                2 2
+                new york 1.0 -1.0
+                ardoco 0.5 0.5
+                """, StandardCharsets.UTF_8);
+        Path storeFile = directory.resolve("fasttext.wv");
+
+        assertEquals(2, WordVectorStoreConverter.convertTextFile(textFile, storeFile));
+        try (WordVectorStore store = WordVectorStore.open(storeFile)) {
+            assertEquals(2, store.getDimension());
+            assertArrayEquals(new float[] { 1.0f, -1.0f }, store.getWordVector("new york").orElseThrow());
+            assertArrayEquals(new float[] { 0.5f, 0.5f }, store.getWordVector("ardoco").orElseThrow());
+        }
+    }
+
+    @Test
+    void testInvalidDimension() throws IOException {
+        Path textFile = directory.resolve("invalid.txt");
+        Files.writeString(textFile, """
+                3 3
+                model 1.0 2.0 3.0
+                component 1.0 2.0
+                """, StandardCharsets.UTF_8);
+        Path storeFile = directory.resolve("invalid.wv");
+
+        assertThrows(IOException.class, () -> WordVectorStoreConverter.convertTextFile(textFile, storeFile));
+        assertFalse(Files.exists(storeFile));
+    }
+
+    @Test
+    void testConvertSqliteDatabase() throws Exception {
+        Path sqliteFile = directory.resolve("vectors.sqlite");
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + sqliteFile); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE words (word TEXT, vec BLOB)");
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO words VALUES (?, ?)")) {
+                for (int i = 0; i < 100; i++) {
+                    insert.setString(1, "word" + i);
+                    insert.setBytes(2, ByteBuffer.allocate(2 * Float.BYTES).putFloat(i).putFloat(-i).array());
+                    insert.executeUpdate();
+                }
+            }
+        }
+        Path storeFile = directory.resolve("vectors.wv");
+
+        assertEquals(100, WordVectorStoreConverter.convertSqlite(sqliteFile, storeFile));
+        try (WordVectorStore store = WordVectorStore.open(storeFile); VectorSqliteDatabase database = new VectorSqliteDatabase(sqliteFile)) {
+            for (int i = 0; i < 100; i++) {
+                assertArrayEquals(database.getWordVector("word" + i).orElseThrow(), store.getWordVector("word" + i).orElseThrow());
+            }
+            assertTrue(store.getWordVector("word100").isEmpty());
+        }
+    }
+
+    @Test
+    void testMeasureLooksUpStoreVectorsOnce() throws IOException, RetrieveVectorException {
+        Path textFile = directory.resolve("glove.txt");
+        Files.writeString(textFile, """
+                model 1.0 2.0 3.0
+                component -0.5 0.25 4.0
+                interface 1.0 2.5 2.0
+                """, StandardCharsets.UTF_8);
+        Path storeFile = directory.resolve("glove.wv");
+        WordVectorStoreConverter.convertTextFile(textFile, storeFile);
+
+        try (WordVectorStore store = WordVectorStore.open(storeFile)) {
+            List<String> lookups = new ArrayList<>();
+            WordVectorDataSource countingSource = new WordVectorDataSource() {
+                @Override
+                public Optional<float[]> getWordVector(String word) {
+                    throw new AssertionError("vectors must not be copied");
+                }
+
+                @Override
+                public Optional<FloatBuffer> getVectorBuffer(String word) {
+                    lookups.add(word);
+                    return store.getVectorBuffer(word);
+                }
+            };
+            GloveMeasure measure = new GloveMeasure(countingSource, 0.5);
+            GloveMeasure copyingMeasure = new GloveMeasure(store::getWordVector, 0.5);
+
+            for (int i = 0; i < 3; i++) {
+                assertEquals(copyingMeasure.compareVectors("model", "component"), measure.compareVectors("model", "component"));
+                for (String otherWord : List.of("model", "missing", "interface")) {
+                    assertEquals(copyingMeasure.compareVectors("interface", otherWord), measure.compareVectors("interface", otherWord));
+                }
+            }
+            assertEquals(List.of("model", "component", "interface", "missing"), lookups);
+        }
+    }
+
+    @Test
+    void testOpenInvalidFile() throws IOException {
+        Path file = directory.resolve("invalid.wv");
+        Files.writeString(file, "not a store");
+        assertThrows(IOException.class, () -> WordVectorStore.open(file));
+    }
+}
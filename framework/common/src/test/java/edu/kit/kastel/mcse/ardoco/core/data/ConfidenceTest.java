@@ -0,0 +1,128 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.common.AggregationFunctions;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Claimant;
+
+class ConfidenceTest {
+
+    private static final Claimant[] CLAIMANTS = { new TestClaimant(), new TestClaimant(), new TestClaimant(), new TestClaimant(), new TestClaimant() };
+
+    @AfterEach
+    void resetAttribution() {
+        Confidence.setClaimantAttribution(false);
+    }
+
+    @Test
+    void testAggregationMatchesGroupedAggregation() {
+        for (AggregationFunctions aggregator : AggregationFunctions.values()) {
+            if (aggregator != AggregationFunctions.USE_MOST_RECENT) {
+                assertAggregationMatchesGroupedAggregation(aggregator);
+            }
+        }
+    }
+
+    private static void assertAggregationMatchesGroupedAggregation(AggregationFunctions aggregator) {
+        Random random = new Random(42);
+        for (int run = 0; run < 50; run++) {
+            Confidence confidence = new Confidence(aggregator);
+            List<Claimant> claimants = new ArrayList<>();
+            List<Double> values = new ArrayList<>();
+            int claims = 1 + random.nextInt(12);
+            for (int i = 0; i < claims; i++) {
+                Claimant claimant = CLAIMANTS[random.nextInt(CLAIMANTS.length)];
+                double value = random.nextDouble();
+                claimants.add(claimant);
+                values.add(value);
+                confidence.addAgentConfidence(claimant, value);
+                assertEquals(expectedConfidence(aggregator, claimants, values), confidence.getConfidence(), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    void testAddAllConfidencesEqualsSequentialAdds() {
+        Random random = new Random(42);
+        for (AggregationFunctions aggregator : List.of(AggregationFunctions.AVERAGE, AggregationFunctions.ROLLING_AVERAGE)) {
+            Confidence first = new Confidence(aggregator);
+            Confidence second = new Confidence(aggregator);
+            Confidence sequential = new Confidence(aggregator);
+            for (int i = 0; i < 6; i++) {
+                Claimant claimant = CLAIMANTS[random.nextInt(CLAIMANTS.length)];
+                double value = random.nextDouble();
+                (i < 3 ? first : second).addAgentConfidence(claimant, value);
+                sequential.addAgentConfidence(claimant, value);
+            }
+            Confidence combined = first.createCopy();
+            combined.addAllConfidences(second);
+            assertEquals(sequential.getConfidence(), combined.getConfidence(), 1e-12);
+            assertEquals(sequential.getClaimants(), combined.getClaimants());
+        }
+    }
+
+    @Test
+    void testMerge() {
+        Confidence a = new Confidence(AggregationFunctions.AVERAGE);
+        a.addAgentConfidence(CLAIMANTS[0], 0.2);
+        a.addAgentConfidence(CLAIMANTS[1], 0.4);
+        Confidence b = new Confidence(AggregationFunctions.AVERAGE);
+        b.addAgentConfidence(CLAIMANTS[1], 0.8);
+        b.addAgentConfidence(CLAIMANTS[2], 1.0);
+
+        Confidence merged = Confidence.merge(a, b, AggregationFunctions.SUM, AggregationFunctions.AVERAGE);
+        assertEquals(List.of(CLAIMANTS[0], CLAIMANTS[1], CLAIMANTS[2]), List.copyOf(merged.getClaimants()));
+        assertEquals(0.2 + 0.6 + 1.0, merged.getConfidence(), 1e-12);
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        Confidence confidence = new Confidence(CLAIMANTS[0], 0.5, AggregationFunctions.AVERAGE);
+        Confidence copy = confidence.createCopy();
+        assertEquals(confidence, copy);
+        copy.addAgentConfidence(CLAIMANTS[1], 1.0);
+        assertEquals(0.5, confidence.getConfidence(), 1e-12);
+        assertEquals(0.75, copy.getConfidence(), 1e-12);
+    }
+
+    @Test
+    void testClaimantAttribution() {
+        Confidence withoutAttribution = new Confidence(AggregationFunctions.AVERAGE);
+        new TestClaimant().claim(withoutAttribution);
+        assertTrue(withoutAttribution.getMethodsOfClaimant(withoutAttribution.getClaimants().iterator().next()).isEmpty());
+
+        Confidence.setClaimantAttribution(true);
+        Confidence withAttribution = new Confidence(AggregationFunctions.AVERAGE);
+        TestClaimant claimant = new TestClaimant();
+        claimant.claim(withAttribution);
+        assertEquals(List.of("claim"), withAttribution.getMethodsOfClaimant(claimant));
+    }
+
+    private static double expectedConfidence(AggregationFunctions aggregator, List<Claimant> claimants, List<Double> values) {
+        if (aggregator == AggregationFunctions.ROLLING_AVERAGE) {
+            return aggregator.applyAsDouble(values);
+        }
+        Map<Claimant, List<Double>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < claimants.size(); i++) {
+            groups.computeIfAbsent(claimants.get(i), c -> new ArrayList<>()).add(values.get(i));
+        }
+        return aggregator.applyAsDouble(groups.values().stream().map(AggregationFunctions.MAX::applyAsDouble).toList());
+    }
+
+    private static final class TestClaimant implements Claimant {
+        void claim(Confidence confidence) {
+            confidence.addAgentConfidence(this, 0.5);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.data.impl.ResultData;
+import edu.kit.kastel.mcse.ardoco.core.data.impl.TextData;
+
+class DataRepositoryTest {
+
+    private static final DataKey<TextData> TEXT = DataKey.of("Text", TextData.class);
+
+    @Test
+    void testTypedKeys() {
+        DataRepository dataRepository = new DataRepository();
+        TextData textData = new TextData("text");
+        dataRepository.addData(TEXT, textData);
+
+        assertEquals(textData, dataRepository.getData(TEXT).orElseThrow());
+        assertEquals(textData, dataRepository.getData("Text", TextData.class).orElseThrow());
+        assertTrue(dataRepository.getData(DataKey.of("Text", ResultData.class)).isEmpty());
+        assertTrue(dataRepository.getData(DataKey.of("Missing", TextData.class)).isEmpty());
+    }
+
+    @Test
+    void testNullData() {
+        DataRepository dataRepository = new DataRepository();
+        dataRepository.addData("Text", null);
+
+        assertTrue(dataRepository.getData(TEXT).isEmpty());
+        assertTrue(dataRepository.snapshot().getData(TEXT).isEmpty());
+        assertEquals(1, dataRepository.getVersion("Text"));
+    }
+
+    @Test
+    void testVersions() {
+        DataRepository dataRepository = new DataRepository();
+        assertEquals(0, dataRepository.getVersion());
+        assertEquals(0, dataRepository.getVersion("Text"));
+
+        dataRepository.addData(TEXT, new TextData("first"));
+        dataRepository.addData(TEXT, new TextData("second"));
+        dataRepository.addData("Result", new ResultData());
+
+        assertEquals(3, dataRepository.getVersion());
+        assertEquals(2, dataRepository.getVersion("Text"));
+        assertEquals(1, dataRepository.getVersion("Result"));
+    }
+
+    @Test
+    void testSnapshotIsIsolated() {
+        DataRepository dataRepository = new DataRepository();
+        dataRepository.addData(TEXT, new TextData("first"));
+        DataRepositorySnapshot before = dataRepository.snapshot();
+
+        dataRepository.addData(TEXT, new TextData("second"));
+        dataRepository.addData("Result", new ResultData());
+        DataRepositorySnapshot after = dataRepository.snapshot();
+
+        assertEquals("first", before.getData(TEXT).orElseThrow().getText());
+        assertFalse(before.containsData("Result"));
+        assertEquals(new TreeSet<>(List.of("Text")), before.getIdentifiers());
+        assertEquals("second", after.getData(TEXT).orElseThrow().getText());
+        assertEquals(new TreeSet<>(List.of("Result", "Text")), after.getChangedIdentifiers(before));
+        assertTrue(after.getChangedIdentifiers(after).isEmpty());
+    }
+
+    @Test
+    void testConcurrentWritesAreNotLost() throws Exception {
+        DataRepository dataRepository = new DataRepository();
+        int threads = 8;
+        int writesPerThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String identifier = "Data" + t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < writesPerThread; i++) {
+                        dataRepository.addData(identifier, new TextData(String.valueOf(i)));
+                        dataRepository.addData(TEXT, new TextData(identifier));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        DataRepositorySnapshot snapshot = dataRepository.snapshot();
+        assertEquals(2L * threads * writesPerThread, snapshot.getVersion());
+        assertEquals((long) threads * writesPerThread, snapshot.getVersion("Text"));
+        SortedSet<String> identifiers = snapshot.getIdentifiers();
+        for (int t = 0; t < threads; t++) {
+            assertTrue(identifiers.contains("Data" + t));
+            assertEquals(writesPerThread, snapshot.getVersion("Data" + t));
+        }
+    }
+}
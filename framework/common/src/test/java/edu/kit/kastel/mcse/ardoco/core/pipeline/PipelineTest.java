@@ -1,7 +1,14 @@
 /* Licensed under MIT 2022-2023. */
 package edu.kit.kastel.mcse.ardoco.core.pipeline;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -9,6 +16,7 @@
 import org.slf4j.LoggerFactory;
 
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
+import edu.kit.kastel.mcse.ardoco.core.data.PipelineStepData;
 import edu.kit.kastel.mcse.ardoco.core.data.impl.ResultData;
 import edu.kit.kastel.mcse.ardoco.core.data.impl.TextData;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.impl.ConcretePipelineStepOne;
@@ -42,4 +50,161 @@ void pipelineDefinitionTest() {
         logger.info("Result: {}", resultData.getResult());
         Assertions.assertNotNull(resultData);
     }
+
+    @Test
+    void parallelPipelineDefinitionTest() {
+        DataRepository dataRepository = new DataRepository();
+        dataRepository.addData("Text", new TextData("This is an example text containing multiple words."));
+        Pipeline pipeline = new Pipeline("Main-Pipeline", dataRepository);
+        pipeline.setExecutionMode(PipelineExecutionMode.PARALLEL);
+
+        pipeline.addPipelineStep(new ConcretePipelineStepOne("Preprocessing", dataRepository));
+        List<AbstractPipelineStep> pipelineSteps = List.of(new ConcretePipelineStepTwoOne("Main-Processing 2.1 First", dataRepository),
+                new ConcretePipelineStepTwoOne("Main-Processing 2.1 Second", dataRepository), new ConcretePipelineStepTwoTwo("Main-Processing 2",
+                        dataRepository));
+        Pipeline processingPipeline = new Pipeline("Processing-Pipeline", dataRepository, pipelineSteps);
+        processingPipeline.setExecutionMode(PipelineExecutionMode.PARALLEL);
+        pipeline.addPipelineStep(processingPipeline);
+
+        pipeline.run();
+
+        Assertions.assertTrue(dataRepository.getData("ResultData", ResultData.class).isPresent());
+    }
+
+    @Test
+    void dependenciesFollowDeclaredDataTest() {
+        List<StringStep> steps = List.of(new StringStep("A", List.of(), List.of("a")), new StringStep("B", List.of(), List.of("b")), new StringStep("AB", List
+                .of("a", "b"), List.of("ab")), new StringStep("A2", List.of("a"), List.of("a2")));
+        List<AbstractPipelineStep> allSteps = new ArrayList<>(steps);
+        allSteps.add(new ConcretePipelineStepOne("Undeclared", new DataRepository()));
+
+        var dependencies = PipelineStepScheduler.calculateDependencies(allSteps);
+
+        Assertions.assertEquals(List.of(), dependencies.get(0));
+        Assertions.assertEquals(List.of(), dependencies.get(1));
+        Assertions.assertEquals(List.of(0, 1), dependencies.get(2));
+        Assertions.assertEquals(List.of(0), dependencies.get(3));
+        Assertions.assertEquals(List.of(0, 1, 2, 3), dependencies.get(4));
+    }
+
+    @Test
+    void parallelResultsEqualSequentialResultsTest() {
+        for (PipelineExecutionMode mode : PipelineExecutionMode.values()) {
+            DataRepository dataRepository = new DataRepository();
+            Pipeline pipeline = new Pipeline("Pipeline", dataRepository);
+            pipeline.setExecutionMode(mode);
+            pipeline.addPipelineStep(new StringStep("A", dataRepository, List.of(), List.of("a")));
+            pipeline.addPipelineStep(new StringStep("B", dataRepository, List.of(), List.of("b")));
+            pipeline.addPipelineStep(new StringStep("C", dataRepository, List.of("a"), List.of("a")));
+            pipeline.addPipelineStep(new StringStep("D", dataRepository, List.of("a", "b"), List.of("d")));
+
+            pipeline.run();
+
+            Assertions.assertEquals("B", dataRepository.getData("b", StringData.class).orElseThrow().value());
+            Assertions.assertEquals("AC", dataRepository.getData("a", StringData.class).orElseThrow().value());
+            Assertions.assertEquals("ACBD", dataRepository.getData("d", StringData.class).orElseThrow().value());
+        }
+    }
+
+    @Test
+    void independentStepsRunConcurrentlyTest() {
+        CountDownLatch latch = new CountDownLatch(2);
+        DataRepository dataRepository = new DataRepository();
+        Pipeline pipeline = new Pipeline("Pipeline", dataRepository);
+        pipeline.setExecutionMode(PipelineExecutionMode.PARALLEL);
+        pipeline.addPipelineStep(new LatchStep("First", dataRepository, latch, "first"));
+        pipeline.addPipelineStep(new LatchStep("Second", dataRepository, latch, "second"));
+
+        pipeline.run();
+
+        Assertions.assertEquals(0, latch.getCount());
+    }
+
+    @Test
+    void parallelFailureIsRethrownTest() {
+        DataRepository dataRepository = new DataRepository();
+        Pipeline pipeline = new Pipeline("Pipeline", dataRepository);
+        pipeline.setExecutionMode(PipelineExecutionMode.PARALLEL);
+        pipeline.addPipelineStep(new StringStep("A", dataRepository, List.of("missing"), List.of("a")));
+        pipeline.addPipelineStep(new StringStep("B", dataRepository, List.of(), List.of("b")));
+        pipeline.addPipelineStep(new StringStep("C", dataRepository, List.of("a"), List.of("c")));
+
+        Assertions.assertThrows(IllegalStateException.class, pipeline::run);
+        Assertions.assertTrue(dataRepository.getData("b", StringData.class).isPresent());
+        Assertions.assertTrue(dataRepository.getData("c", StringData.class).isEmpty());
+    }
+
+    private record StringData(String value) implements PipelineStepData {
+    }
+
+    /**
+     * Step that concatenates the values of the read data and its own id and writes the result to all written data.
+     */
+    private static class StringStep extends AbstractPipelineStep implements DataDependent {
+        private final SortedSet<String> reads;
+        private final SortedSet<String> writes;
+        private final List<String> orderedReads;
+
+        StringStep(String id, List<String> reads, List<String> writes) {
+            this(id, new DataRepository(), reads, writes);
+        }
+
+        StringStep(String id, DataRepository dataRepository, List<String> reads, List<String> writes) {
+            super(id, dataRepository);
+            this.orderedReads = reads;
+            this.reads = Collections.unmodifiableSortedSet(new TreeSet<>(reads));
+            this.writes = Collections.unmodifiableSortedSet(new TreeSet<>(writes));
+        }
+
+        @Override
+        public void run() {
+            StringBuilder value = new StringBuilder();
+            for (String read : orderedReads) {
+                value.append(getDataRepository().getData(read, StringData.class).orElseThrow(() -> new IllegalStateException("Missing " + read)).value());
+            }
+            value.append(getId());
+            for (String write : writes) {
+                getDataRepository().addData(write, new StringData(value.toString()));
+            }
+        }
+
+        @Override
+        public SortedSet<String> getReadDataIdentifiers() {
+            return reads;
+        }
+
+        @Override
+        public SortedSet<String> getWrittenDataIdentifiers() {
+            return writes;
+        }
+
+        @Override
+        protected void delegateApplyConfigurationToInternalObjects(SortedMap<String, String> additionalConfiguration) {
+            // NOP
+        }
+    }
+
+    /**
+     * Step that waits until all steps that share the latch have been started.
+     */
+    private static class LatchStep extends StringStep {
+        private final CountDownLatch latch;
+
+        LatchStep(String id, DataRepository dataRepository, CountDownLatch latch, String written) {
+            super(id, dataRepository, List.of(), List.of(written));
+            this.latch = latch;
+        }
+
+        @Override
+        public void run() {
+            latch.countDown();
+            try {
+                Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS), "Independent steps were not executed concurrently");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            super.run();
+        }
+    }
 }
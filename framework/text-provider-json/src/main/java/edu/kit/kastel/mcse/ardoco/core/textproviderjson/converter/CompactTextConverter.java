@@ -0,0 +1,221 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
+import edu.kit.kastel.mcse.ardoco.core.api.text.PhraseType;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Sentence;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.IncomingDependencyDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.OutgoingDependencyDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.SentenceDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.TextDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.WordDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.NotConvertableException;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject.CompactText;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject.CompactTextBuilder;
+
+/**
+ * This class converts a DTO text or any other ArDoCo text, e.g., a text that is annotated by CoreNLP, into a {@link CompactText}.
+ */
+public class CompactTextConverter {
+
+    private static final char CONSTITUENCY_TREE_OPEN_BRACKET = '(';
+    private static final char CONSTITUENCY_TREE_CLOSE_BRACKET = ')';
+
+    /**
+     * converts the given text DTO into a compact text
+     *
+     * @param textDTO the text DTO
+     * @return the compact text
+     * @throws NotConvertableException if the DTO is null or its constituency trees do not match its words
+     */
+    public CompactText convertText(TextDto textDTO) throws NotConvertableException {
+        if (textDTO == null) {
+            throw new NotConvertableException("Text DTO is null");
+        }
+        try {
+            return convertSentenceDtos(textDTO.getSentences());
+        } catch (IllegalArgumentException e) {
+            throw new NotConvertableException("Text DTO is not valid: " + e.getMessage());
+        }
+    }
+
+    private CompactText convertSentenceDtos(List<SentenceDto> sentenceDtos) throws NotConvertableException {
+        CompactTextBuilder builder = new CompactTextBuilder();
+        for (SentenceDto sentenceDTO : sentenceDtos) {
+            builder.addSentence(sentenceDTO.getText());
+            List<WordDto> wordDtos = sentenceDTO.getWords();
+            int firstWord = -1;
+            for (WordDto wordDTO : wordDtos) {
+                int word = builder.addWord(wordDTO.getText(), wordDTO.getLemma(), POSTag.get(wordDTO.getPosTag().toString()));
+                if (word != wordDTO.getId() - 1) {
+                    throw new NotConvertableException(String.format("Word with id %d is not at position %d of the text", wordDTO.getId(), word + 1));
+                }
+                firstWord = firstWord < 0 ? word : firstWord;
+            }
+            for (WordDto wordDTO : wordDtos) {
+                int word = (int) wordDTO.getId() - 1;
+                for (IncomingDependencyDto dependencyDTO : wordDTO.getIncomingDependencies()) {
+                    builder.addIncomingDependency(word, dependencyDTO.getDependencyTag(), (int) dependencyDTO.getSourceWordId() - 1);
+                }
+                for (OutgoingDependencyDto dependencyDTO : wordDTO.getOutgoingDependencies()) {
+                    builder.addOutgoingDependency(word, dependencyDTO.getDependencyTag(), (int) dependencyDTO.getTargetWordId() - 1);
+                }
+            }
+            addPhrases(builder, sentenceDTO.getConstituencyTree(), firstWord, wordDtos.size());
+        }
+        return builder.build();
+    }
+
+    /**
+     * converts the given ArDoCo text into a compact text. The given text is not referenced by the compact text.
+     *
+     * @param text the ArDoCo text
+     * @return the compact text
+     * @throws NotConvertableException if the text is null, its sentences or words are not numbered consecutively, or its phrases do not form trees
+     */
+    public CompactText convertText(Text text) throws NotConvertableException {
+        if (text == null) {
+            throw new NotConvertableException("Text is null");
+        }
+        if (text instanceof CompactText compactText) {
+            return compactText;
+        }
+        try {
+            return convertSentences(text.getSentences());
+        } catch (IllegalArgumentException e) {
+            throw new NotConvertableException("Text is not valid: " + e.getMessage());
+        }
+    }
+
+    private CompactText convertSentences(ImmutableList<Sentence> sentences) throws NotConvertableException {
+        CompactTextBuilder builder = new CompactTextBuilder();
+        for (Sentence sentence : sentences) {
+            int sentenceNumber = builder.addSentence(sentence.getText());
+            if (sentence.getSentenceNumber() != sentenceNumber) {
+                throw new NotConvertableException(String.format("Sentence %d is not at position %d of the text", sentence.getSentenceNumber(), sentenceNumber));
+            }
+            for (Word word : sentence.getWords()) {
+                int position = builder.addWord(word.getText(), word.getLemma(), word.getPosTag());
+                if (word.getPosition() != position) {
+                    throw new NotConvertableException(String.format("Word %d is not at position %d of the text", word.getPosition(), position));
+                }
+            }
+            for (Word word : sentence.getWords()) {
+                for (DependencyTag dependencyTag : DependencyTag.values()) {
+                    for (Word sourceWord : word.getIncomingDependencyWordsWithType(dependencyTag)) {
+                        builder.addIncomingDependency(word.getPosition(), dependencyTag, sourceWord.getPosition());
+                    }
+                    for (Word targetWord : word.getOutgoingDependencyWordsWithType(dependencyTag)) {
+                        builder.addOutgoingDependency(word.getPosition(), dependencyTag, targetWord.getPosition());
+                    }
+                }
+            }
+            addPhrases(builder, sentence);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Adds the phrases of the sentence in the order of the constituency tree. As the words of a phrase are consecutive, a phrase precedes its
+     * sub-phrases if the phrases are sorted by their first word and their length. Phrases with the same words keep their order.
+     */
+    private void addPhrases(CompactTextBuilder builder, Sentence sentence) {
+        MutableList<Phrase> phrases = Lists.mutable.withAll(sentence.getPhrases()).reject(phrase -> phrase.getContainedWords().isEmpty());
+        phrases.sortThis(Comparator.comparingInt(CompactTextConverter::getFirstWord)
+                .thenComparing(Comparator.comparingInt(CompactTextConverter::getLastWord).reversed()));
+        for (Phrase phrase : phrases) {
+            builder.addPhrase(phrase.getPhraseType(), getFirstWord(phrase), getLastWord(phrase));
+        }
+    }
+
+    private static int getFirstWord(Phrase phrase) {
+        return phrase.getContainedWords().getFirst().getPosition();
+    }
+
+    private static int getLastWord(Phrase phrase) {
+        return phrase.getContainedWords().getLast().getPosition();
+    }
+
+    /**
+     * Parses the constituency tree in a single pass and adds its phrases, i.e., all subtrees that are not words, in preorder.
+     */
+    private void addPhrases(CompactTextBuilder builder, String constituencyTree, int firstWord, int wordCount) throws NotConvertableException {
+        if (constituencyTree == null || constituencyTree.isBlank()) {
+            throw new NotConvertableException("Constituency tree is not valid");
+        }
+        MutableList<PhraseType> phraseTypes = Lists.mutable.empty();
+        MutableIntList phraseFirstWords = IntLists.mutable.empty();
+        MutableIntList phraseLastWords = IntLists.mutable.empty();
+        MutableIntList openPhrases = IntLists.mutable.empty();
+
+        int nextWord = 0;
+        int position = 0;
+        int length = constituencyTree.length();
+        while (position < length) {
+            char character = constituencyTree.charAt(position);
+            if (character == CONSTITUENCY_TREE_OPEN_BRACKET) {
+                int labelEnd = position + 1;
+                while (labelEnd < length && !Character.isWhitespace(constituencyTree.charAt(labelEnd)) && !isBracket(constituencyTree.charAt(labelEnd))) {
+                    labelEnd++;
+                }
+                int contentStart = labelEnd;
+                while (contentStart < length && Character.isWhitespace(constituencyTree.charAt(contentStart))) {
+                    contentStart++;
+                }
+                if (contentStart >= length) {
+                    throw new NotConvertableException("Constituency tree is not valid");
+                }
+                if (constituencyTree.charAt(contentStart) == CONSTITUENCY_TREE_OPEN_BRACKET) {
+                    // a phrase, whose last word is known when it is closed
+                    openPhrases.add(phraseTypes.size());
+                    phraseTypes.add(PhraseType.get(constituencyTree.substring(position + 1, labelEnd)));
+                    phraseFirstWords.add(nextWord);
+                    phraseLastWords.add(-1);
+                    position = contentStart;
+                } else {
+                    // a word
+                    int wordEnd = constituencyTree.indexOf(CONSTITUENCY_TREE_CLOSE_BRACKET, contentStart);
+                    if (wordEnd < 0 || nextWord >= wordCount) {
+                        throw new NotConvertableException("Constituency tree does not match words of sentence");
+                    }
+                    nextWord++;
+                    position = wordEnd + 1;
+                }
+            } else if (character == CONSTITUENCY_TREE_CLOSE_BRACKET) {
+                if (openPhrases.isEmpty()) {
+                    throw new NotConvertableException("Constituency tree is not valid");
+                }
+                phraseLastWords.set(openPhrases.removeAtIndex(openPhrases.size() - 1), nextWord - 1);
+                position++;
+            } else {
+                position++;
+            }
+        }
+        if (!openPhrases.isEmpty() || nextWord != wordCount) {
+            throw new NotConvertableException("Constituency tree does not match words of sentence");
+        }
+
+        for (int phrase = 0; phrase < phraseTypes.size(); phrase++) {
+            if (phraseLastWords.get(phrase) >= phraseFirstWords.get(phrase)) {
+                builder.addPhrase(phraseTypes.get(phrase), firstWord + phraseFirstWords.get(phrase), firstWord + phraseLastWords.get(phrase));
+            }
+        }
+    }
+
+    private static boolean isBracket(char character) {
+        return character == CONSTITUENCY_TREE_OPEN_BRACKET || character == CONSTITUENCY_TREE_CLOSE_BRACKET;
+    }
+}
@@ -3,13 +3,17 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SpecVersion;
@@ -20,7 +24,9 @@
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.InvalidJsonException;
 
 /**
- * utility class to convert a text DTO into json and back
+ * utility class to convert a text DTO into json and back. The object mapper and the json schema are created once and shared by all conversions. For
+ * trusted sources, such as a local cache, the validation against the schema can be skipped; the json is then read with a streaming parser that does not
+ * build an intermediate tree.
  **/
 @Deterministic
 public final class JsonConverter {
@@ -28,6 +34,8 @@ public final class JsonConverter {
     private static final Logger logger = LoggerFactory.getLogger(JsonConverter.class);
 
     private static final String SCHEMA_PATH = "schemas/text.json";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectWriter TEXT_WRITER = OBJECT_MAPPER.writerFor(TextDto.class);
 
     private JsonConverter() {
 
@@ -40,23 +48,7 @@ private JsonConverter() {
      * @return whether the json string matches the text schema
      */
     public static boolean validateJson(String json) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        JsonSchemaFactory schemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4);
-
-        InputStream inputSchema = JsonConverter.class.getClassLoader().getResourceAsStream(SCHEMA_PATH);
-        JsonSchema schema = schemaFactory.getSchema(inputSchema);
-
-        Set<ValidationMessage> message = schema.validate(mapper.readTree(json));
-        if (!message.isEmpty()) {
-            // get only the first fifteen messages
-            List<String> loggerMessages = message.stream().map(ValidationMessage::getMessage).toList();
-            if (loggerMessages.size() > 15) {
-                loggerMessages = loggerMessages.subList(0, 15);
-            }
-            String loggerMessage = String.join("\n", loggerMessages);
-            logger.info("The following inconsistencies between the json and the json schema were found: {}", loggerMessage);
-        }
-        return message.isEmpty();
+        return validateJson(OBJECT_MAPPER.readTree(json));
     }
 
     /**
@@ -66,11 +58,28 @@ public static boolean validateJson(String json) throws IOException {
      * @return the corresponding text DTO
      */
     public static TextDto fromJsonString(String json) throws IOException, InvalidJsonException {
-        if (!validateJson(json)) {
+        return fromJsonString(json, true);
+    }
+
+    /**
+     * generates the corresponding text DTO of the json string. If the json is not validated, it is streamed directly into the DTO without an
+     * intermediate tree. In this case, a json that does not match the schema but can be mapped to a text DTO is not rejected.
+     *
+     * @param json     the json string
+     * @param validate whether the json string is validated against the text schema
+     * @return the corresponding text DTO
+     */
+    public static TextDto fromJsonString(String json, boolean validate) throws IOException, InvalidJsonException {
+        if (!validate) {
+            try (JsonParser parser = OBJECT_MAPPER.createParser(json)) {
+                return TextDtoReader.read(parser);
+            }
+        }
+        JsonNode tree = OBJECT_MAPPER.readTree(json);
+        if (!validateJson(tree)) {
             throw new InvalidJsonException("The json string is no valid text DTO.");
         }
-        ObjectMapper objectMapper = new ObjectMapper();
-        return objectMapper.readValue(json, TextDto.class);
+        return OBJECT_MAPPER.treeToValue(tree, TextDto.class);
     }
 
     /**
@@ -80,11 +89,57 @@ public static TextDto fromJsonString(String json) throws IOException, InvalidJso
      * @return the JSON string or null
      */
     public static String toJsonString(TextDto obj) throws IOException, InvalidJsonException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        String jsonString = objectMapper.writeValueAsString(obj);
-        if (!validateJson(jsonString)) {
+        return toJsonString(obj, true);
+    }
+
+    /**
+     * converts the text DTO into json string. If the json is validated, the DTO is validated as a tree before it is written, so that the json string is
+     * not parsed again.
+     *
+     * @param obj      the text DTO
+     * @param validate whether the json is validated against the text schema
+     * @return the JSON string
+     */
+    public static String toJsonString(TextDto obj, boolean validate) throws IOException, InvalidJsonException {
+        if (!validate) {
+            return TEXT_WRITER.writeValueAsString(obj);
+        }
+        JsonNode tree = OBJECT_MAPPER.valueToTree(obj);
+        if (!validateJson(tree)) {
             throw new InvalidJsonException("The text DTO could not be converted into a json string. No valid text Dto");
         }
-        return jsonString;
+        return OBJECT_MAPPER.writeValueAsString(tree);
+    }
+
+    private static boolean validateJson(JsonNode json) {
+        Set<ValidationMessage> message = SchemaHolder.SCHEMA.validate(json);
+        if (!message.isEmpty()) {
+            // get only the first fifteen messages
+            List<String> loggerMessages = message.stream().map(ValidationMessage::getMessage).toList();
+            if (loggerMessages.size() > 15) {
+                loggerMessages = loggerMessages.subList(0, 15);
+            }
+            String loggerMessage = String.join("\n", loggerMessages);
+            logger.info("The following inconsistencies between the json and the json schema were found: {}", loggerMessage);
+        }
+        return message.isEmpty();
+    }
+
+    /**
+     * holds the text schema, which is loaded and compiled on first use
+     */
+    private static final class SchemaHolder {
+        private static final JsonSchema SCHEMA = loadSchema();
+
+        private static JsonSchema loadSchema() {
+            JsonSchemaFactory schemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4);
+            try (InputStream inputSchema = JsonConverter.class.getClassLoader().getResourceAsStream(SCHEMA_PATH)) {
+                JsonSchema schema = schemaFactory.getSchema(inputSchema);
+                schema.initializeValidators();
+                return schema;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not load the text schema", e);
+            }
+        }
     }
 }
@@ -0,0 +1,216 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.IncomingDependencyDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.OutgoingDependencyDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.SentenceDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.TextDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.WordDto;
+
+/**
+ * Reads a text DTO token by token from a JSON parser. In contrast to data binding, no intermediate tree is built and no properties are set by reflection.
+ * The reader accepts the same documents as the default object mapper: unknown properties are rejected, and missing properties keep the defaults of the DTOs.
+ */
+@Deterministic
+final class TextDtoReader {
+
+    private static final ImmutableMap<String, POSTag> POS_TAGS = createPosTagLookup();
+
+    private TextDtoReader() {
+    }
+
+    /**
+     * reads a text DTO from the parser, which has to be positioned before the start of the text object
+     *
+     * @param parser the parser
+     * @return the text DTO
+     */
+    static TextDto read(JsonParser parser) throws IOException {
+        parser.nextToken();
+        return readText(parser);
+    }
+
+    private static TextDto readText(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        TextDto text = new TextDto();
+        while (nextField(parser)) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (field.equals("sentences")) {
+                text.setSentences(readList(parser, TextDtoReader::readSentence));
+            } else {
+                throw unknownProperty(parser, field);
+            }
+        }
+        return text;
+    }
+
+    private static SentenceDto readSentence(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        SentenceDto sentence = new SentenceDto();
+        while (nextField(parser)) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+            case "sentenceNo" -> sentence.setSentenceNo(readLong(parser));
+            case "text" -> sentence.setText(readString(parser));
+            case "constituencyTree" -> sentence.setConstituencyTree(readString(parser));
+            case "words" -> sentence.setWords(readList(parser, TextDtoReader::readWord));
+            default -> throw unknownProperty(parser, field);
+            }
+        }
+        return sentence;
+    }
+
+    private static WordDto readWord(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        WordDto word = new WordDto();
+        while (nextField(parser)) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+            case "id" -> word.setId(readLong(parser));
+            case "sentenceNo" -> word.setSentenceNo(readLong(parser));
+            case "text" -> word.setText(readString(parser));
+            case "lemma" -> word.setLemma(readString(parser));
+            case "posTag" -> word.setPosTag(readPosTag(parser));
+            case "outgoingDependencies" -> word.setOutgoingDependencies(readList(parser, TextDtoReader::readOutgoingDependency));
+            case "incomingDependencies" -> word.setIncomingDependencies(readList(parser, TextDtoReader::readIncomingDependency));
+            default -> throw unknownProperty(parser, field);
+            }
+        }
+        return word;
+    }
+
+    private static OutgoingDependencyDto readOutgoingDependency(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        OutgoingDependencyDto dependency = new OutgoingDependencyDto();
+        while (nextField(parser)) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+            case "targetWordId" -> dependency.setTargetWordId(readLong(parser));
+            case "dependencyType" -> dependency.setDependencyTag(readDependencyTag(parser));
+            default -> throw unknownProperty(parser, field);
+            }
+        }
+        return dependency;
+    }
+
+    private static IncomingDependencyDto readIncomingDependency(JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        IncomingDependencyDto dependency = new IncomingDependencyDto();
+        while (nextField(parser)) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+            case "sourceWordId" -> dependency.setSourceWordId(readLong(parser));
+            case "dependencyType" -> dependency.setDependencyTag(readDependencyTag(parser));
+            default -> throw unknownProperty(parser, field);
+            }
+        }
+        return dependency;
+    }
+
+    private static <T> List<T> readList(JsonParser parser, ElementReader<T> elementReader) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, JsonToken.START_ARRAY);
+        List<T> elements = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            elements.add(elementReader.read(parser));
+        }
+        return elements;
+    }
+
+    private static String readString(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, JsonToken.VALUE_STRING);
+        return parser.getText();
+    }
+
+    private static long readLong(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return 0;
+        }
+        expect(parser, JsonToken.VALUE_NUMBER_INT);
+        return parser.getLongValue();
+    }
+
+    private static POSTag readPosTag(JsonParser parser) throws IOException {
+        String value = readString(parser);
+        if (value == null) {
+            return null;
+        }
+        POSTag posTag = POS_TAGS.get(value);
+        if (posTag == null) {
+            throw new JsonParseException(parser, "Unknown part of speech: " + value);
+        }
+        return posTag;
+    }
+
+    private static DependencyTag readDependencyTag(JsonParser parser) throws IOException {
+        String value = readString(parser);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return DependencyTag.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new JsonParseException(parser, "Unknown dependency type: " + value, e);
+        }
+    }
+
+    /**
+     * advances to the next property of the current object and returns whether there is one
+     */
+    private static boolean nextField(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.FIELD_NAME) {
+            return true;
+        }
+        expect(parser, JsonToken.END_OBJECT);
+        return false;
+    }
+
+    private static void expect(JsonParser parser, JsonToken expected) throws JsonParseException {
+        if (parser.currentToken() != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + parser.currentToken());
+        }
+    }
+
+    private static JsonParseException unknownProperty(JsonParser parser, String field) {
+        return new JsonParseException(parser, "Unknown property: " + field);
+    }
+
+    private static ImmutableMap<String, POSTag> createPosTagLookup() {
+        MutableMap<String, POSTag> posTags = Maps.mutable.empty();
+        for (POSTag posTag : POSTag.values()) {
+            posTags.putIfAbsent(posTag.getTag(), posTag);
+        }
+        return posTags.toImmutable();
+    }
+
+    @FunctionalInterface
+    private interface ElementReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+}
@@ -0,0 +1,108 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject;
+
+import java.util.Objects;
+
+import org.eclipse.collections.api.factory.SortedMaps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
+import edu.kit.kastel.mcse.ardoco.core.api.text.PhraseType;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+
+/**
+ * A phrase of a {@link CompactText}. Phrases of the same text are related by their positions in the constituency tree; other phrases are related by
+ * their texts.
+ */
+@Deterministic
+final class CompactPhrase implements Phrase {
+
+    private final CompactText parent;
+    private final int index;
+    private String text;
+
+    CompactPhrase(CompactText parent, int index) {
+        this.parent = parent;
+        this.index = index;
+    }
+
+    @Override
+    public int getSentenceNo() {
+        return parent.getSentenceNo(parent.getFirstWord(index));
+    }
+
+    @Override
+    public synchronized String getText() {
+        if (text == null) {
+            text = parent.getPhraseText(index);
+        }
+        return text;
+    }
+
+    @Override
+    public PhraseType getPhraseType() {
+        return parent.getPhraseType(index);
+    }
+
+    @Override
+    public ImmutableList<Word> getContainedWords() {
+        return parent.getContainedWords(index);
+    }
+
+    @Override
+    public ImmutableList<Phrase> getSubPhrases() {
+        return parent.getSubPhrases(index);
+    }
+
+    @Override
+    public boolean isSuperPhraseOf(Phrase other) {
+        if (other instanceof CompactPhrase otherPhrase && otherPhrase.parent == parent) {
+            return parent.isSubPhrase(otherPhrase.index, index);
+        }
+        var currText = getText();
+        var otherText = other.getText();
+        return currText.contains(otherText) && currText.length() != otherText.length();
+    }
+
+    @Override
+    public boolean isSubPhraseOf(Phrase other) {
+        if (other instanceof CompactPhrase otherPhrase && otherPhrase.parent == parent) {
+            return parent.isSubPhrase(index, otherPhrase.index);
+        }
+        var currText = getText();
+        var otherText = other.getText();
+        return otherText.contains(currText) && currText.length() != otherText.length();
+    }
+
+    @Override
+    public ImmutableSortedMap<Word, Integer> getPhraseVector() {
+        MutableSortedMap<Word, Integer> phraseVector = SortedMaps.mutable.empty();
+        var grouped = getContainedWords().groupBy(Word::getText).toMap();
+        grouped.forEach((key, value) -> phraseVector.put(value.getAny(), value.size()));
+        return phraseVector.toImmutable();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof CompactPhrase phrase))
+            return false;
+        return getSentenceNo() == phrase.getSentenceNo() && getPhraseType() == phrase.getPhraseType() && parent.getFirstWord(index) == phrase.parent
+                .getFirstWord(phrase.index) && parent.getLastWord(index) == phrase.parent.getLastWord(phrase.index) && Objects.equals(getText(), phrase
+                        .getText());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getSentenceNo(), getText(), getPhraseType(), parent.getFirstWord(index));
+    }
+
+    @Override
+    public String toString() {
+        return "Phrase{" + "text='" + getText() + '\'' + '}';
+    }
+}
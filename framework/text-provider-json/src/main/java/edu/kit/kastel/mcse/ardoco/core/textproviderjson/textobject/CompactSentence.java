@@ -0,0 +1,59 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject;
+
+import java.util.Objects;
+
+import org.eclipse.collections.api.list.ImmutableList;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Sentence;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+
+/**
+ * A sentence of a {@link CompactText}. Its phrases are ordered like the constituency tree, i.e., a phrase precedes its sub-phrases.
+ */
+final class CompactSentence implements Sentence {
+
+    private final CompactText parent;
+    private final int sentenceNumber;
+
+    CompactSentence(CompactText parent, int sentenceNumber) {
+        this.parent = parent;
+        this.sentenceNumber = sentenceNumber;
+    }
+
+    @Override
+    public int getSentenceNumber() {
+        return sentenceNumber;
+    }
+
+    @Override
+    public ImmutableList<Word> getWords() {
+        return parent.getWordsOfSentence(sentenceNumber);
+    }
+
+    @Override
+    public String getText() {
+        return parent.getSentenceText(sentenceNumber);
+    }
+
+    @Override
+    public ImmutableList<Phrase> getPhrases() {
+        return parent.getPhrasesOfSentence(sentenceNumber);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o instanceof Sentence sentence) {
+            return isEqualTo(sentence);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getSentenceNumber(), getText());
+    }
+}
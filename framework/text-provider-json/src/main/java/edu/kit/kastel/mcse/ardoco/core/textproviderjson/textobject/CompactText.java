@@ -0,0 +1,260 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject;
+
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
+import edu.kit.kastel.mcse.ardoco.core.api.text.PhraseType;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Sentence;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+
+/**
+ * A text that stores its annotations column-wise in primitive arrays instead of one object per word, sentence, phrase and dependency. The texts and
+ * lemmas of the words are ids into a pool of interned strings, parts of speech, phrase types and dependency types are stored as ordinals, and the
+ * dependencies of the words are stored in compressed sparse rows. The phrases of a sentence are stored in the order of the constituency tree, so that
+ * the sub-phrases of a phrase are the phrases up to the end of its subtree.
+ * <p>
+ * The words, sentences and phrases of the text are lightweight views on the arrays that are created on first access. The text of a phrase is the span
+ * of its words in the text of its sentence. If the words cannot be located in the sentence, their texts are joined instead.
+ * <p>
+ * Compact texts are created with a {@link CompactTextBuilder} or converted by the
+ * {@link edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter.CompactTextConverter}.
+ */
+public final class CompactText implements Text {
+    private static final String PUNCTUATION_WITH_SPACE = "\\s+([.,;:?!])";
+    private static final String BRACKETS_WITH_SPACE = "\\s+([()\\[\\]{}<>])";
+
+    private static final POSTag[] POS_TAGS = POSTag.values();
+    private static final PhraseType[] PHRASE_TYPES = PhraseType.values();
+
+    private final String[] strings;
+    private final String[] sentenceTexts;
+    // by sentence, with an additional entry for the end of the last sentence
+    private final int[] sentenceOffsets;
+    private final int[] sentencePhraseOffsets;
+
+    // by word
+    private final int[] textIds;
+    private final int[] lemmaIds;
+    private final byte[] posTags;
+    private final int[] beginPositions;
+    private final int[] endPositions;
+    private final int[] leafPhrases;
+    private final Dependencies outgoingDependencies;
+    private final Dependencies incomingDependencies;
+
+    // by phrase
+    private final byte[] phraseTypes;
+    private final int[] phraseFirstWords;
+    private final int[] phraseLastWords;
+    private final int[] phraseEnds;
+
+    private ImmutableList<Word> words;
+    private ImmutableList<Sentence> sentences;
+    private final CompactPhrase[] phrases;
+
+    CompactText(String[] strings, String[] sentenceTexts, int[] sentenceOffsets, int[] sentencePhraseOffsets, int[] textIds, int[] lemmaIds, byte[] posTags,
+            int[] beginPositions, int[] endPositions, int[] leafPhrases, Dependencies outgoingDependencies, Dependencies incomingDependencies,
+            byte[] phraseTypes, int[] phraseFirstWords, int[] phraseLastWords, int[] phraseEnds) {
+        this.strings = strings;
+        this.sentenceTexts = sentenceTexts;
+        this.sentenceOffsets = sentenceOffsets;
+        this.sentencePhraseOffsets = sentencePhraseOffsets;
+        this.textIds = textIds;
+        this.lemmaIds = lemmaIds;
+        this.posTags = posTags;
+        this.beginPositions = beginPositions;
+        this.endPositions = endPositions;
+        this.leafPhrases = leafPhrases;
+        this.outgoingDependencies = outgoingDependencies;
+        this.incomingDependencies = incomingDependencies;
+        this.phraseTypes = phraseTypes;
+        this.phraseFirstWords = phraseFirstWords;
+        this.phraseLastWords = phraseLastWords;
+        this.phraseEnds = phraseEnds;
+        this.phrases = new CompactPhrase[phraseTypes.length];
+    }
+
+    @Override
+    public int getLength() {
+        return textIds.length;
+    }
+
+    @Override
+    public synchronized ImmutableList<Word> words() {
+        if (words == null) {
+            MutableList<Word> wordList = Lists.mutable.withInitialCapacity(textIds.length);
+            for (int word = 0; word < textIds.length; word++) {
+                wordList.add(new CompactWord(this, word));
+            }
+            words = wordList.toImmutable();
+        }
+        return words;
+    }
+
+    @Override
+    public Word getWord(int index) {
+        if (index < 0 || index >= textIds.length) {
+            return null;
+        }
+        return words().get(index);
+    }
+
+    @Override
+    public synchronized ImmutableList<Sentence> getSentences() {
+        if (sentences == null) {
+            MutableList<Sentence> sentenceList = Lists.mutable.withInitialCapacity(sentenceTexts.length);
+            for (int sentence = 0; sentence < sentenceTexts.length; sentence++) {
+                sentenceList.add(new CompactSentence(this, sentence));
+            }
+            sentences = sentenceList.toImmutable();
+        }
+        return sentences;
+    }
+
+    /**
+     * Returns the number of distinct strings of the texts and lemmas of the words.
+     *
+     * @return the size of the string pool
+     */
+    public int getStringPoolSize() {
+        return strings.length;
+    }
+
+    String getText(int word) {
+        return getString(textIds[word]);
+    }
+
+    String getLemma(int word) {
+        return getString(lemmaIds[word]);
+    }
+
+    POSTag getPosTag(int word) {
+        return POS_TAGS[posTags[word]];
+    }
+
+    int getSentenceNo(int word) {
+        // the last sentence that starts at or before the word, which skips sentences without words
+        int low = 0;
+        int high = sentenceTexts.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (sentenceOffsets[middle] <= word) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    ImmutableList<Word> getOutgoingDependencyWords(int word, DependencyTag dependencyTag) {
+        return outgoingDependencies.getWords(this, word, dependencyTag);
+    }
+
+    ImmutableList<Word> getIncomingDependencyWords(int word, DependencyTag dependencyTag) {
+        return incomingDependencies.getWords(this, word, dependencyTag);
+    }
+
+    Phrase getLeafPhrase(int word) {
+        if (leafPhrases[word] < 0) {
+            throw new NoSuchElementException("No phrase contains " + getText(word));
+        }
+        return getPhrase(leafPhrases[word]);
+    }
+
+    String getSentenceText(int sentence) {
+        return sentenceTexts[sentence];
+    }
+
+    ImmutableList<Word> getWordsOfSentence(int sentence) {
+        return words().subList(sentenceOffsets[sentence], sentenceOffsets[sentence + 1]);
+    }
+
+    ImmutableList<Phrase> getPhrasesOfSentence(int sentence) {
+        return getPhrases(sentencePhraseOffsets[sentence], sentencePhraseOffsets[sentence + 1]);
+    }
+
+    PhraseType getPhraseType(int phrase) {
+        return PHRASE_TYPES[phraseTypes[phrase]];
+    }
+
+    int getFirstWord(int phrase) {
+        return phraseFirstWords[phrase];
+    }
+
+    int getLastWord(int phrase) {
+        return phraseLastWords[phrase];
+    }
+
+    ImmutableList<Word> getContainedWords(int phrase) {
+        return words().subList(phraseFirstWords[phrase], phraseLastWords[phrase] + 1);
+    }
+
+    ImmutableList<Phrase> getSubPhrases(int phrase) {
+        return getPhrases(phrase + 1, phraseEnds[phrase]);
+    }
+
+    boolean isSubPhrase(int phrase, int superPhrase) {
+        return superPhrase < phrase && phrase < phraseEnds[superPhrase];
+    }
+
+    String getPhraseText(int phrase) {
+        int firstWord = phraseFirstWords[phrase];
+        int lastWord = phraseLastWords[phrase];
+        if (beginPositions[firstWord] >= 0 && endPositions[lastWord] >= 0) {
+            return sentenceTexts[getSentenceNo(firstWord)].substring(beginPositions[firstWord], endPositions[lastWord]);
+        }
+        MutableList<String> wordTexts = Lists.mutable.empty();
+        for (int word = firstWord; word <= lastWord; word++) {
+            wordTexts.add(getText(word));
+        }
+        // Join string with spaces but remove spaces before punctuation and brackets
+        return String.join(" ", wordTexts).replaceAll(PUNCTUATION_WITH_SPACE, "$1").replaceAll(BRACKETS_WITH_SPACE, "$1");
+    }
+
+    private synchronized Phrase getPhrase(int phrase) {
+        if (phrases[phrase] == null) {
+            phrases[phrase] = new CompactPhrase(this, phrase);
+        }
+        return phrases[phrase];
+    }
+
+    private ImmutableList<Phrase> getPhrases(int from, int to) {
+        MutableList<Phrase> phraseList = Lists.mutable.withInitialCapacity(to - from);
+        for (int phrase = from; phrase < to; phrase++) {
+            phraseList.add(getPhrase(phrase));
+        }
+        return phraseList.toImmutable();
+    }
+
+    private String getString(int id) {
+        return id < 0 ? null : strings[id];
+    }
+
+    /**
+     * The dependencies of the words in compressed sparse rows: the dependencies of a word are stored from its offset to the offset of the next word.
+     *
+     * @param offsets      the offsets of the words, with an additional entry for the end of the last word
+     * @param tags         the ordinals of the dependency types
+     * @param relatedWords the positions of the related words
+     */
+    record Dependencies(int[] offsets, byte[] tags, int[] relatedWords) {
+        private ImmutableList<Word> getWords(CompactText text, int word, DependencyTag dependencyTag) {
+            MutableList<Word> result = Lists.mutable.empty();
+            for (int i = offsets[word]; i < offsets[word + 1]; i++) {
+                if (tags[i] == dependencyTag.ordinal()) {
+                    result.add(text.getWord(relatedWords[i]));
+                }
+            }
+            return result.toImmutable();
+        }
+    }
+}
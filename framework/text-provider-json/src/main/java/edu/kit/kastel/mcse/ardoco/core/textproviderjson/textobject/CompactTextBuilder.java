@@ -0,0 +1,247 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject;
+
+import java.util.Arrays;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.map.MutableMap;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.PhraseType;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+
+/**
+ * Builds a {@link CompactText}. Sentences are added in order, each followed by its words, the dependencies of its words and its phrases. The phrases of a
+ * sentence have to be added in the order of the constituency tree, i.e., a phrase precedes its sub-phrases, and the words of a phrase have to be
+ * consecutive.
+ * <p>
+ * The texts and lemmas of the words are interned, so that equal strings are only stored once. The positions of the words in the text of their sentence
+ * are located while the words are added. They are used for the texts of the phrases.
+ */
+@Deterministic
+public final class CompactTextBuilder {
+
+    private final MutableMap<String, Integer> stringIds = Maps.mutable.empty();
+    private final MutableList<String> strings = Lists.mutable.empty();
+
+    private final MutableList<String> sentenceTexts = Lists.mutable.empty();
+    private final MutableIntList sentenceOffsets = IntLists.mutable.empty();
+    private final MutableIntList sentencePhraseOffsets = IntLists.mutable.empty();
+
+    // by word
+    private final MutableIntList textIds = IntLists.mutable.empty();
+    private final MutableIntList lemmaIds = IntLists.mutable.empty();
+    private final MutableIntList posTags = IntLists.mutable.empty();
+    private final MutableIntList beginPositions = IntLists.mutable.empty();
+    private final MutableIntList endPositions = IntLists.mutable.empty();
+    private final MutableIntList leafPhrases = IntLists.mutable.empty();
+
+    private final EdgeList outgoingDependencies = new EdgeList();
+    private final EdgeList incomingDependencies = new EdgeList();
+
+    // by phrase
+    private final MutableIntList phraseTypes = IntLists.mutable.empty();
+    private final MutableIntList phraseFirstWords = IntLists.mutable.empty();
+    private final MutableIntList phraseLastWords = IntLists.mutable.empty();
+    private final MutableIntList phraseEnds = IntLists.mutable.empty();
+
+    // the phrases of the current sentence that contain the last added phrase
+    private final MutableIntList openPhrases = IntLists.mutable.empty();
+    private int searchPosition;
+    private boolean built;
+
+    /**
+     * Starts a new sentence. The following words and phrases belong to it.
+     *
+     * @param text the text of the sentence
+     * @return the number of the sentence
+     */
+    public int addSentence(String text) {
+        checkNotBuilt();
+        closePhrases(Integer.MAX_VALUE);
+        sentenceTexts.add(text == null ? "" : text);
+        sentenceOffsets.add(textIds.size());
+        sentencePhraseOffsets.add(phraseTypes.size());
+        searchPosition = 0;
+        return sentenceTexts.size() - 1;
+    }
+
+    /**
+     * Adds a word to the current sentence.
+     *
+     * @param text   the text of the word
+     * @param lemma  the lemma of the word
+     * @param posTag the part of speech of the word
+     * @return the position of the word in the text
+     */
+    public int addWord(String text, String lemma, POSTag posTag) {
+        checkNotBuilt();
+        if (sentenceTexts.isEmpty()) {
+            throw new IllegalStateException("A word has to belong to a sentence");
+        }
+        textIds.add(intern(text));
+        lemmaIds.add(intern(lemma));
+        posTags.add(posTag.ordinal());
+        leafPhrases.add(-1);
+
+        String sentenceText = sentenceTexts.getLast();
+        int begin = text == null ? -1 : sentenceText.indexOf(text, searchPosition);
+        if (begin < 0) {
+            beginPositions.add(-1);
+            endPositions.add(-1);
+        } else {
+            searchPosition = begin + text.length();
+            beginPositions.add(begin);
+            endPositions.add(searchPosition);
+        }
+        return textIds.size() - 1;
+    }
+
+    /**
+     * Adds a dependency in which the given word is the governor.
+     *
+     * @param word          the position of the governor
+     * @param dependencyTag the type of the dependency
+     * @param targetWord    the position of the dependent
+     */
+    public void addOutgoingDependency(int word, DependencyTag dependencyTag, int targetWord) {
+        checkNotBuilt();
+        outgoingDependencies.add(word, dependencyTag.ordinal(), targetWord);
+    }
+
+    /**
+     * Adds a dependency in which the given word is the dependent.
+     *
+     * @param word          the position of the dependent
+     * @param dependencyTag the type of the dependency
+     * @param sourceWord    the position of the governor
+     */
+    public void addIncomingDependency(int word, DependencyTag dependencyTag, int sourceWord) {
+        checkNotBuilt();
+        incomingDependencies.add(word, dependencyTag.ordinal(), sourceWord);
+    }
+
+    /**
+     * Adds a phrase to the current sentence. The phrase is a sub-phrase of all previously added phrases of the sentence that contain its words.
+     *
+     * @param phraseType the type of the phrase
+     * @param firstWord  the position of the first word of the phrase
+     * @param lastWord   the position of the last word of the phrase
+     * @throws IllegalArgumentException if the words do not belong to the current sentence or the phrase overlaps a previous phrase without being
+     *                                  contained in it
+     */
+    public void addPhrase(PhraseType phraseType, int firstWord, int lastWord) {
+        checkNotBuilt();
+        if (sentenceTexts.isEmpty() || firstWord < sentenceOffsets.getLast() || lastWord >= textIds.size() || firstWord > lastWord) {
+            throw new IllegalArgumentException("The words of a phrase have to belong to the current sentence");
+        }
+        closePhrases(firstWord);
+        if (!openPhrases.isEmpty() && lastWord > phraseLastWords.get(openPhrases.getLast())) {
+            throw new IllegalArgumentException("A phrase has to be contained in the phrases it overlaps");
+        }
+        int phrase = phraseTypes.size();
+        phraseTypes.add(phraseType.ordinal());
+        phraseFirstWords.add(firstWord);
+        phraseLastWords.add(lastWord);
+        phraseEnds.add(-1);
+        openPhrases.add(phrase);
+        for (int word = firstWord; word <= lastWord; word++) {
+            leafPhrases.set(word, phrase);
+        }
+    }
+
+    /**
+     * Creates the text. The builder cannot be used afterwards.
+     *
+     * @return the text
+     */
+    public CompactText build() {
+        checkNotBuilt();
+        closePhrases(Integer.MAX_VALUE);
+        built = true;
+        sentenceOffsets.add(textIds.size());
+        sentencePhraseOffsets.add(phraseTypes.size());
+
+        int wordCount = textIds.size();
+        return new CompactText(strings.toArray(new String[0]), sentenceTexts.toArray(new String[0]), sentenceOffsets.toArray(), sentencePhraseOffsets
+                .toArray(), textIds.toArray(), lemmaIds.toArray(), toBytes(posTags), beginPositions.toArray(), endPositions.toArray(), leafPhrases.toArray(),
+                outgoingDependencies.compress(wordCount), incomingDependencies.compress(wordCount), toBytes(phraseTypes), phraseFirstWords.toArray(),
+                phraseLastWords.toArray(), phraseEnds.toArray());
+    }
+
+    private void closePhrases(int nextFirstWord) {
+        while (!openPhrases.isEmpty() && phraseLastWords.get(openPhrases.getLast()) < nextFirstWord) {
+            phraseEnds.set(openPhrases.removeAtIndex(openPhrases.size() - 1), phraseTypes.size());
+        }
+    }
+
+    private int intern(String string) {
+        if (string == null) {
+            return -1;
+        }
+        return stringIds.getIfAbsentPut(string, () -> {
+            strings.add(string);
+            return strings.size() - 1;
+        });
+    }
+
+    private void checkNotBuilt() {
+        if (built) {
+            throw new IllegalStateException("The text has already been built");
+        }
+    }
+
+    private static byte[] toBytes(MutableIntList values) {
+        byte[] bytes = new byte[values.size()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) values.get(i);
+        }
+        return bytes;
+    }
+
+    /**
+     * Dependencies as (word, tag, related word) triples in the order in which they were added.
+     */
+    private static final class EdgeList {
+        private final MutableIntList words = IntLists.mutable.empty();
+        private final MutableIntList tags = IntLists.mutable.empty();
+        private final MutableIntList relatedWords = IntLists.mutable.empty();
+
+        private void add(int word, int tag, int relatedWord) {
+            words.add(word);
+            tags.add(tag);
+            relatedWords.add(relatedWord);
+        }
+
+        /**
+         * Sorts the dependencies stably by word and stores them in compressed sparse rows.
+         */
+        private CompactText.Dependencies compress(int wordCount) {
+            int[] offsets = new int[wordCount + 1];
+            for (int i = 0; i < words.size(); i++) {
+                int word = words.get(i);
+                if (word < 0 || word >= wordCount) {
+                    throw new IllegalArgumentException("Unknown word " + word + " of a dependency");
+                }
+                offsets[word + 1]++;
+            }
+            for (int word = 0; word < wordCount; word++) {
+                offsets[word + 1] += offsets[word];
+            }
+            int[] next = Arrays.copyOf(offsets, wordCount);
+            byte[] sortedTags = new byte[words.size()];
+            int[] sortedWords = new int[words.size()];
+            for (int i = 0; i < words.size(); i++) {
+                int position = next[words.get(i)]++;
+                sortedTags[position] = (byte) tags.get(i);
+                sortedWords[position] = relatedWords.get(i);
+            }
+            return new CompactText.Dependencies(offsets, sortedTags, sortedWords);
+        }
+    }
+}
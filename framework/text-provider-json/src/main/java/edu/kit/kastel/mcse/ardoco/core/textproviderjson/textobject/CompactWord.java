@@ -0,0 +1,105 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject;
+
+import java.util.Objects;
+
+import org.eclipse.collections.api.list.ImmutableList;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Sentence;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+
+/**
+ * A word of a {@link CompactText}, which only consists of the text and the position of the word.
+ */
+final class CompactWord implements Word {
+
+    private final CompactText parent;
+    private final int index;
+
+    CompactWord(CompactText parent, int index) {
+        this.parent = parent;
+        this.index = index;
+    }
+
+    @Override
+    public int getSentenceNo() {
+        return parent.getSentenceNo(index);
+    }
+
+    @Override
+    public Sentence getSentence() {
+        return parent.getSentences().get(getSentenceNo());
+    }
+
+    @Override
+    public String getText() {
+        return parent.getText(index);
+    }
+
+    @Override
+    public POSTag getPosTag() {
+        return parent.getPosTag(index);
+    }
+
+    @Override
+    public Word getPreWord() {
+        int preWordIndex = index - 1;
+        if (preWordIndex > 0) {
+            return parent.getWord(preWordIndex);
+        }
+        return null;
+    }
+
+    @Override
+    public Word getNextWord() {
+        return parent.getWord(index + 1);
+    }
+
+    @Override
+    public int getPosition() {
+        return index;
+    }
+
+    @Override
+    public String getLemma() {
+        return parent.getLemma(index);
+    }
+
+    @Override
+    public ImmutableList<Word> getOutgoingDependencyWordsWithType(DependencyTag dependencyTag) {
+        return parent.getOutgoingDependencyWords(index, dependencyTag);
+    }
+
+    @Override
+    public ImmutableList<Word> getIncomingDependencyWordsWithType(DependencyTag dependencyTag) {
+        return parent.getIncomingDependencyWords(index, dependencyTag);
+    }
+
+    @Override
+    public Phrase getPhrase() {
+        return parent.getLeafPhrase(index);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof CompactWord word))
+            return false;
+        return index == word.index && getSentenceNo() == word.getSentenceNo() && Objects.equals(getText(), word.getText()) && getPosTag() == word
+                .getPosTag();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, getPosTag(), getText(), getSentenceNo());
+    }
+
+    @Override
+    public String toString() {
+        return "Word{" + "text='" + getText() + '\'' + ", position=" + index + '}';
+    }
+}
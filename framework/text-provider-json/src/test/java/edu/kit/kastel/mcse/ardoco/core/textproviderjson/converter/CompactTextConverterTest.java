@@ -0,0 +1,119 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Sentence;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.TestUtil;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.TextDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.NotConvertableException;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject.CompactText;
+
+class CompactTextConverterTest {
+    private final CompactTextConverter converter = new CompactTextConverter();
+    private final DtoToObjectConverter dtoToObjectConverter = new DtoToObjectConverter();
+    private final ObjectToDtoConverter objectToDtoConverter = new ObjectToDtoConverter();
+
+    @Test
+    void testConvertTextDto() throws NotConvertableException, IOException {
+        Assertions.assertThrows(NotConvertableException.class, () -> converter.convertText((TextDto) null));
+        Assertions.assertEquals(0, converter.convertText(TestUtil.generateEmptyDTO()).getLength());
+
+        for (TextDto textDto : List.of(TestUtil.generateDefaultDTO(), TestUtil.generateDTOWithMultipleSentences(), TestUtil
+                .generateTextDtoWithDependencies())) {
+            CompactText compactText = converter.convertText(textDto);
+            assertSameText(dtoToObjectConverter.convertText(textDto), compactText);
+            Assertions.assertEquals(textDto, objectToDtoConverter.convertTextToDTO(compactText));
+        }
+    }
+
+    @Test
+    void testConvertText() throws NotConvertableException, IOException {
+        Assertions.assertThrows(NotConvertableException.class, () -> converter.convertText((Text) null));
+
+        for (TextDto textDto : List.of(TestUtil.generateDefaultDTO(), TestUtil.generateDTOWithMultipleSentences(), TestUtil
+                .generateTextDtoWithDependencies())) {
+            Text text = dtoToObjectConverter.convertText(textDto);
+            CompactText compactText = converter.convertText(text);
+            assertSameText(text, compactText);
+            Assertions.assertEquals(textDto, objectToDtoConverter.convertTextToDTO(compactText));
+            Assertions.assertSame(compactText, converter.convertText(compactText));
+        }
+    }
+
+    @Test
+    void testStringPool() throws NotConvertableException, IOException {
+        CompactText compactText = converter.convertText(TestUtil.generateDTOWithMultipleSentences());
+        long distinctStrings = compactText.words().flatCollect(word -> List.of(word.getText(), word.getLemma())).distinct().size();
+        Assertions.assertEquals(distinctStrings, compactText.getStringPoolSize());
+    }
+
+    @Test
+    void testInvalidConstituencyTree() throws IOException {
+        TextDto missingWord = TestUtil.generateDefaultDTO();
+        missingWord.getSentences().get(0).setConstituencyTree("(ROOT (S (NP (DT This)) (VP (VBZ is))))");
+        Assertions.assertThrows(NotConvertableException.class, () -> converter.convertText(missingWord));
+
+        TextDto unbalanced = TestUtil.generateDefaultDTO();
+        unbalanced.getSentences().get(0).setConstituencyTree("(ROOT (S (NP (DT This)) (VP (VBZ is) (NP (PRP me))) (. .))");
+        Assertions.assertThrows(NotConvertableException.class, () -> converter.convertText(unbalanced));
+    }
+
+    private static void assertSameText(Text expected, CompactText actual) {
+        Assertions.assertEquals(expected.getLength(), actual.getLength());
+        Assertions.assertEquals(expected.getSentences().size(), actual.getSentences().size());
+        Assertions.assertNull(actual.getWord(actual.getLength()));
+
+        for (int i = 0; i < expected.getLength(); i++) {
+            Word expectedWord = expected.getWord(i);
+            Word actualWord = actual.getWord(i);
+            Assertions.assertEquals(expectedWord.getText(), actualWord.getText());
+            Assertions.assertEquals(expectedWord.getLemma(), actualWord.getLemma());
+            Assertions.assertEquals(expectedWord.getPosTag(), actualWord.getPosTag());
+            Assertions.assertEquals(expectedWord.getPosition(), actualWord.getPosition());
+            Assertions.assertEquals(expectedWord.getSentenceNo(), actualWord.getSentenceNo());
+            Assertions.assertEquals(expectedWord.getSentence().getText(), actualWord.getSentence().getText());
+            for (DependencyTag dependencyTag : DependencyTag.values()) {
+                Assertions.assertEquals(expectedWord.getOutgoingDependencyWordsWithType(dependencyTag).collect(Word::getPosition), actualWord
+                        .getOutgoingDependencyWordsWithType(dependencyTag)
+                        .collect(Word::getPosition));
+                Assertions.assertEquals(expectedWord.getIncomingDependencyWordsWithType(dependencyTag).collect(Word::getPosition), actualWord
+                        .getIncomingDependencyWordsWithType(dependencyTag)
+                        .collect(Word::getPosition));
+            }
+            assertSamePhrase(expectedWord.getPhrase(), actualWord.getPhrase());
+            Assertions.assertTrue(actualWord.getPhrase().getContainedWords().contains(actualWord));
+        }
+
+        for (Sentence sentence : actual.getSentences()) {
+            Sentence expectedSentence = expected.getSentences().get(sentence.getSentenceNumber());
+            Assertions.assertEquals(expectedSentence.getText(), sentence.getText());
+            Assertions.assertEquals(expectedSentence.getWords().collect(Word::getPosition), sentence.getWords().collect(Word::getPosition));
+            Assertions.assertEquals(expectedSentence.getPhrases().size(), sentence.getPhrases().size());
+            for (Phrase phrase : sentence.getPhrases()) {
+                for (Phrase subPhrase : phrase.getSubPhrases()) {
+                    Assertions.assertTrue(phrase.isSuperPhraseOf(subPhrase));
+                    Assertions.assertTrue(subPhrase.isSubPhraseOf(phrase));
+                    Assertions.assertFalse(subPhrase.isSuperPhraseOf(phrase));
+                    Assertions.assertTrue(phrase.getContainedWords().containsAllIterable(subPhrase.getContainedWords()));
+                }
+            }
+        }
+    }
+
+    private static void assertSamePhrase(Phrase expected, Phrase actual) {
+        Assertions.assertEquals(expected.getPhraseType(), actual.getPhraseType());
+        Assertions.assertEquals(expected.getSentenceNo(), actual.getSentenceNo());
+        Assertions.assertEquals(expected.getText(), actual.getText());
+        Assertions.assertEquals(expected.getContainedWords().collect(Word::getPosition), actual.getContainedWords().collect(Word::getPosition));
+        Assertions.assertEquals(expected.getSubPhrases().size(), actual.getSubPhrases().size());
+    }
+}
@@ -10,6 +10,8 @@
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
 import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.IncomingDependencyDto;
@@ -55,6 +57,32 @@ void testFromJsonString() throws IOException, InvalidJsonException {
         Assertions.assertEquals(expectedText, generatedText);
     }
 
+    @Test
+    void testFromJsonStringWithoutValidation() throws IOException, InvalidJsonException {
+        String validJsonText = getValidJsonExample();
+        Assertions.assertEquals(getValidTextDtoExample(), JsonConverter.fromJsonString(validJsonText, false));
+
+        // a text that violates the schema but can be mapped is accepted without validation
+        String invalidJsonText = Files.readString(Path.of("./src/test/resources/invalid-example-text.json"));
+        Assertions.assertThrows(InvalidJsonException.class, () -> JsonConverter.fromJsonString(invalidJsonText, true));
+        Assertions.assertEquals(new ObjectMapper().readValue(invalidJsonText, TextDto.class), JsonConverter.fromJsonString(invalidJsonText, false));
+
+        // documents that cannot be mapped are rejected like by data binding
+        Assertions.assertThrows(IOException.class, () -> JsonConverter.fromJsonString("{\"sentences\": [], \"unknown\": 1}", false));
+        Assertions.assertThrows(IOException.class, () -> JsonConverter.fromJsonString("{\"sentences\": {}}", false));
+        String unknownPosTag = validJsonText.replace("\"UH\"", "\"UNKNOWN\"");
+        Assertions.assertThrows(IOException.class, () -> JsonConverter.fromJsonString(unknownPosTag, false));
+    }
+
+    @Test
+    void testToJsonStringWithoutValidation() throws IOException, InvalidJsonException {
+        TextDto validText = getValidTextDtoExample();
+        String json = JsonConverter.toJsonString(validText, false);
+        Assertions.assertEquals(JsonConverter.toJsonString(validText), json);
+        Assertions.assertEquals(validText, JsonConverter.fromJsonString(json, false));
+        Assertions.assertDoesNotThrow(() -> JsonConverter.toJsonString(new TextDto(), false));
+    }
+
     private String getValidJsonExample() throws IOException {
         return Files.readString(Path.of("./src/test/resources/valid-example-text.json"));
     }
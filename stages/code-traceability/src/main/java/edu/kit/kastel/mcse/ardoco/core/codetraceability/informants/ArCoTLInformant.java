@@ -11,10 +11,17 @@
 import edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.TraceLinkGenerator;
 import edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.computation.computationtree.Node;
 import edu.kit.kastel.mcse.ardoco.core.common.util.DataRepositoryHelper;
+import edu.kit.kastel.mcse.ardoco.core.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Informant;
 
 public class ArCoTLInformant extends Informant {
+    /**
+     * Whether the nodes of the computation tree are calculated concurrently in the common fork/join pool. The trace links are the same in both cases.
+     */
+    @Configurable
+    private boolean parallelComputation = false;
+
     public ArCoTLInformant(DataRepository dataRepository) {
         super(ArCoTLInformant.class.getSimpleName(), dataRepository);
     }
@@ -36,7 +43,7 @@ public void run() {
         }
 
         Node root = TraceLinkGenerator.getRoot(); //TODO maybe add preprocessing
-        var traceLinks = TraceLinkGenerator.generateTraceLinks(root, architectureModel, codeModel);
+        var traceLinks = TraceLinkGenerator.generateTraceLinks(root, architectureModel, codeModel, parallelComputation);
         samCodeTraceabilityState.addSamCodeTraceLinks(traceLinks);
     }
 
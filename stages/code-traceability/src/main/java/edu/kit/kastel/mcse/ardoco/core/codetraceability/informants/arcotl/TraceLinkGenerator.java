@@ -4,6 +4,7 @@
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.ArchitectureModel;
 import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.CodeModel;
@@ -119,6 +120,19 @@ public static Node getRoot(NameComparisonUtils.PreprocessingMethod preprocessCon
     }
 
     public static Set<SamCodeTraceLink> generateTraceLinks(Node root, ArchitectureModel archModel, CodeModel codeModel) {
+        return generateTraceLinks(root, archModel, codeModel, false);
+    }
+
+    /**
+     * Generates the trace links between the specified models using the specified computation tree.
+     *
+     * @param root      the root of the computation tree, or null to use the default tree
+     * @param archModel the architecture model
+     * @param codeModel the code model
+     * @param parallel  whether the computation tree is evaluated concurrently in the common fork/join pool
+     * @return the generated trace links
+     */
+    public static Set<SamCodeTraceLink> generateTraceLinks(Node root, ArchitectureModel archModel, CodeModel codeModel, boolean parallel) {
         if (archModel == null || codeModel == null) {
             return new java.util.LinkedHashSet<>();
         }
@@ -126,7 +140,9 @@ public static Set<SamCodeTraceLink> generateTraceLinks(Node root, ArchitectureMo
             root = getRoot();
         }
 
-        Computation computation = new Computation(root, archModel, codeModel);
+        Computation computation = parallel ?
+                new Computation(root, archModel, codeModel, ForkJoinPool.commonPool()) :
+                new Computation(root, archModel, codeModel);
         return computation.getTraceLinks();
     }
 
@@ -2,6 +2,7 @@
 package edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.computation;
 
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.ArchitectureModel;
 import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.CodeModel;
@@ -31,6 +32,21 @@ public Computation(Node root, ArchitectureModel archModel, CodeModel codeModel)
         this.result = root.compute(archModel, codeModel, new ComputationResult());
     }
 
+    /**
+     * Creates a new computation with the specified computation tree and the specified models between which trace links will be calculated. The nodes
+     * of the tree are calculated concurrently in the specified pool (see {@link ConcurrentNodeEvaluator}). The result is the same as for the sequential
+     * computation.
+     *
+     * @param root      the root of the computation tree
+     * @param archModel the architecture model for which trace links will be calculated
+     * @param codeModel the code model for which trace links will be calculated
+     * @param pool      the pool that calculates the nodes
+     */
+    public Computation(Node root, ArchitectureModel archModel, CodeModel codeModel, ForkJoinPool pool) {
+        this.root = root;
+        this.result = new ConcurrentNodeEvaluator(archModel, codeModel, pool).evaluate(root);
+    }
+
     /**
      * Returns the result of the computation.
      *
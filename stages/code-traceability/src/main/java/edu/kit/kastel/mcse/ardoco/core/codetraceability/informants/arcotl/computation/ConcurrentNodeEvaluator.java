@@ -0,0 +1,121 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.computation;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.ArchitectureModel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.CodeModel;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.computation.computationtree.Node;
+
+/**
+ * Evaluates computation trees concurrently. Every node is calculated as soon as the results of its children are available, so that independent
+ * subtrees are calculated in parallel. Nodes that support it additionally split their own calculation into fork/join tasks (see
+ * {@link Node#calculateConfidencesInParallel(ArchitectureModel, CodeModel, ComputationResult)}).
+ * <p>
+ * The evaluator memoizes the result of every node it has evaluated, so that nodes that are shared by several parents are only calculated once. The memo
+ * is keyed by node identity, as the hash codes of nodes can change while their heuristics are applied. The returned {@link ComputationResult} contains
+ * the nodes in the same order as {@link Node#compute(ArchitectureModel, CodeModel, ComputationResult)}.
+ */
+@Deterministic
+public final class ConcurrentNodeEvaluator {
+
+    private final ArchitectureModel archModel;
+    private final CodeModel codeModel;
+    private final ForkJoinPool pool;
+    private final Map<Node, CompletableFuture<NodeResult>> memo = new IdentityHashMap<>();
+
+    /**
+     * Creates a new evaluator for the specified models that calculates the nodes in the specified pool.
+     *
+     * @param archModel the architecture model for which confidences will be calculated
+     * @param codeModel the code model for which confidences will be calculated
+     * @param pool      the pool that calculates the nodes
+     */
+    public ConcurrentNodeEvaluator(ArchitectureModel archModel, CodeModel codeModel, ForkJoinPool pool) {
+        this.archModel = archModel;
+        this.codeModel = codeModel;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the results of all nodes in the tree rooted at the specified node. Blocks until all results are calculated.
+     *
+     * @param root the root of the computation tree
+     * @return the results of all nodes in the tree
+     */
+    public ComputationResult evaluate(Node root) {
+        try {
+            evaluateAsync(root).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        ComputationResult result = new ComputationResult();
+        collect(root, result);
+        return result;
+    }
+
+    /**
+     * Returns the future result of the specified node. Schedules the calculation of the node and its descendants if they have not been scheduled yet.
+     *
+     * @param node the node
+     * @return the future result of the node
+     */
+    public CompletableFuture<NodeResult> evaluateAsync(Node node) {
+        synchronized (memo) {
+            CompletableFuture<NodeResult> existing = memo.get(node);
+            if (existing != null) {
+                return existing;
+            }
+        }
+
+        List<Node> children = node.getChildren();
+        CompletableFuture<?>[] childFutures = new CompletableFuture<?>[children.size()];
+        for (int i = 0; i < children.size(); i++) {
+            childFutures[i] = evaluateAsync(children.get(i));
+        }
+
+        synchronized (memo) {
+            CompletableFuture<NodeResult> existing = memo.get(node);
+            if (existing != null) {
+                return existing;
+            }
+            CompletableFuture<NodeResult> future = CompletableFuture.allOf(childFutures).thenApplyAsync(ignored -> calculate(node), pool);
+            memo.put(node, future);
+            return future;
+        }
+    }
+
+    private NodeResult calculate(Node node) {
+        ComputationResult childrenResult = new ComputationResult();
+        for (Node child : node.getChildren()) {
+            childrenResult.addNodeResult(child, getResult(child));
+        }
+        return node.calculateConfidencesInParallel(archModel, codeModel, childrenResult);
+    }
+
+    private void collect(Node node, ComputationResult result) {
+        for (Node child : node.getChildren()) {
+            if (!result.exists(child)) {
+                collect(child, result);
+            }
+        }
+        result.addNodeResult(node, getResult(node));
+    }
+
+    private NodeResult getResult(Node node) {
+        CompletableFuture<NodeResult> future;
+        synchronized (memo) {
+            future = memo.get(node);
+        }
+        return future.join();
+    }
+}
@@ -0,0 +1,234 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.computation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.list.primitive.IntList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+
+/**
+ * A matrix of confidence values that is addressed by integer row and column ids. The matrix stores its entries in the order in which they were added.
+ * Each entry consists of its row, its column and a value; {@link #NO_VALUE} encodes a confidence without a value. For every row and every column, the
+ * matrix keeps the entries of the row or column in insertion order.
+ * <p>
+ * Entries are looked up either by a dense table that maps every cell to its entry or, if only few cells of the matrix are occupied, by scanning the
+ * entries of the row or column of the cell. The matrix switches between both representations automatically depending on its occupancy.
+ */
+final class ConfidenceMatrix {
+    /**
+     * The value of entries whose confidence has no value.
+     */
+    static final double NO_VALUE = Double.NaN;
+
+    private static final int INITIAL_CAPACITY = 16;
+    /**
+     * The matrix becomes dense if at least 1/4 of its cells are occupied ...
+     */
+    private static final int DENSE_OCCUPANCY_DIVISOR = 4;
+    /**
+     * ... and becomes sparse again if less than 1/8 of its cells are occupied.
+     */
+    private static final int SPARSE_OCCUPANCY_DIVISOR = 8;
+    private static final long MAX_DENSE_CELLS = Integer.MAX_VALUE - 8L;
+    private static final int ABSENT = -1;
+
+    private int size;
+    private int[] entryRows = new int[INITIAL_CAPACITY];
+    private int[] entryColumns = new int[INITIAL_CAPACITY];
+    private double[] entryValues = new double[INITIAL_CAPACITY];
+
+    private final List<MutableIntList> rowEntries = new ArrayList<>();
+    private final List<MutableIntList> columnEntries = new ArrayList<>();
+
+    /**
+     * Maps each cell ({@code row * columnCapacity + column}) to its entry or to {@link #ABSENT}. Null if the matrix is sparse.
+     */
+    private int[] cellEntries;
+    private int columnCapacity;
+
+    /**
+     * Adds a new row to the matrix.
+     *
+     * @return the id of the new row
+     */
+    int addRow() {
+        rowEntries.add(IntLists.mutable.empty());
+        if (cellEntries != null) {
+            if (isTooSparse()) {
+                cellEntries = null;
+            } else if ((long) getRows() * columnCapacity > cellEntries.length) {
+                long rowCapacity = Math.max(getRows(), 2L * (cellEntries.length / Math.max(1, columnCapacity)));
+                growCellTable(rowCapacity, columnCapacity);
+            }
+        }
+        return getRows() - 1;
+    }
+
+    /**
+     * Adds a new column to the matrix.
+     *
+     * @return the id of the new column
+     */
+    int addColumn() {
+        columnEntries.add(IntLists.mutable.empty());
+        if (cellEntries != null) {
+            if (isTooSparse()) {
+                cellEntries = null;
+            } else if (getColumns() > columnCapacity) {
+                long rowCapacity = cellEntries.length / Math.max(1, columnCapacity);
+                growCellTable(rowCapacity, Math.max(getColumns(), 2L * columnCapacity));
+            }
+        }
+        return getColumns() - 1;
+    }
+
+    int getRows() {
+        return rowEntries.size();
+    }
+
+    int getColumns() {
+        return columnEntries.size();
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the matrix currently uses the dense representation.
+     *
+     * @return true, if the entries are looked up by a dense table
+     */
+    boolean isDense() {
+        return cellEntries != null;
+    }
+
+    /**
+     * Returns the entry of the given cell.
+     *
+     * @param row    the row id
+     * @param column the column id
+     * @return the index of the entry, or -1 if the cell has no entry
+     */
+    int find(int row, int column) {
+        if (cellEntries != null) {
+            return cellEntries[row * columnCapacity + column];
+        }
+        IntList entriesOfRow = rowEntries.get(row);
+        IntList entriesOfColumn = columnEntries.get(column);
+        if (entriesOfRow.size() <= entriesOfColumn.size()) {
+            for (int i = 0; i < entriesOfRow.size(); i++) {
+                int entry = entriesOfRow.get(i);
+                if (entryColumns[entry] == column) {
+                    return entry;
+                }
+            }
+        } else {
+            for (int i = 0; i < entriesOfColumn.size(); i++) {
+                int entry = entriesOfColumn.get(i);
+                if (entryRows[entry] == row) {
+                    return entry;
+                }
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Sets the value of the given cell. If the cell has no entry yet, a new entry is appended; otherwise, the value of the existing entry is replaced
+     * and the entry keeps its position.
+     *
+     * @param row    the row id
+     * @param column the column id
+     * @param value  the value or {@link #NO_VALUE}
+     */
+    void put(int row, int column, double value) {
+        int entry = find(row, column);
+        if (entry != ABSENT) {
+            entryValues[entry] = value;
+            return;
+        }
+        if (size == entryValues.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, size + (size >> 1));
+            entryRows = Arrays.copyOf(entryRows, capacity);
+            entryColumns = Arrays.copyOf(entryColumns, capacity);
+            entryValues = Arrays.copyOf(entryValues, capacity);
+        }
+        entry = size++;
+        entryRows[entry] = row;
+        entryColumns[entry] = column;
+        entryValues[entry] = value;
+        rowEntries.get(row).add(entry);
+        columnEntries.get(column).add(entry);
+
+        if (cellEntries != null) {
+            cellEntries[row * columnCapacity + column] = entry;
+        } else if (isDenseEnough()) {
+            growCellTable(getRows(), getColumns());
+        }
+    }
+
+    int getRow(int entry) {
+        return entryRows[entry];
+    }
+
+    int getColumn(int entry) {
+        return entryColumns[entry];
+    }
+
+    double getValue(int entry) {
+        return entryValues[entry];
+    }
+
+    /**
+     * Returns the entries of the given row in insertion order.
+     *
+     * @param row the row id
+     * @return the entries of the row
+     */
+    IntList getRowEntries(int row) {
+        return rowEntries.get(row);
+    }
+
+    /**
+     * Returns the entries of the given column in insertion order.
+     *
+     * @param column the column id
+     * @return the entries of the column
+     */
+    IntList getColumnEntries(int column) {
+        return columnEntries.get(column);
+    }
+
+    private boolean isDenseEnough() {
+        long cells = (long) getRows() * getColumns();
+        return cells <= MAX_DENSE_CELLS && (long) size * DENSE_OCCUPANCY_DIVISOR >= cells;
+    }
+
+    private boolean isTooSparse() {
+        long cells = (long) getRows() * getColumns();
+        return cells > MAX_DENSE_CELLS || (long) size * SPARSE_OCCUPANCY_DIVISOR < cells;
+    }
+
+    private void growCellTable(long rowCapacity, long newColumnCapacity) {
+        if (rowCapacity * newColumnCapacity > MAX_DENSE_CELLS) {
+            rowCapacity = getRows();
+            newColumnCapacity = getColumns();
+        }
+        int[] newCellEntries = new int[(int) (rowCapacity * newColumnCapacity)];
+        Arrays.fill(newCellEntries, ABSENT);
+        for (int entry = 0; entry < size; entry++) {
+            newCellEntries[(int) (entryRows[entry] * newColumnCapacity + entryColumns[entry])] = entry;
+        }
+        cellEntries = newCellEntries;
+        columnCapacity = (int) newColumnCapacity;
+    }
+}
@@ -1,13 +1,19 @@
 /* Licensed under MIT 2023. */
 package edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.computation;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.list.primitive.IntList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+
 import edu.kit.kastel.mcse.ardoco.core.api.models.Entity;
 import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.ArchitectureModel;
 import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.CodeModel;
@@ -20,11 +26,21 @@
 /**
  * The result of a computation node. A computation node's final result are the
  * calculated {@link Confidence confidences} of every endpoint tuple.
+ * <p>
+ * The confidences are stored in a {@link ConfidenceMatrix} whose rows are the
+ * architecture endpoints and whose columns are the code endpoints. Thus, the
+ * confidences of one endpoint can be accessed without looking at the other
+ * endpoint tuples. Iterating over the confidences follows the order in which
+ * the endpoint tuples were added.
  */
 @Deterministic
 public class NodeResult {
 
-    private final Map<SamCodeEndpointTuple, Confidence> confidenceMap;
+    private static final Confidence NO_CONFIDENCE = new Confidence();
+
+    private final EndpointIds<ArchitectureItem> architectureEndpoints = new EndpointIds<>();
+    private final EndpointIds<CodeCompilationUnit> codeEndpoints = new EndpointIds<>();
+    private final ConfidenceMatrix matrix = new ConfidenceMatrix();
 
     /**
      * Creates a new computation node result. It is initially empty, so the
@@ -32,14 +48,15 @@ public class NodeResult {
      * been calculated.
      */
     public NodeResult() {
-        confidenceMap = new LinkedHashMap<>();
+        // empty result
     }
 
     public NodeResult(ArchitectureModel archModel, CodeModel codeModel) {
-        confidenceMap = new LinkedHashMap<>();
-        EndpointTupleRepo endpointTupleRepo = new EndpointTupleRepo(archModel, codeModel);
-        for (SamCodeEndpointTuple endpointTuple : endpointTupleRepo.getEndpointTuples()) {
-            add(endpointTuple, new Confidence());
+        for (var architectureEndpoint : archModel.getEndpoints()) {
+            int row = getOrAddRow(architectureEndpoint);
+            for (var codeEndpoint : codeModel.getEndpoints()) {
+                matrix.put(row, getOrAddColumn(codeEndpoint), ConfidenceMatrix.NO_VALUE);
+            }
         }
     }
 
@@ -53,28 +70,33 @@ public NodeResult(ArchitectureModel archModel, CodeModel codeModel) {
      * @return the confidence of the endpoint tuple, or null if it doesn't exist yet
      */
     public Confidence getConfidence(EndpointTuple endpointTuple) {
-        return confidenceMap.get(endpointTuple);
+        int entry = find(endpointTuple.firstEndpoint(), endpointTuple.secondEndpoint());
+        if (entry < 0) {
+            return null;
+        }
+        return toConfidence(matrix.getValue(entry));
     }
 
     public Confidence getBestConfidence(Entity endpoint) {
-        Confidence max = new Confidence();
-        for (var entry : confidenceMap.entrySet()) {
-            SamCodeEndpointTuple tuple = entry.getKey();
-            Confidence confidence = entry.getValue();
-            if (tuple.hasEndpoint(endpoint) && confidence.compareTo(max) > 0) {
-                max = confidence;
+        double max = ConfidenceMatrix.NO_VALUE;
+        IntList entries = getEntries(endpoint);
+        for (int i = 0; i < entries.size(); i++) {
+            double value = matrix.getValue(entries.get(i));
+            if (!Double.isNaN(value) && (Double.isNaN(max) || value > max)) {
+                max = value;
             }
         }
-        return max;
+        return toConfidence(max);
     }
 
     public NodeResult getEndpointTuples(Entity endpoint, Confidence confidence) {
+        double value = toValue(confidence);
         NodeResult result = new NodeResult();
-        for (var entry : confidenceMap.entrySet()) {
-            SamCodeEndpointTuple endpointTuple = entry.getKey();
-            Confidence otherConfidence = entry.getValue();
-            if (endpointTuple.hasEndpoint(endpoint) && confidence.equals(otherConfidence)) {
-                result.add(endpointTuple, otherConfidence);
+        IntList entries = getEntries(endpoint);
+        for (int i = 0; i < entries.size(); i++) {
+            int entry = entries.get(i);
+            if (Double.compare(value, matrix.getValue(entry)) == 0) {
+                result.put(getArchitectureEndpoint(entry), getCodeEndpoint(entry), value);
             }
         }
         return result;
@@ -82,11 +104,12 @@ public NodeResult getEndpointTuples(Entity endpoint, Confidence confidence) {
 
     public SortedSet<Entity> getLinkedEndpoints(Entity endpoint) {
         SortedSet<Entity> linkedEndpoints = new TreeSet<>();
-        for (var entry : confidenceMap.entrySet()) {
-            SamCodeEndpointTuple tuple = entry.getKey();
-            Confidence confidence = entry.getValue();
-            if (tuple.hasEndpoint(endpoint) && confidence.hasValue()) {
-                linkedEndpoints.add(tuple.getOtherEndpoint(endpoint));
+        IntList entries = getEntries(endpoint);
+        for (int i = 0; i < entries.size(); i++) {
+            int entry = entries.get(i);
+            if (!Double.isNaN(matrix.getValue(entry))) {
+                ArchitectureItem architectureEndpoint = getArchitectureEndpoint(entry);
+                linkedEndpoints.add(architectureEndpoint.equals(endpoint) ? getCodeEndpoint(entry) : architectureEndpoint);
             }
         }
         return linkedEndpoints;
@@ -102,23 +125,18 @@ public SortedSet<Entity> getLinkedEndpoints(Entity endpoint) {
      */
     public Set<SamCodeTraceLink> getTraceLinks() {
         Set<SamCodeTraceLink> traceLinks = new LinkedHashSet<>();
-        for (var entry : confidenceMap.entrySet()) {
-            Confidence confidence = entry.getValue();
-            if (confidence.hasValue()) {
-                SamCodeEndpointTuple endpointTuple = entry.getKey();
-                ArchitectureItem architectureEndpoint = endpointTuple.getArchitectureEndpoint();
-                CodeCompilationUnit codeEndpoint = endpointTuple.getCodeEndpoint();
-                traceLinks.add(new SamCodeTraceLink(architectureEndpoint, codeEndpoint));
+        for (int entry = 0; entry < matrix.size(); entry++) {
+            if (!Double.isNaN(matrix.getValue(entry))) {
+                traceLinks.add(new SamCodeTraceLink(getArchitectureEndpoint(entry), getCodeEndpoint(entry)));
             }
         }
         return traceLinks;
     }
 
     public boolean hasTraceLink(Entity endpoint) {
-        for (var entry : confidenceMap.entrySet()) {
-            EndpointTuple tuple = entry.getKey();
-            Confidence confidence = entry.getValue();
-            if (tuple.hasEndpoint(endpoint) && confidence.hasValue()) {
+        IntList entries = getEntries(endpoint);
+        for (int i = 0; i < entries.size(); i++) {
+            if (!Double.isNaN(matrix.getValue(entries.get(i)))) {
                 return true;
             }
         }
@@ -127,25 +145,26 @@ public boolean hasTraceLink(Entity endpoint) {
 
     public NodeResult getResultForEndpoint(Entity endpoint) {
         NodeResult result = new NodeResult();
-        for (var entry : confidenceMap.entrySet()) {
-            SamCodeEndpointTuple tuple = entry.getKey();
-            Confidence confidence = entry.getValue();
-            if (tuple.hasEndpoint(endpoint)) {
-                result.add(tuple, confidence);
-            }
+        IntList entries = getEntries(endpoint);
+        for (int i = 0; i < entries.size(); i++) {
+            int entry = entries.get(i);
+            result.put(getArchitectureEndpoint(entry), getCodeEndpoint(entry), matrix.getValue(entry));
         }
         return result;
     }
 
     public NodeResult filter(NodeResult resultToFilter) {
+        int[] rowsToFilter = resultToFilter.architectureEndpoints.mapIds(architectureEndpoints);
+        int[] columnsToFilter = resultToFilter.codeEndpoints.mapIds(codeEndpoints);
         NodeResult result = new NodeResult();
-        for (var entry : confidenceMap.entrySet()) {
-            SamCodeEndpointTuple tuple = entry.getKey();
-            Confidence confidence = entry.getValue();
-            if (resultToFilter.getConfidence(tuple).hasValue()) {
-                result.add(tuple, new Confidence());
+        for (int entry = 0; entry < matrix.size(); entry++) {
+            int rowToFilter = rowsToFilter[matrix.getRow(entry)];
+            int columnToFilter = columnsToFilter[matrix.getColumn(entry)];
+            int entryToFilter = rowToFilter < 0 || columnToFilter < 0 ? -1 : resultToFilter.matrix.find(rowToFilter, columnToFilter);
+            if (entryToFilter >= 0 && !Double.isNaN(resultToFilter.matrix.getValue(entryToFilter))) {
+                result.put(getArchitectureEndpoint(entry), getCodeEndpoint(entry), ConfidenceMatrix.NO_VALUE);
             } else {
-                result.add(tuple, confidence);
+                result.put(getArchitectureEndpoint(entry), getCodeEndpoint(entry), matrix.getValue(entry));
             }
         }
         return result;
@@ -159,10 +178,140 @@ public NodeResult filter(NodeResult resultToFilter) {
      * @param confidence    the confidence of the endpoint tuple
      */
     public void add(SamCodeEndpointTuple endpointTuple, Confidence confidence) {
-        confidenceMap.put(endpointTuple, confidence);
+        put(endpointTuple.getArchitectureEndpoint(), endpointTuple.getCodeEndpoint(), toValue(confidence));
     }
 
     public void addAll(NodeResult partialResult) {
-        confidenceMap.putAll(partialResult.confidenceMap);
+        int[] rows = new int[partialResult.architectureEndpoints.size()];
+        for (int row = 0; row < rows.length; row++) {
+            rows[row] = getOrAddRow(partialResult.architectureEndpoints.get(row));
+        }
+        int[] columns = new int[partialResult.codeEndpoints.size()];
+        for (int column = 0; column < columns.length; column++) {
+            columns[column] = getOrAddColumn(partialResult.codeEndpoints.get(column));
+        }
+        ConfidenceMatrix partialMatrix = partialResult.matrix;
+        for (int entry = 0; entry < partialMatrix.size(); entry++) {
+            matrix.put(rows[partialMatrix.getRow(entry)], columns[partialMatrix.getColumn(entry)], partialMatrix.getValue(entry));
+        }
+    }
+
+    private void put(ArchitectureItem architectureEndpoint, CodeCompilationUnit codeEndpoint, double value) {
+        matrix.put(getOrAddRow(architectureEndpoint), getOrAddColumn(codeEndpoint), value);
+    }
+
+    private int find(Entity architectureEndpoint, Entity codeEndpoint) {
+        int row = architectureEndpoints.getId(architectureEndpoint);
+        int column = codeEndpoints.getId(codeEndpoint);
+        if (row < 0 || column < 0) {
+            return -1;
+        }
+        return matrix.find(row, column);
+    }
+
+    /**
+     * Returns the entries of all endpoint tuples that contain the specified
+     * endpoint in insertion order.
+     */
+    private IntList getEntries(Entity endpoint) {
+        int row = architectureEndpoints.getId(endpoint);
+        int column = codeEndpoints.getId(endpoint);
+        if (column < 0) {
+            return row < 0 ? IntLists.immutable.empty() : matrix.getRowEntries(row);
+        }
+        if (row < 0) {
+            return matrix.getColumnEntries(column);
+        }
+        return merge(matrix.getRowEntries(row), matrix.getColumnEntries(column));
+    }
+
+    private static IntList merge(IntList first, IntList second) {
+        MutableIntList merged = IntLists.mutable.withInitialCapacity(first.size() + second.size());
+        int i = 0;
+        int j = 0;
+        while (i < first.size() || j < second.size()) {
+            if (j == second.size() || (i < first.size() && first.get(i) < second.get(j))) {
+                merged.add(first.get(i++));
+            } else if (i == first.size() || second.get(j) < first.get(i)) {
+                merged.add(second.get(j++));
+            } else {
+                merged.add(first.get(i++));
+                j++;
+            }
+        }
+        return merged;
+    }
+
+    private int getOrAddRow(ArchitectureItem architectureEndpoint) {
+        int row = architectureEndpoints.getId(architectureEndpoint);
+        if (row < 0) {
+            row = matrix.addRow();
+            architectureEndpoints.add(architectureEndpoint, row);
+        }
+        return row;
+    }
+
+    private int getOrAddColumn(CodeCompilationUnit codeEndpoint) {
+        int column = codeEndpoints.getId(codeEndpoint);
+        if (column < 0) {
+            column = matrix.addColumn();
+            codeEndpoints.add(codeEndpoint, column);
+        }
+        return column;
+    }
+
+    private ArchitectureItem getArchitectureEndpoint(int entry) {
+        return architectureEndpoints.get(matrix.getRow(entry));
+    }
+
+    private CodeCompilationUnit getCodeEndpoint(int entry) {
+        return codeEndpoints.get(matrix.getColumn(entry));
+    }
+
+    private static double toValue(Confidence confidence) {
+        return confidence.hasValue() ? confidence.getValue() : ConfidenceMatrix.NO_VALUE;
+    }
+
+    private static Confidence toConfidence(double value) {
+        return Double.isNaN(value) ? NO_CONFIDENCE : new Confidence(value);
+    }
+
+    /**
+     * Assigns consecutive ids to endpoints.
+     */
+    @Deterministic
+    private static final class EndpointIds<T extends Entity> {
+        private final Map<Entity, Integer> ids = new LinkedHashMap<>();
+        private final List<T> endpoints = new ArrayList<>();
+
+        int getId(Entity endpoint) {
+            Integer id = ids.get(endpoint);
+            return id == null ? -1 : id;
+        }
+
+        void add(T endpoint, int id) {
+            ids.put(endpoint, id);
+            endpoints.add(endpoint);
+        }
+
+        T get(int id) {
+            return endpoints.get(id);
+        }
+
+        int size() {
+            return endpoints.size();
+        }
+
+        /**
+         * Returns for every id of the other endpoints the id of the same endpoint
+         * in these endpoints or -1 if it is not contained.
+         */
+        int[] mapIds(EndpointIds<?> other) {
+            int[] mapped = new int[other.size()];
+            for (int id = 0; id < mapped.length; id++) {
+                mapped[id] = getId(other.get(id));
+            }
+            return mapped;
+        }
     }
 }
@@ -121,5 +121,23 @@ public ComputationResult compute(ArchitectureModel archModel, CodeModel codeMode
      */
     public abstract NodeResult calculateConfidences(ArchitectureModel archModel, CodeModel codeModel, ComputationResult result);
 
+    /**
+     * Calculates the same result as
+     * {@link #calculateConfidences(ArchitectureModel, CodeModel, ComputationResult)}
+     * but may split the calculation into fork/join tasks. By default, the
+     * calculation is not split.
+     *
+     * @param archModel the architecture model for which confidences will be
+     *                  calculated
+     * @param codeModel the code model for which confidences will be calculated
+     * @param result    the computation result that is used in the confidence
+     *                  calculation
+     * @return the calculated confidences for each endpoint tuple with endpoints in
+     *         the specified architecture and code models
+     */
+    public NodeResult calculateConfidencesInParallel(ArchitectureModel archModel, CodeModel codeModel, ComputationResult result) {
+        return calculateConfidences(archModel, codeModel, result);
+    }
+
     public abstract String getMethodName();
 }
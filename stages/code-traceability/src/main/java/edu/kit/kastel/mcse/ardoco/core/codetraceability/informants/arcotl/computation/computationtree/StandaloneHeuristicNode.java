@@ -34,6 +34,11 @@ public NodeResult calculateConfidences(ArchitectureModel archModel, CodeModel co
         return standaloneHeuristic.calculateConfidences(archModel, codeModel);
     }
 
+    @Override
+    public NodeResult calculateConfidencesInParallel(ArchitectureModel archModel, CodeModel codeModel, ComputationResult result) {
+        return standaloneHeuristic.calculateConfidencesInParallel(archModel, codeModel);
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(standaloneHeuristic);
@@ -1,6 +1,9 @@
 /* Licensed under MIT 2023. */
 package edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.functions.heuristics;
 
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -11,8 +14,8 @@
 import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.architecture.ArchitectureItem;
 import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.code.CodeCompilationUnit;
 import edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.computation.Confidence;
-import edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.computation.EndpointTupleRepo;
 import edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.computation.NodeResult;
+import edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.computation.SamCodeEndpointTuple;
 
 /**
  * A heuristic.
@@ -21,19 +24,37 @@ public abstract class Heuristic {
     protected static final Logger logger = LoggerFactory.getLogger(Heuristic.class);
 
     protected final NodeResult getNodeResult(ArchitectureModel archModel, CodeModel codeModel) {
+        List<ArchitectureItem> archEndpoints = archModel.getEndpoints();
+        return getNodeResult(archEndpoints, 0, archEndpoints.size(), codeModel.getEndpoints());
+    }
+
+    /**
+     * Calculates the same result as {@link #getNodeResult(ArchitectureModel, CodeModel)}, but splits the architecture endpoints into fork/join tasks. The
+     * tasks run in the pool of the calling thread or in the common pool.
+     *
+     * @param archModel the architecture model
+     * @param codeModel the code model
+     * @return the confidences of all endpoint tuples
+     */
+    protected final NodeResult getNodeResultInParallel(ArchitectureModel archModel, CodeModel codeModel) {
+        List<ArchitectureItem> archEndpoints = archModel.getEndpoints();
+        return new EndpointRangeTask(archEndpoints, 0, archEndpoints.size(), codeModel.getEndpoints()).invoke();
+    }
+
+    private NodeResult getNodeResult(List<ArchitectureItem> archEndpoints, int from, int to, List<? extends CodeCompilationUnit> codeEndpoints) {
         NodeResult confidences = new NodeResult();
-        EndpointTupleRepo endpointTupleRepo = new EndpointTupleRepo(archModel, codeModel);
-        for (var endpointTuple : endpointTupleRepo.getEndpointTuples()) {
-            ArchitectureItem archEndpoint = endpointTuple.getArchitectureEndpoint();
-            CodeCompilationUnit compUnit = endpointTuple.getCodeEndpoint();
-            Confidence confidence = new Confidence();
-            if (archEndpoint instanceof ArchitectureInterface archInterface) {
-                confidence = calculateConfidence(archInterface, compUnit);
-            }
-            if (archEndpoint instanceof ArchitectureComponent archComponent) {
-                confidence = calculateConfidence(archComponent, compUnit);
+        for (int i = from; i < to; i++) {
+            ArchitectureItem archEndpoint = archEndpoints.get(i);
+            for (CodeCompilationUnit compUnit : codeEndpoints) {
+                Confidence confidence = new Confidence();
+                if (archEndpoint instanceof ArchitectureInterface archInterface) {
+                    confidence = calculateConfidence(archInterface, compUnit);
+                }
+                if (archEndpoint instanceof ArchitectureComponent archComponent) {
+                    confidence = calculateConfidence(archComponent, compUnit);
+                }
+                confidences.add(new SamCodeEndpointTuple(archEndpoint, compUnit), confidence);
             }
-            confidences.add(endpointTuple, confidence);
         }
         return confidences;
     }
@@ -64,4 +85,37 @@ public boolean equals(Object obj) {
         }
         return (obj instanceof Heuristic);
     }
+
+    /**
+     * Calculates the confidences of a range of architecture endpoints by splitting the range in halves. The results are merged in the order of the
+     * endpoints, so that the result equals the sequential result.
+     */
+    private final class EndpointRangeTask extends RecursiveTask<NodeResult> {
+        private final transient List<ArchitectureItem> archEndpoints;
+        private final int from;
+        private final int to;
+        private final transient List<? extends CodeCompilationUnit> codeEndpoints;
+
+        private EndpointRangeTask(List<ArchitectureItem> archEndpoints, int from, int to, List<? extends CodeCompilationUnit> codeEndpoints) {
+            this.archEndpoints = archEndpoints;
+            this.from = from;
+            this.to = to;
+            this.codeEndpoints = codeEndpoints;
+        }
+
+        @Override
+        protected NodeResult compute() {
+            if (to - from <= 1) {
+                return getNodeResult(archEndpoints, from, to, codeEndpoints);
+            }
+            int middle = (from + to) >>> 1;
+            EndpointRangeTask first = new EndpointRangeTask(archEndpoints, from, middle, codeEndpoints);
+            EndpointRangeTask second = new EndpointRangeTask(archEndpoints, middle, to, codeEndpoints);
+            first.fork();
+            NodeResult secondResult = second.compute();
+            NodeResult result = first.join();
+            result.addAll(secondResult);
+            return result;
+        }
+    }
 }
@@ -2,11 +2,12 @@
 package edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.functions.heuristics;
 
 import java.util.List;
-import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
 import edu.kit.kastel.mcse.ardoco.core.api.models.Entity;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.ArchitectureModel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.CodeModel;
 import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.architecture.ArchitectureComponent;
 import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.architecture.ArchitectureInterface;
 import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.code.CodeCompilationUnit;
@@ -16,6 +17,13 @@
 
 public class PathResemblance extends StandaloneHeuristic {
 
+    private SortedSet<String> allPackageNames = new TreeSet<>();
+
+    @Override
+    protected void prepareCalculation(ArchitectureModel archModel, CodeModel codeModel) {
+        allPackageNames = getAllPackageNames(codeModel);
+    }
+
     @Override
     protected Confidence calculateConfidence(ArchitectureComponent archComponent, CodeCompilationUnit compUnit) {
         return calculatePathResemblance(archComponent, compUnit);
@@ -31,7 +39,6 @@ protected Confidence calculateConfidence(ArchitectureInterface archInterface, Co
 
     private Confidence calculatePathResemblance(Entity archEndpoint, CodeCompilationUnit compUnit) {
         List<String> codeNames = NameComparisonUtils.getProcessedSplit(compUnit.getPathElements());
-        Set<String> allPackageNames = getAllPackageNames();
         if (compUnit.hasParent()) {
             codeNames.removeAll(allPackageNames);
         }
@@ -42,8 +49,8 @@ private Confidence calculatePathResemblance(Entity archEndpoint, CodeCompilation
         return new Confidence(similarity);
     }
 
-    private SortedSet<String> getAllPackageNames() {
-        List<? extends CodePackage> packages = getCodeModel().getAllPackages();
+    private static SortedSet<String> getAllPackageNames(CodeModel codeModel) {
+        List<? extends CodePackage> packages = codeModel.getAllPackages();
         SortedSet<String> allPackageNames = new TreeSet<>();
         for (CodePackage codePackage : packages) {
             allPackageNames.add(codePackage.getName());
@@ -25,9 +25,36 @@ protected CodeModel getCodeModel() {
 
     public NodeResult calculateConfidences(ArchitectureModel archModel, CodeModel codeModel) {
         this.codeModel = codeModel;
+        prepareCalculation(archModel, codeModel);
         return getNodeResult(archModel, codeModel);
     }
 
+    /**
+     * Calculates the same result as {@link #calculateConfidences(ArchitectureModel, CodeModel)}, but calculates the confidences of the architecture
+     * endpoints in parallel.
+     *
+     * @param archModel the architecture model
+     * @param codeModel the code model
+     * @return the confidences of all endpoint tuples
+     */
+    public NodeResult calculateConfidencesInParallel(ArchitectureModel archModel, CodeModel codeModel) {
+        this.codeModel = codeModel;
+        prepareCalculation(archModel, codeModel);
+        return getNodeResultInParallel(archModel, codeModel);
+    }
+
+    /**
+     * Prepares the calculation of the confidences for the given models. It is called once per calculation before the confidences of the endpoint tuples
+     * are calculated, which may happen in parallel. Therefore, heuristics should collect everything they need from the models here instead of accessing
+     * the models for every endpoint tuple.
+     *
+     * @param archModel the architecture model
+     * @param codeModel the code model
+     */
+    protected void prepareCalculation(ArchitectureModel archModel, CodeModel codeModel) {
+        // nothing to prepare by default
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -0,0 +1,106 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.ArchitectureModel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.CodeModel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.architecture.ArchitectureComponent;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.architecture.ArchitectureInterface;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.architecture.ArchitectureItem;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.architecture.ArchitectureMethod;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.code.CodeCompilationUnit;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.code.CodeItemRepository;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.code.CodePackage;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.code.ProgrammingLanguage;
+import edu.kit.kastel.mcse.ardoco.core.api.models.tracelinks.SamCodeTraceLink;
+import edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.computation.Computation;
+
+class TraceLinkGeneratorTest {
+
+    private static final List<String> COMPONENTS = List.of("Persistence", "Auth", "WebUI", "Image Provider", "Recommender", "Registry", "Store Client");
+    private static final List<String> UNITS = List.of("Service", "Endpoint", "Manager", "Util", "StartupListener", "Provider");
+
+    @Test
+    void testConcurrentComputationEqualsSequentialComputation() throws JsonProcessingException {
+        ArchitectureModel architectureModel = createArchitectureModel();
+        ObjectMapper objectMapper = createObjectMapper();
+        String codeModelJson = objectMapper.writeValueAsString(createCodeModel());
+        List<SamCodeTraceLink> sequential = List.copyOf(new Computation(TraceLinkGenerator.getRoot(NameComparisonUtils.PreprocessingMethod.NONE),
+                architectureModel, objectMapper.readValue(codeModelJson, CodeModel.class)).getTraceLinks());
+        assertFalse(sequential.isEmpty());
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int i = 0; i < 5; i++) {
+                // a deserialized code model initializes its repository lazily, which must not happen concurrently
+                List<SamCodeTraceLink> concurrent = List.copyOf(new Computation(TraceLinkGenerator.getRoot(NameComparisonUtils.PreprocessingMethod.NONE),
+                        architectureModel, objectMapper.readValue(codeModelJson, CodeModel.class), pool).getTraceLinks());
+                assertEquals(sequential, concurrent);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static ArchitectureModel createArchitectureModel() {
+        List<ArchitectureItem> items = new ArrayList<>();
+        for (int i = 0; i < COMPONENTS.size(); i++) {
+            String name = COMPONENTS.get(i);
+            SortedSet<ArchitectureInterface> providedInterfaces = new TreeSet<>();
+            providedInterfaces.add(new ArchitectureInterface("I" + name.replace(" ", ""), "interface-" + i, new TreeSet<>(List.of(new ArchitectureMethod(
+                    "get" + name.replace(" ", ""))))));
+            items.addAll(providedInterfaces);
+            items.add(new ArchitectureComponent(name, "component-" + i, new TreeSet<>(), providedInterfaces, new TreeSet<>(), "BasicComponent"));
+        }
+        items.add(new ArchitectureInterface("Persistence", "interface-persistence", new TreeSet<>()));
+        return new ArchitectureModel(items);
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setVisibility(objectMapper.getSerializationConfig()
+                .getDefaultVisibilityChecker()
+                .withFieldVisibility(JsonAutoDetect.Visibility.ANY)
+                .withGetterVisibility(JsonAutoDetect.Visibility.NONE)
+                .withSetterVisibility(JsonAutoDetect.Visibility.NONE)
+                .withIsGetterVisibility(JsonAutoDetect.Visibility.NONE));
+        return objectMapper;
+    }
+
+    private static CodeModel createCodeModel() {
+        CodeItemRepository repository = new CodeItemRepository();
+        CodePackage root = new CodePackage(repository, "teastore");
+        for (String component : COMPONENTS) {
+            String packageName = component.replace(" ", "").toLowerCase(Locale.ROOT);
+            CodePackage codePackage = new CodePackage(repository, packageName);
+            codePackage.setParent(root);
+            root.addContent(codePackage);
+            CodePackage restPackage = new CodePackage(repository, "rest");
+            restPackage.setParent(codePackage);
+            codePackage.addContent(restPackage);
+            for (String unit : UNITS) {
+                CodePackage parent = unit.equals("Endpoint") ? restPackage : codePackage;
+                CodeCompilationUnit compilationUnit = new CodeCompilationUnit(repository, component.replace(" ", "") + unit, new TreeSet<>(), List.of(
+                        "teastore", packageName), "java", ProgrammingLanguage.JAVA);
+                compilationUnit.setParent(parent);
+                parent.addContent(compilationUnit);
+            }
+        }
+        return new CodeModel(repository, new TreeSet<>(List.of(root)));
+    }
+}
@@ -0,0 +1,186 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.computation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.junit.jupiter.api.Test;
+
+class ConfidenceMatrixTest {
+
+    @Test
+    void testSwitchesToDenseAtQuarterOccupancy() {
+        ConfidenceMatrix matrix = matrix(4, 4);
+        matrix.put(0, 0, 0.1);
+        matrix.put(1, 1, 0.2);
+        matrix.put(2, 2, 0.3);
+        assertFalse(matrix.isDense());
+
+        matrix.put(3, 3, 0.4);
+        assertTrue(matrix.isDense());
+        assertEntries(matrix, new double[][] { { 0.1, -1, -1, -1 }, { -1, 0.2, -1, -1 }, { -1, -1, 0.3, -1 }, { -1, -1, -1, 0.4 } });
+    }
+
+    @Test
+    void testSwitchesToSparseBelowEighthOccupancy() {
+        ConfidenceMatrix matrix = matrix(4, 4);
+        for (int i = 0; i < 4; i++) {
+            matrix.put(i, i, 0.5);
+        }
+        assertTrue(matrix.isDense());
+
+        // 4 entries stay dense up to 32 cells, i.e., 8 rows of 4 columns
+        for (int rows = 5; rows <= 8; rows++) {
+            matrix.addRow();
+            assertTrue(matrix.isDense(), "rows: " + rows);
+        }
+        matrix.addRow();
+        assertFalse(matrix.isDense());
+
+        matrix.addColumn();
+        assertFalse(matrix.isDense());
+        assertEquals(0, matrix.find(0, 0));
+        assertEquals(-1, matrix.find(8, 4));
+    }
+
+    @Test
+    void testDenseTableGrows() {
+        ConfidenceMatrix matrix = matrix(1, 1);
+        matrix.put(0, 0, 0.0);
+        assertTrue(matrix.isDense());
+
+        for (int i = 1; i <= 40; i++) {
+            int row = matrix.addRow();
+            int column = matrix.addColumn();
+            for (int j = 0; j <= i; j++) {
+                matrix.put(row, j, i / 100.0);
+                matrix.put(j, column, j / 100.0);
+            }
+            assertTrue(matrix.isDense(), "size: " + i);
+        }
+        assertEquals(41, matrix.getRows());
+        assertEquals(41, matrix.getColumns());
+        assertEquals(41 * 41, matrix.size());
+        for (int row = 0; row <= 40; row++) {
+            for (int column = 0; column <= 40; column++) {
+                int entry = matrix.find(row, column);
+                assertEquals(row, matrix.getRow(entry));
+                assertEquals(column, matrix.getColumn(entry));
+            }
+        }
+    }
+
+    @Test
+    void testNoValueIsDistinctFromMissingEntry() {
+        ConfidenceMatrix matrix = matrix(2, 2);
+        matrix.put(0, 1, ConfidenceMatrix.NO_VALUE);
+
+        int entry = matrix.find(0, 1);
+        assertEquals(0, entry);
+        assertTrue(Double.isNaN(matrix.getValue(entry)));
+        assertEquals(-1, matrix.find(1, 0));
+        assertEquals(1, matrix.size());
+
+        matrix.put(0, 1, 0.7);
+        assertEquals(0.7, matrix.getValue(matrix.find(0, 1)));
+        matrix.put(0, 1, ConfidenceMatrix.NO_VALUE);
+        assertTrue(Double.isNaN(matrix.getValue(matrix.find(0, 1))));
+        assertEquals(1, matrix.size());
+    }
+
+    @Test
+    void testEntriesKeepInsertionOrder() {
+        ConfidenceMatrix matrix = matrix(3, 3);
+        matrix.put(2, 1, 0.1);
+        matrix.put(0, 1, 0.2);
+        matrix.put(2, 0, 0.3);
+        matrix.put(2, 1, 0.4);
+
+        assertEquals(3, matrix.size());
+        assertEquals(0, matrix.find(2, 1));
+        assertEquals(0.4, matrix.getValue(0));
+        assertEquals(IntLists.immutable.of(0, 2), matrix.getRowEntries(2));
+        assertEquals(IntLists.immutable.of(0, 1), matrix.getColumnEntries(1));
+        assertEquals(IntLists.immutable.empty(), matrix.getRowEntries(1));
+    }
+
+    @Test
+    void testRandomOperationsInBothRepresentations() {
+        Random random = new Random(42);
+        ConfidenceMatrix matrix = new ConfidenceMatrix();
+        List<double[]> reference = new ArrayList<>();
+        boolean wasDense = false;
+        boolean wasSparse = false;
+
+        for (int step = 0; step < 5_000; step++) {
+            int operation = random.nextInt(20);
+            if (operation == 0 || matrix.getRows() == 0) {
+                matrix.addRow();
+            } else if (operation == 1 || matrix.getColumns() == 0) {
+                matrix.addColumn();
+            } else {
+                int row = random.nextInt(matrix.getRows());
+                int column = random.nextInt(matrix.getColumns());
+                double value = random.nextInt(4) == 0 ? ConfidenceMatrix.NO_VALUE : random.nextDouble();
+                matrix.put(row, column, value);
+                put(reference, row, column, value);
+            }
+            wasDense |= matrix.isDense();
+            wasSparse |= !matrix.isDense();
+        }
+
+        assertTrue(wasDense);
+        assertTrue(wasSparse);
+        assertEquals(reference.size(), matrix.size());
+        for (int entry = 0; entry < reference.size(); entry++) {
+            double[] expected = reference.get(entry);
+            assertEquals((int) expected[0], matrix.getRow(entry));
+            assertEquals((int) expected[1], matrix.getColumn(entry));
+            assertEquals(expected[2], matrix.getValue(entry));
+            assertEquals(entry, matrix.find((int) expected[0], (int) expected[1]));
+        }
+    }
+
+    private static void put(List<double[]> reference, int row, int column, double value) {
+        for (double[] entry : reference) {
+            if (entry[0] == row && entry[1] == column) {
+                entry[2] = value;
+                return;
+            }
+        }
+        reference.add(new double[] { row, column, value });
+    }
+
+    private static ConfidenceMatrix matrix(int rows, int columns) {
+        ConfidenceMatrix matrix = new ConfidenceMatrix();
+        for (int i = 0; i < rows; i++) {
+            matrix.addRow();
+        }
+        for (int i = 0; i < columns; i++) {
+            matrix.addColumn();
+        }
+        return matrix;
+    }
+
+    /**
+     * Asserts that the matrix contains exactly the given values, where -1 marks a cell without an entry.
+     */
+    private static void assertEntries(ConfidenceMatrix matrix, double[][] values) {
+        for (int row = 0; row < values.length; row++) {
+            for (int column = 0; column < values[row].length; column++) {
+                int entry = matrix.find(row, column);
+                if (values[row][column] < 0) {
+                    assertEquals(-1, entry);
+                } else {
+                    assertEquals(values[row][column], matrix.getValue(entry));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.computation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.models.Entity;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.architecture.ArchitectureComponent;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.architecture.ArchitectureItem;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.code.CodeCompilationUnit;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.code.CodeItemRepository;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.code.ProgrammingLanguage;
+import edu.kit.kastel.mcse.ardoco.core.api.models.tracelinks.SamCodeTraceLink;
+
+/**
+ * Compares {@link NodeResult} with a map-based reference that behaves like the former {@code LinkedHashMap} of endpoint tuples and confidences.
+ */
+class NodeResultTest {
+
+    private static final int ARCHITECTURE_ENDPOINTS = 6;
+    private static final int CODE_ENDPOINTS = 9;
+
+    private final List<ArchitectureItem> architectureEndpoints = new ArrayList<>();
+    private final List<CodeCompilationUnit> codeEndpoints = new ArrayList<>();
+
+    NodeResultTest() {
+        for (int i = 0; i < ARCHITECTURE_ENDPOINTS; i++) {
+            architectureEndpoints.add(new ArchitectureComponent("Component" + i, "component-" + i, new TreeSet<>(), new TreeSet<>(), new TreeSet<>(),
+                    "BasicComponent"));
+        }
+        CodeItemRepository repository = new CodeItemRepository();
+        for (int i = 0; i < CODE_ENDPOINTS; i++) {
+            codeEndpoints.add(new CodeCompilationUnit(repository, "Unit" + i, new TreeSet<>(), List.of("src", "unit" + i), "java", ProgrammingLanguage.JAVA));
+        }
+    }
+
+    @Test
+    void testMissingAndValuelessConfidences() {
+        NodeResult result = new NodeResult();
+        SamCodeEndpointTuple valueless = tuple(0, 0);
+        result.add(valueless, new Confidence());
+
+        assertEquals(new Confidence(), result.getConfidence(valueless));
+        assertNull(result.getConfidence(tuple(0, 1)));
+        assertEquals(new Confidence(), result.getBestConfidence(architectureEndpoints.get(0)));
+        assertEquals(List.of(), List.copyOf(result.getTraceLinks()));
+    }
+
+    @Test
+    void testUpdateKeepsPosition() {
+        NodeResult result = new NodeResult();
+        result.add(tuple(1, 0), new Confidence(0.5));
+        result.add(tuple(0, 0), new Confidence(0.6));
+        result.add(tuple(1, 0), new Confidence(0.7));
+
+        assertEquals(List.of(traceLink(1, 0), traceLink(0, 0)), List.copyOf(result.getTraceLinks()));
+        assertEquals(new Confidence(0.7), result.getConfidence(tuple(1, 0)));
+    }
+
+    @Test
+    void testRandomResultsEqualMapBasedResults() {
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            ReferenceResult firstReference = new ReferenceResult();
+            NodeResult first = new NodeResult();
+            fill(random, first, firstReference);
+            ReferenceResult secondReference = new ReferenceResult();
+            NodeResult second = new NodeResult();
+            fill(random, second, secondReference);
+
+            assertEqualResults(firstReference, first);
+            assertEqualResults(secondReference.filter(firstReference), second.filter(first));
+
+            for (Entity endpoint : endpoints()) {
+                assertEqualResults(firstReference.getResultForEndpoint(endpoint), first.getResultForEndpoint(endpoint));
+                Confidence best = firstReference.getBestConfidence(endpoint);
+                assertEquals(best, first.getBestConfidence(endpoint), endpoint.toString());
+                assertEqualResults(firstReference.getEndpointTuples(endpoint, best), first.getEndpointTuples(endpoint, best));
+                assertEqualResults(firstReference.getEndpointTuples(endpoint, new Confidence()), first.getEndpointTuples(endpoint, new Confidence()));
+                assertEquals(firstReference.getLinkedEndpoints(endpoint), first.getLinkedEndpoints(endpoint));
+                assertEquals(firstReference.hasTraceLink(endpoint), first.hasTraceLink(endpoint));
+            }
+
+            firstReference.addAll(secondReference);
+            first.addAll(second);
+            assertEqualResults(firstReference, first);
+        }
+    }
+
+    private void fill(Random random, NodeResult result, ReferenceResult reference) {
+        int tuples = random.nextInt(ARCHITECTURE_ENDPOINTS * CODE_ENDPOINTS + 1);
+        for (int i = 0; i < tuples; i++) {
+            SamCodeEndpointTuple tuple = tuple(random.nextInt(ARCHITECTURE_ENDPOINTS), random.nextInt(CODE_ENDPOINTS));
+            // few distinct values, so that several tuples share the best confidence
+            Confidence confidence = random.nextInt(3) == 0 ? new Confidence() : new Confidence(random.nextInt(5) / 4.0);
+            result.add(tuple, confidence);
+            reference.add(tuple, confidence);
+        }
+    }
+
+    private void assertEqualResults(ReferenceResult expected, NodeResult actual) {
+        assertEquals(List.copyOf(expected.getTraceLinks()), List.copyOf(actual.getTraceLinks()));
+        for (int architectureEndpoint = 0; architectureEndpoint < ARCHITECTURE_ENDPOINTS; architectureEndpoint++) {
+            for (int codeEndpoint = 0; codeEndpoint < CODE_ENDPOINTS; codeEndpoint++) {
+                SamCodeEndpointTuple tuple = tuple(architectureEndpoint, codeEndpoint);
+                assertEquals(expected.getConfidence(tuple), actual.getConfidence(tuple), tuple.toString());
+            }
+        }
+    }
+
+    private List<Entity> endpoints() {
+        List<Entity> endpoints = new ArrayList<>(architectureEndpoints);
+        endpoints.addAll(codeEndpoints);
+        return endpoints;
+    }
+
+    private SamCodeEndpointTuple tuple(int architectureEndpoint, int codeEndpoint) {
+        return new SamCodeEndpointTuple(architectureEndpoints.get(architectureEndpoint), codeEndpoints.get(codeEndpoint));
+    }
+
+    private SamCodeTraceLink traceLink(int architectureEndpoint, int codeEndpoint) {
+        return new SamCodeTraceLink(architectureEndpoints.get(architectureEndpoint), codeEndpoints.get(codeEndpoint));
+    }
+
+    /**
+     * The former implementation of {@link NodeResult}.
+     */
+    private static final class ReferenceResult {
+        private final Map<SamCodeEndpointTuple, Confidence> confidenceMap = new LinkedHashMap<>();
+
+        Confidence getConfidence(SamCodeEndpointTuple endpointTuple) {
+            return confidenceMap.get(endpointTuple);
+        }
+
+        Confidence getBestConfidence(Entity endpoint) {
+            Confidence max = new Confidence();
+            for (var entry : confidenceMap.entrySet()) {
+                if (entry.getKey().hasEndpoint(endpoint) && entry.getValue().compareTo(max) > 0) {
+                    max = entry.getValue();
+                }
+            }
+            return max;
+        }
+
+        ReferenceResult getEndpointTuples(Entity endpoint, Confidence confidence) {
+            ReferenceResult result = new ReferenceResult();
+            confidenceMap.forEach((tuple, otherConfidence) -> {
+                if (tuple.hasEndpoint(endpoint) && confidence.equals(otherConfidence)) {
+                    result.add(tuple, otherConfidence);
+                }
+            });
+            return result;
+        }
+
+        SortedSet<Entity> getLinkedEndpoints(Entity endpoint) {
+            SortedSet<Entity> linkedEndpoints = new TreeSet<>();
+            confidenceMap.forEach((tuple, confidence) -> {
+                if (tuple.hasEndpoint(endpoint) && confidence.hasValue()) {
+                    linkedEndpoints.add(tuple.getOtherEndpoint(endpoint));
+                }
+            });
+            return linkedEndpoints;
+        }
+
+        LinkedHashSet<SamCodeTraceLink> getTraceLinks() {
+            LinkedHashSet<SamCodeTraceLink> traceLinks = new LinkedHashSet<>();
+            confidenceMap.forEach((tuple, confidence) -> {
+                if (confidence.hasValue()) {
+                    traceLinks.add(new SamCodeTraceLink(tuple.getArchitectureEndpoint(), tuple.getCodeEndpoint()));
+                }
+            });
+            return traceLinks;
+        }
+
+        boolean hasTraceLink(Entity endpoint) {
+            return confidenceMap.entrySet().stream().anyMatch(entry -> entry.getKey().hasEndpoint(endpoint) && entry.getValue().hasValue());
+        }
+
+        ReferenceResult getResultForEndpoint(Entity endpoint) {
+            ReferenceResult result = new ReferenceResult();
+            confidenceMap.forEach((tuple, confidence) -> {
+                if (tuple.hasEndpoint(endpoint)) {
+                    result.add(tuple, confidence);
+                }
+            });
+            return result;
+        }
+
+        ReferenceResult filter(ReferenceResult resultToFilter) {
+            ReferenceResult result = new ReferenceResult();
+            confidenceMap.forEach((tuple, confidence) -> {
+                Confidence confidenceToFilter = resultToFilter.getConfidence(tuple);
+                result.add(tuple, confidenceToFilter != null && confidenceToFilter.hasValue() ? new Confidence() : confidence);
+            });
+            return result;
+        }
+
+        void add(SamCodeEndpointTuple endpointTuple, Confidence confidence) {
+            confidenceMap.put(endpointTuple, confidence);
+        }
+
+        void addAll(ReferenceResult partialResult) {
+            confidenceMap.putAll(partialResult.confidenceMap);
+        }
+    }
+}
@@ -3,13 +3,14 @@
 
 import java.util.SortedMap;
 
-import edu.kit.kastel.mcse.ardoco.core.api.models.LegacyModelExtractionState;
-import edu.kit.kastel.mcse.ardoco.core.api.models.ModelStates;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
 import edu.kit.kastel.mcse.ardoco.core.api.textextraction.MappingKind;
 import edu.kit.kastel.mcse.ardoco.core.api.textextraction.TextState;
 import edu.kit.kastel.mcse.ardoco.core.common.util.DataRepositoryHelper;
-import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils;
+import edu.kit.kastel.mcse.ardoco.core.common.util.ModelInstanceIndex;
 import edu.kit.kastel.mcse.ardoco.core.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Informant;
@@ -33,17 +34,20 @@ public void run() {
         var text = DataRepositoryHelper.getAnnotatedText(dataRepository);
         var textState = DataRepositoryHelper.getTextState(dataRepository);
         var modelStates = DataRepositoryHelper.getModelStatesData(dataRepository);
+        // the instances do not change during a run, so they are indexed once per model
+        MutableList<ModelInstanceIndex> instanceIndexes = Lists.mutable.empty();
+        for (var model : modelStates.modelIds()) {
+            instanceIndexes.add(new ModelInstanceIndex(modelStates.getModelExtractionState(model).getInstances()));
+        }
         for (var word : text.words()) {
-            exec(textState, modelStates, word);
+            exec(textState, instanceIndexes, word);
         }
     }
 
-    private void exec(TextState textState, ModelStates modelStates, Word word) {
-        for (var model : modelStates.modelIds()) {
-            var modelState = modelStates.getModelExtractionState(model);
-
-            searchForName(modelState, textState, word);
-            searchForType(modelState, textState, word);
+    private void exec(TextState textState, MutableList<ModelInstanceIndex> instanceIndexes, Word word) {
+        for (var instanceIndex : instanceIndexes) {
+            searchForName(instanceIndex, textState, word);
+            searchForType(instanceIndex, textState, word);
         }
     }
 
@@ -51,11 +55,11 @@ private void exec(TextState textState, ModelStates modelStates, Word word) {
      * This method checks whether a given node is a name of an instance given in the model extraction state. If it
      * appears to be a name this is stored in the text extraction state.
      */
-    private void searchForName(LegacyModelExtractionState modelState, TextState textState, Word word) {
+    private void searchForName(ModelInstanceIndex instanceIndex, TextState textState, Word word) {
         if (posTagIsUndesired(word) && !wordStartsWithCapitalLetter(word)) {
             return;
         }
-        var instanceNameIsSimilar = modelState.getInstances().anySatisfy(i -> SimilarityUtils.isWordSimilarToModelInstance(word, i));
+        var instanceNameIsSimilar = instanceIndex.isWordSimilarToAnyInstance(word);
         if (instanceNameIsSimilar) {
             textState.addNounMapping(word, MappingKind.NAME, this, probability);
         }
@@ -74,8 +78,8 @@ private boolean posTagIsUndesired(Word word) {
      * appears to be a type this is stored in the text extraction state. If multiple options are available the node
      * value is taken as reference.
      */
-    private void searchForType(LegacyModelExtractionState modelState, TextState textState, Word word) {
-        var instanceTypeIsSimilar = modelState.getInstances().anySatisfy(i -> SimilarityUtils.isWordSimilarToModelInstanceType(word, i));
+    private void searchForType(ModelInstanceIndex instanceIndex, TextState textState, Word word) {
+        var instanceTypeIsSimilar = instanceIndex.isWordSimilarToAnyInstanceType(word);
         if (instanceTypeIsSimilar) {
             textState.addNounMapping(word, MappingKind.TYPE, this, probability);
         }
@@ -9,6 +9,7 @@
 import edu.kit.kastel.mcse.ardoco.core.api.models.ModelInstance;
 import edu.kit.kastel.mcse.ardoco.core.api.recommendationgenerator.RecommendationState;
 import edu.kit.kastel.mcse.ardoco.core.common.util.DataRepositoryHelper;
+import edu.kit.kastel.mcse.ardoco.core.common.util.ModelInstanceIndex;
 import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils;
 import edu.kit.kastel.mcse.ardoco.core.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
@@ -60,9 +61,9 @@ private void findNamesOfModelInstancesInSupposedMappings(LegacyModelExtractionSt
 
     private void createLinksForEqualOrSimilarRecommendedInstances(LegacyModelExtractionState modelState, RecommendationState recommendationState,
             ConnectionState connectionState) {
+        var instanceIndex = new ModelInstanceIndex(modelState.getInstances());
         for (var recommendedInstance : recommendationState.getRecommendedInstances()) {
-            var sameInstances = modelState.getInstances()
-                    .select(instance -> SimilarityUtils.isRecommendedInstanceSimilarToModelInstance(recommendedInstance, instance));
+            var sameInstances = instanceIndex.getInstancesSimilarToRecommendedInstance(recommendedInstance);
             sameInstances.forEach(instance -> connectionState.addToLinks(recommendedInstance, instance, this, probability));
         }
     }
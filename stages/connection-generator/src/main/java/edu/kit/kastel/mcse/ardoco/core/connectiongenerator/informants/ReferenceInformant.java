@@ -6,13 +6,12 @@
 import org.eclipse.collections.api.list.ImmutableList;
 
 import edu.kit.kastel.mcse.ardoco.core.api.models.LegacyModelExtractionState;
-import edu.kit.kastel.mcse.ardoco.core.api.models.ModelInstance;
 import edu.kit.kastel.mcse.ardoco.core.api.recommendationgenerator.RecommendationState;
 import edu.kit.kastel.mcse.ardoco.core.api.textextraction.MappingKind;
 import edu.kit.kastel.mcse.ardoco.core.api.textextraction.NounMapping;
 import edu.kit.kastel.mcse.ardoco.core.api.textextraction.TextState;
 import edu.kit.kastel.mcse.ardoco.core.common.util.DataRepositoryHelper;
-import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils;
+import edu.kit.kastel.mcse.ardoco.core.common.util.ModelInstanceIndex;
 import edu.kit.kastel.mcse.ardoco.core.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Informant;
@@ -45,9 +44,9 @@ public void run() {
      */
     private void findRecommendedInstancesFromNounMappingsThatAreSimilarToInstances(LegacyModelExtractionState modelState,
             RecommendationState recommendationState, TextState textState) {
-        for (ModelInstance instance : modelState.getInstances()) {
-            var similarToInstanceMappings = getSimilarNounMappings(instance, textState);
-
+        var instanceIndex = new ModelInstanceIndex(modelState.getInstances());
+        var nameMappings = textState.getNounMappingsOfKind(MappingKind.NAME);
+        for (ImmutableList<NounMapping> similarToInstanceMappings : instanceIndex.getSimilarNounMappingsOfInstances(nameMappings)) {
             for (NounMapping similarNameMapping : similarToInstanceMappings) {
                 recommendationState.addRecommendedInstance(similarNameMapping.getReference(), this, probability, similarToInstanceMappings);
             }
@@ -55,11 +54,6 @@ private void findRecommendedInstancesFromNounMappingsThatAreSimilarToInstances(L
 
     }
 
-    private ImmutableList<NounMapping> getSimilarNounMappings(ModelInstance instance, TextState textState) {
-        return textState.getNounMappingsOfKind(MappingKind.NAME)
-                .select(nounMapping -> SimilarityUtils.isNounMappingSimilarToModelInstance(nounMapping, instance));
-    }
-
     @Override
     protected void delegateApplyConfigurationToInternalObjects(SortedMap<String, String> map) {
         // empty
@@ -3,10 +3,14 @@
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 import edu.kit.kastel.mcse.ardoco.core.api.models.ArchitectureModelType;
+import edu.kit.kastel.mcse.ardoco.core.api.models.ModelStates;
 import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.code.CodeItemRepository;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
 import edu.kit.kastel.mcse.ardoco.core.models.connectors.generators.Extractor;
@@ -16,13 +20,16 @@
 import edu.kit.kastel.mcse.ardoco.core.models.connectors.generators.code.AllLanguagesExtractor;
 import edu.kit.kastel.mcse.ardoco.core.models.connectors.generators.code.CodeExtractor;
 import edu.kit.kastel.mcse.ardoco.core.models.informants.ArCoTLModelProviderInformant;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.DataDependent;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Informant;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.PipelineAgent;
 
 /**
  * Agent that provides information from models.
  */
-public class ArCoTLModelProviderAgent extends PipelineAgent {
+public class ArCoTLModelProviderAgent extends PipelineAgent implements DataDependent {
+
+    private static final SortedSet<String> MODEL_STATES_DATA = Collections.unmodifiableSortedSet(new TreeSet<>(List.of(ModelStates.ID)));
 
     /**
      * Instantiates a new model provider agent.
@@ -71,4 +78,14 @@ public static ArCoTLModelProviderAgent get(File inputArchitectureModel, Architec
     protected void delegateApplyConfigurationToInternalObjects(SortedMap<String, String> additionalConfiguration) {
         // empty
     }
+
+    @Override
+    public SortedSet<String> getReadDataIdentifiers() {
+        return MODEL_STATES_DATA;
+    }
+
+    @Override
+    public SortedSet<String> getWrittenDataIdentifiers() {
+        return MODEL_STATES_DATA;
+    }
 }
@@ -8,6 +8,8 @@
 import edu.kit.kastel.mcse.ardoco.core.api.recommendationgenerator.RecommendationState;
 import edu.kit.kastel.mcse.ardoco.core.api.recommendationgenerator.RecommendedInstance;
 import edu.kit.kastel.mcse.ardoco.core.api.textextraction.NounMapping;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.common.util.CandidateVerification;
 import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils;
 import edu.kit.kastel.mcse.ardoco.core.data.AbstractState;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Claimant;
@@ -15,11 +17,28 @@
 /**
  * The recommendation state encapsulates all recommended instances and relations. These recommendations should be
  * contained by the model by their probability.
- *
+ * <p>
+ * The recommended instances are indexed by their names, types and noun mappings (see {@link RecommendedInstanceIndex}), so that adding and looking up
+ * recommended instances only compares the candidates of the index. The index is kept up to date by listening to changes of the recommended
+ * instances. If the {@link CandidateVerification} is enabled, each lookup is repeated on all recommended instances and an
+ * {@link IllegalStateException} is thrown if the results differ.
  */
+@Deterministic
 public class RecommendationStateImpl extends AbstractState implements RecommendationState {
 
     private transient MutableList<RecommendedInstance> recommendedInstances;
+    private final transient RecommendedInstanceIndex index = new RecommendedInstanceIndex();
+    private final transient RecommendedInstanceChangeListener indexListener = new RecommendedInstanceChangeListener() {
+        @Override
+        public void onNameOrTypeChange(RecommendedInstance recommendedInstance, String previousName, String previousType) {
+            index.changeNameOrType(recommendedInstance, previousName, previousType);
+        }
+
+        @Override
+        public void onMappingAdded(RecommendedInstance recommendedInstance, NounMapping nounMapping) {
+            index.addNounMapping(recommendedInstance, nounMapping);
+        }
+    };
 
     /**
      * Creates a new recommendation state.
@@ -74,12 +93,13 @@ public RecommendedInstance addRecommendedInstance(String name, String type, Clai
      * is contained it is extended. If an recommendedInstance with the same name can be found it is extended. Elsewhere
      * a new recommended instance is created.
      */
-    private void addRecommendedInstance(RecommendedInstance ri) {
-        if (recommendedInstances.contains(ri)) {
+    private void addRecommendedInstance(RecommendedInstanceImpl ri) {
+        // equal recommended instances have equal names, so they are contained in the recommended instances with the same name ignoring the case
+        var risWithExactName = getRecommendedInstancesWithNameIgnoringCase(ri.getName());
+        if (risWithExactName.contains(ri)) {
             return;
         }
 
-        var risWithExactName = recommendedInstances.select(r -> r.getName().equalsIgnoreCase(ri.getName())).toImmutable();
         var risWithExactNameAndType = risWithExactName.select(r -> r.getType().equalsIgnoreCase(ri.getType()));
 
         if (risWithExactNameAndType.isEmpty()) {
@@ -89,9 +109,9 @@ private void addRecommendedInstance(RecommendedInstance ri) {
         }
     }
 
-    private void processRecommendedInstancesWithNoExactNameAndType(RecommendedInstance ri, ImmutableList<RecommendedInstance> risWithExactName) {
+    private void processRecommendedInstancesWithNoExactNameAndType(RecommendedInstanceImpl ri, ImmutableList<RecommendedInstance> risWithExactName) {
         if (risWithExactName.isEmpty()) {
-            recommendedInstances.add(ri);
+            add(ri);
         } else {
             var added = false;
 
@@ -105,11 +125,26 @@ private void processRecommendedInstancesWithNoExactNameAndType(RecommendedInstan
             }
 
             if (!added && !ri.getType().isBlank()) {
-                recommendedInstances.add(ri);
+                add(ri);
             }
         }
     }
 
+    private void add(RecommendedInstanceImpl ri) {
+        recommendedInstances.add(ri);
+        index.add(ri);
+        ri.registerChangeListener(indexListener);
+    }
+
+    private ImmutableList<RecommendedInstance> getRecommendedInstancesWithNameIgnoringCase(String name) {
+        var result = index.getCaseInsensitiveNameCandidates(name).select(r -> r.getName().equalsIgnoreCase(name));
+        if (CandidateVerification.isEnabled()) {
+            var expected = recommendedInstances.select(r -> r.getName().equalsIgnoreCase(name)).toImmutable();
+            CandidateVerification.verify(expected, result, "recommended instance index", name);
+        }
+        return result;
+    }
+
     private static boolean recommendedInstancesHasEmptyType(RecommendedInstance ri, RecommendedInstance riWithExactName) {
         return riWithExactName.getType().isBlank() && !ri.getType().isBlank();
     }
@@ -122,7 +157,12 @@ private static boolean recommendedInstancesHasEmptyType(RecommendedInstance ri,
      */
     @Override
     public ImmutableList<RecommendedInstance> getRecommendedInstancesByTypeMapping(NounMapping mapping) {
-        return recommendedInstances.select(sinstance -> sinstance.getTypeMappings().contains(mapping)).toImmutable();
+        var result = index.getNounMappingCandidates(mapping).select(sinstance -> sinstance.getTypeMappings().contains(mapping));
+        if (CandidateVerification.isEnabled()) {
+            var expected = recommendedInstances.select(sinstance -> sinstance.getTypeMappings().contains(mapping)).toImmutable();
+            CandidateVerification.verify(expected, result, "recommended instance index", mapping);
+        }
+        return result;
     }
 
     /**
@@ -133,9 +173,15 @@ public ImmutableList<RecommendedInstance> getRecommendedInstancesByTypeMapping(N
      */
     @Override
     public ImmutableList<RecommendedInstance> getAnyRecommendedInstancesByMapping(NounMapping mapping) {
-        return recommendedInstances //
-                .select(sinstance -> sinstance.getTypeMappings().contains(mapping) || sinstance.getNameMappings().contains(mapping))
-                .toImmutable();
+        var result = index.getNounMappingCandidates(mapping)
+                .select(sinstance -> sinstance.getTypeMappings().contains(mapping) || sinstance.getNameMappings().contains(mapping));
+        if (CandidateVerification.isEnabled()) {
+            var expected = recommendedInstances //
+                    .select(sinstance -> sinstance.getTypeMappings().contains(mapping) || sinstance.getNameMappings().contains(mapping))
+                    .toImmutable();
+            CandidateVerification.verify(expected, result, "recommended instance index", mapping);
+        }
+        return result;
     }
 
     /**
@@ -146,7 +192,12 @@ public ImmutableList<RecommendedInstance> getAnyRecommendedInstancesByMapping(No
      */
     @Override
     public ImmutableList<RecommendedInstance> getRecommendedInstancesByName(String name) {
-        return recommendedInstances.select(ri -> ri.getName().toLowerCase().contentEquals(name.toLowerCase())).toImmutable();
+        var result = index.getLowerCaseNameCandidates(name).select(ri -> ri.getName().toLowerCase().contentEquals(name.toLowerCase()));
+        if (CandidateVerification.isEnabled()) {
+            var expected = recommendedInstances.select(ri -> ri.getName().toLowerCase().contentEquals(name.toLowerCase())).toImmutable();
+            CandidateVerification.verify(expected, result, "recommended instance index", name);
+        }
+        return result;
     }
 
     /**
@@ -157,14 +208,12 @@ public ImmutableList<RecommendedInstance> getRecommendedInstancesByName(String n
      */
     @Override
     public ImmutableList<RecommendedInstance> getRecommendedInstancesBySimilarName(String name) {
-        MutableList<RecommendedInstance> ris = Lists.mutable.empty();
-        for (RecommendedInstance ri : recommendedInstances) {
-            if (SimilarityUtils.areWordsSimilar(ri.getName(), name)) {
-                ris.add(ri);
-            }
+        var result = index.getSimilarNameCandidates(name).select(ri -> SimilarityUtils.areWordsSimilar(ri.getName(), name));
+        if (CandidateVerification.isEnabled()) {
+            var expected = recommendedInstances.select(ri -> SimilarityUtils.areWordsSimilar(ri.getName(), name)).toImmutable();
+            CandidateVerification.verify(expected, result, "recommended instance index", name);
         }
-
-        return ris.toImmutable();
+        return result;
     }
 
     /**
@@ -175,7 +224,12 @@ public ImmutableList<RecommendedInstance> getRecommendedInstancesBySimilarName(S
      */
     @Override
     public ImmutableList<RecommendedInstance> getRecommendedInstancesByType(String type) {
-        return recommendedInstances.select(ri -> ri.getType().toLowerCase().contentEquals(type.toLowerCase())).toImmutable();
+        var result = index.getLowerCaseTypeCandidates(type).select(ri -> ri.getType().toLowerCase().contentEquals(type.toLowerCase()));
+        if (CandidateVerification.isEnabled()) {
+            var expected = recommendedInstances.select(ri -> ri.getType().toLowerCase().contentEquals(type.toLowerCase())).toImmutable();
+            CandidateVerification.verify(expected, result, "recommended instance index", type);
+        }
+        return result;
     }
 
     /**
@@ -186,6 +240,11 @@ public ImmutableList<RecommendedInstance> getRecommendedInstancesByType(String t
      */
     @Override
     public ImmutableList<RecommendedInstance> getRecommendedInstancesBySimilarType(String type) {
-        return recommendedInstances.select(ri -> SimilarityUtils.areWordsSimilar(ri.getType(), type)).toImmutable();
+        var result = index.getSimilarTypeCandidates(type).select(ri -> SimilarityUtils.areWordsSimilar(ri.getType(), type));
+        if (CandidateVerification.isEnabled()) {
+            var expected = recommendedInstances.select(ri -> SimilarityUtils.areWordsSimilar(ri.getType(), type)).toImmutable();
+            CandidateVerification.verify(expected, result, "recommended instance index", type);
+        }
+        return result;
     }
 }
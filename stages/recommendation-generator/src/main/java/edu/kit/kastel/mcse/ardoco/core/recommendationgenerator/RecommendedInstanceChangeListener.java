@@ -0,0 +1,28 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.recommendationgenerator;
+
+import edu.kit.kastel.mcse.ardoco.core.api.recommendationgenerator.RecommendedInstance;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.NounMapping;
+
+/**
+ * Listener for changes of a {@link RecommendedInstanceImpl} that affect how it is found, e.g., by the indexes of a {@link RecommendationStateImpl}.
+ */
+interface RecommendedInstanceChangeListener {
+
+    /**
+     * Will be invoked after the name or the type of a recommended instance changed.
+     *
+     * @param recommendedInstance the changed recommended instance
+     * @param previousName        the name before the change
+     * @param previousType        the type before the change
+     */
+    void onNameOrTypeChange(RecommendedInstance recommendedInstance, String previousName, String previousType);
+
+    /**
+     * Will be invoked after a name or type mapping was added to a recommended instance.
+     *
+     * @param recommendedInstance the changed recommended instance
+     * @param nounMapping         the added noun mapping
+     */
+    void onMappingAdded(RecommendedInstance recommendedInstance, NounMapping nounMapping);
+}
@@ -43,6 +43,7 @@ public final class RecommendedInstanceImpl extends RecommendedInstance implement
     private Confidence internalConfidence;
     private final MutableList<NounMapping> typeMappings;
     private final MutableList<NounMapping> nameMappings;
+    private final MutableList<RecommendedInstanceChangeListener> changeListeners = Lists.mutable.empty();
 
     private RecommendedInstanceImpl(String name, String type) {
         super(name, UUID.randomUUID().toString());
@@ -67,6 +68,16 @@ public void onDelete(NounMapping deletedNounMapping, NounMapping replacement) {
         } else {
             throw new IllegalArgumentException("Try to delete an unknown noun mapping: " + deletedNounMapping);
         }
+        changeListeners.forEach(listener -> listener.onMappingAdded(this, replacement));
+    }
+
+    /**
+     * Registers a listener that is notified about changes of the name, the type and the mappings of this recommended instance.
+     *
+     * @param listener the listener
+     */
+    void registerChangeListener(RecommendedInstanceChangeListener listener) {
+        changeListeners.add(listener);
     }
 
     /**
@@ -175,6 +186,7 @@ public void addName(NounMapping nameMapping) {
             return;
         nameMappings.add(nameMapping);
         nameMapping.registerChangeListener(this);
+        changeListeners.forEach(listener -> listener.onMappingAdded(this, nameMapping));
     }
 
     /**
@@ -188,6 +200,7 @@ public void addType(NounMapping typeMapping) {
             return;
         typeMappings.add(typeMapping);
         typeMapping.registerChangeListener(this);
+        changeListeners.forEach(listener -> listener.onMappingAdded(this, typeMapping));
     }
 
     /**
@@ -217,7 +230,9 @@ public String getName() {
      */
     @Override
     public void setType(String type) {
+        var previousType = this.type;
         this.type = type;
+        changeListeners.forEach(listener -> listener.onNameOrTypeChange(this, name, previousType));
     }
 
     /**
@@ -227,7 +242,9 @@ public void setType(String type) {
      */
     @Override
     public void setName(String name) {
+        var previousName = this.name;
         this.name = name;
+        changeListeners.forEach(listener -> listener.onNameOrTypeChange(this, previousName, type));
     }
 
     @Override
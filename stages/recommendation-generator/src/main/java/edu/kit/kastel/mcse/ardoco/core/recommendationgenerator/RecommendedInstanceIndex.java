@@ -0,0 +1,149 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.recommendationgenerator;
+
+import java.util.IdentityHashMap;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.SortedMaps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+
+import edu.kit.kastel.mcse.ardoco.core.api.recommendationgenerator.RecommendedInstance;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.NounMapping;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.TermLengthIndex;
+
+/**
+ * Indexes the recommended instances of a {@link RecommendationStateImpl} by their names, types and noun mappings. The index only returns candidates
+ * that the state compares as before, so the keys only have to be equal for every pair the comparisons consider equal:
+ * <ul>
+ * <li>Names that are {@link String#equalsIgnoreCase(String) equal ignoring the case} have the same {@link #caseInsensitiveKey(String) case-insensitive
+ * key}.</li>
+ * <li>Names and types are also indexed by their lower case, as their lower cases can be equal even if their case-insensitive keys are not.</li>
+ * <li>Similar names and types are found with a {@link TermLengthIndex}.</li>
+ * <li>Noun mappings are identified by their identity. As the noun mappings of a recommended instance can be replaced, an instance stays a candidate
+ * for the noun mappings it contained before.</li>
+ * </ul>
+ * The candidates are returned in the order in which the recommended instances were added.
+ */
+@Deterministic
+final class RecommendedInstanceIndex {
+
+    private static final int SORTED_CANDIDATES_FRACTION = 8;
+
+    private final MutableList<RecommendedInstance> recommendedInstances = Lists.mutable.empty();
+    private final IdentityHashMap<RecommendedInstance, Integer> positions = new IdentityHashMap<>();
+    private final MutableSortedMap<String, MutableList<RecommendedInstance>> byCaseInsensitiveName = SortedMaps.mutable.empty();
+    private final MutableSortedMap<String, MutableList<RecommendedInstance>> byLowerCaseName = SortedMaps.mutable.empty();
+    private final MutableSortedMap<String, MutableList<RecommendedInstance>> byLowerCaseType = SortedMaps.mutable.empty();
+    private final TermLengthIndex<RecommendedInstance> similarNames = new TermLengthIndex<>();
+    private final TermLengthIndex<RecommendedInstance> similarTypes = new TermLengthIndex<>();
+    private final IdentityHashMap<NounMapping, MutableList<RecommendedInstance>> byNounMapping = new IdentityHashMap<>();
+
+    void add(RecommendedInstance recommendedInstance) {
+        positions.put(recommendedInstance, recommendedInstances.size());
+        recommendedInstances.add(recommendedInstance);
+        addNameAndType(recommendedInstance, recommendedInstance.getName(), recommendedInstance.getType());
+        recommendedInstance.getNameMappings().forEach(nounMapping -> addNounMapping(recommendedInstance, nounMapping));
+        recommendedInstance.getTypeMappings().forEach(nounMapping -> addNounMapping(recommendedInstance, nounMapping));
+    }
+
+    void changeNameOrType(RecommendedInstance recommendedInstance, String previousName, String previousType) {
+        remove(byCaseInsensitiveName, caseInsensitiveKey(previousName), recommendedInstance);
+        remove(byLowerCaseName, previousName.toLowerCase(), recommendedInstance);
+        remove(byLowerCaseType, previousType.toLowerCase(), recommendedInstance);
+        similarNames.remove(previousName, recommendedInstance);
+        similarTypes.remove(previousType, recommendedInstance);
+        addNameAndType(recommendedInstance, recommendedInstance.getName(), recommendedInstance.getType());
+    }
+
+    void addNounMapping(RecommendedInstance recommendedInstance, NounMapping nounMapping) {
+        byNounMapping.computeIfAbsent(nounMapping, key -> Lists.mutable.empty()).add(recommendedInstance);
+    }
+
+    ImmutableList<RecommendedInstance> getCaseInsensitiveNameCandidates(String name) {
+        return inInsertionOrder(byCaseInsensitiveName.get(caseInsensitiveKey(name)));
+    }
+
+    ImmutableList<RecommendedInstance> getLowerCaseNameCandidates(String name) {
+        return inInsertionOrder(byLowerCaseName.get(name.toLowerCase()));
+    }
+
+    ImmutableList<RecommendedInstance> getLowerCaseTypeCandidates(String type) {
+        return inInsertionOrder(byLowerCaseType.get(type.toLowerCase()));
+    }
+
+    ImmutableList<RecommendedInstance> getSimilarNameCandidates(String name) {
+        MutableList<RecommendedInstance> candidates = Lists.mutable.empty();
+        similarNames.collectCandidates(name, candidates);
+        return inInsertionOrder(candidates);
+    }
+
+    ImmutableList<RecommendedInstance> getSimilarTypeCandidates(String type) {
+        MutableList<RecommendedInstance> candidates = Lists.mutable.empty();
+        similarTypes.collectCandidates(type, candidates);
+        return inInsertionOrder(candidates);
+    }
+
+    ImmutableList<RecommendedInstance> getNounMappingCandidates(NounMapping nounMapping) {
+        return inInsertionOrder(byNounMapping.get(nounMapping));
+    }
+
+    /**
+     * Returns a key that is equal for all strings that are {@link String#equalsIgnoreCase(String) equal ignoring the case}. Like
+     * {@link String#equalsIgnoreCase(String)}, the key maps each character to the lower case of its upper case. In contrast to
+     * {@link String#toLowerCase()}, this never depends on the surrounding characters or the locale.
+     */
+    static String caseInsensitiveKey(String text) {
+        StringBuilder key = new StringBuilder(text.length());
+        for (int i = 0; i < text.length();) {
+            int codePoint = text.codePointAt(i);
+            key.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint)));
+            i += Character.charCount(codePoint);
+        }
+        return key.toString();
+    }
+
+    private void addNameAndType(RecommendedInstance recommendedInstance, String name, String type) {
+        byCaseInsensitiveName.getIfAbsentPut(caseInsensitiveKey(name), Lists.mutable::empty).add(recommendedInstance);
+        byLowerCaseName.getIfAbsentPut(name.toLowerCase(), Lists.mutable::empty).add(recommendedInstance);
+        byLowerCaseType.getIfAbsentPut(type.toLowerCase(), Lists.mutable::empty).add(recommendedInstance);
+        similarNames.add(name, recommendedInstance);
+        similarTypes.add(type, recommendedInstance);
+    }
+
+    private static void remove(MutableSortedMap<String, MutableList<RecommendedInstance>> index, String key, RecommendedInstance recommendedInstance) {
+        var recommendedInstances = index.get(key);
+        if (recommendedInstances == null) {
+            return;
+        }
+        int position = recommendedInstances.detectIndex(it -> it == recommendedInstance);
+        if (position >= 0) {
+            recommendedInstances.remove(position);
+        }
+        if (recommendedInstances.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private ImmutableList<RecommendedInstance> inInsertionOrder(MutableList<RecommendedInstance> candidates) {
+        if (candidates == null || candidates.isEmpty()) {
+            return Lists.immutable.empty();
+        }
+        if (candidates.size() > recommendedInstances.size() / SORTED_CANDIDATES_FRACTION) {
+            // the similarity candidates often cover a large part of the instances, so marking them is cheaper than sorting them
+            boolean[] isCandidate = new boolean[recommendedInstances.size()];
+            candidates.forEach(candidate -> isCandidate[positions.get(candidate)] = true);
+            return recommendedInstances.selectWithIndex((recommendedInstance, position) -> isCandidate[position]).toImmutable();
+        }
+        MutableList<RecommendedInstance> sortedCandidates = candidates.toSortedListBy(positions::get);
+        MutableList<RecommendedInstance> distinctCandidates = Lists.mutable.withInitialCapacity(sortedCandidates.size());
+        for (RecommendedInstance candidate : sortedCandidates) {
+            if (distinctCandidates.isEmpty() || distinctCandidates.getLast() != candidate) {
+                distinctCandidates.add(candidate);
+            }
+        }
+        return distinctCandidates.toImmutable();
+    }
+}
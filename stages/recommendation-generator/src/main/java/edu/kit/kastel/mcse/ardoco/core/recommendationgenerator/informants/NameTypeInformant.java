@@ -3,24 +3,30 @@
 
 import java.util.SortedMap;
 
-import edu.kit.kastel.mcse.ardoco.core.api.models.LegacyModelExtractionState;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.map.MutableMap;
+
 import edu.kit.kastel.mcse.ardoco.core.api.models.ModelStates;
 import edu.kit.kastel.mcse.ardoco.core.api.recommendationgenerator.RecommendationState;
 import edu.kit.kastel.mcse.ardoco.core.api.recommendationgenerator.RecommendationStates;
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
 import edu.kit.kastel.mcse.ardoco.core.api.textextraction.MappingKind;
 import edu.kit.kastel.mcse.ardoco.core.api.textextraction.TextState;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
 import edu.kit.kastel.mcse.ardoco.core.common.util.CommonUtilities;
 import edu.kit.kastel.mcse.ardoco.core.common.util.DataRepositoryHelper;
+import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarTypesDictionary;
 import edu.kit.kastel.mcse.ardoco.core.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Informant;
 
 /**
- * This analyzer searches for name type patterns. If these patterns occur recommendations are created.
+ * This analyzer searches for name type patterns. If these patterns occur recommendations are created. The similar types of the words are looked up
+ * in a {@link SimilarTypesDictionary} per model, which is shared by all patterns.
  *
  */
-
+@Deterministic
 public class NameTypeInformant extends Informant {
 
     @Configurable
@@ -41,20 +47,29 @@ public void run() {
         var modelStatesData = DataRepositoryHelper.getModelStatesData(dataRepository);
         var recommendationStates = DataRepositoryHelper.getRecommendationStates(dataRepository);
 
+        MutableMap<String, SimilarTypesDictionary> similarTypesDictionaries = Maps.mutable.empty();
+        for (var model : modelStatesData.modelIds()) {
+            similarTypesDictionaries.put(model, new SimilarTypesDictionary(modelStatesData.getModelExtractionState(model)));
+        }
         for (var word : text.words()) {
-            exec(textState, modelStatesData, recommendationStates, word);
+            exec(textState, modelStatesData, recommendationStates, similarTypesDictionaries, word);
         }
     }
 
-    private void exec(TextState textState, ModelStates modelStates, RecommendationStates recommendationStates, Word word) {
+    private void exec(TextState textState, ModelStates modelStates, RecommendationStates recommendationStates,
+            MutableMap<String, SimilarTypesDictionary> similarTypesDictionaries, Word word) {
         for (var model : modelStates.modelIds()) {
             var modelState = modelStates.getModelExtractionState(model);
             var recommendationState = recommendationStates.getRecommendationState(modelState.getMetamodel());
-
-            addRecommendedInstanceIfNameAfterType(textState, word, modelState, recommendationState);
-            addRecommendedInstanceIfNameBeforeType(textState, word, modelState, recommendationState);
-            addRecommendedInstanceIfNameOrTypeBeforeType(textState, word, modelState, recommendationState);
-            addRecommendedInstanceIfNameOrTypeAfterType(textState, word, modelState, recommendationState);
+            var similarTypes = similarTypesDictionaries.get(model).getSimilarTypes(word);
+            if (similarTypes.isEmpty()) {
+                continue;
+            }
+
+            addRecommendedInstanceIfNameAfterType(textState, word, similarTypes, recommendationState);
+            addRecommendedInstanceIfNameBeforeType(textState, word, similarTypes, recommendationState);
+            addRecommendedInstanceIfNameOrTypeBeforeType(textState, word, similarTypes, recommendationState);
+            addRecommendedInstanceIfNameOrTypeAfterType(textState, word, similarTypes, recommendationState);
         }
     }
 
@@ -64,15 +79,14 @@ private void exec(TextState textState, ModelStates modelStates, RecommendationSt
      *
      * @param textExtractionState text extraction state
      * @param word                the current word
+     * @param similarTypes        the types of the model that are similar to the current word
      */
-    private void addRecommendedInstanceIfNameBeforeType(TextState textExtractionState, Word word, LegacyModelExtractionState modelState,
+    private void addRecommendedInstanceIfNameBeforeType(TextState textExtractionState, Word word, ImmutableList<String> similarTypes,
             RecommendationState recommendationState) {
         if (textExtractionState == null || word == null) {
             return;
         }
 
-        var similarTypes = CommonUtilities.getSimilarTypes(word, modelState);
-
         if (!similarTypes.isEmpty()) {
             textExtractionState.addNounMapping(word, MappingKind.TYPE, this, probability);
 
@@ -89,21 +103,21 @@ private void addRecommendedInstanceIfNameBeforeType(TextState textExtractionStat
      *
      * @param textExtractionState text extraction state
      * @param word                the current word
+     * @param similarTypes        the types of the model that are similar to the current word
      */
-    private void addRecommendedInstanceIfNameAfterType(TextState textExtractionState, Word word, LegacyModelExtractionState modelState,
+    private void addRecommendedInstanceIfNameAfterType(TextState textExtractionState, Word word, ImmutableList<String> similarTypes,
             RecommendationState recommendationState) {
         if (textExtractionState == null || word == null) {
             return;
         }
 
-        var sameLemmaTypes = CommonUtilities.getSimilarTypes(word, modelState);
-        if (!sameLemmaTypes.isEmpty()) {
+        if (!similarTypes.isEmpty()) {
             textExtractionState.addNounMapping(word, MappingKind.TYPE, this, probability);
 
             var typeMappings = textExtractionState.getMappingsThatCouldBeOfKind(word, MappingKind.TYPE);
             var nameMappings = textExtractionState.getMappingsThatCouldBeOfKind(word.getNextWord(), MappingKind.NAME);
 
-            CommonUtilities.addRecommendedInstancesFromNounMappings(sameLemmaTypes, nameMappings, typeMappings, recommendationState, this, probability);
+            CommonUtilities.addRecommendedInstancesFromNounMappings(similarTypes, nameMappings, typeMappings, recommendationState, this, probability);
         }
     }
 
@@ -113,22 +127,21 @@ private void addRecommendedInstanceIfNameAfterType(TextState textExtractionState
      *
      * @param textExtractionState text extraction state
      * @param word                the current word
+     * @param similarTypes        the types of the model that are similar to the current word
      */
-    private void addRecommendedInstanceIfNameOrTypeBeforeType(TextState textExtractionState, Word word, LegacyModelExtractionState modelState,
+    private void addRecommendedInstanceIfNameOrTypeBeforeType(TextState textExtractionState, Word word, ImmutableList<String> similarTypes,
             RecommendationState recommendationState) {
         if (textExtractionState == null || word == null) {
             return;
         }
 
-        var sameLemmaTypes = CommonUtilities.getSimilarTypes(word, modelState);
-
-        if (!sameLemmaTypes.isEmpty()) {
+        if (!similarTypes.isEmpty()) {
             textExtractionState.addNounMapping(word, MappingKind.TYPE, this, probability);
 
             var typeMappings = textExtractionState.getMappingsThatCouldBeOfKind(word, MappingKind.TYPE);
             var nortMappings = textExtractionState.getMappingsThatCouldBeMultipleKinds(word.getPreWord(), MappingKind.NAME, MappingKind.TYPE);
 
-            CommonUtilities.addRecommendedInstancesFromNounMappings(sameLemmaTypes, nortMappings, typeMappings, recommendationState, this, probability);
+            CommonUtilities.addRecommendedInstancesFromNounMappings(similarTypes, nortMappings, typeMappings, recommendationState, this, probability);
         }
     }
 
@@ -138,21 +151,21 @@ private void addRecommendedInstanceIfNameOrTypeBeforeType(TextState textExtracti
      *
      * @param textExtractionState text extraction state
      * @param word                the current word
+     * @param similarTypes        the types of the model that are similar to the current word
      */
-    private void addRecommendedInstanceIfNameOrTypeAfterType(TextState textExtractionState, Word word, LegacyModelExtractionState modelState,
+    private void addRecommendedInstanceIfNameOrTypeAfterType(TextState textExtractionState, Word word, ImmutableList<String> similarTypes,
             RecommendationState recommendationState) {
         if (textExtractionState == null || word == null) {
             return;
         }
 
-        var sameLemmaTypes = CommonUtilities.getSimilarTypes(word, modelState);
-        if (!sameLemmaTypes.isEmpty()) {
+        if (!similarTypes.isEmpty()) {
             textExtractionState.addNounMapping(word, MappingKind.TYPE, this, probability);
 
             var typeMappings = textExtractionState.getMappingsThatCouldBeOfKind(word, MappingKind.TYPE);
             var nortMappings = textExtractionState.getMappingsThatCouldBeMultipleKinds(word.getNextWord(), MappingKind.NAME, MappingKind.TYPE);
 
-            CommonUtilities.addRecommendedInstancesFromNounMappings(sameLemmaTypes, nortMappings, typeMappings, recommendationState, this, probability);
+            CommonUtilities.addRecommendedInstancesFromNounMappings(similarTypes, nortMappings, typeMappings, recommendationState, this, probability);
         }
     }
 
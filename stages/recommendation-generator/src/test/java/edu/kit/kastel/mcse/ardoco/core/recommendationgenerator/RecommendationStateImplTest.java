@@ -0,0 +1,109 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.recommendationgenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.SortedMaps;
+import org.eclipse.collections.api.factory.SortedSets;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.recommendationgenerator.RecommendedInstance;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.NounMapping;
+import edu.kit.kastel.mcse.ardoco.core.common.util.CandidateVerification;
+import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Claimant;
+import edu.kit.kastel.mcse.ardoco.core.textextraction.NounMappingImpl;
+
+class RecommendationStateImplTest {
+
+    private static final Claimant CLAIMANT = new Claimant() {
+    };
+
+    private static final List<String> NAMES = List.of("Database", "database", "DataBase", "databases", "data base", "Store", "store", "ſtore", "ΟΣ",
+            "οσ", "ος", "İndex", "i̇ndex", "index", "", "media access");
+
+    private boolean previousCandidateVerification;
+
+    @BeforeEach
+    void enableCandidateVerification() {
+        previousCandidateVerification = CandidateVerification.isEnabled();
+        CandidateVerification.setEnabled(true);
+    }
+
+    @AfterEach
+    void restoreCandidateVerification() {
+        CandidateVerification.setEnabled(previousCandidateVerification);
+    }
+
+    @Test
+    void testLookupsEqualExhaustiveScan() {
+        RecommendationStateImpl state = new RecommendationStateImpl();
+        for (String name : NAMES) {
+            state.addRecommendedInstance(name, CLAIMANT, 0.5, Lists.immutable.with(nounMapping(name)));
+            state.addRecommendedInstance(name, "component", CLAIMANT, 0.5, Lists.immutable.with(nounMapping(name)), Lists.immutable.with(nounMapping(
+                    "component")));
+            state.addRecommendedInstance(name, name, CLAIMANT, 0.5, Lists.immutable.empty(), Lists.immutable.empty());
+        }
+        assertQueriesEqualExhaustiveScan(state);
+
+        assertTrue(state.getRecommendedInstancesByName("i̇ndex").anySatisfy(ri -> ri.getName().equals("İndex")));
+    }
+
+    @Test
+    void testIndexFollowsChangesOfRecommendedInstances() {
+        RecommendationStateImpl state = new RecommendationStateImpl();
+        NounMapping database = nounMapping("database");
+        NounMapping component = nounMapping("component");
+        RecommendedInstance recommendedInstance = state.addRecommendedInstance("database", "", CLAIMANT, 0.5, Lists.immutable.with(database), Lists.immutable
+                .empty());
+        state.addRecommendedInstance("store", "", CLAIMANT, 0.5, Lists.immutable.with(nounMapping("store")), Lists.immutable.empty());
+
+        recommendedInstance.setName("Storage");
+        recommendedInstance.setType("Component");
+        assertEquals(List.of(recommendedInstance), state.getRecommendedInstancesByName("storage").castToList());
+        assertTrue(state.getRecommendedInstancesByName("database").isEmpty());
+        assertEquals(List.of(recommendedInstance), state.getRecommendedInstancesByType("component").castToList());
+
+        recommendedInstance.addType(component);
+        assertEquals(List.of(recommendedInstance), state.getRecommendedInstancesByTypeMapping(component).castToList());
+
+        NounMapping replacement = nounMapping("database");
+        database.onDelete(replacement);
+        assertTrue(state.getAnyRecommendedInstancesByMapping(database).isEmpty());
+        assertEquals(List.of(recommendedInstance), state.getAnyRecommendedInstancesByMapping(replacement).castToList());
+
+        assertQueriesEqualExhaustiveScan(state);
+    }
+
+    private static void assertQueriesEqualExhaustiveScan(RecommendationStateImpl state) {
+        var recommendedInstances = state.getRecommendedInstances();
+        for (String name : NAMES) {
+            assertEquals(recommendedInstances.select(ri -> ri.getName().toLowerCase().contentEquals(name.toLowerCase())), state
+                    .getRecommendedInstancesByName(name), name);
+            assertEquals(recommendedInstances.select(ri -> SimilarityUtils.areWordsSimilar(ri.getName(), name)), state.getRecommendedInstancesBySimilarName(
+                    name), name);
+            assertEquals(recommendedInstances.select(ri -> ri.getType().toLowerCase().contentEquals(name.toLowerCase())), state
+                    .getRecommendedInstancesByType(name), name);
+            assertEquals(recommendedInstances.select(ri -> SimilarityUtils.areWordsSimilar(ri.getType(), name)), state.getRecommendedInstancesBySimilarType(
+                    name), name);
+        }
+        for (NounMapping nounMapping : recommendedInstances.flatCollect(ri -> ri.getNameMappings().newWithAll(ri.getTypeMappings()))) {
+            assertEquals(recommendedInstances.select(ri -> ri.getTypeMappings().contains(nounMapping)), state.getRecommendedInstancesByTypeMapping(
+                    nounMapping));
+            assertEquals(recommendedInstances.select(ri -> ri.getTypeMappings().contains(nounMapping) || ri.getNameMappings().contains(nounMapping)), state
+                    .getAnyRecommendedInstancesByMapping(nounMapping));
+        }
+    }
+
+    private static NounMapping nounMapping(String reference) {
+        ImmutableList<String> surfaceForms = Lists.immutable.with(reference);
+        return new NounMappingImpl(SortedSets.immutable.empty(), SortedMaps.immutable.empty(), Lists.immutable.empty(), surfaceForms, reference);
+    }
+}
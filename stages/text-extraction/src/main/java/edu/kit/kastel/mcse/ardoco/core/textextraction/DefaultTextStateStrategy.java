@@ -23,10 +23,11 @@ public TextStateImpl getTextState() {
     public NounMapping mergeNounMappings(NounMapping nounMapping, MutableList<NounMapping> nounMappingsToMerge, Claimant claimant) {
         for (NounMapping nounMappingToMerge : nounMappingsToMerge) {
 
-            if (!textState.getNounMappings().contains(nounMappingToMerge)) {
+            if (!textState.containsNounMapping(nounMappingToMerge)) {
 
                 final NounMapping finalNounMappingToMerge = nounMappingToMerge;
-                var fittingNounMappings = textState.getNounMappings().select(nm -> nm.getWords().containsAllIterable(finalNounMappingToMerge.getWords()));
+                var fittingNounMappings = textState.getNounMappingsByWord(finalNounMappingToMerge.getWords().getFirst())
+                        .select(nm -> nm.getWords().containsAllIterable(finalNounMappingToMerge.getWords()));
                 if (fittingNounMappings.isEmpty()) {
                     continue;
                 } else if (fittingNounMappings.size() == 1) {
@@ -36,7 +37,7 @@ public NounMapping mergeNounMappings(NounMapping nounMapping, MutableList<NounMa
                 }
             }
 
-            assert textState.getNounMappings().contains(nounMappingToMerge);
+            assert textState.containsNounMapping(nounMappingToMerge);
 
             var references = nounMapping.getReferenceWords().toList();
             references.addAllIterable(nounMappingToMerge.getReferenceWords());
@@ -46,7 +47,8 @@ public NounMapping mergeNounMappings(NounMapping nounMapping, MutableList<NounMa
             mergedWords.addAllIterable(nounMapping.getWords());
             mergedWords.addAllIterable(nounMappingToMerge.getWords());
 
-            var mergedNounMapping = textState.getNounMappings().select(nm -> nm.getWords().toSortedSet().equals(mergedWords));
+            var mergedNounMapping = textState.getNounMappingsByWord(nounMapping.getWords().getFirst())
+                    .select(nm -> nm.getWords().toSortedSet().equals(mergedWords));
 
             assert (mergedNounMapping.size() == 1);
 
@@ -16,7 +16,6 @@
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
 import edu.kit.kastel.mcse.ardoco.core.api.textextraction.MappingKind;
 import edu.kit.kastel.mcse.ardoco.core.api.textextraction.NounMapping;
-import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils;
 import edu.kit.kastel.mcse.ardoco.core.data.Confidence;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Claimant;
 
@@ -32,12 +31,11 @@ public NounMapping addOrExtendNounMapping(Word word, MappingKind kind, Claimant
         NounMapping disposableNounMapping = new NounMappingImpl(SortedSets.immutable.with(word), kind, claimant, probability, Lists.immutable.with(word),
                 surfaceForms);
 
-        for (var existingNounMapping : super.getTextState().getNounMappings()) {
-            if (SimilarityUtils.areNounMappingsSimilar(disposableNounMapping, existingNounMapping)) {
+        var existingNounMapping = super.getTextState().getFirstSimilarNounMapping(disposableNounMapping);
+        if (existingNounMapping != null) {
 
-                return mergeNounMappings(existingNounMapping, disposableNounMapping, disposableNounMapping.getReferenceWords(), disposableNounMapping
-                        .getReference(), disposableNounMapping.getKind(), claimant, disposableNounMapping.getProbability());
-            }
+            return mergeNounMappings(existingNounMapping, disposableNounMapping, disposableNounMapping.getReferenceWords(), disposableNounMapping
+                    .getReference(), disposableNounMapping.getKind(), claimant, disposableNounMapping.getProbability());
         }
         super.getTextState().addNounMappingAddPhraseMapping(disposableNounMapping);
 
@@ -28,7 +28,7 @@ public PhraseConcerningTextStateStrategy(TextStateImpl textState) {
 
     @Override
     public NounMapping addOrExtendNounMapping(Word word, MappingKind kind, Claimant claimant, double probability, ImmutableList<String> surfaceForms) {
-        var nounMappingsWithWord = super.getTextState().getNounMappings().select(nm -> nm.getWords().contains(word));
+        var nounMappingsWithWord = super.getTextState().getNounMappingsByWord(word);
 
         if (!nounMappingsWithWord.isEmpty()) {
             NounMapping nounMapping = nounMappingsWithWord.get(0);
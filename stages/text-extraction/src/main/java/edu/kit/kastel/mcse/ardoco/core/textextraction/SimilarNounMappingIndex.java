@@ -0,0 +1,184 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.textextraction;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.SortedMaps;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.NounMapping;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
+import edu.kit.kastel.mcse.ardoco.core.common.util.CommonUtilities;
+import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.LengthRange;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.WordSimUtils;
+
+/**
+ * Blocks the similarity comparisons of noun mappings. Instead of all noun mappings of a state, only the noun mappings that can be similar are
+ * returned as candidates, which are then compared as before.
+ * <p>
+ * The terms that {@link SimilarityUtils#areNounMappingsSimilar(NounMapping, NounMapping)} compares are indexed by their number of space-separated
+ * parts and their length. Terms with a different number of parts are never similar (see {@link WordSimUtils#countParts(String)}), and the configured
+ * measures state which lengths a similar term can have (see {@link WordSimUtils#getSimilarTermLengths(int)}). Both are necessary conditions of a
+ * similar pair, so the candidates contain every similar noun mapping. Terms whose length changes if they are lower-cased are candidates for every
+ * term with the same number of parts. The candidates keep the order of {@link TextStateImpl#getNounMappings()}.
+ */
+@Deterministic
+final class SimilarNounMappingIndex {
+
+    // references of all noun mappings
+    private final TermIndex references = new TermIndex();
+    // the first parts of the references and the texts of the reference words of noun mappings with a single reference word
+    private final TermIndex firstParts = new TermIndex();
+    private final TermIndex wordTexts = new TermIndex();
+
+    void add(NounMapping nounMapping) {
+        references.add(nounMapping.getReference(), nounMapping);
+        if (nounMapping.getReferenceWords().size() == 1) {
+            var firstPart = getFirstPart(nounMapping);
+            if (firstPart != null) {
+                firstParts.add(firstPart, nounMapping);
+            }
+            wordTexts.add(nounMapping.getReferenceWords().get(0).getText(), nounMapping);
+        }
+    }
+
+    void remove(NounMapping nounMapping) {
+        references.remove(nounMapping.getReference(), nounMapping);
+        if (nounMapping.getReferenceWords().size() == 1) {
+            var firstPart = getFirstPart(nounMapping);
+            if (firstPart != null) {
+                firstParts.remove(firstPart, nounMapping);
+            }
+            wordTexts.remove(nounMapping.getReferenceWords().get(0).getText(), nounMapping);
+        }
+    }
+
+    /**
+     * Returns the noun mappings that {@link SimilarityUtils#areNounMappingsSimilar(NounMapping, NounMapping)} can consider similar to the given noun
+     * mapping.
+     *
+     * @param nounMapping the noun mapping
+     * @return the candidates in the order of their creation
+     */
+    ImmutableList<NounMapping> getSimilarNounMappingCandidates(NounMapping nounMapping) {
+        MutableList<NounMapping> candidates = Lists.mutable.empty();
+        // single reference words are compared by their first parts and texts, otherwise the references are compared
+        references.collectCandidates(nounMapping.getReference(), candidates);
+        if (nounMapping.getReferenceWords().size() == 1) {
+            var firstPart = getFirstPart(nounMapping);
+            if (firstPart != null) {
+                firstParts.collectCandidates(firstPart, candidates);
+            }
+            wordTexts.collectCandidates(nounMapping.getReferenceWords().get(0).getText(), candidates);
+        }
+        return inCreationOrder(candidates);
+    }
+
+    /**
+     * Returns the noun mappings whose reference can be similar to the given reference.
+     *
+     * @param reference the reference
+     * @return the candidates in the order of their creation
+     */
+    ImmutableList<NounMapping> getSimilarReferenceCandidates(String reference) {
+        MutableList<NounMapping> candidates = Lists.mutable.empty();
+        references.collectCandidates(reference, candidates);
+        return inCreationOrder(candidates);
+    }
+
+    private static String getFirstPart(NounMapping nounMapping) {
+        var parts = CommonUtilities.splitAtSeparators(nounMapping.getReference());
+        return parts.isEmpty() ? null : parts.get(0);
+    }
+
+    private static ImmutableList<NounMapping> inCreationOrder(MutableList<NounMapping> candidates) {
+        candidates.sortThisByLong(TextStateImpl::creationTime);
+        MutableList<NounMapping> distinctCandidates = Lists.mutable.withInitialCapacity(candidates.size());
+        for (NounMapping candidate : candidates) {
+            if (distinctCandidates.isEmpty() || distinctCandidates.getLast() != candidate) {
+                distinctCandidates.add(candidate);
+            }
+        }
+        return distinctCandidates.toImmutable();
+    }
+
+    /**
+     * The noun mappings of terms by the number of parts of the terms.
+     */
+    @Deterministic
+    private static final class TermIndex {
+        private final MutableSortedMap<Integer, LengthBuckets> bucketsByParts = SortedMaps.mutable.empty();
+
+        private void add(String term, NounMapping nounMapping) {
+            bucketsByParts.getIfAbsentPut(WordSimUtils.countParts(term), LengthBuckets::new).add(term, nounMapping);
+        }
+
+        private void remove(String term, NounMapping nounMapping) {
+            int parts = WordSimUtils.countParts(term);
+            var buckets = bucketsByParts.get(parts);
+            if (buckets != null && buckets.remove(term, nounMapping) && buckets.isEmpty()) {
+                bucketsByParts.remove(parts);
+            }
+        }
+
+        private void collectCandidates(String term, MutableList<NounMapping> candidates) {
+            var buckets = bucketsByParts.get(WordSimUtils.countParts(term));
+            if (buckets != null) {
+                buckets.collectCandidates(term, candidates);
+            }
+        }
+    }
+
+    /**
+     * The noun mappings of terms with the same number of parts by the length of the terms.
+     */
+    @Deterministic
+    private static final class LengthBuckets {
+        private final MutableSortedMap<Integer, MutableList<NounMapping>> nounMappingsByLength = SortedMaps.mutable.empty();
+        private final MutableList<NounMapping> caseVariantLengthNounMappings = Lists.mutable.empty();
+
+        private void add(String term, NounMapping nounMapping) {
+            if (WordSimUtils.hasCaseInvariantLength(term)) {
+                TextStateImpl.insertOrdered(nounMappingsByLength.getIfAbsentPut(term.length(), Lists.mutable::empty), nounMapping);
+            } else {
+                TextStateImpl.insertOrdered(caseVariantLengthNounMappings, nounMapping);
+            }
+        }
+
+        private boolean remove(String term, NounMapping nounMapping) {
+            if (!WordSimUtils.hasCaseInvariantLength(term)) {
+                return TextStateImpl.removeOrdered(caseVariantLengthNounMappings, nounMapping);
+            }
+            var nounMappings = nounMappingsByLength.get(term.length());
+            if (nounMappings == null || !TextStateImpl.removeOrdered(nounMappings, nounMapping)) {
+                return false;
+            }
+            if (nounMappings.isEmpty()) {
+                nounMappingsByLength.remove(term.length());
+            }
+            return true;
+        }
+
+        private boolean isEmpty() {
+            return nounMappingsByLength.isEmpty() && caseVariantLengthNounMappings.isEmpty();
+        }
+
+        private void collectCandidates(String term, MutableList<NounMapping> candidates) {
+            candidates.addAll(caseVariantLengthNounMappings);
+            LengthRange lengths = WordSimUtils.hasCaseInvariantLength(term) ? WordSimUtils.getSimilarTermLengths(term.length()) : LengthRange.UNBOUNDED;
+            if (lengths.isEmpty()) {
+                return;
+            }
+            if (lengths.isUnbounded()) {
+                nounMappingsByLength.forEachValue(candidates::addAll);
+                return;
+            }
+            var subMap = lengths.max() == Integer.MAX_VALUE ?
+                    nounMappingsByLength.tailMap(lengths.min()) :
+                    nounMappingsByLength.subMap(lengths.min(), lengths.max() + 1);
+            subMap.forEachValue(candidates::addAll);
+        }
+    }
+}
@@ -4,6 +4,8 @@
 import static edu.kit.kastel.mcse.ardoco.core.common.AggregationFunctions.AVERAGE;
 
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.SortedMap;
 import java.util.function.Function;
 
@@ -22,10 +24,13 @@
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
 import edu.kit.kastel.mcse.ardoco.core.api.textextraction.MappingKind;
 import edu.kit.kastel.mcse.ardoco.core.api.textextraction.NounMapping;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.NounMappingChangeListener;
 import edu.kit.kastel.mcse.ardoco.core.api.textextraction.PhraseMapping;
 import edu.kit.kastel.mcse.ardoco.core.api.textextraction.TextState;
+import edu.kit.kastel.mcse.ardoco.core.architecture.Deterministic;
 import edu.kit.kastel.mcse.ardoco.core.common.AggregationFunctions;
 import edu.kit.kastel.mcse.ardoco.core.common.tuple.Pair;
+import edu.kit.kastel.mcse.ardoco.core.common.util.CandidateVerification;
 import edu.kit.kastel.mcse.ardoco.core.common.util.Comparators;
 import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils;
 import edu.kit.kastel.mcse.ardoco.core.data.AbstractState;
@@ -34,7 +39,17 @@
 
 /**
  * The Class TextState defines the basic implementation of a {@link TextState}.
+ * <p>
+ * The noun mappings are kept ordered by their creation time. Besides the ordered list, the state maintains indexes from
+ * words and phrases to the noun mappings that contain them and from phrases to the phrase mappings that contain them.
+ * Noun mappings are removed from the indexes by a {@link NounMappingChangeListener} that is registered when they are
+ * added. The results of all lookups keep the order of {@link #getNounMappings()} and {@link #getPhraseMappings()}.
+ * <p>
+ * Similarity lookups of noun mappings only compare the candidates of a {@link SimilarNounMappingIndex}. If the
+ * {@link CandidateVerification} is enabled, each lookup is repeated on all noun mappings and an {@link IllegalStateException} is
+ * thrown if the results differ.
  */
+@Deterministic
 public class TextStateImpl extends AbstractState implements TextState {
 
     private static final AggregationFunctions DEFAULT_AGGREGATOR = AVERAGE;
@@ -60,6 +75,13 @@ public class TextStateImpl extends AbstractState implements TextState {
     private MutableList<PhraseMapping> phraseMappings;
     private final transient TextStateStrategy strategy;
 
+    private final transient MutableSortedMap<Word, MutableList<NounMapping>> nounMappingsByWord = SortedMaps.mutable.empty();
+    private final transient Map<Phrase, MutableList<NounMapping>> nounMappingsByPhrase = new LinkedHashMap<>();
+    private final transient Map<Phrase, MutableList<PhraseMapping>> phraseMappingsByPhrase = new LinkedHashMap<>();
+    private final transient SimilarNounMappingIndex similarNounMappingIndex = new SimilarNounMappingIndex();
+    private final transient NounMappingChangeListener indexListener = (deletedNounMapping, replacement) -> removeNounMappingFromIndexes(
+            deletedNounMapping);
+
     /**
      * Creates a new name type relation state
      */
@@ -124,7 +146,10 @@ public ImmutableList<PhraseMapping> getPhraseMappingsByNounMapping(NounMapping n
         MutableList<PhraseMapping> result = Lists.mutable.empty();
 
         for (Phrase phrase : nounMapping.getPhrases()) {
-            result.addAll(phraseMappings.select(pm -> pm.getPhrases().contains(phrase)));
+            var phraseMappingsOfPhrase = phraseMappingsByPhrase.get(phrase);
+            if (phraseMappingsOfPhrase != null) {
+                result.addAll(phraseMappingsOfPhrase);
+            }
         }
 
         return result.toImmutable();
@@ -140,7 +165,15 @@ public PhraseMapping getPhraseMappingByNounMapping(NounMapping nounMapping) {
 
     @Override
     public ImmutableList<NounMapping> getNounMappingsByPhraseMapping(PhraseMapping phraseMapping) {
-        return getNounMappings().select(nm -> Comparators.collectionsEqualsAnyOrder(phraseMapping.getPhrases().castToList(), nm.getPhrases().castToList()));
+        var phrases = phraseMapping.getPhrases();
+        if (phrases.isEmpty()) {
+            return getNounMappings().select(nm -> nm.getPhrases().isEmpty());
+        }
+        var candidates = nounMappingsByPhrase.get(phrases.get(0));
+        if (candidates == null) {
+            return Lists.immutable.empty();
+        }
+        return candidates.select(nm -> Comparators.collectionsEqualsAnyOrder(phrases.castToList(), nm.getPhrases().castToList())).toImmutable();
     }
 
     /**
@@ -151,7 +184,7 @@ public ImmutableList<NounMapping> getNounMappingsByPhraseMapping(PhraseMapping p
      */
     @Override
     public ImmutableList<NounMapping> getNounMappingsOfKind(MappingKind kind) {
-        return getNounMappings().select(nounMappingIsOfKind(kind)).toImmutable();
+        return nounMappings.select(nounMappingIsOfKind(kind)).toImmutable();
     }
 
     @Override
@@ -210,22 +243,47 @@ public ImmutableList<NounMapping> getMappingsThatCouldBeMultipleKinds(Word word,
 
     @Override
     public ImmutableList<NounMapping> getNounMappingsByWord(Word word) {
-        return getNounMappings().select(nm -> nm.getWords().contains(word));
+        var nounMappingsOfWord = nounMappingsByWord.get(word);
+        return nounMappingsOfWord == null ? Lists.immutable.empty() : nounMappingsOfWord.toImmutable();
     }
 
     @Override
     public ImmutableList<NounMapping> getNounMappingsByWordAndKind(Word word, MappingKind kind) {
-        return getNounMappings().select(n -> n.getWords().contains(word)).select(nounMappingIsOfKind(kind)).toImmutable();
+        return getNounMappingsByWord(word).select(nounMappingIsOfKind(kind));
     }
 
     @Override
     public boolean isWordContainedByMappingKind(Word word, MappingKind kind) {
-        return getNounMappings().select(n -> n.getWords().contains(word)).anySatisfy(nounMappingIsOfKind(kind));
+        var nounMappingsOfWord = nounMappingsByWord.get(word);
+        return nounMappingsOfWord != null && nounMappingsOfWord.anySatisfy(nounMappingIsOfKind(kind));
     }
 
     @Override
     public ImmutableList<NounMapping> getNounMappingsWithSimilarReference(String reference) {
-        return getNounMappings().select(nm -> SimilarityUtils.areWordsSimilar(reference, nm.getReference())).toImmutable();
+        var result = similarNounMappingIndex.getSimilarReferenceCandidates(reference)
+                .select(nm -> SimilarityUtils.areWordsSimilar(reference, nm.getReference()));
+        if (CandidateVerification.isEnabled()) {
+            var expected = nounMappings.select(nm -> SimilarityUtils.areWordsSimilar(reference, nm.getReference())).toImmutable();
+            CandidateVerification.verify(expected, result, "similarity index", reference);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first noun mapping of this state that is similar to the given noun mapping according to
+     * {@link SimilarityUtils#areNounMappingsSimilar(NounMapping, NounMapping)}.
+     *
+     * @param nounMapping the noun mapping
+     * @return the first similar noun mapping in the order of {@link #getNounMappings()}, or {@code null} if there is none
+     */
+    NounMapping getFirstSimilarNounMapping(NounMapping nounMapping) {
+        var result = similarNounMappingIndex.getSimilarNounMappingCandidates(nounMapping)
+                .detect(existingNounMapping -> SimilarityUtils.areNounMappingsSimilar(nounMapping, existingNounMapping));
+        if (CandidateVerification.isEnabled()) {
+            var expected = nounMappings.detect(existingNounMapping -> SimilarityUtils.areNounMappingsSimilar(nounMapping, existingNounMapping));
+            CandidateVerification.verify(expected, result, "similarity index", nounMapping.getReference());
+        }
+        return result;
     }
 
     @Override
@@ -252,7 +310,7 @@ public PhraseMapping mergePhraseMappings(PhraseMapping phraseMapping, PhraseMapp
 
         PhraseMapping mergedPhraseMapping = new PhraseMappingImpl(mergedPhrases.toImmutable());
 
-        this.phraseMappings.add(mergedPhraseMapping);
+        addPhraseMappingToState(mergedPhraseMapping);
 
         this.removePhraseMappingFromState(phraseMapping, mergedPhraseMapping);
         this.removePhraseMappingFromState(similarPhraseMapping, mergedPhraseMapping);
@@ -261,7 +319,7 @@ public PhraseMapping mergePhraseMappings(PhraseMapping phraseMapping, PhraseMapp
 
     @Override
     public NounMapping getNounMappingByWord(Word word) {
-        var result = getNounMappings().select(nMapping -> nMapping.getWords().contains(word)).toImmutable();
+        var result = getNounMappingsByWord(word);
 
         assert (result.size() <= 1) : "A word should only contained by one noun mapping";
         if (result.isEmpty()) {
@@ -291,9 +349,11 @@ private Predicate<? super NounMapping> nounMappingIsOfKind(MappingKind mappingKi
 
     void addNounMappingAddPhraseMapping(NounMapping nounMapping) {
         addNounMappingToState(nounMapping);
-        if (phraseMappings.anySatisfy(it -> Comparators.collectionsIdentityAnyOrder(it.getPhrases(), nounMapping.getPhrases())))
+        var phrases = nounMapping.getPhrases();
+        var candidates = phrases.isEmpty() ? phraseMappings : phraseMappingsByPhrase.get(phrases.get(0));
+        if (candidates != null && candidates.anySatisfy(it -> Comparators.collectionsIdentityAnyOrder(it.getPhrases(), phrases)))
             return;
-        phraseMappings.add(new PhraseMappingImpl(nounMapping.getPhrases()));
+        addPhraseMappingToState(new PhraseMappingImpl(phrases));
     }
 
     @Override
@@ -303,7 +363,7 @@ public void removeNounMapping(NounMapping nounMapping, NounMapping replacement)
         var otherNounMappings = getNounMappingsThatBelongToTheSamePhraseMapping(nounMapping);
         if (!otherNounMappings.isEmpty()) {
             var phrases = nounMapping.getPhrases().select(p -> !otherNounMappings.flatCollect(NounMapping::getPhrases).contains(p));
-            phrases.forEach(phraseMapping::removePhrase);
+            phrases.forEach(phrase -> removePhraseFromPhraseMapping(phraseMapping, phrase));
         }
         removeNounMappingFromState(nounMapping, replacement);
     }
@@ -320,24 +380,141 @@ String calculateNounMappingReference(ImmutableList<Word> referenceWords) {
         return refBuilder.toString();
     }
 
+    /**
+     * Returns whether the given noun mapping is part of this state.
+     *
+     * @param nounMapping the noun mapping
+     * @return true, if the noun mapping is part of this state
+     */
+    boolean containsNounMapping(NounMapping nounMapping) {
+        return indexOf(nounMappings, nounMapping) >= 0;
+    }
+
     private void addNounMappingToState(NounMapping nounMapping) {
-        if (this.nounMappings.contains(nounMapping)) {
+        int index = indexOf(nounMappings, nounMapping);
+        if (index >= 0) {
             throw new IllegalArgumentException("Nounmapping was already in state");
         }
-        this.nounMappings.add(nounMapping);
-        this.nounMappings.sortThis(ORDER_NOUNMAPPING);
+        int insertionPoint = -index - 1;
+        if (insertionPoint < nounMappings.size() && creationTime(nounMappings.get(insertionPoint)) == creationTime(nounMapping)) {
+            throw new IllegalStateException("NounMappings are not equal but have same creation time");
+        }
+        this.nounMappings.add(insertionPoint, nounMapping);
+
+        for (Word word : nounMapping.getWords()) {
+            insertOrdered(nounMappingsByWord.getIfAbsentPut(word, Lists.mutable::empty), nounMapping);
+        }
+        for (Phrase phrase : nounMapping.getPhrases()) {
+            insertOrdered(nounMappingsByPhrase.computeIfAbsent(phrase, p -> Lists.mutable.empty()), nounMapping);
+        }
+        similarNounMappingIndex.add(nounMapping);
+        nounMapping.registerChangeListener(indexListener);
+    }
+
+    private void removeNounMappingFromIndexes(NounMapping nounMapping) {
+        if (!removeOrdered(nounMappings, nounMapping)) {
+            return;
+        }
+        similarNounMappingIndex.remove(nounMapping);
+        for (Word word : nounMapping.getWords()) {
+            var nounMappingsOfWord = nounMappingsByWord.get(word);
+            if (nounMappingsOfWord != null && removeOrdered(nounMappingsOfWord, nounMapping) && nounMappingsOfWord.isEmpty()) {
+                nounMappingsByWord.remove(word);
+            }
+        }
+        for (Phrase phrase : nounMapping.getPhrases()) {
+            var nounMappingsOfPhrase = nounMappingsByPhrase.get(phrase);
+            if (nounMappingsOfPhrase != null && removeOrdered(nounMappingsOfPhrase, nounMapping) && nounMappingsOfPhrase.isEmpty()) {
+                nounMappingsByPhrase.remove(phrase);
+            }
+        }
+    }
+
+    private void addPhraseMappingToState(PhraseMapping phraseMapping) {
+        this.phraseMappings.add(phraseMapping);
+        for (Phrase phrase : phraseMapping.getPhrases()) {
+            var phraseMappingsOfPhrase = phraseMappingsByPhrase.computeIfAbsent(phrase, p -> Lists.mutable.empty());
+            if (phraseMappingsOfPhrase.isEmpty() || phraseMappingsOfPhrase.getLast() != phraseMapping) {
+                phraseMappingsOfPhrase.add(phraseMapping);
+            }
+        }
+    }
+
+    private void removePhraseFromPhraseMapping(PhraseMapping phraseMapping, Phrase phrase) {
+        phraseMapping.removePhrase(phrase);
+        if (!phraseMapping.getPhrases().contains(phrase)) {
+            removeFromPhraseIndex(phraseMapping, phrase);
+        }
     }
 
     void removePhraseMappingFromState(PhraseMapping phraseMapping, PhraseMapping replacement) {
-        this.phraseMappings.remove(phraseMapping);
+        if (this.phraseMappings.remove(phraseMapping)) {
+            for (Phrase phrase : phraseMapping.getPhrases()) {
+                removeFromPhraseIndex(phraseMapping, phrase);
+            }
+        }
         phraseMapping.onDelete(replacement);
     }
 
+    private void removeFromPhraseIndex(PhraseMapping phraseMapping, Phrase phrase) {
+        var phraseMappingsOfPhrase = phraseMappingsByPhrase.get(phrase);
+        if (phraseMappingsOfPhrase != null && phraseMappingsOfPhrase.removeIf(pm -> pm == phraseMapping) && phraseMappingsOfPhrase.isEmpty()) {
+            phraseMappingsByPhrase.remove(phrase);
+        }
+    }
+
     void removeNounMappingFromState(NounMapping nounMapping, NounMapping replacement) {
-        this.nounMappings.remove(nounMapping);
         nounMapping.onDelete(replacement);
     }
 
+    /**
+     * Inserts the noun mapping into the list, which is ordered by {@link #ORDER_NOUNMAPPING}.
+     */
+    static void insertOrdered(MutableList<NounMapping> orderedNounMappings, NounMapping nounMapping) {
+        int index = indexOf(orderedNounMappings, nounMapping);
+        if (index < 0) {
+            orderedNounMappings.add(-index - 1, nounMapping);
+        }
+    }
+
+    static boolean removeOrdered(MutableList<NounMapping> orderedNounMappings, NounMapping nounMapping) {
+        int index = indexOf(orderedNounMappings, nounMapping);
+        if (index < 0) {
+            return false;
+        }
+        orderedNounMappings.remove(index);
+        return true;
+    }
+
+    /**
+     * Searches the noun mapping in a list that is ordered by {@link #ORDER_NOUNMAPPING}.
+     *
+     * @return the index of the noun mapping, if it is contained; otherwise, {@code (-(insertion point) - 1)}
+     */
+    private static int indexOf(MutableList<NounMapping> orderedNounMappings, NounMapping nounMapping) {
+        long creationTime = creationTime(nounMapping);
+        int low = 0;
+        int high = orderedNounMappings.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (creationTime(orderedNounMappings.get(middle)) < creationTime) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        for (int i = low; i < orderedNounMappings.size() && creationTime(orderedNounMappings.get(i)) == creationTime; i++) {
+            if (orderedNounMappings.get(i).equals(nounMapping)) {
+                return i;
+            }
+        }
+        return -(low + 1);
+    }
+
+    static long creationTime(NounMapping nounMapping) {
+        return ((NounMappingImpl) nounMapping).earliestCreationTime();
+    }
+
     @Override
     public String toString() {
         return "TextExtractionState [NounMappings: \n" + getNounMappings() + "\n PhraseMappings: \n" + getPhraseMappings() + "]";
@@ -15,6 +15,7 @@
 import edu.kit.kastel.mcse.ardoco.core.common.util.Comparators;
 import edu.kit.kastel.mcse.ardoco.core.common.util.DataRepositoryHelper;
 import edu.kit.kastel.mcse.ardoco.core.common.util.PhraseMappingAggregatorStrategy;
+import edu.kit.kastel.mcse.ardoco.core.common.util.PhraseVectorIndex;
 import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils;
 import edu.kit.kastel.mcse.ardoco.core.configuration.Configurable;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
@@ -38,10 +39,13 @@ public void run() {
     private void combineSimilarPhraseMappings(TextState textState) {
 
         ImmutableList<PhraseMapping> phraseMappings = textState.getPhraseMappings();
+        // only the phrase mappings that can be similar are compared, in the order of all phrase mappings
+        PhraseVectorIndex phraseVectorIndex = new PhraseVectorIndex(phraseMappings);
 
         for (PhraseMapping phraseMapping : phraseMappings) {
-            ImmutableList<PhraseMapping> similarPhraseMappings = phraseMappings.select(p -> SimilarityUtils.getPhraseMappingSimilarity(textState, phraseMapping,
-                    p, PhraseMappingAggregatorStrategy.MAX_SIMILARITY) > minCosineSimilarity);
+            ImmutableList<PhraseMapping> similarPhraseMappings = phraseVectorIndex.getSimilarPhraseMappingCandidates(phraseMapping, minCosineSimilarity)
+                    .select(p -> SimilarityUtils.getPhraseMappingSimilarity(textState, phraseMapping, p, PhraseMappingAggregatorStrategy.MAX_SIMILARITY,
+                            phraseVectorIndex) > minCosineSimilarity);
 
             // Remove the phrase mapping from the list of similar phrase mappings
             // Comment: This would break the logic but seems to be logical ..
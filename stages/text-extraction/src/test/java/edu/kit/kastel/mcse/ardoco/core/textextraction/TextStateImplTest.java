@@ -0,0 +1,273 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.textextraction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.SortedMaps;
+import org.eclipse.collections.api.factory.SortedSets;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.sorted.ImmutableSortedMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
+import edu.kit.kastel.mcse.ardoco.core.api.text.PhraseType;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Sentence;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.MappingKind;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.NounMapping;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.PhraseMapping;
+import edu.kit.kastel.mcse.ardoco.core.common.util.CandidateVerification;
+import edu.kit.kastel.mcse.ardoco.core.common.util.Comparators;
+import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Claimant;
+
+class TextStateImplTest implements Claimant {
+
+    private static final List<String> VOCABULARY = List.of("component", "Component", "components", "compnent", "server", "servers", "Server-Side",
+            "db", "DB", "dbs", "d", "cache", "caches", "Cache:Store", "store", "storage", "index", "İndex", "user", "users", "interface", "Interfaces",
+            "persistence", "persistance", "registry", "Registry.Service", "webui", "web", "ui");
+
+    private boolean candidateVerification;
+
+    @BeforeEach
+    void enableCandidateVerification() {
+        candidateVerification = CandidateVerification.isEnabled();
+        CandidateVerification.setEnabled(true);
+    }
+
+    @AfterEach
+    void restoreCandidateVerification() {
+        CandidateVerification.setEnabled(candidateVerification);
+    }
+
+    @Test
+    void testSimilarityLookupsEqualExhaustiveScan() {
+        TextStateImpl textState = new TextStateImpl();
+        Random random = new Random(42);
+
+        int position = 0;
+        for (int i = 0; i < 500; i++) {
+            if (random.nextInt(10) == 0) {
+                // noun mappings with several reference words are compared by their whole reference
+                Word first = new DummyWord(randomTerm(random), position++);
+                Word second = new DummyWord(randomTerm(random), position++);
+                var referenceWords = Lists.immutable.with(first, second);
+                textState.addNounMapping(SortedSets.immutable.with(first, second), MappingKind.NAME, this, 0.5, referenceWords, Lists.immutable.with(first
+                        .getText(), second.getText()), first.getText() + " " + second.getText());
+            } else {
+                // the candidate verification fails if the index misses the noun mapping that the new word is merged into
+                textState.addNounMapping(new DummyWord(randomTerm(random), position++), random.nextBoolean() ? MappingKind.NAME : MappingKind.TYPE, this,
+                        0.5);
+            }
+
+            String reference = random.nextInt(5) == 0 ? randomTerm(random) + " " + randomTerm(random) : randomTerm(random);
+            var expected = textState.getNounMappings().select(nm -> SimilarityUtils.areWordsSimilar(reference, nm.getReference()));
+            assertEquals(expected, textState.getNounMappingsWithSimilarReference(reference), reference);
+        }
+
+        assertTrue(textState.getNounMappings().size() < position);
+    }
+
+    @Test
+    void testIndexedLookupsEqualFullScan() {
+        TextStateImpl textState = new TextStateImpl();
+        Random random = new Random(42);
+        List<Word> words = new ArrayList<>();
+        List<Phrase> phrases = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            phrases.add(new DummyPhrase());
+        }
+
+        int merges = 0;
+        int removals = 0;
+        for (int step = 0; step < 400; step++) {
+            var nounMappings = textState.getNounMappings();
+            int operation = random.nextInt(10);
+            if (operation == 0 && nounMappings.size() >= 2) {
+                NounMapping first = nounMappings.get(random.nextInt(nounMappings.size()));
+                NounMapping second = nounMappings.get(random.nextInt(nounMappings.size()));
+                if (first != second) {
+                    textState.mergeNounMappings(first, second, this);
+                    merges++;
+                }
+            } else if (operation == 1 && !nounMappings.isEmpty()) {
+                textState.removeNounMapping(nounMappings.get(random.nextInt(nounMappings.size())), null);
+                removals++;
+            } else if (operation == 2 && textState.getPhraseMappings().size() >= 2) {
+                var phraseMappings = textState.getPhraseMappings();
+                PhraseMapping first = phraseMappings.get(random.nextInt(phraseMappings.size()));
+                PhraseMapping second = phraseMappings.get(random.nextInt(phraseMappings.size()));
+                if (first != second) {
+                    textState.mergePhraseMappings(first, second);
+                }
+            } else {
+                // similar words are merged into existing noun mappings by the strategy
+                Word word = new DummyWord(VOCABULARY.get(random.nextInt(VOCABULARY.size())), words.size(), phrases.get(random.nextInt(phrases.size())));
+                words.add(word);
+                textState.addNounMapping(word, random.nextBoolean() ? MappingKind.NAME : MappingKind.TYPE, this, 0.5);
+            }
+            assertIndexesEqualFullScan(textState, words);
+        }
+
+        assertTrue(merges > 0);
+        assertTrue(removals > 0);
+    }
+
+    private static String randomTerm(Random random) {
+        String term = VOCABULARY.get(random.nextInt(VOCABULARY.size()));
+        if (random.nextInt(4) == 0) {
+            int index = random.nextInt(term.length());
+            term = term.substring(0, index) + (char) ('a' + random.nextInt(26)) + term.substring(index + 1);
+        }
+        return term;
+    }
+
+    private static void assertIndexesEqualFullScan(TextStateImpl textState, List<Word> words) {
+        var nounMappings = textState.getNounMappings();
+        var phraseMappings = textState.getPhraseMappings();
+        for (Word word : words) {
+            var expected = nounMappings.select(nm -> nm.getWords().contains(word));
+            assertEquals(expected, textState.getNounMappingsByWord(word), word.getText());
+            for (MappingKind kind : MappingKind.values()) {
+                assertEquals(expected.select(nm -> nm.getKind() == kind), textState.getNounMappingsByWordAndKind(word, kind));
+                assertEquals(expected.anySatisfy(nm -> nm.getKind() == kind), textState.isWordContainedByMappingKind(word, kind));
+            }
+        }
+        for (PhraseMapping phraseMapping : phraseMappings) {
+            var expected = nounMappings.select(nm -> Comparators.collectionsEqualsAnyOrder(phraseMapping.getPhrases().castToList(), nm.getPhrases()
+                    .castToList()));
+            assertEquals(expected, textState.getNounMappingsByPhraseMapping(phraseMapping));
+        }
+        for (NounMapping nounMapping : nounMappings) {
+            MutableList<PhraseMapping> expected = Lists.mutable.empty();
+            for (Phrase phrase : nounMapping.getPhrases()) {
+                expected.addAll(phraseMappings.select(pm -> pm.getPhrases().contains(phrase)).castToList());
+            }
+            assertEquals(expected, textState.getPhraseMappingsByNounMapping(nounMapping), nounMapping.getReference());
+        }
+    }
+
+    private static final class DummyWord implements Word {
+        private final String text;
+        private final int position;
+        private final Phrase phrase;
+
+        private DummyWord(String text, int position) {
+            this(text, position, new DummyPhrase());
+        }
+
+        private DummyWord(String text, int position, Phrase phrase) {
+            this.text = text;
+            this.position = position;
+            this.phrase = phrase;
+        }
+
+        @Override
+        public int getSentenceNo() {
+            return 0;
+        }
+
+        @Override
+        public Sentence getSentence() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public POSTag getPosTag() {
+            return POSTag.NOUN;
+        }
+
+        @Override
+        public Word getPreWord() {
+            return null;
+        }
+
+        @Override
+        public Word getNextWord() {
+            return null;
+        }
+
+        @Override
+        public int getPosition() {
+            return position;
+        }
+
+        @Override
+        public String getLemma() {
+            return text.toLowerCase();
+        }
+
+        @Override
+        public ImmutableList<Word> getOutgoingDependencyWordsWithType(DependencyTag dependencyTag) {
+            return Lists.immutable.empty();
+        }
+
+        @Override
+        public ImmutableList<Word> getIncomingDependencyWordsWithType(DependencyTag dependencyTag) {
+            return Lists.immutable.empty();
+        }
+
+        @Override
+        public Phrase getPhrase() {
+            return phrase;
+        }
+    }
+
+    private static final class DummyPhrase implements Phrase {
+        @Override
+        public int getSentenceNo() {
+            return 0;
+        }
+
+        @Override
+        public String getText() {
+            return "";
+        }
+
+        @Override
+        public PhraseType getPhraseType() {
+            return PhraseType.NP;
+        }
+
+        @Override
+        public ImmutableList<Word> getContainedWords() {
+            return Lists.immutable.empty();
+        }
+
+        @Override
+        public ImmutableList<Phrase> getSubPhrases() {
+            return Lists.immutable.empty();
+        }
+
+        @Override
+        public boolean isSuperPhraseOf(Phrase other) {
+            return false;
+        }
+
+        @Override
+        public boolean isSubPhraseOf(Phrase other) {
+            return false;
+        }
+
+        @Override
+        public ImmutableSortedMap<Word, Integer> getPhraseVector() {
+            return SortedMaps.immutable.empty();
+        }
+    }
+}
@@ -1,15 +1,24 @@
 /* Licensed under MIT 2023. */
 package edu.kit.kastel.mcse.ardoco.core.text.providers;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
+import edu.kit.kastel.mcse.ardoco.core.api.InputTextData;
+import edu.kit.kastel.mcse.ardoco.core.api.PreprocessingData;
 import edu.kit.kastel.mcse.ardoco.core.api.text.NlpInformant;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
+import edu.kit.kastel.mcse.ardoco.core.pipeline.DataDependent;
 import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.PipelineAgent;
 import edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.CoreNLPProvider;
 
-public class TextPreprocessingAgent extends PipelineAgent {
+public class TextPreprocessingAgent extends PipelineAgent implements DataDependent {
+
+    private static final SortedSet<String> READ_DATA = Collections.unmodifiableSortedSet(new TreeSet<>(List.of(InputTextData.ID, PreprocessingData.ID)));
+    private static final SortedSet<String> WRITTEN_DATA = Collections.unmodifiableSortedSet(new TreeSet<>(List.of(PreprocessingData.ID)));
 
     /**
      * Instantiates a new initial text agent.
@@ -32,4 +41,14 @@ public static TextPreprocessingAgent get(SortedMap<String, String> additionalCon
         textProvider.applyConfiguration(additionalConfigs);
         return textProvider;
     }
+
+    @Override
+    public SortedSet<String> getReadDataIdentifiers() {
+        return READ_DATA;
+    }
+
+    @Override
+    public SortedSet<String> getWrittenDataIdentifiers() {
+        return WRITTEN_DATA;
+    }
 }
@@ -8,7 +8,9 @@
 import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
 import edu.kit.kastel.mcse.ardoco.core.common.util.DataRepositoryHelper;
 import edu.kit.kastel.mcse.ardoco.core.data.DataRepository;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.config.ConfigManager;
 import edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.textprocessor.TextProcessor;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.textprocessor.TextProcessorLocal;
 
 public class CoreNLPProvider extends NlpInformant {
 
@@ -23,6 +25,9 @@ private CoreNLPProvider() {
     public CoreNLPProvider(DataRepository data) {
         super(CoreNLPProvider.class.getSimpleName(), data);
         annotatedText = null;
+        if (ConfigManager.INSTANCE.isCorenlpWarmUp()) {
+            TextProcessorLocal.getEngine().warmUpAsync();
+        }
     }
 
     @Override
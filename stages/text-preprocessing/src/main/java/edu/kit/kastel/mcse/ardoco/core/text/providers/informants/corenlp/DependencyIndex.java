@@ -0,0 +1,187 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.primitive.IntLists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.stanford.nlp.ling.CoreLabel;
+import edu.stanford.nlp.semgraph.SemanticGraph;
+import edu.stanford.nlp.trees.TypedDependency;
+
+/**
+ * The typed dependencies of a sentence in compressed sparse rows. For each dependency tag that occurs in the sentence, the outgoing and incoming
+ * dependencies of the words of the sentence are stored as offsets into an array of the indices of the related words. Thus, the related words of a
+ * word are found in O(degree).
+ * <p>
+ * A dependency belongs to each word of the sentence whose token begins at the position of its governor (outgoing) or dependent (incoming). The
+ * index of the related word is derived from the difference of the token indices, as the words of a text are numbered consecutively.
+ */
+final class DependencyIndex {
+
+    private static final DependencyTag[] DEPENDENCY_TAGS = DependencyTag.values();
+
+    private final TextImpl text;
+    private final int firstWordIndex;
+    // by dependency tag ordinal, null if the tag does not occur in the sentence
+    private final int[][] outgoingOffsets;
+    private final int[][] outgoingWords;
+    private final int[][] incomingOffsets;
+    private final int[][] incomingWords;
+
+    /**
+     * Creates the index of the given dependency parse.
+     *
+     * @param text           the text that contains the sentence
+     * @param firstWordIndex the index of the first word of the sentence in the text
+     * @param tokens         the tokens of the sentence
+     * @param dependencies   the dependency parse of the sentence
+     */
+    DependencyIndex(TextImpl text, int firstWordIndex, List<CoreLabel> tokens, SemanticGraph dependencies) {
+        this.text = text;
+        this.firstWordIndex = firstWordIndex;
+
+        int[] beginPositions = new int[tokens.size()];
+        for (int i = 0; i < beginPositions.length; i++) {
+            beginPositions[i] = tokens.get(i).beginPosition();
+        }
+        // the sentence words by their begin positions
+        Integer[] wordsByBegin = new Integer[tokens.size()];
+        for (int i = 0; i < wordsByBegin.length; i++) {
+            wordsByBegin[i] = i;
+        }
+        Arrays.sort(wordsByBegin, (a, b) -> Integer.compare(beginPositions[a], beginPositions[b]));
+
+        EdgeLists outgoing = new EdgeLists();
+        EdgeLists incoming = new EdgeLists();
+        for (TypedDependency typedDependency : dependencies.typedDependencies()) {
+            DependencyTag dependencyTag = getDependencyTag(typedDependency.reln().getShortName());
+            if (dependencyTag == null) {
+                continue;
+            }
+            CoreLabel governor = typedDependency.gov().backingLabel();
+            CoreLabel dependent = typedDependency.dep().backingLabel();
+            int tag = dependencyTag.ordinal();
+            forEachWordBeginningAt(governor.beginPosition(), beginPositions, wordsByBegin, word -> outgoing.add(tag, word, dependent.index() - governor
+                    .index() + firstWordIndex + word));
+            forEachWordBeginningAt(dependent.beginPosition(), beginPositions, wordsByBegin, word -> incoming.add(tag, word, governor.index() - dependent
+                    .index() + firstWordIndex + word));
+        }
+
+        this.outgoingOffsets = new int[DEPENDENCY_TAGS.length][];
+        this.outgoingWords = new int[DEPENDENCY_TAGS.length][];
+        this.incomingOffsets = new int[DEPENDENCY_TAGS.length][];
+        this.incomingWords = new int[DEPENDENCY_TAGS.length][];
+        outgoing.compress(tokens.size(), outgoingOffsets, outgoingWords);
+        incoming.compress(tokens.size(), incomingOffsets, incomingWords);
+    }
+
+    /**
+     * Returns the words that the given word governs with dependencies of the given type.
+     *
+     * @param wordIndex     the index of the word in the text
+     * @param dependencyTag the type of the dependencies
+     * @return the dependent words in the order of the dependency parse
+     */
+    ImmutableList<Word> getOutgoingDependencyWords(int wordIndex, DependencyTag dependencyTag) {
+        return getWords(wordIndex, outgoingOffsets[dependencyTag.ordinal()], outgoingWords[dependencyTag.ordinal()]);
+    }
+
+    /**
+     * Returns the words that govern the given word with dependencies of the given type.
+     *
+     * @param wordIndex     the index of the word in the text
+     * @param dependencyTag the type of the dependencies
+     * @return the governing words in the order of the dependency parse
+     */
+    ImmutableList<Word> getIncomingDependencyWords(int wordIndex, DependencyTag dependencyTag) {
+        return getWords(wordIndex, incomingOffsets[dependencyTag.ordinal()], incomingWords[dependencyTag.ordinal()]);
+    }
+
+    private ImmutableList<Word> getWords(int wordIndex, int[] offsets, int[] words) {
+        if (offsets == null) {
+            return Lists.immutable.empty();
+        }
+        int word = wordIndex - firstWordIndex;
+        MutableList<Word> result = Lists.mutable.withInitialCapacity(offsets[word + 1] - offsets[word]);
+        for (int i = offsets[word]; i < offsets[word + 1]; i++) {
+            result.add(text.getWord(words[i]));
+        }
+        return result.toImmutable();
+    }
+
+    private static DependencyTag getDependencyTag(String relation) {
+        for (DependencyTag dependencyTag : DEPENDENCY_TAGS) {
+            if (dependencyTag.name().equalsIgnoreCase(relation)) {
+                return dependencyTag;
+            }
+        }
+        return null;
+    }
+
+    private static void forEachWordBeginningAt(int beginPosition, int[] beginPositions, Integer[] wordsByBegin, IntConsumer action) {
+        int low = 0;
+        int high = wordsByBegin.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (beginPositions[wordsByBegin[middle]] < beginPosition) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        for (int i = low; i < wordsByBegin.length && beginPositions[wordsByBegin[i]] == beginPosition; i++) {
+            action.accept(wordsByBegin[i]);
+        }
+    }
+
+    /**
+     * The dependencies of a sentence as lists of (word, related word) pairs by dependency tag.
+     */
+    private static final class EdgeLists {
+        private final MutableIntList[] words = new MutableIntList[DEPENDENCY_TAGS.length];
+        private final MutableIntList[] relatedWords = new MutableIntList[DEPENDENCY_TAGS.length];
+
+        private void add(int tag, int word, int relatedWord) {
+            if (words[tag] == null) {
+                words[tag] = IntLists.mutable.empty();
+                relatedWords[tag] = IntLists.mutable.empty();
+            }
+            words[tag].add(word);
+            relatedWords[tag].add(relatedWord);
+        }
+
+        /**
+         * Sorts the pairs of each tag stably by word and stores them as offsets and related words.
+         */
+        private void compress(int wordCount, int[][] offsets, int[][] compressedWords) {
+            for (int tag = 0; tag < words.length; tag++) {
+                if (words[tag] == null) {
+                    continue;
+                }
+                int[] tagOffsets = new int[wordCount + 1];
+                for (int i = 0; i < words[tag].size(); i++) {
+                    tagOffsets[words[tag].get(i) + 1]++;
+                }
+                for (int word = 0; word < wordCount; word++) {
+                    tagOffsets[word + 1] += tagOffsets[word];
+                }
+                int[] next = Arrays.copyOf(tagOffsets, wordCount);
+                int[] tagWords = new int[words[tag].size()];
+                for (int i = 0; i < words[tag].size(); i++) {
+                    tagWords[next[words[tag].get(i)]++] = relatedWords[tag].get(i);
+                }
+                offsets[tag] = tagOffsets;
+                compressedWords[tag] = tagWords;
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@
 package edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp;
 
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 
 import org.eclipse.collections.api.factory.Lists;
@@ -24,14 +25,23 @@ class SentenceImpl implements Sentence {
     private ImmutableList<Word> words = Lists.immutable.empty();
     private ImmutableList<Phrase> phrases = Lists.immutable.empty();
 
+    // the deepest phrase of each word of the sentence
+    private Phrase[] leafPhrases;
+
     private final TextImpl parent;
     private final CoreSentence coreSentence;
     private final int sentenceNumber;
+    private final int firstWordIndex;
+    private final DependencyIndex dependencyIndex;
 
-    public SentenceImpl(CoreSentence coreSentence, int sentenceNumber, TextImpl parent) {
+    public SentenceImpl(CoreSentence coreSentence, int sentenceNumber, int firstWordIndex, TextImpl parent) {
         this.coreSentence = coreSentence;
         this.sentenceNumber = sentenceNumber;
+        this.firstWordIndex = firstWordIndex;
         this.parent = parent;
+
+        SemanticGraph dependencies = coreSentence.dependencyParse();
+        this.dependencyIndex = dependencies == null ? null : new DependencyIndex(parent, firstWordIndex, coreSentence.tokens(), dependencies);
     }
 
     @Override
@@ -42,7 +52,7 @@ public int getSentenceNumber() {
     @Override
     public ImmutableList<Word> getWords() {
         if (words.isEmpty()) {
-            this.words = parent.words().select(w -> w.getSentenceNo() == sentenceNumber).toImmutable();
+            this.words = parent.words().subList(firstWordIndex, firstWordIndex + coreSentence.tokens().size());
         }
         return words;
     }
@@ -65,11 +75,50 @@ public ImmutableList<Phrase> getPhrases() {
                 }
             }
             phrases = newPhrases.toImmutable();
+            leafPhrases = findLeafPhrases(phrases);
         }
 
         return phrases;
     }
 
+    /**
+     * Returns the deepest phrase that contains the given word of this sentence.
+     *
+     * @param word the word
+     * @return the deepest phrase of the word
+     * @throws NoSuchElementException if no phrase contains the word
+     */
+    Phrase getLeafPhrase(Word word) {
+        getPhrases();
+        int index = word.getPosition() - firstWordIndex;
+        Phrase leafPhrase = index < 0 || index >= leafPhrases.length ? null : leafPhrases[index];
+        if (leafPhrase == null) {
+            throw new NoSuchElementException("No phrase contains " + word.getText());
+        }
+        return leafPhrase;
+    }
+
+    /**
+     * The phrases are ordered like the constituency parse, i.e., a phrase precedes its sub-phrases. Thus, the last phrase that contains a word is its
+     * deepest phrase.
+     */
+    private Phrase[] findLeafPhrases(ImmutableList<Phrase> sentencePhrases) {
+        Phrase[] result = new Phrase[coreSentence.tokens().size()];
+        for (Phrase phrase : sentencePhrases) {
+            for (Word word : phrase.getContainedWords()) {
+                int index = word.getPosition() - firstWordIndex;
+                if (index >= 0 && index < result.length) {
+                    result[index] = phrase;
+                }
+            }
+        }
+        return result;
+    }
+
+    DependencyIndex getDependencyIndex() {
+        return Objects.requireNonNull(dependencyIndex, "The sentence has no dependency parse");
+    }
+
     protected List<Word> getWordsForPhrase(Tree phrase) {
         List<Word> phraseWords = Lists.mutable.empty();
         var coreLabels = phrase.taggedLabeledYield();
@@ -1,9 +1,6 @@
 /* Licensed under MIT 2022-2023. */
 package edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp;
 
-import java.util.SortedMap;
-import java.util.TreeMap;
-
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
@@ -18,7 +15,6 @@ public class TextImpl implements Text {
     final CoreDocument coreDocument;
     private ImmutableList<Sentence> sentences = Lists.immutable.empty();
     private ImmutableList<Word> words = Lists.immutable.empty();
-    private final SortedMap<Integer, Word> wordsIndex = new TreeMap<>();
 
     public TextImpl(CoreDocument coreDocument) {
         this.coreDocument = coreDocument;
@@ -34,10 +30,11 @@ public ImmutableList<Word> words() {
 
     @Override
     public synchronized Word getWord(int index) {
-        if (wordsIndex.isEmpty()) {
-            words();
+        var allWords = words();
+        if (index < 0 || index >= allWords.size()) {
+            return null;
         }
-        return wordsIndex.get(index);
+        return allWords.get(index);
     }
 
     @Override
@@ -56,7 +53,7 @@ private void iterateDocumentForWordsAndSentences() {
         int wordIndex = 0;
         for (int i = 0; i < coreSentences.size(); i++) {
             var coreSentence = coreSentences.get(i);
-            var sentence = new SentenceImpl(coreSentence, i, this);
+            var sentence = new SentenceImpl(coreSentence, i, wordIndex, this);
             sentenceList.add(sentence);
 
             for (var token : coreSentence.tokens()) {
@@ -68,11 +65,6 @@ private void iterateDocumentForWordsAndSentences() {
 
         sentences = sentenceList.toImmutable();
         words = wordList.toImmutable();
-        int index = 0;
-        for (Word word : words) {
-            wordsIndex.put(index, word);
-            index++;
-        }
     }
 
 }
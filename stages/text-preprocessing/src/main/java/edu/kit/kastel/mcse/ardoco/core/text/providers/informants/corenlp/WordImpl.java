@@ -1,12 +1,9 @@
 /* Licensed under MIT 2022-2023. */
 package edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp;
 
-import java.util.List;
 import java.util.Objects;
 
 import org.eclipse.collections.api.list.ImmutableList;
-import org.eclipse.collections.api.list.MutableList;
-import org.eclipse.collections.impl.factory.Lists;
 
 import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
 import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
@@ -15,9 +12,6 @@
 import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
 import edu.stanford.nlp.ling.CoreAnnotations;
 import edu.stanford.nlp.ling.CoreLabel;
-import edu.stanford.nlp.semgraph.SemanticGraph;
-import edu.stanford.nlp.trees.GrammaticalRelation;
-import edu.stanford.nlp.trees.TypedDependency;
 
 class WordImpl implements Word {
 
@@ -61,13 +55,7 @@ public Phrase getPhrase() {
     }
 
     private Phrase loadPhrase() {
-        var currentPhrase = getSentence().getPhrases().stream().filter(p -> p.getContainedWords().contains(this)).findFirst().orElseThrow();
-        var subPhrases = List.of(currentPhrase);
-        while (!subPhrases.isEmpty()) {
-            currentPhrase = subPhrases.get(0);
-            subPhrases = currentPhrase.getSubPhrases().stream().filter(p -> p.getContainedWords().contains(this)).toList();
-        }
-        return currentPhrase;
+        return getSentenceImpl().getLeafPhrase(this);
     }
 
     @Override
@@ -114,50 +102,16 @@ public String getLemma() {
 
     @Override
     public ImmutableList<Word> getOutgoingDependencyWordsWithType(DependencyTag dependencyTag) {
-        MutableList<Word> dependencyWords = Lists.mutable.empty();
-        List<TypedDependency> dependencies = getDependenciesOfType(dependencyTag);
-        for (var typedDependency : dependencies) {
-            var target = typedDependency.dep().backingLabel();
-            var source = typedDependency.gov().backingLabel();
-            if (source.beginPosition() == token.beginPosition()) {
-                var targetWord = getCorrespondingWordForFirstTokenBasedOnSecondToken(target, source);
-                dependencyWords.add(targetWord);
-            }
-        }
-        return dependencyWords.toImmutable();
+        return getSentenceImpl().getDependencyIndex().getOutgoingDependencyWords(index, dependencyTag);
     }
 
     @Override
     public ImmutableList<Word> getIncomingDependencyWordsWithType(DependencyTag dependencyTag) {
-        MutableList<Word> dependencyWords = Lists.mutable.empty();
-        List<TypedDependency> dependencies = getDependenciesOfType(dependencyTag);
-        for (var typedDependency : dependencies) {
-            var target = typedDependency.dep().backingLabel();
-            var source = typedDependency.gov().backingLabel();
-            if (target.beginPosition() == token.beginPosition()) {
-                var word = getCorrespondingWordForFirstTokenBasedOnSecondToken(source, target);
-                dependencyWords.add(word);
-            }
-        }
-        return dependencyWords.toImmutable();
+        return getSentenceImpl().getDependencyIndex().getIncomingDependencyWords(index, dependencyTag);
     }
 
-    private Word getCorrespondingWordForFirstTokenBasedOnSecondToken(CoreLabel firstToken, CoreLabel secondToken) {
-        var firstTokenIndex = (firstToken.index() - secondToken.index()) + index;
-        return parent.getWord(firstTokenIndex);
-    }
-
-    private List<TypedDependency> getDependenciesOfType(DependencyTag dependencyTag) {
-        List<TypedDependency> typedDependencies = Lists.mutable.empty();
-        var sentence = (SentenceImpl) parent.getSentences().get(getSentenceNo());
-        SemanticGraph dependencies = sentence.dependencyParse();
-        for (var typedDependency : dependencies.typedDependencies()) {
-            GrammaticalRelation rel = typedDependency.reln();
-            if (dependencyTag.name().equalsIgnoreCase(rel.getShortName())) {
-                typedDependencies.add(typedDependency);
-            }
-        }
-        return typedDependencies;
+    private SentenceImpl getSentenceImpl() {
+        return (SentenceImpl) parent.getSentences().get(getSentenceNo());
     }
 
     @Override
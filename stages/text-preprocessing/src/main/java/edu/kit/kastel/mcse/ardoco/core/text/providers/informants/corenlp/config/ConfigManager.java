@@ -3,6 +3,7 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.OptionalInt;
 import java.util.Properties;
 
 import org.slf4j.Logger;
@@ -23,6 +24,21 @@ public final class ConfigManager {
     private static final String PROPERTY_NLP_PROVIDER_SOURCE = "nlpProviderSource";
     private static final String PROPERTY_CORENLP_SERVICE = "corenlpService";
     private static final String PROPERTY_HEALTH_SERVICE = "healthService";
+    private static final String PROPERTY_CORENLP_BATCH_SERVICE = "corenlpBatchService";
+    private static final String PROPERTY_MICROSERVICE_MAX_CONNECTIONS = "microserviceMaxConnections";
+    private static final String PROPERTY_MICROSERVICE_CONNECT_TIMEOUT_MS = "microserviceConnectTimeoutMs";
+    private static final String PROPERTY_MICROSERVICE_RESPONSE_TIMEOUT_MS = "microserviceResponseTimeoutMs";
+    private static final String PROPERTY_MICROSERVICE_MAX_ATTEMPTS = "microserviceMaxAttempts";
+    private static final String PROPERTY_MICROSERVICE_RETRY_BACKOFF_MS = "microserviceRetryBackoffMs";
+    private static final String PROPERTY_MICROSERVICE_REQUEST_COMPRESSION = "microserviceRequestCompression";
+    private static final String PROPERTY_MICROSERVICE_HEALTH_CACHE_SECONDS = "microserviceHealthCacheSeconds";
+    private static final String PROPERTY_CORENLP_POOL_SIZE = "corenlpPoolSize";
+    private static final String PROPERTY_CORENLP_THREADS = "corenlpThreads";
+    private static final String PROPERTY_CORENLP_WARM_UP = "corenlpWarmUp";
+    private static final String PROPERTY_TEXT_CACHE_ENABLED = "textCacheEnabled";
+    private static final String PROPERTY_TEXT_CACHE_DIRECTORY = "textCacheDirectory";
+    private static final String PROPERTY_TEXT_CACHE_MAX_SIZE_MB = "textCacheMaxSizeMb";
+    private static final String PROPERTY_COMPACT_TEXT = "compactText";
 
     private ConfigManager() {
         properties = new Properties();
@@ -41,6 +57,27 @@ private ConfigManager() {
         if (System.getenv("NLP_PROVIDER_SOURCE") != null) {
             properties.setProperty(PROPERTY_NLP_PROVIDER_SOURCE, System.getenv("NLP_PROVIDER_SOURCE"));
         }
+        if (System.getenv("CORENLP_POOL_SIZE") != null) {
+            properties.setProperty(PROPERTY_CORENLP_POOL_SIZE, System.getenv("CORENLP_POOL_SIZE"));
+        }
+        if (System.getenv("CORENLP_THREADS") != null) {
+            properties.setProperty(PROPERTY_CORENLP_THREADS, System.getenv("CORENLP_THREADS"));
+        }
+        if (System.getenv("CORENLP_WARM_UP") != null) {
+            properties.setProperty(PROPERTY_CORENLP_WARM_UP, System.getenv("CORENLP_WARM_UP"));
+        }
+        if (System.getenv("TEXT_CACHE_ENABLED") != null) {
+            properties.setProperty(PROPERTY_TEXT_CACHE_ENABLED, System.getenv("TEXT_CACHE_ENABLED"));
+        }
+        if (System.getenv("TEXT_CACHE_DIRECTORY") != null) {
+            properties.setProperty(PROPERTY_TEXT_CACHE_DIRECTORY, System.getenv("TEXT_CACHE_DIRECTORY"));
+        }
+        if (System.getenv("TEXT_CACHE_MAX_SIZE_MB") != null) {
+            properties.setProperty(PROPERTY_TEXT_CACHE_MAX_SIZE_MB, System.getenv("TEXT_CACHE_MAX_SIZE_MB"));
+        }
+        if (System.getenv("COMPACT_TEXT") != null) {
+            properties.setProperty(PROPERTY_COMPACT_TEXT, System.getenv("COMPACT_TEXT"));
+        }
     }
 
     public String getMicroserviceUrl() {
@@ -59,4 +96,158 @@ public String getHealthService() {
         return properties.getProperty(PROPERTY_HEALTH_SERVICE);
     }
 
+    /**
+     * Returns the path of the service that annotates several texts in one request, or null if the microservice does not provide one.
+     *
+     * @return the path of the batch service
+     */
+    public String getCorenlpBatchService() {
+        String batchService = properties.getProperty(PROPERTY_CORENLP_BATCH_SERVICE);
+        return batchService == null || batchService.isBlank() ? null : batchService.strip();
+    }
+
+    /**
+     * Returns the maximum number of pooled connections to the microservice.
+     *
+     * @return the maximum number of connections
+     */
+    public int getMicroserviceMaxConnections() {
+        return getPositiveInt(PROPERTY_MICROSERVICE_MAX_CONNECTIONS, 4);
+    }
+
+    /**
+     * Returns the timeout for establishing a connection to the microservice.
+     *
+     * @return the connect timeout in milliseconds
+     */
+    public int getMicroserviceConnectTimeoutMs() {
+        return getPositiveInt(PROPERTY_MICROSERVICE_CONNECT_TIMEOUT_MS, 10_000);
+    }
+
+    /**
+     * Returns the timeout for the response of a request to the microservice. Annotating long texts can take several minutes.
+     *
+     * @return the response timeout in milliseconds
+     */
+    public int getMicroserviceResponseTimeoutMs() {
+        return getPositiveInt(PROPERTY_MICROSERVICE_RESPONSE_TIMEOUT_MS, 300_000);
+    }
+
+    /**
+     * Returns how often a request to the microservice is sent at most if it fails with an I/O error or a server error.
+     *
+     * @return the maximum number of attempts per request
+     */
+    public int getMicroserviceMaxAttempts() {
+        return getPositiveInt(PROPERTY_MICROSERVICE_MAX_ATTEMPTS, 3);
+    }
+
+    /**
+     * Returns the base delay before a failed request to the microservice is retried. The delay doubles with every attempt.
+     *
+     * @return the base delay in milliseconds
+     */
+    public int getMicroserviceRetryBackoffMs() {
+        return getPositiveInt(PROPERTY_MICROSERVICE_RETRY_BACKOFF_MS, 500);
+    }
+
+    /**
+     * Returns whether request bodies are sent gzip-compressed to the microservice. Responses are always requested compressed.
+     *
+     * @return whether to compress requests
+     */
+    public boolean isMicroserviceRequestCompression() {
+        return Boolean.parseBoolean(properties.getProperty(PROPERTY_MICROSERVICE_REQUEST_COMPRESSION, "false"));
+    }
+
+    /**
+     * Returns how long the result of a health check of the microservice is reused.
+     *
+     * @return the duration in seconds
+     */
+    public int getMicroserviceHealthCacheSeconds() {
+        return getPositiveInt(PROPERTY_MICROSERVICE_HEALTH_CACHE_SECONDS, 60);
+    }
+
+    /**
+     * Returns the maximum number of CoreNLP pipelines that annotate texts concurrently when processing locally.
+     *
+     * @return the pool size of the local CoreNLP engine
+     */
+    public int getCorenlpPoolSize() {
+        return getPositiveInt(PROPERTY_CORENLP_POOL_SIZE, 1);
+    }
+
+    /**
+     * Returns the number of threads a CoreNLP pipeline uses to annotate the sentences of a text when processing locally. If no number is configured,
+     * CoreNLP's default is used.
+     *
+     * @return the number of threads per pipeline, if configured
+     */
+    public OptionalInt getCorenlpThreads() {
+        if (properties.getProperty(PROPERTY_CORENLP_THREADS) == null) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(getPositiveInt(PROPERTY_CORENLP_THREADS, 1));
+    }
+
+    /**
+     * Returns whether the local CoreNLP engine should load its models eagerly when a CoreNLP provider is created.
+     *
+     * @return whether to warm up the local CoreNLP engine
+     */
+    public boolean isCorenlpWarmUp() {
+        return Boolean.parseBoolean(properties.getProperty(PROPERTY_CORENLP_WARM_UP, "false"));
+    }
+
+    /**
+     * Returns whether annotated texts should be cached on disk.
+     *
+     * @return whether the text cache is enabled
+     */
+    public boolean isTextCacheEnabled() {
+        return Boolean.parseBoolean(properties.getProperty(PROPERTY_TEXT_CACHE_ENABLED, "false"));
+    }
+
+    /**
+     * Returns the directory of the text cache.
+     *
+     * @return the directory of the text cache
+     */
+    public String getTextCacheDirectory() {
+        return properties.getProperty(PROPERTY_TEXT_CACHE_DIRECTORY, System.getProperty("java.io.tmpdir") + "/ardoco-text-cache");
+    }
+
+    /**
+     * Returns the maximum size of the text cache in megabytes.
+     *
+     * @return the maximum size of the text cache
+     */
+    public int getTextCacheMaxSizeMb() {
+        return getPositiveInt(PROPERTY_TEXT_CACHE_MAX_SIZE_MB, 256);
+    }
+
+    /**
+     * Returns whether annotated texts should be converted into compact texts, which store their annotations in primitive arrays and do not keep the
+     * CoreNLP annotations alive.
+     *
+     * @return whether to compact annotated texts
+     */
+    public boolean isCompactText() {
+        return Boolean.parseBoolean(properties.getProperty(PROPERTY_COMPACT_TEXT, "false"));
+    }
+
+    private int getPositiveInt(String property, int defaultValue) {
+        String value = properties.getProperty(property);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(value.strip()));
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value '{}' for {}. Using {} instead.", value, property, defaultValue);
+            return defaultValue;
+        }
+    }
+
 }
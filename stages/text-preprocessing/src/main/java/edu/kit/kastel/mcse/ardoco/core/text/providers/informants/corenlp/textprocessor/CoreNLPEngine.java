@@ -0,0 +1,194 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.textprocessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.stanford.nlp.pipeline.CoreDocument;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+
+/**
+ * A process-wide CoreNLP annotation engine. There is one engine per distinct set of annotator properties (see {@link #forProperties(Properties, int)}).
+ * Each engine keeps a pool of {@link StanfordCoreNLP} pipelines that are created on demand and reused afterwards, so that the models are only loaded once
+ * per process instead of once per annotated text. The pool size limits how many texts are annotated concurrently; within a text, CoreNLP parallelizes
+ * on sentence level if the properties contain the {@code nthreads} option.
+ * <p>
+ * CoreNLP shares loaded annotators between pipelines that use the same properties. Therefore, most of the memory of an engine is taken by its first
+ * pipeline. The engine records the heap growth while creating pipelines as a rough estimate of its memory usage (see {@link #getStatistics()}).
+ */
+public final class CoreNLPEngine {
+    private static final Logger logger = LoggerFactory.getLogger(CoreNLPEngine.class);
+
+    private static final String WARM_UP_TEXT = "The client sends a request to the server. The server stores the data in the database.";
+    private static final ConcurrentSkipListMap<String, CoreNLPEngine> ENGINES = new ConcurrentSkipListMap<>();
+
+    private final String key;
+    private final Properties properties;
+    private final int poolSize;
+    private final BlockingDeque<StanfordCoreNLP> idlePipelines = new LinkedBlockingDeque<>();
+    private final AtomicInteger createdPipelines = new AtomicInteger();
+    private final AtomicLong annotatedDocuments = new AtomicLong();
+    private final AtomicLong estimatedMemory = new AtomicLong();
+
+    private CoreNLPEngine(String key, Properties properties, int poolSize) {
+        this.key = key;
+        this.properties = properties;
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Returns the engine for the given properties. Engines are shared within the process: all calls with equal properties return the same engine. The pool
+     * size is only used when the engine is created.
+     *
+     * @param properties the CoreNLP properties, including the annotators
+     * @param poolSize   the maximum number of pipelines of the engine
+     * @return the engine
+     */
+    public static CoreNLPEngine forProperties(Properties properties, int poolSize) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("The pool size has to be positive");
+        }
+        String key = toKey(properties);
+        return ENGINES.computeIfAbsent(key, k -> new CoreNLPEngine(k, copy(properties), poolSize));
+    }
+
+    /**
+     * Returns the statistics of all engines that were created in this process.
+     *
+     * @return the statistics of all engines
+     */
+    public static List<EngineStatistics> getAllStatistics() {
+        List<EngineStatistics> statistics = new ArrayList<>();
+        ENGINES.forEach((key, engine) -> statistics.add(engine.getStatistics()));
+        return statistics;
+    }
+
+    /**
+     * Annotates the given text with a pipeline of this engine. Blocks if all pipelines of the pool are in use.
+     *
+     * @param text the text
+     * @return the annotated document
+     */
+    public CoreDocument annotate(String text) {
+        CoreDocument document = annotateWithPipeline(text);
+        annotatedDocuments.incrementAndGet();
+        return document;
+    }
+
+    /**
+     * Loads the models of this engine by annotating a short text. Afterwards, at least one pipeline of the pool is warm. The warm-up text is not counted
+     * as an annotated document.
+     */
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        annotateWithPipeline(WARM_UP_TEXT);
+        logger.info("Warmed up CoreNLP engine in {} ms", System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Starts {@link #warmUp()} in the background.
+     *
+     * @return a future that completes when the engine is warm
+     */
+    public CompletableFuture<Void> warmUpAsync() {
+        return CompletableFuture.runAsync(this::warmUp).whenComplete((ignored, e) -> {
+            if (e != null) {
+                logger.warn("Could not warm up CoreNLP engine", e);
+            }
+        });
+    }
+
+    /**
+     * Returns the current statistics of this engine.
+     *
+     * @return the statistics
+     */
+    public EngineStatistics getStatistics() {
+        return new EngineStatistics(key, poolSize, createdPipelines.get(), idlePipelines.size(), annotatedDocuments.get(), estimatedMemory.get());
+    }
+
+    private CoreDocument annotateWithPipeline(String text) {
+        StanfordCoreNLP pipeline = borrow();
+        try {
+            CoreDocument document = new CoreDocument(text);
+            pipeline.annotate(document);
+            return document;
+        } finally {
+            idlePipelines.offerFirst(pipeline);
+        }
+    }
+
+    private StanfordCoreNLP borrow() {
+        StanfordCoreNLP pipeline = idlePipelines.pollFirst();
+        if (pipeline != null) {
+            return pipeline;
+        }
+        if (createdPipelines.incrementAndGet() <= poolSize) {
+            try {
+                return createPipeline();
+            } catch (RuntimeException | Error e) {
+                createdPipelines.decrementAndGet();
+                throw e;
+            }
+        }
+        createdPipelines.decrementAndGet();
+        try {
+            return idlePipelines.takeFirst();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a CoreNLP pipeline", e);
+        }
+    }
+
+    private StanfordCoreNLP createPipeline() {
+        Runtime runtime = Runtime.getRuntime();
+        long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+        long start = System.currentTimeMillis();
+        StanfordCoreNLP pipeline = new StanfordCoreNLP(copy(properties));
+        long usedAfter = runtime.totalMemory() - runtime.freeMemory();
+        estimatedMemory.addAndGet(Math.max(0, usedAfter - usedBefore));
+        logger.debug("Created CoreNLP pipeline {} of {} in {} ms", createdPipelines.get(), poolSize, System.currentTimeMillis() - start);
+        return pipeline;
+    }
+
+    private static String toKey(Properties properties) {
+        StringBuilder key = new StringBuilder();
+        for (String name : new TreeSet<>(properties.stringPropertyNames())) {
+            key.append(name).append('=').append(properties.getProperty(name)).append('\n');
+        }
+        return key.toString();
+    }
+
+    private static Properties copy(Properties properties) {
+        Properties copy = new Properties();
+        for (String name : new TreeSet<>(properties.stringPropertyNames())) {
+            copy.setProperty(name, properties.getProperty(name));
+        }
+        return copy;
+    }
+
+    /**
+     * Statistics of a {@link CoreNLPEngine} that can be used to size its pool.
+     *
+     * @param properties             the properties of the engine in canonical form
+     * @param poolSize               the maximum number of pipelines
+     * @param createdPipelines       the number of pipelines that were created so far
+     * @param idlePipelines          the number of pipelines that are currently not in use
+     * @param annotatedDocuments     the number of documents that were annotated
+     * @param estimatedMemoryInBytes the heap growth that was observed while creating the pipelines, in bytes
+     */
+    public record EngineStatistics(String properties, int poolSize, int createdPipelines, int idlePipelines, long annotatedDocuments,
+                                   long estimatedMemoryInBytes) {
+    }
+}
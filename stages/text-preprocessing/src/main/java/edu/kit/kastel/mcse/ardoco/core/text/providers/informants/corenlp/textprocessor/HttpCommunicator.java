@@ -2,54 +2,199 @@
 package edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.textprocessor;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+import org.apache.hc.client5.http.HttpResponseException;
 import org.apache.hc.client5.http.auth.AuthScope;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.entity.GzipCompressingEntity;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
+import org.apache.hc.client5.http.impl.auth.BasicScheme;
 import org.apache.hc.client5.http.impl.classic.BasicHttpClientResponseHandler;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.config.ConfigManager;
+
+/**
+ * Sends authenticated requests to the CoreNLP microservice. All communicators share one HTTP client whose pooled connections are kept alive between
+ * requests, so that consecutive requests do not establish new connections. Responses are requested compressed, and request bodies are compressed if
+ * configured (see {@link ConfigManager#isMicroserviceRequestCompression()}). The credentials are sent preemptively instead of waiting for a challenge.
+ * <p>
+ * Requests that fail with an I/O error, a server error or because of too many requests are retried with exponential backoff and jitter, until the
+ * maximum number of attempts is reached (see {@link ConfigManager#getMicroserviceMaxAttempts()}). Requests whose response times out are not retried.
+ */
 public class HttpCommunicator {
 
     public static final String ENV_USERNAME = "SCNLP_SERVICE_USER";
     public static final String ENV_PASSWORD = "SCNLP_SERVICE_PASSWORD";
 
-    public String sendAuthenticatedGetRequest(String requestUrl) throws IOException {
-        String username = System.getenv(ENV_USERNAME);
-        String password = System.getenv(ENV_PASSWORD);
-        if (username == null || password == null) {
-            throw new IOException("Environment variables " + ENV_USERNAME + " and " + ENV_PASSWORD + " must be set.");
-        }
+    private static final Logger logger = LoggerFactory.getLogger(HttpCommunicator.class);
+    private static final long MAX_BACKOFF_MS = 30_000;
+    private static CloseableHttpClient sharedClient;
 
-        HttpGet request = new HttpGet(requestUrl);
-        BasicCredentialsProvider provider = new BasicCredentialsProvider();
-        provider.setCredentials(new AuthScope(null, -1), new UsernamePasswordCredentials(username, password.toCharArray()));
-        try (CloseableHttpClient httpClient = HttpClients.custom().setDefaultCredentialsProvider(provider).build()) {
-            return httpClient.execute(request, new BasicHttpClientResponseHandler());
+    private final String username;
+    private final String password;
+    private final int maxAttempts;
+    private final RequestConfig requestConfig;
+
+    /**
+     * Creates a communicator that uses the credentials of the environment variables {@value #ENV_USERNAME} and {@value #ENV_PASSWORD} and the configured
+     * number of attempts and response timeout.
+     */
+    public HttpCommunicator() {
+        this(System.getenv(ENV_USERNAME), System.getenv(ENV_PASSWORD), ConfigManager.INSTANCE.getMicroserviceMaxAttempts(), Duration.ofMillis(
+                ConfigManager.INSTANCE.getMicroserviceResponseTimeoutMs()));
+    }
+
+    /**
+     * Creates a communicator with the given credentials.
+     *
+     * @param username        the username, or null if none is known
+     * @param password        the password, or null if none is known
+     * @param maxAttempts     how often a request is sent at most
+     * @param responseTimeout the maximum time to wait for the response of a request
+     */
+    public HttpCommunicator(String username, String password, int maxAttempts, Duration responseTimeout) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("At least one attempt is required");
         }
+        this.username = username;
+        this.password = password;
+        this.maxAttempts = maxAttempts;
+        this.requestConfig = RequestConfig.custom()
+                .setResponseTimeout(Timeout.of(responseTimeout))
+                .setConnectionRequestTimeout(Timeout.of(responseTimeout))
+                .build();
+    }
+
+    public String sendAuthenticatedGetRequest(String requestUrl) throws IOException {
+        return send(() -> new HttpGet(requestUrl));
     }
 
     public String sendAuthenticatedPostRequest(String requestUrl, String body) throws IOException {
-        String username = System.getenv(ENV_USERNAME);
-        String password = System.getenv(ENV_PASSWORD);
+        boolean compressRequest = ConfigManager.INSTANCE.isMicroserviceRequestCompression();
+        return send(() -> {
+            HttpPost request = new HttpPost(requestUrl);
+            StringEntity requestEntity = new StringEntity(body, ContentType.APPLICATION_JSON, StandardCharsets.UTF_8.toString(), false);
+            request.setEntity(compressRequest ? new GzipCompressingEntity(requestEntity) : requestEntity);
+            return request;
+        });
+    }
+
+    private String send(Supplier<HttpUriRequestBase> requestFactory) throws IOException {
         if (username == null || password == null) {
             throw new IOException("Environment variables " + ENV_USERNAME + " and " + ENV_PASSWORD + " must be set.");
         }
 
-        HttpPost request = new HttpPost(requestUrl);
-        StringEntity requestEntity = new StringEntity(body, ContentType.APPLICATION_JSON, StandardCharsets.UTF_8.toString(), false);
-        request.setEntity(requestEntity);
+        IOException lastException = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            if (attempt > 1) {
+                waitBeforeRetry(attempt - 1);
+            }
+            HttpUriRequestBase request = requestFactory.get();
+            request.setConfig(requestConfig);
+            HttpClientContext context = createContext(request);
+            try {
+                return getSharedClient().execute(request, context, new BasicHttpClientResponseHandler());
+            } catch (HttpResponseException e) {
+                if (!isRetryable(e.getStatusCode())) {
+                    throw e;
+                }
+                lastException = e;
+            } catch (SocketTimeoutException e) {
+                // the microservice did not answer in time, so it would most likely time out again
+                throw e;
+            } catch (IOException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                lastException = e;
+            }
+            logger.debug("Attempt {} of {} to {} failed: {}", attempt, maxAttempts, request.getRequestUri(), lastException.getMessage());
+        }
+        throw lastException;
+    }
 
+    private HttpClientContext createContext(HttpUriRequestBase request) throws IOException {
+        URI uri;
+        try {
+            uri = request.getUri();
+        } catch (URISyntaxException e) {
+            throw new IOException("Invalid request URL " + request.getRequestUri(), e);
+        }
+        UsernamePasswordCredentials credentials = new UsernamePasswordCredentials(username, password.toCharArray());
         BasicCredentialsProvider provider = new BasicCredentialsProvider();
-        provider.setCredentials(new AuthScope(null, -1), new UsernamePasswordCredentials(username, password.toCharArray()));
-        try (CloseableHttpClient httpClient = HttpClients.custom().setDefaultCredentialsProvider(provider).build()) {
-            return httpClient.execute(request, new BasicHttpClientResponseHandler());
+        provider.setCredentials(new AuthScope(null, -1), credentials);
+        BasicScheme basicScheme = new BasicScheme();
+        basicScheme.initPreemptive(credentials);
+
+        HttpClientContext context = HttpClientContext.create();
+        context.setCredentialsProvider(provider);
+        context.resetAuthExchange(HttpHost.create(uri), basicScheme);
+        return context;
+    }
+
+    private static boolean isRetryable(int statusCode) {
+        return statusCode >= HttpStatus.SC_SERVER_ERROR || statusCode == HttpStatus.SC_TOO_MANY_REQUESTS;
+    }
+
+    /**
+     * Waits half of the exponential backoff plus a random share of the other half, so that concurrent clients do not retry in lockstep.
+     */
+    private static void waitBeforeRetry(int retry) throws InterruptedIOException {
+        long backoff = Math.min(MAX_BACKOFF_MS, (long) ConfigManager.INSTANCE.getMicroserviceRetryBackoffMs() << Math.min(retry - 1, 16));
+        long delay = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry a request");
+        }
+    }
+
+    private static synchronized CloseableHttpClient getSharedClient() {
+        if (sharedClient == null) {
+            ConfigManager configManager = ConfigManager.INSTANCE;
+            ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                    .setConnectTimeout(configManager.getMicroserviceConnectTimeoutMs(), TimeUnit.MILLISECONDS)
+                    .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                    .build();
+            PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(configManager.getMicroserviceMaxConnections())
+                    .setMaxConnPerRoute(configManager.getMicroserviceMaxConnections())
+                    .setDefaultConnectionConfig(connectionConfig)
+                    .build();
+            sharedClient = HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .disableAutomaticRetries()
+                    .evictIdleConnections(TimeValue.ofMinutes(1))
+                    .build();
         }
+        return sharedClient;
     }
 }
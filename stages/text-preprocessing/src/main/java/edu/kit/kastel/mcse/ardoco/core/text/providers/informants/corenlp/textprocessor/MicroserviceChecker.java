@@ -2,26 +2,65 @@
 package edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.textprocessor;
 
 import java.io.IOException;
+import java.time.Duration;
 
 import edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.config.ConfigManager;
 
 /**
- * This utility class provides methods to check whether the microservice is available.
+ * This utility class provides methods to check whether the microservice is available. The result of a health check is reused for the configured
+ * duration (see {@link ConfigManager#getMicroserviceHealthCacheSeconds()}), so that processing several texts does not check the microservice before
+ * every text.
  */
 public final class MicroserviceChecker {
 
+    private static final Duration HEALTH_CHECK_TIMEOUT = Duration.ofSeconds(10);
+
+    private static boolean available;
+    private static long validUntil = Long.MIN_VALUE;
+    private static boolean checked;
+
     private MicroserviceChecker() {
     }
 
     /**
-     * checks if the CoreNLP microservice is available and can provide its services.
+     * checks if the CoreNLP microservice is available and can provide its services. The result of a previous check is returned if it is still valid.
      *
      * @return whether the microservice is available
      */
-    public static boolean isMicroserviceAvailable() throws IOException {
+    public static synchronized boolean isMicroserviceAvailable() throws IOException {
+        long now = System.nanoTime();
+        if (!checked || now - validUntil >= 0) {
+            setAvailability(checkMicroservice());
+        }
+        return available;
+    }
+
+    /**
+     * Records that the microservice failed to process a request, so that it is considered unavailable until the next health check is due.
+     */
+    public static synchronized void markUnavailable() {
+        setAvailability(false);
+    }
+
+    /**
+     * Discards the result of the previous health check, so that the next call of {@link #isMicroserviceAvailable()} checks the microservice again.
+     */
+    public static synchronized void reset() {
+        checked = false;
+    }
+
+    private static void setAvailability(boolean isAvailable) {
+        available = isAvailable;
+        checked = true;
+        validUntil = System.nanoTime() + Duration.ofSeconds(ConfigManager.INSTANCE.getMicroserviceHealthCacheSeconds()).toNanos();
+    }
+
+    private static boolean checkMicroservice() {
         String requestUrl = ConfigManager.INSTANCE.getMicroserviceUrl() + ConfigManager.INSTANCE.getHealthService();
+        HttpCommunicator httpCommunicator = new HttpCommunicator(System.getenv(HttpCommunicator.ENV_USERNAME), System.getenv(HttpCommunicator.ENV_PASSWORD),
+                1, HEALTH_CHECK_TIMEOUT);
         try {
-            String response = new HttpCommunicator().sendAuthenticatedGetRequest(requestUrl);
+            String response = httpCommunicator.sendAuthenticatedGetRequest(requestUrl);
             return response.equals("Microservice is healthy");
         } catch (IOException e) {
             return false;
@@ -0,0 +1,305 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.textprocessor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter.DtoToObjectConverter;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter.JsonConverter;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter.ObjectToDtoConverter;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.TextDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.InvalidJsonException;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.NotConvertableException;
+
+/**
+ * An on-disk cache for annotated texts. Entries are addressed by a hash of the input text and the annotator configuration (see {@link #key(String, String)})
+ * and contain the text as {@link TextDto} JSON. Every entry starts with a header line that contains the format version and a checksum of the JSON, so that
+ * truncated or otherwise corrupted entries are detected and removed instead of being used. As the cache only contains texts it wrote itself, the JSON is
+ * not validated against the text schema.
+ * <p>
+ * The cache is bounded by its total size on disk. When an entry is stored and the cache exceeds its size, the least recently used entries are evicted.
+ * Reading an entry marks it as used by updating its modification time. Temporary files of interrupted writes are removed when a cache is created.
+ */
+public final class TextCache {
+    private static final Logger logger = LoggerFactory.getLogger(TextCache.class);
+
+    private static final String FORMAT = "ardoco-text-cache-v1";
+    private static final String FILE_EXTENSION = ".json";
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+    private static final Duration STALE_TEMPORARY_FILE_AGE = Duration.ofHours(1);
+
+    private final Path directory;
+    private final long maxSizeInBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong corruptedEntries = new AtomicLong();
+
+    /**
+     * Creates a new cache that stores its entries in the given directory.
+     *
+     * @param directory      the directory of the cache. It is created if it does not exist.
+     * @param maxSizeInBytes the maximum total size of the entries
+     */
+    public TextCache(Path directory, long maxSizeInBytes) {
+        if (maxSizeInBytes <= 0) {
+            throw new IllegalArgumentException("The maximum size has to be positive");
+        }
+        this.directory = directory;
+        this.maxSizeInBytes = maxSizeInBytes;
+        deleteStaleTemporaryFiles();
+    }
+
+    /**
+     * Returns the directory of this cache.
+     *
+     * @return the directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the maximum total size of the entries of this cache.
+     *
+     * @return the maximum size in bytes
+     */
+    public long getMaxSizeInBytes() {
+        return maxSizeInBytes;
+    }
+
+    /**
+     * Calculates the key of the entry for the given input text that was annotated with the given configuration.
+     *
+     * @param inputText     the input text
+     * @param configuration a description of the annotator configuration
+     * @return the key of the entry
+     */
+    public static String key(String inputText, String configuration) {
+        MessageDigest digest = sha256();
+        digest.update(FORMAT.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(configuration.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(inputText.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Loads the text with the given key. Corrupted entries are deleted.
+     *
+     * @param key the key of the entry
+     * @return the text, or an empty optional if there is no valid entry for the key
+     */
+    public Optional<Text> load(String key) {
+        Path file = getFile(key);
+        String content;
+        try {
+            content = Files.readString(file, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        } catch (IOException e) {
+            logger.warn("Could not read cached text {}", file, e);
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+
+        Optional<Text> text = parse(content);
+        if (text.isEmpty()) {
+            logger.warn("Removing corrupted cached text {}", file);
+            corruptedEntries.incrementAndGet();
+            misses.incrementAndGet();
+            delete(file);
+            return Optional.empty();
+        }
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            logger.debug("Could not update the modification time of {}", file, e);
+        }
+        hits.incrementAndGet();
+        return text;
+    }
+
+    /**
+     * Stores the given text under the given key and evicts old entries if the cache exceeds its size afterwards. Failures are logged and otherwise
+     * ignored, as the cache is only an optimization.
+     *
+     * @param key  the key of the entry
+     * @param text the annotated text
+     */
+    public void store(String key, Text text) {
+        try {
+            TextDto textDto = new ObjectToDtoConverter().convertTextToDTO(text);
+            String json = JsonConverter.toJsonString(textDto, false);
+            String content = FORMAT + " " + checksum(json) + "\n" + json;
+
+            Files.createDirectories(directory);
+            Path temporaryFile = Files.createTempFile(directory, key, TEMPORARY_FILE_EXTENSION);
+            try {
+                Files.writeString(temporaryFile, content, StandardCharsets.UTF_8);
+                Files.move(temporaryFile, getFile(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        } catch (IOException | InvalidJsonException | NotConvertableException e) {
+            logger.warn("Could not cache annotated text", e);
+            return;
+        }
+        evict();
+    }
+
+    /**
+     * Returns the total size of all entries of this cache.
+     *
+     * @return the size of the cache in bytes
+     */
+    public long getSizeInBytes() {
+        return getEntries().stream().mapToLong(Entry::size).sum();
+    }
+
+    /**
+     * Returns the statistics of this cache since it was created.
+     *
+     * @return the statistics
+     */
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(hits.get(), misses.get(), evictions.get(), corruptedEntries.get());
+    }
+
+    private Optional<Text> parse(String content) {
+        int headerEnd = content.indexOf('\n');
+        if (headerEnd < 0) {
+            return Optional.empty();
+        }
+        String[] header = content.substring(0, headerEnd).split(" ");
+        String json = content.substring(headerEnd + 1);
+        if (header.length != 2 || !header[0].equals(FORMAT) || !header[1].equals(checksum(json))) {
+            return Optional.empty();
+        }
+        try {
+            TextDto textDto = JsonConverter.fromJsonString(json, false);
+            return Optional.of(new DtoToObjectConverter().convertText(textDto));
+        } catch (IOException | InvalidJsonException | NotConvertableException | RuntimeException e) {
+            logger.debug("Could not parse cached text", e);
+            return Optional.empty();
+        }
+    }
+
+    private synchronized void evict() {
+        List<Entry> entries = getEntries();
+        long size = entries.stream().mapToLong(Entry::size).sum();
+        entries.sort(Comparator.comparing(Entry::lastModified).thenComparing(Entry::file));
+        for (int i = 0; i < entries.size() && size > maxSizeInBytes; i++) {
+            Entry entry = entries.get(i);
+            if (delete(entry.file())) {
+                evictions.incrementAndGet();
+            }
+            size -= entry.size();
+        }
+    }
+
+    private List<Entry> getEntries() {
+        List<Entry> entries = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return entries;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(it -> it.getFileName().toString().endsWith(FILE_EXTENSION)).toList()) {
+                try {
+                    entries.add(new Entry(file, Files.size(file), Files.getLastModifiedTime(file)));
+                } catch (NoSuchFileException e) {
+                    // removed concurrently
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Could not list the entries of the text cache {}", directory, e);
+        }
+        return entries;
+    }
+
+    /**
+     * Deletes temporary files that were left behind by writers that were terminated while storing an entry. Recent temporary files are kept, as they
+     * may belong to a writer of another process that is still running.
+     */
+    private void deleteStaleTemporaryFiles() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        Instant staleBefore = Instant.now().minus(STALE_TEMPORARY_FILE_AGE);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(it -> it.getFileName().toString().endsWith(TEMPORARY_FILE_EXTENSION)).toList()) {
+                try {
+                    if (Files.getLastModifiedTime(file).toInstant().isBefore(staleBefore)) {
+                        delete(file);
+                    }
+                } catch (NoSuchFileException e) {
+                    // removed concurrently
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Could not remove the temporary files of the text cache {}", directory, e);
+        }
+    }
+
+    private Path getFile(String key) {
+        return directory.resolve(key + FILE_EXTENSION);
+    }
+
+    private static boolean delete(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete cached text {}", file, e);
+            return false;
+        }
+    }
+
+    private static String checksum(String json) {
+        return HexFormat.of().formatHex(sha256().digest(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(Path file, long size, FileTime lastModified) {
+    }
+
+    /**
+     * Statistics of a {@link TextCache}.
+     *
+     * @param hits             the number of texts that were loaded from the cache
+     * @param misses           the number of lookups without a valid entry
+     * @param evictions        the number of entries that were evicted to stay within the size limit
+     * @param corruptedEntries the number of entries that were removed because they were corrupted
+     */
+    public record CacheStatistics(long hits, long misses, long evictions, long corruptedEntries) {
+    }
+}
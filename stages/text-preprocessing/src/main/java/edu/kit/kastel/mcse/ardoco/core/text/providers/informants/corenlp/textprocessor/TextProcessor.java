@@ -2,21 +2,27 @@
 package edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.textprocessor;
 
 import java.io.IOException;
+import java.nio.file.Path;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
 import edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.config.ConfigManager;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter.CompactTextConverter;
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.InvalidJsonException;
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.NotConvertableException;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject.CompactText;
 
 /**
- * This text processor processes texts using CoreNLP.
+ * This text processor processes texts using CoreNLP. If the text cache is enabled (see {@link ConfigManager#isTextCacheEnabled()}), annotated texts are
+ * stored in a {@link TextCache} and reused when the same text is processed again by the same provider (local or microservice) and configuration. If
+ * compact texts are enabled (see {@link ConfigManager#isCompactText()}), the annotated texts are converted into {@link CompactText compact texts}.
  */
 public class TextProcessor {
 
-    private static final int MAX_FAILED_SERVICE_REQUESTS = 2;
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+    private static TextCache textCache;
     Logger logger = LoggerFactory.getLogger(TextProcessor.class);
 
     /**
@@ -26,31 +32,92 @@ public class TextProcessor {
      * @return the annotated text
      */
     public Text processText(String inputText) {
-        boolean microserviceAvailable;
+        Text text = processCached(inputText);
+        // the microservice already returns compact texts, so only local and cached texts are converted
+        if (ConfigManager.INSTANCE.isCompactText() && !(text instanceof CompactText)) {
+            return compact(text);
+        }
+        return text;
+    }
+
+    private Text processCached(String inputText) {
+        ConfigManager configManager = ConfigManager.INSTANCE;
+        boolean useMicroservice = useMicroservice();
+        if (!configManager.isTextCacheEnabled()) {
+            return processUncached(inputText, useMicroservice).text();
+        }
+        TextCache cache = getTextCache(configManager);
+        String key = TextCache.key(inputText, useMicroservice ? getMicroserviceConfiguration() : getLocalConfiguration());
+        var cachedText = cache.load(key);
+        if (cachedText.isPresent()) {
+            logger.info("Using cached annotations of the text.");
+            return cachedText.get();
+        }
+        AnnotatedText annotatedText = processUncached(inputText, useMicroservice);
+        // the microservice may have failed, so the text is stored for the configuration that actually annotated it
+        cache.store(TextCache.key(inputText, annotatedText.configuration()), annotatedText.text());
+        return annotatedText.text();
+    }
+
+    private AnnotatedText processUncached(String inputText, boolean useMicroservice) {
+        if (useMicroservice) {
+            try {
+                logger.info("Processing text with CoreNLP microservice.");
+                return new AnnotatedText(processService(inputText), getMicroserviceConfiguration());
+            } catch (IOException e) {
+                // the communicator already retried the request, so the microservice is skipped until the next health check
+                MicroserviceChecker.markUnavailable();
+                logger.warn("Could not process text with CoreNLP microservice. Processing locally instead. ", e);
+            } catch (NotConvertableException | InvalidJsonException e) {
+                logger.warn("Could not process text with CoreNLP microservice. Text not convertable. ", e);
+            }
+        }
+        logger.info("Processing text locally.");
+        return new AnnotatedText(processLocally(inputText), getLocalConfiguration());
+    }
+
+    private boolean useMicroservice() {
+        return ConfigManager.INSTANCE.getNlpProviderSource().equals("microservice") && isMicroserviceAvailable();
+    }
+
+    /**
+     * Returns the text cache for the current configuration. The cache is shared by all text processors and only replaced if its directory or size
+     * is reconfigured.
+     */
+    private static synchronized TextCache getTextCache(ConfigManager configManager) {
+        Path directory = Path.of(configManager.getTextCacheDirectory());
+        long maxSizeInBytes = configManager.getTextCacheMaxSizeMb() * BYTES_PER_MB;
+        if (textCache == null || !textCache.getDirectory().equals(directory) || textCache.getMaxSizeInBytes() != maxSizeInBytes) {
+            textCache = new TextCache(directory, maxSizeInBytes);
+        }
+        return textCache;
+    }
+
+    private static String getLocalConfiguration() {
+        return "provider=local\n" + TextProcessorLocal.getAnnotatorConfiguration();
+    }
+
+    private static String getMicroserviceConfiguration() {
+        ConfigManager configManager = ConfigManager.INSTANCE;
+        return "provider=microservice\nservice=" + configManager.getMicroserviceUrl() + configManager.getCorenlpService() + "\n";
+    }
+
+    private boolean isMicroserviceAvailable() {
         try {
-            microserviceAvailable = MicroserviceChecker.isMicroserviceAvailable();
+            return MicroserviceChecker.isMicroserviceAvailable();
         } catch (IOException e) {
-            microserviceAvailable = false;
             logger.warn("Could not check if CoreNLP microservice is available. ", e);
+            return false;
         }
-        if (ConfigManager.INSTANCE.getNlpProviderSource().equals("microservice") && microserviceAvailable) {
-            int numberOfTry = 0;
-            while (numberOfTry < MAX_FAILED_SERVICE_REQUESTS) {
-                try {
-                    logger.info("Processing text with CoreNLP microservice.");
-                    return processService(inputText);
-                } catch (IOException e) {
-                    numberOfTry++;
-                    logger.warn("Could not process text with CoreNLP microservice. Trying again. ", e);
-                } catch (NotConvertableException | InvalidJsonException e) {
-                    logger.warn("Could not process text with CoreNLP microservice. Text not convertable. ", e);
-                    return processLocally(inputText);
-                }
-            }
-            logger.warn("Could not process text with CoreNLP microservice. Processing locally instead.");
+    }
+
+    private Text compact(Text text) {
+        try {
+            return new CompactTextConverter().convertText(text);
+        } catch (NotConvertableException e) {
+            logger.warn("Could not compact the annotated text. ", e);
+            return text;
         }
-        logger.info("Processing text locally.");
-        return processLocally(inputText);
     }
 
     private Text processLocally(String inputText) {
@@ -61,4 +128,7 @@ private Text processService(String inputText) throws IOException, NotConvertable
         return new TextProcessorService().processText(inputText);
     }
 
+    private record AnnotatedText(Text text, String configuration) {
+    }
+
 }
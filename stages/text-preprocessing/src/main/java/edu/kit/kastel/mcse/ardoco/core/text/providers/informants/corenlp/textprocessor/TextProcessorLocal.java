@@ -2,14 +2,16 @@
 package edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.textprocessor;
 
 import java.util.Properties;
+import java.util.TreeSet;
 
 import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
 import edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.TextImpl;
-import edu.stanford.nlp.pipeline.CoreDocument;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.config.ConfigManager;
 import edu.stanford.nlp.pipeline.StanfordCoreNLP;
 
 /**
- * This text processor processes texts locally using CoreNLP.
+ * This text processor processes texts locally using CoreNLP. The annotation is done by a shared {@link CoreNLPEngine}, so
+ * the models are only loaded once per process.
  */
 public class TextProcessorLocal {
     private static final String ANNOTATORS = "tokenize,ssplit,pos,parse,depparse,lemma"; // further: ",ner,coref"
@@ -22,11 +24,35 @@ public class TextProcessorLocal {
      * @return the annotated text
      */
     public Text processText(String inputText) {
+        return new TextImpl(getEngine().annotate(inputText));
+    }
+
+    /**
+     * Returns the engine that is used to annotate texts locally.
+     *
+     * @return the CoreNLP engine
+     */
+    public static CoreNLPEngine getEngine() {
+        var config = ConfigManager.INSTANCE;
+        Properties props = getStanfordProperties(new Properties());
+        config.getCorenlpThreads().ifPresent(threads -> props.setProperty("nthreads", String.valueOf(threads)));
+        return CoreNLPEngine.forProperties(props, config.getCorenlpPoolSize());
+    }
+
+    /**
+     * Returns a description of the CoreNLP version, the annotators and their options that are used to process texts. Texts that were
+     * processed with the same configuration have the same annotations.
+     *
+     * @return the annotator configuration
+     */
+    public static String getAnnotatorConfiguration() {
         Properties props = getStanfordProperties(new Properties());
-        StanfordCoreNLP pipeline = new StanfordCoreNLP(props);
-        CoreDocument document = new CoreDocument(inputText);
-        pipeline.annotate(document);
-        return new TextImpl(document);
+        StringBuilder configuration = new StringBuilder();
+        configuration.append("version=").append(StanfordCoreNLP.class.getPackage().getImplementationVersion()).append('\n');
+        for (String name : new TreeSet<>(props.stringPropertyNames())) {
+            configuration.append(name).append('=').append(props.getProperty(name)).append('\n');
+        }
+        return configuration.toString();
     }
 
     private static Properties getStanfordProperties(Properties properties) {
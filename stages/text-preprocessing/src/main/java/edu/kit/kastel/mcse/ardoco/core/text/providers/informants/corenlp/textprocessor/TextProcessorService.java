@@ -4,9 +4,15 @@
 import java.io.IOException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
 import edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.config.ConfigManager;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter.CompactTextConverter;
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter.DtoToObjectConverter;
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter.JsonConverter;
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.TextDto;
@@ -14,10 +20,38 @@
 import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.NotConvertableException;
 
 /**
- * This text processor processes texts by sending requests to a microservice, which provides text processing using CoreNLP.
+ * This text processor processes texts by sending requests to a microservice, which provides text processing using CoreNLP. Several texts can be sent in
+ * one request if the microservice provides a batch service (see {@link ConfigManager#getCorenlpBatchService()}). The batch service receives the texts
+ * as {@code {"texts": [...]}} and answers with an array of the annotated texts in the same order.
  */
 public class TextProcessorService {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpCommunicator httpCommunicator;
+    private final String serviceUrl;
+    private final String batchServiceUrl;
+
+    /**
+     * Creates a text processor for the configured microservice.
+     */
+    public TextProcessorService() {
+        this(new HttpCommunicator(), ConfigManager.INSTANCE.getMicroserviceUrl() + ConfigManager.INSTANCE.getCorenlpService(), getConfiguredBatchServiceUrl());
+    }
+
+    /**
+     * Creates a text processor for the given services.
+     *
+     * @param httpCommunicator the communicator that sends the requests
+     * @param serviceUrl       the URL of the service that annotates a text
+     * @param batchServiceUrl  the URL of the service that annotates several texts, or null if there is none
+     */
+    public TextProcessorService(HttpCommunicator httpCommunicator, String serviceUrl, String batchServiceUrl) {
+        this.httpCommunicator = httpCommunicator;
+        this.serviceUrl = serviceUrl;
+        this.batchServiceUrl = batchServiceUrl;
+    }
+
     /**
      * processes and annotates a given text by sending requests to a microservice
      *
@@ -25,30 +59,63 @@ public class TextProcessorService {
      * @return the annotated text
      */
     public Text processText(String inputText) throws IOException, InvalidJsonException, NotConvertableException {
-        TextDto textDto;
-        String jsonText = sendCoreNlpRequest(inputText);
-        textDto = JsonConverter.fromJsonString(jsonText);
-        return new DtoToObjectConverter().convertText(textDto);
+        String jsonText = httpCommunicator.sendAuthenticatedPostRequest(serviceUrl, getRequestBodyString(List.of(inputText), false));
+        return convertText(jsonText);
     }
 
-    private String sendCoreNlpRequest(String inputText) throws IOException {
-        String encodedText = encodeText(inputText);
-        ConfigManager configManager = ConfigManager.INSTANCE;
-        String requestUrl = configManager.getMicroserviceUrl() + configManager.getCorenlpService();
-        return sendAuthenticatedPostRequest(requestUrl, encodedText);
+    /**
+     * processes and annotates the given texts. If the microservice provides a batch service, all texts are sent in one request. Otherwise, the texts are
+     * sent one after another over the same connection.
+     *
+     * @param inputTexts the input texts
+     * @return the annotated texts in the order of the input texts
+     */
+    public List<Text> processTexts(List<String> inputTexts) throws IOException, InvalidJsonException, NotConvertableException {
+        List<Text> texts = new ArrayList<>(inputTexts.size());
+        if (batchServiceUrl == null || inputTexts.size() < 2) {
+            for (String inputText : inputTexts) {
+                texts.add(processText(inputText));
+            }
+            return texts;
+        }
+
+        String response = httpCommunicator.sendAuthenticatedPostRequest(batchServiceUrl, getRequestBodyString(inputTexts, true));
+        JsonNode jsonTexts = OBJECT_MAPPER.readTree(response);
+        if (!jsonTexts.isArray() || jsonTexts.size() != inputTexts.size()) {
+            throw new InvalidJsonException("Expected an array of " + inputTexts.size() + " annotated texts");
+        }
+        for (JsonNode jsonText : jsonTexts) {
+            texts.add(convertText(jsonText.toString()));
+        }
+        return texts;
     }
 
-    private static String encodeText(String inputText) {
-        return URLEncoder.encode(inputText, StandardCharsets.UTF_8);
+    private static Text convertText(String jsonText) throws IOException, InvalidJsonException, NotConvertableException {
+        TextDto textDto = JsonConverter.fromJsonString(jsonText);
+        if (ConfigManager.INSTANCE.isCompactText()) {
+            return new CompactTextConverter().convertText(textDto);
+        }
+        return new DtoToObjectConverter().convertText(textDto);
     }
 
-    private String sendAuthenticatedPostRequest(String requestUrl, String encodedText) throws IOException {
-        HttpCommunicator httpCommunicator = new HttpCommunicator();
-        String body = getRequestBodyString(encodedText);
-        return httpCommunicator.sendAuthenticatedPostRequest(requestUrl, body);
+    private static String getConfiguredBatchServiceUrl() {
+        String batchService = ConfigManager.INSTANCE.getCorenlpBatchService();
+        return batchService == null ? null : ConfigManager.INSTANCE.getMicroserviceUrl() + batchService;
     }
 
-    private static String getRequestBodyString(String encodedText) {
-        return "{\"text\": \"" + encodedText + "\"}";
+    /**
+     * Creates the body of a request. The texts are URL-encoded, which the microservice expects and which leaves no characters that have to be escaped
+     * in JSON.
+     */
+    private static String getRequestBodyString(List<String> inputTexts, boolean batch) {
+        StringBuilder body = new StringBuilder(inputTexts.stream().mapToInt(String::length).sum() + 32);
+        body.append(batch ? "{\"texts\": [" : "{\"text\": ");
+        for (int i = 0; i < inputTexts.size(); i++) {
+            if (i > 0) {
+                body.append(", ");
+            }
+            body.append('"').append(URLEncoder.encode(inputTexts.get(i), StandardCharsets.UTF_8)).append('"');
+        }
+        return body.append(batch ? "]}" : "}").toString();
     }
 }
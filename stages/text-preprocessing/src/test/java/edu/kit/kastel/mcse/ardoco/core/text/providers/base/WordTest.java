@@ -48,6 +48,14 @@ void getSentenceNoTest() {
         Assertions.assertEquals(41, word.getSentenceNo());
     }
 
+    @Test
+    void getPhraseTest() {
+        var phrase = word.getPhrase();
+        Assertions.assertAll(//
+                () -> Assertions.assertTrue(phrase.getContainedWords().contains(word)), //
+                () -> Assertions.assertTrue(phrase.getSubPhrases().noneSatisfy(p -> p.getContainedWords().contains(word))));
+    }
+
     @Test
     void getIncomingDependencyWordsWithTypeTest() {
         var dependencies = word.getIncomingDependencyWordsWithType(DependencyTag.COMPOUND);
@@ -0,0 +1,87 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.DependencyTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Phrase;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Sentence;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter.CompactTextConverter;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.NotConvertableException;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.textobject.CompactText;
+
+class CompactTextTest {
+    private static Text text;
+    private static CompactText compactText;
+
+    @BeforeAll
+    static void beforeAll() throws NotConvertableException {
+        text = CoreNLPProviderTest.getCoreNLPProvider().getAnnotatedText();
+        compactText = new CompactTextConverter().convertText(text);
+    }
+
+    @Test
+    void wordsTest() {
+        Assertions.assertEquals(text.getLength(), compactText.getLength());
+        for (Word word : text.words()) {
+            Word compactWord = compactText.getWord(word.getPosition());
+            Assertions.assertAll(//
+                    () -> Assertions.assertEquals(word.getText(), compactWord.getText()), //
+                    () -> Assertions.assertEquals(word.getLemma(), compactWord.getLemma()), //
+                    () -> Assertions.assertEquals(word.getPosTag(), compactWord.getPosTag()), //
+                    () -> Assertions.assertEquals(word.getSentenceNo(), compactWord.getSentenceNo()), //
+                    () -> Assertions.assertEquals(positionOf(word.getPreWord()), positionOf(compactWord.getPreWord())), //
+                    () -> Assertions.assertEquals(positionOf(word.getNextWord()), positionOf(compactWord.getNextWord())));
+        }
+        Assertions.assertTrue(compactText.getStringPoolSize() < 2 * compactText.getLength());
+    }
+
+    @Test
+    void dependenciesTest() {
+        for (Word word : text.words()) {
+            Word compactWord = compactText.getWord(word.getPosition());
+            for (DependencyTag dependencyTag : DependencyTag.values()) {
+                Assertions.assertEquals(word.getOutgoingDependencyWordsWithType(dependencyTag).collect(Word::getPosition), compactWord
+                        .getOutgoingDependencyWordsWithType(dependencyTag)
+                        .collect(Word::getPosition));
+                Assertions.assertEquals(word.getIncomingDependencyWordsWithType(dependencyTag).collect(Word::getPosition), compactWord
+                        .getIncomingDependencyWordsWithType(dependencyTag)
+                        .collect(Word::getPosition));
+            }
+        }
+    }
+
+    @Test
+    void phrasesTest() {
+        for (Sentence sentence : text.getSentences()) {
+            Sentence compactSentence = compactText.getSentences().get(sentence.getSentenceNumber());
+            Assertions.assertEquals(sentence, compactSentence);
+            Assertions.assertEquals(sentence.getWords().collect(Word::getPosition), compactSentence.getWords().collect(Word::getPosition));
+
+            var phrases = sentence.getPhrases();
+            var compactPhrases = compactSentence.getPhrases();
+            Assertions.assertEquals(phrases.size(), compactPhrases.size());
+            for (int i = 0; i < phrases.size(); i++) {
+                assertSamePhrase(phrases.get(i), compactPhrases.get(i));
+                Assertions.assertEquals(phrases.get(i).getSubPhrases().size(), compactPhrases.get(i).getSubPhrases().size());
+            }
+        }
+        for (Word word : text.words()) {
+            assertSamePhrase(word.getPhrase(), compactText.getWord(word.getPosition()).getPhrase());
+        }
+    }
+
+    private static void assertSamePhrase(Phrase phrase, Phrase compactPhrase) {
+        Assertions.assertEquals(phrase.getText(), compactPhrase.getText());
+        Assertions.assertEquals(phrase.getPhraseType(), compactPhrase.getPhraseType());
+        Assertions.assertEquals(phrase.getContainedWords().collect(Word::getPosition), compactPhrase.getContainedWords().collect(Word::getPosition));
+    }
+
+    private static int positionOf(Word word) {
+        return word == null ? -1 : word.getPosition();
+    }
+}
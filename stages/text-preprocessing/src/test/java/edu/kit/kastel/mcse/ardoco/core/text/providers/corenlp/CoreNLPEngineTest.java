@@ -0,0 +1,61 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.textprocessor.CoreNLPEngine;
+import edu.stanford.nlp.pipeline.CoreDocument;
+
+class CoreNLPEngineTest {
+
+    private static Properties properties(String annotators) {
+        Properties properties = new Properties();
+        properties.setProperty("annotators", annotators);
+        return properties;
+    }
+
+    @Test
+    void enginesAreSharedByPropertiesTest() {
+        CoreNLPEngine engine = CoreNLPEngine.forProperties(properties("tokenize,ssplit"), 1);
+        Assertions.assertSame(engine, CoreNLPEngine.forProperties(properties("tokenize,ssplit"), 1));
+        Assertions.assertNotSame(engine, CoreNLPEngine.forProperties(properties("tokenize"), 1));
+        Assertions.assertTrue(CoreNLPEngine.getAllStatistics().contains(engine.getStatistics()));
+    }
+
+    @Test
+    void pipelinesAreReusedTest() {
+        CoreNLPEngine engine = CoreNLPEngine.forProperties(properties("tokenize,ssplit,pos"), 2);
+        engine.warmUp();
+        CoreDocument document = engine.annotate("This is a sentence. This is another sentence.");
+        Assertions.assertEquals(2, document.sentences().size());
+
+        var statistics = engine.getStatistics();
+        Assertions.assertEquals(1, statistics.createdPipelines());
+        Assertions.assertEquals(1, statistics.idlePipelines());
+        Assertions.assertEquals(1, statistics.annotatedDocuments());
+    }
+
+    @Test
+    void concurrentAnnotationIsBoundedByPoolSizeTest() {
+        CoreNLPEngine engine = CoreNLPEngine.forProperties(properties("tokenize,ssplit,pos,lemma"), 2);
+        List<CompletableFuture<CoreDocument>> futures = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            String text = "Document " + i + " has words. It has two sentences.";
+            futures.add(CompletableFuture.supplyAsync(() -> engine.annotate(text)));
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            CoreDocument document = futures.get(i).join();
+            Assertions.assertEquals("Document " + i + " has words. It has two sentences.", document.text());
+            Assertions.assertEquals(2, document.sentences().size());
+        }
+        var statistics = engine.getStatistics();
+        Assertions.assertTrue(statistics.createdPipelines() <= 2);
+        Assertions.assertEquals(statistics.createdPipelines(), statistics.idlePipelines());
+    }
+}
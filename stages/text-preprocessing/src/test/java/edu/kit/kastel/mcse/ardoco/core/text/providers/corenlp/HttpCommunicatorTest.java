@@ -0,0 +1,174 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.hc.client5.http.HttpResponseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.textprocessor.HttpCommunicator;
+
+class HttpCommunicatorTest {
+    private static final String USERNAME = "user";
+    private static final String PASSWORD = "secret";
+    private static final String AUTHORIZATION = "Basic " + Base64.getEncoder().encodeToString((USERNAME + ":" + PASSWORD).getBytes(StandardCharsets.UTF_8));
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private final List<Integer> clientPorts = new CopyOnWriteArrayList<>();
+    private final List<String> authorizations = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresBeforeSuccess = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/echo", exchange -> {
+            record(exchange);
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            respond(exchange, 200, exchange.getRequestMethod() + ":" + body);
+        });
+        server.createContext("/flaky", exchange -> {
+            record(exchange);
+            if (failuresBeforeSuccess.getAndDecrement() > 0) {
+                respond(exchange, 503, "unavailable");
+            } else {
+                respond(exchange, 200, "ok");
+            }
+        });
+        server.createContext("/bad", exchange -> {
+            record(exchange);
+            respond(exchange, 400, "bad request");
+        });
+        server.createContext("/slow", exchange -> {
+            record(exchange);
+            try {
+                Thread.sleep(2_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "late");
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void connectionsAreReusedTest() throws IOException {
+        HttpCommunicator communicator = createCommunicator(1, Duration.ofSeconds(10));
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals("POST:body " + i, communicator.sendAuthenticatedPostRequest(url("/echo"), "body " + i));
+        }
+        Assertions.assertEquals("GET:", communicator.sendAuthenticatedGetRequest(url("/echo")));
+        Assertions.assertEquals(6, clientPorts.size());
+        Assertions.assertEquals(1, clientPorts.stream().distinct().count());
+    }
+
+    @Test
+    void credentialsAreSentPreemptivelyTest() throws IOException {
+        createCommunicator(1, Duration.ofSeconds(10)).sendAuthenticatedGetRequest(url("/echo"));
+        Assertions.assertEquals(List.of(AUTHORIZATION), authorizations);
+    }
+
+    @Test
+    void missingCredentialsTest() {
+        HttpCommunicator communicator = new HttpCommunicator(null, null, 1, Duration.ofSeconds(10));
+        Assertions.assertThrows(IOException.class, () -> communicator.sendAuthenticatedGetRequest(url("/echo")));
+        Assertions.assertEquals(0, requests.get());
+    }
+
+    @Test
+    void serverErrorsAreRetriedTest() throws IOException {
+        failuresBeforeSuccess.set(2);
+        Assertions.assertEquals("ok", createCommunicator(3, Duration.ofSeconds(10)).sendAuthenticatedGetRequest(url("/flaky")));
+        Assertions.assertEquals(3, requests.get());
+
+        failuresBeforeSuccess.set(2);
+        requests.set(0);
+        var exception = Assertions.assertThrows(HttpResponseException.class, () -> createCommunicator(2, Duration.ofSeconds(10))
+                .sendAuthenticatedGetRequest(url("/flaky")));
+        Assertions.assertEquals(503, exception.getStatusCode());
+        Assertions.assertEquals(2, requests.get());
+    }
+
+    @Test
+    void clientErrorsAreNotRetriedTest() {
+        var exception = Assertions.assertThrows(HttpResponseException.class, () -> createCommunicator(3, Duration.ofSeconds(10))
+                .sendAuthenticatedGetRequest(url("/bad")));
+        Assertions.assertEquals(400, exception.getStatusCode());
+        Assertions.assertEquals(1, requests.get());
+    }
+
+    @Test
+    void responseTimeoutTest() {
+        HttpCommunicator communicator = createCommunicator(3, Duration.ofMillis(200));
+        Assertions.assertThrows(SocketTimeoutException.class, () -> communicator.sendAuthenticatedGetRequest(url("/slow")));
+        Assertions.assertEquals(1, requests.get());
+    }
+
+    private HttpCommunicator createCommunicator(int maxAttempts, Duration responseTimeout) {
+        return new HttpCommunicator(USERNAME, PASSWORD, maxAttempts, responseTimeout);
+    }
+
+    private String url(String path) {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + path;
+    }
+
+    private void record(HttpExchange exchange) {
+        requests.incrementAndGet();
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization != null) {
+            authorizations.add(authorization);
+        }
+    }
+
+    /**
+     * Responds gzip-compressed if the client accepts it, so that only clients that decompress responses read the body correctly.
+     */
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            requestBody.readAllBytes();
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(bytes);
+            }
+            bytes = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
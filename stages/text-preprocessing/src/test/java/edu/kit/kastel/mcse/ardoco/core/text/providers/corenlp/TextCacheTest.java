@@ -0,0 +1,131 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.textprocessor.TextCache;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter.DtoToObjectConverter;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.SentenceDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.TextDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.WordDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.NotConvertableException;
+
+class TextCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void storeAndLoadTest() throws NotConvertableException {
+        TextCache cache = new TextCache(directory, 1024 * 1024);
+        String key = TextCache.key("The server stores data.", "annotators=tokenize");
+        Assertions.assertTrue(cache.load(key).isEmpty());
+
+        Text text = createText("The", "server", "stores", "data");
+        cache.store(key, text);
+        Text loaded = cache.load(key).orElseThrow();
+
+        Assertions.assertEquals(text.getSentences().size(), loaded.getSentences().size());
+        Assertions.assertEquals(text.words().collect(it -> it.getText()), loaded.words().collect(it -> it.getText()));
+        Assertions.assertEquals(text.words().collect(it -> it.getPosTag()), loaded.words().collect(it -> it.getPosTag()));
+        Assertions.assertEquals(new TextCache.CacheStatistics(1, 1, 0, 0), cache.getStatistics());
+    }
+
+    @Test
+    void keyDependsOnTextAndConfigurationTest() {
+        String key = TextCache.key("text", "configuration");
+        Assertions.assertEquals(key, TextCache.key("text", "configuration"));
+        Assertions.assertNotEquals(key, TextCache.key("text", "other configuration"));
+        Assertions.assertNotEquals(key, TextCache.key("other text", "configuration"));
+    }
+
+    @Test
+    void corruptedEntriesAreRemovedTest() throws NotConvertableException, IOException {
+        TextCache cache = new TextCache(directory, 1024 * 1024);
+        String key = TextCache.key("text", "configuration");
+        cache.store(key, createText("The", "server"));
+        Path file = directory.resolve(key + ".json");
+        String content = Files.readString(file);
+        Files.writeString(file, content.substring(0, content.length() - 5));
+
+        Assertions.assertTrue(cache.load(key).isEmpty());
+        Assertions.assertFalse(Files.exists(file));
+        Assertions.assertEquals(1, cache.getStatistics().corruptedEntries());
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesAreEvictedTest() throws NotConvertableException, IOException {
+        Text text = createText("The", "server", "stores", "data");
+        TextCache unbounded = new TextCache(directory, Long.MAX_VALUE);
+        unbounded.store("probe", text);
+        long entrySize = unbounded.getSizeInBytes();
+        Files.delete(directory.resolve("probe.json"));
+
+        TextCache cache = new TextCache(directory, 2 * entrySize);
+        cache.store("first", text);
+        cache.store("second", text);
+        Files.setLastModifiedTime(directory.resolve("first.json"), FileTime.fromMillis(1_000));
+        Files.setLastModifiedTime(directory.resolve("second.json"), FileTime.fromMillis(2_000));
+        Assertions.assertTrue(cache.load("first").isPresent());
+        cache.store("third", text);
+
+        Assertions.assertEquals(List.of("first.json", "third.json"), listFiles());
+        Assertions.assertEquals(1, cache.getStatistics().evictions());
+        Assertions.assertTrue(cache.getSizeInBytes() <= 2 * entrySize);
+    }
+
+    @Test
+    void staleTemporaryFilesAreRemovedTest() throws IOException {
+        Path stale = Files.writeString(directory.resolve("stale.tmp"), "partial");
+        Files.setLastModifiedTime(stale, FileTime.fromMillis(1_000));
+        Files.writeString(directory.resolve("recent.tmp"), "partial");
+
+        new TextCache(directory, 1024 * 1024);
+
+        Assertions.assertEquals(List.of("recent.tmp"), listFiles());
+    }
+
+    private List<String> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(it -> it.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static Text createText(String... tokens) throws NotConvertableException {
+        List<WordDto> words = new ArrayList<>();
+        StringBuilder tree = new StringBuilder("(ROOT (S");
+        for (int i = 0; i < tokens.length; i++) {
+            POSTag posTag = i == 0 ? POSTag.DETERMINER : POSTag.NOUN;
+            WordDto word = new WordDto();
+            word.setId(i + 1L);
+            word.setSentenceNo(1);
+            word.setText(tokens[i]);
+            word.setLemma(tokens[i].toLowerCase(Locale.ROOT));
+            word.setPosTag(posTag);
+            words.add(word);
+            tree.append(" (").append(posTag.getTag()).append(' ').append(tokens[i]).append(')');
+        }
+        tree.append("))");
+        SentenceDto sentence = new SentenceDto();
+        sentence.setSentenceNo(1);
+        sentence.setText(String.join(" ", tokens));
+        sentence.setWords(words);
+        sentence.setConstituencyTree(tree.toString());
+        TextDto text = new TextDto();
+        text.setSentences(List.of(sentence));
+        return new DtoToObjectConverter().convertText(text);
+    }
+}
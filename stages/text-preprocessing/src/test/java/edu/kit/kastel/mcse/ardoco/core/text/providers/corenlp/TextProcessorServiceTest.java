@@ -0,0 +1,140 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.text.providers.corenlp;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.textprocessor.HttpCommunicator;
+import edu.kit.kastel.mcse.ardoco.core.text.providers.informants.corenlp.textprocessor.TextProcessorService;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter.JsonConverter;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.SentenceDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.TextDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.WordDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.InvalidJsonException;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.NotConvertableException;
+
+class TextProcessorServiceTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private HttpServer server;
+    private final AtomicInteger singleRequests = new AtomicInteger();
+    private final AtomicInteger batchRequests = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/stanfordnlp", exchange -> {
+            singleRequests.incrementAndGet();
+            JsonNode request = OBJECT_MAPPER.readTree(exchange.getRequestBody());
+            respond(exchange, annotate(request.get("text").asText()));
+        });
+        server.createContext("/stanfordnlp/batch", exchange -> {
+            batchRequests.incrementAndGet();
+            JsonNode request = OBJECT_MAPPER.readTree(exchange.getRequestBody());
+            List<String> annotatedTexts = new ArrayList<>();
+            for (JsonNode text : request.get("texts")) {
+                annotatedTexts.add(annotate(text.asText()));
+            }
+            respond(exchange, "[" + String.join(",", annotatedTexts) + "]");
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void processTextTest() throws IOException, InvalidJsonException, NotConvertableException {
+        Text text = createService(true).processText("The server stores data & more");
+        Assertions.assertEquals(List.of("The", "server", "stores", "data", "&", "more"), text.words().collect(Word::getText).castToList());
+        Assertions.assertEquals(1, singleRequests.get());
+    }
+
+    @Test
+    void processTextsInOneRequestTest() throws IOException, InvalidJsonException, NotConvertableException {
+        List<Text> texts = createService(true).processTexts(List.of("The server", "A client \"quoted\"", "Über résumé"));
+        Assertions.assertEquals(3, texts.size());
+        Assertions.assertEquals(List.of("The", "server"), texts.get(0).words().collect(Word::getText).castToList());
+        Assertions.assertEquals(List.of("A", "client", "\"quoted\""), texts.get(1).words().collect(Word::getText).castToList());
+        Assertions.assertEquals(List.of("Über", "résumé"), texts.get(2).words().collect(Word::getText).castToList());
+        Assertions.assertEquals(1, batchRequests.get());
+        Assertions.assertEquals(0, singleRequests.get());
+    }
+
+    @Test
+    void processTextsWithoutBatchServiceTest() throws IOException, InvalidJsonException, NotConvertableException {
+        List<Text> texts = createService(false).processTexts(List.of("The server", "A client"));
+        Assertions.assertEquals(List.of("A", "client"), texts.get(1).words().collect(Word::getText).castToList());
+        Assertions.assertEquals(0, batchRequests.get());
+        Assertions.assertEquals(2, singleRequests.get());
+    }
+
+    private TextProcessorService createService(boolean withBatchService) {
+        String serviceUrl = "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/stanfordnlp";
+        HttpCommunicator communicator = new HttpCommunicator("user", "secret", 1, Duration.ofSeconds(10));
+        return new TextProcessorService(communicator, serviceUrl, withBatchService ? serviceUrl + "/batch" : null);
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    /**
+     * Annotates the URL-encoded text by treating each space-separated token as a noun.
+     */
+    private static String annotate(String encodedText) throws IOException {
+        String[] tokens = URLDecoder.decode(encodedText, StandardCharsets.UTF_8).split(" ");
+        List<WordDto> words = new ArrayList<>();
+        StringBuilder tree = new StringBuilder("(ROOT (NP");
+        for (int i = 0; i < tokens.length; i++) {
+            WordDto word = new WordDto();
+            word.setId(i + 1L);
+            word.setSentenceNo(1);
+            word.setText(tokens[i]);
+            word.setLemma(tokens[i].toLowerCase(Locale.ROOT));
+            word.setPosTag(POSTag.NOUN);
+            words.add(word);
+            tree.append(" (").append(POSTag.NOUN.getTag()).append(' ').append(tokens[i]).append(')');
+        }
+        tree.append("))");
+        SentenceDto sentence = new SentenceDto();
+        sentence.setSentenceNo(1);
+        sentence.setText(String.join(" ", tokens));
+        sentence.setWords(words);
+        sentence.setConstituencyTree(tree.toString());
+        TextDto text = new TextDto();
+        text.setSentences(List.of(sentence));
+        try {
+            return JsonConverter.toJsonString(text);
+        } catch (InvalidJsonException e) {
+            throw new IOException(e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.benchmark;
+
+import edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Claimant;
+
+/**
+ * The {@link Claimant} that is used for all claims made by the benchmarks.
+ */
+public final class BenchmarkClaimant implements Claimant {
+
+    /**
+     * The single instance of this claimant.
+     */
+    public static final BenchmarkClaimant INSTANCE = new BenchmarkClaimant();
+
+    private BenchmarkClaimant() {
+    }
+}
@@ -0,0 +1,79 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JMH result files that were written by {@link BenchmarkRunner}. Benchmarks are matched by their name and parameters. A benchmark regresses if
+ * its score got worse by more than the given percentage (default: 10). The throughput modes count higher scores as better, all time-based modes count lower
+ * scores as better. The process exits with status 1 if at least one benchmark regressed.
+ * <p>
+ * Usage: {@code BenchmarkComparison <baseline.json> <candidate.json> [maxRegressionPercent]}
+ */
+public final class BenchmarkComparison {
+
+    private static final double DEFAULT_MAX_REGRESSION_PERCENT = 10.0;
+
+    private BenchmarkComparison() {
+        throw new IllegalAccessError();
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <candidate.json> [maxRegressionPercent]");
+            System.exit(2);
+        }
+        double maxRegression = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_MAX_REGRESSION_PERCENT;
+        Map<String, Score> baseline = readScores(new File(args[0]));
+        Map<String, Score> candidate = readScores(new File(args[1]));
+
+        boolean regressed = false;
+        System.out.printf(Locale.ROOT, "%-100s %14s %14s %9s%n", "Benchmark", "Baseline", "Candidate", "Change");
+        for (var entry : candidate.entrySet()) {
+            Score baselineScore = baseline.get(entry.getKey());
+            Score candidateScore = entry.getValue();
+            if (baselineScore == null) {
+                System.out.printf(Locale.ROOT, "%-100s %14s %14.3f %9s%n", entry.getKey(), "-", candidateScore.value(), "new");
+                continue;
+            }
+            double change = 100.0 * (candidateScore.value() - baselineScore.value()) / baselineScore.value();
+            double regression = candidateScore.higherIsBetter() ? -change : change;
+            boolean isRegression = regression > maxRegression;
+            regressed |= isRegression;
+            System.out.printf(Locale.ROOT, "%-100s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), baselineScore.value(), candidateScore.value(), change,
+                    isRegression ? " REGRESSION" : "");
+        }
+        if (regressed) {
+            System.exit(1);
+        }
+    }
+
+    static Map<String, Score> readScores(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.get("benchmark").asText());
+            JsonNode params = result.get("params");
+            if (params != null) {
+                Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+                while (fields.hasNext()) {
+                    var param = fields.next();
+                    key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+                }
+            }
+            boolean higherIsBetter = "thrpt".equals(result.get("mode").asText());
+            scores.put(key.toString(), new Score(result.get("primaryMetric").get("score").asDouble(), higherIsBetter));
+        }
+        return scores;
+    }
+
+    record Score(double value, boolean higherIsBetter) {
+    }
+}
@@ -0,0 +1,63 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of this module and writes the results as JSON to {@code target/benchmark-results/jmh-<label>.json}. The label is taken from the
+ * system property {@code benchmark.label}; if it is not set, the abbreviated id of the current git commit is used. All regular JMH command line options
+ * (e.g., a benchmark regex, {@code -p fixture=JABREF}, or {@code -rff}) can be passed and take precedence over the defaults. Two result files can be
+ * compared with {@link BenchmarkComparison}.
+ */
+public final class BenchmarkRunner {
+
+    private static final String RESULT_DIRECTORY = "target/benchmark-results";
+
+    private BenchmarkRunner() {
+        throw new IllegalAccessError();
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(commandLineOptions);
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            builder.include(BenchmarkRunner.class.getPackageName() + ".*Benchmark");
+        }
+        if (commandLineOptions.getResult().orElse(null) == null) {
+            File resultDirectory = new File(RESULT_DIRECTORY);
+            if (!resultDirectory.exists() && !resultDirectory.mkdirs()) {
+                throw new IllegalStateException("Could not create " + resultDirectory.getAbsolutePath());
+            }
+            builder.resultFormat(ResultFormatType.JSON).result(new File(resultDirectory, "jmh-" + label() + ".json").getPath());
+        }
+        new Runner(builder.build()).run();
+    }
+
+    private static String label() {
+        String label = System.getProperty("benchmark.label");
+        if (label != null && !label.isBlank()) {
+            return label;
+        }
+        try (Repository repository = new FileRepositoryBuilder().findGitDir(new File("").getAbsoluteFile()).build()) {
+            ObjectId head = repository.resolve("HEAD");
+            if (head != null) {
+                return head.abbreviate(7).name();
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // not inside a git repository, fall back to the default label
+        }
+        return "local";
+    }
+}
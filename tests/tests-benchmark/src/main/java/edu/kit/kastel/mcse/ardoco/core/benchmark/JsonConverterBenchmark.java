@@ -0,0 +1,74 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import edu.kit.kastel.mcse.ardoco.core.benchmark.fixtures.BenchmarkFixture;
+import edu.kit.kastel.mcse.ardoco.core.benchmark.fixtures.FixtureTexts;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter.JsonConverter;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.TextDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.InvalidJsonException;
+
+/**
+ * Benchmarks converting {@link TextDto TextDtos} from and to JSON with {@link JsonConverter}, with and without validation against the text schema. To
+ * obtain large documents, the raw text of the fixture is repeated {@link #copies} times. {@link #readWithDataBinding()} reads the same JSON with plain
+ * Jackson data binding as a reference for the streaming reader.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonConverterBenchmark {
+
+    @Param({ "SYNTHETIC", "JABREF" })
+    public BenchmarkFixture fixture;
+
+    @Param({ "1", "10" })
+    public int copies;
+
+    @Param({ "true", "false" })
+    public boolean validate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private TextDto textDto;
+    private String json;
+
+    @Setup
+    public void setUp() throws IOException, InvalidJsonException {
+        String rawText = fixture.loadRawText();
+        textDto = FixtureTexts.toTextDto((rawText + "\n").repeat(copies));
+        json = JsonConverter.toJsonString(textDto);
+    }
+
+    @Benchmark
+    public TextDto read() throws IOException, InvalidJsonException {
+        return JsonConverter.fromJsonString(json, validate);
+    }
+
+    @Benchmark
+    public String write() throws IOException, InvalidJsonException {
+        return JsonConverter.toJsonString(textDto, validate);
+    }
+
+    @Benchmark
+    public TextDto readWithDataBinding() throws IOException {
+        return objectMapper.readValue(json, TextDto.class);
+    }
+}
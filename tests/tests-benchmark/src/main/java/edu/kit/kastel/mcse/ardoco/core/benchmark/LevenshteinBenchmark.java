@@ -0,0 +1,89 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.text.similarity.LevenshteinDistance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.kit.kastel.mcse.ardoco.core.benchmark.fixtures.BenchmarkFixture;
+import edu.kit.kastel.mcse.ardoco.core.benchmark.fixtures.SyntheticCorpus;
+import edu.kit.kastel.mcse.ardoco.core.common.util.CommonTextToolsConfig;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.ComparisonContext;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.measures.levenshtein.LevenshteinMeasure;
+
+/**
+ * Benchmarks the decision of the {@link LevenshteinMeasure} against the same decision based on the full levenshtein distance of commons-text, which the
+ * measure used before. Both are evaluated with the configured settings on all pairs of a list of fixture terms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevenshteinBenchmark {
+
+    static final int PAIRS = 4096;
+    private static final int TERMS = 256;
+
+    @Param({ "SYNTHETIC", "TEASTORE" })
+    public BenchmarkFixture fixture;
+
+    private final LevenshteinMeasure measure = new LevenshteinMeasure();
+    private final LevenshteinDistance fullDistance = new LevenshteinDistance();
+
+    private ComparisonContext[] pairs;
+
+    @Setup
+    public void setUp() {
+        List<String> terms = fixture.loadTerms(TERMS);
+        Random random = new Random(SyntheticCorpus.DEFAULT_SEED);
+        pairs = new ComparisonContext[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            pairs[i] = new ComparisonContext(terms.get(random.nextInt(terms.size())), terms.get(random.nextInt(terms.size())));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void boundedDistance(Blackhole blackhole) {
+        for (ComparisonContext pair : pairs) {
+            blackhole.consume(measure.areWordsSimilar(pair));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void fullDistance(Blackhole blackhole) {
+        for (ComparisonContext pair : pairs) {
+            blackhole.consume(fullDistanceDecision(pair));
+        }
+    }
+
+    private boolean fullDistanceDecision(ComparisonContext ctx) {
+        String firstWord = ctx.firstTerm().toLowerCase();
+        String secondWord = ctx.secondTerm().toLowerCase();
+        int maxDynamicDistance = (int) Math.min(CommonTextToolsConfig.LEVENSHTEIN_MAX_DISTANCE,
+                CommonTextToolsConfig.LEVENSHTEIN_THRESHOLD * Math.min(firstWord.length(), secondWord.length()));
+        int distance = fullDistance.apply(firstWord, secondWord);
+        if (firstWord.length() <= CommonTextToolsConfig.LEVENSHTEIN_MIN_LENGTH) {
+            return distance <= CommonTextToolsConfig.LEVENSHTEIN_MAX_DISTANCE && (secondWord.contains(firstWord) || firstWord.contains(secondWord));
+        }
+        return distance <= maxDynamicDistance;
+    }
+}
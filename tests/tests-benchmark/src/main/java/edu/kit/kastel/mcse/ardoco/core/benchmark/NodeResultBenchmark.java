@@ -0,0 +1,103 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.ArchitectureModel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.CodeModel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.architecture.ArchitectureItem;
+import edu.kit.kastel.mcse.ardoco.core.benchmark.fixtures.BenchmarkFixture;
+import edu.kit.kastel.mcse.ardoco.core.benchmark.fixtures.SyntheticCorpus;
+import edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.computation.Confidence;
+import edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.computation.EndpointTupleRepo;
+import edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.computation.NodeResult;
+import edu.kit.kastel.mcse.ardoco.core.codetraceability.informants.arcotl.computation.SamCodeEndpointTuple;
+
+/**
+ * Benchmarks the {@link NodeResult} of the ArCoTL computation. The result covers all endpoint tuples of the fixture's architecture and code model, and a
+ * deterministic five percent of the tuples have a confidence value. The queries are executed once for every architecture endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodeResultBenchmark {
+
+    private static final int VALUE_PERCENTAGE = 5;
+
+    @Param({ "SYNTHETIC", "TEASTORE" })
+    public BenchmarkFixture fixture;
+
+    private ArchitectureModel architectureModel;
+    private CodeModel codeModel;
+    private List<ArchitectureItem> architectureEndpoints;
+    private NodeResult nodeResult;
+
+    @Setup
+    public void setUp() {
+        architectureModel = fixture.loadArchitectureModel();
+        codeModel = fixture.loadCodeModel();
+        architectureEndpoints = architectureModel.getEndpoints();
+        nodeResult = new NodeResult();
+        Random random = new Random(SyntheticCorpus.DEFAULT_SEED);
+        for (SamCodeEndpointTuple endpointTuple : new EndpointTupleRepo(architectureModel, codeModel).getEndpointTuples()) {
+            Confidence confidence = random.nextInt(100) < VALUE_PERCENTAGE ? new Confidence(random.nextDouble()) : new Confidence();
+            nodeResult.add(endpointTuple, confidence);
+        }
+    }
+
+    @Benchmark
+    public NodeResult create() {
+        return new NodeResult(architectureModel, codeModel);
+    }
+
+    @Benchmark
+    public void getBestConfidence(Blackhole blackhole) {
+        for (ArchitectureItem endpoint : architectureEndpoints) {
+            blackhole.consume(nodeResult.getBestConfidence(endpoint));
+        }
+    }
+
+    @Benchmark
+    public void getLinkedEndpoints(Blackhole blackhole) {
+        for (ArchitectureItem endpoint : architectureEndpoints) {
+            blackhole.consume(nodeResult.getLinkedEndpoints(endpoint));
+        }
+    }
+
+    @Benchmark
+    public void hasTraceLink(Blackhole blackhole) {
+        for (ArchitectureItem endpoint : architectureEndpoints) {
+            blackhole.consume(nodeResult.hasTraceLink(endpoint));
+        }
+    }
+
+    @Benchmark
+    public void getResultForEndpoint(Blackhole blackhole) {
+        for (ArchitectureItem endpoint : architectureEndpoints) {
+            blackhole.consume(nodeResult.getResultForEndpoint(endpoint));
+        }
+    }
+
+    @Benchmark
+    public void getTraceLinks(Blackhole blackhole) {
+        blackhole.consume(nodeResult.getTraceLinks());
+    }
+}
@@ -0,0 +1,91 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.MappingKind;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.NounMapping;
+import edu.kit.kastel.mcse.ardoco.core.benchmark.fixtures.BenchmarkFixture;
+import edu.kit.kastel.mcse.ardoco.core.recommendationgenerator.RecommendationStateImpl;
+import edu.kit.kastel.mcse.ardoco.core.textextraction.TextStateImpl;
+
+/**
+ * Benchmarks filling a fresh {@link RecommendationStateImpl} with a recommended instance for every name mapping of the fixture text, once without and
+ * once with a type, and looking up the recommended instances of every name mapping by its reference, by a similar name and by the mapping itself. As recommended instances
+ * register themselves as listeners of their noun mappings, the noun mappings are created anew for every iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecommendationStateBenchmark {
+
+    @Param({ "SYNTHETIC", "TEASTORE", "JABREF" })
+    public BenchmarkFixture fixture;
+
+    private Word[] nouns;
+    private ImmutableList<NounMapping> nameMappings;
+    private ImmutableList<NounMapping> typeMappings;
+    private RecommendationStateImpl filledState;
+
+    @Setup
+    public void setUp() {
+        nouns = fixture.loadText().words().select(word -> word.getPosTag().isNoun()).toArray(new Word[0]);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        TextStateImpl textState = new TextStateImpl();
+        for (Word noun : nouns) {
+            textState.addNounMapping(noun, MappingKind.NAME, BenchmarkClaimant.INSTANCE, 0.5);
+        }
+        nameMappings = textState.getNounMappingsOfKind(MappingKind.NAME);
+        typeMappings = nameMappings.take(1);
+        filledState = addRecommendedInstances();
+    }
+
+    @Benchmark
+    public RecommendationStateImpl addRecommendedInstances() {
+        RecommendationStateImpl recommendationState = new RecommendationStateImpl();
+        for (NounMapping nameMapping : nameMappings) {
+            recommendationState.addRecommendedInstance(nameMapping.getReference(), BenchmarkClaimant.INSTANCE, 0.5, Lists.immutable.with(nameMapping));
+            recommendationState.addRecommendedInstance(nameMapping.getReference(), "component", BenchmarkClaimant.INSTANCE, 0.5, Lists.immutable.with(
+                    nameMapping), typeMappings);
+        }
+        return recommendationState;
+    }
+
+    @Benchmark
+    public void getRecommendedInstancesByNameAndMapping(Blackhole blackhole) {
+        for (NounMapping nameMapping : nameMappings) {
+            blackhole.consume(filledState.getRecommendedInstancesByName(nameMapping.getReference()));
+            blackhole.consume(filledState.getAnyRecommendedInstancesByMapping(nameMapping));
+        }
+    }
+
+    @Benchmark
+    public void getRecommendedInstancesBySimilarName(Blackhole blackhole) {
+        for (NounMapping nameMapping : nameMappings) {
+            blackhole.consume(filledState.getRecommendedInstancesBySimilarName(nameMapping.getReference()));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.SortedSets;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.MappingKind;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.NounMapping;
+import edu.kit.kastel.mcse.ardoco.core.benchmark.fixtures.BenchmarkFixture;
+import edu.kit.kastel.mcse.ardoco.core.common.util.SimilarityUtils;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.WordSimUtils;
+import edu.kit.kastel.mcse.ardoco.core.textextraction.NounMappingImpl;
+
+/**
+ * Benchmarks {@link SimilarityUtils#areNounMappingsSimilar(NounMapping, NounMapping)} for all pairs of a set of noun mappings. Every noun of the fixture
+ * text becomes a single-word noun mapping, and every pair of adjacent nouns additionally becomes a two-word noun mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimilarityUtilsBenchmark {
+
+    static final int MAPPINGS = 128;
+    private static final int PAIRS = MAPPINGS * (MAPPINGS - 1) / 2;
+
+    @Param({ "SYNTHETIC", "TEASTORE" })
+    public BenchmarkFixture fixture;
+
+    /**
+     * Whether the verdicts that {@link WordSimUtils} memoizes are kept across invocations. If not, the cache is cleared before every invocation, so
+     * that the similarity measures are measured instead of the lookups of the cache.
+     */
+    @Param({ "false", "true" })
+    public boolean cached;
+
+    private NounMapping[] nounMappings;
+
+    @Setup
+    public void setUp() {
+        ImmutableList<Word> words = fixture.loadText().words();
+        List<NounMapping> mappings = new ArrayList<>(MAPPINGS);
+        Word previous = null;
+        for (Word word : words) {
+            if (mappings.size() >= MAPPINGS) {
+                break;
+            }
+            if (!word.getPosTag().isNoun()) {
+                previous = null;
+                continue;
+            }
+            mappings.add(createNounMapping(Lists.immutable.with(word)));
+            if (previous != null && previous.getSentenceNo() == word.getSentenceNo() && mappings.size() < MAPPINGS) {
+                mappings.add(createNounMapping(Lists.immutable.with(previous, word)));
+            }
+            previous = word;
+        }
+        if (mappings.size() < MAPPINGS) {
+            throw new IllegalStateException("Fixture " + fixture + " contains too few nouns");
+        }
+        nounMappings = mappings.toArray(NounMapping[]::new);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        if (!cached) {
+            WordSimUtils.clearCache();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void areNounMappingsSimilar(Blackhole blackhole) {
+        for (int i = 0; i < nounMappings.length; i++) {
+            for (int j = i + 1; j < nounMappings.length; j++) {
+                blackhole.consume(SimilarityUtils.areNounMappingsSimilar(nounMappings[i], nounMappings[j]));
+            }
+        }
+    }
+
+    private static NounMapping createNounMapping(ImmutableList<Word> words) {
+        return new NounMappingImpl(SortedSets.immutable.withAll(words), MappingKind.NAME, BenchmarkClaimant.INSTANCE, 0.5, words,
+                words.collect(Word::getText));
+    }
+}
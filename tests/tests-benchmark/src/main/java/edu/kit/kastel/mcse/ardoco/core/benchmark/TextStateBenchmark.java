@@ -0,0 +1,67 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.Word;
+import edu.kit.kastel.mcse.ardoco.core.api.textextraction.MappingKind;
+import edu.kit.kastel.mcse.ardoco.core.benchmark.fixtures.BenchmarkFixture;
+import edu.kit.kastel.mcse.ardoco.core.textextraction.PhraseConcerningTextStateStrategy;
+import edu.kit.kastel.mcse.ardoco.core.textextraction.TextStateImpl;
+
+/**
+ * Benchmarks filling a fresh {@link TextStateImpl} via {@link TextStateImpl#addNounMapping(Word, MappingKind,
+ * edu.kit.kastel.mcse.ardoco.core.pipeline.agent.Claimant, double)} with every noun of the fixture text. This covers the merging of similar noun mappings
+ * by the text state strategy as well as the bookkeeping of the text state itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextStateBenchmark {
+
+    /**
+     * The text state strategies that can be benchmarked.
+     */
+    public enum Strategy {
+        ORIGINAL, PHRASE_CONCERNING
+    }
+
+    private static final int MAXIMUM_NOUNS = 500;
+
+    @Param({ "SYNTHETIC", "TEASTORE" })
+    public BenchmarkFixture fixture;
+
+    @Param({ "ORIGINAL", "PHRASE_CONCERNING" })
+    public Strategy strategy;
+
+    private Word[] nouns;
+
+    @Setup
+    public void setUp() {
+        nouns = fixture.loadText().words().select(word -> word.getPosTag().isNoun()).take(MAXIMUM_NOUNS).toArray(new Word[0]);
+    }
+
+    @Benchmark
+    public TextStateImpl addNounMapping() {
+        TextStateImpl textState = strategy == Strategy.ORIGINAL ? new TextStateImpl() : new TextStateImpl(PhraseConcerningTextStateStrategy::new);
+        for (Word noun : nouns) {
+            textState.addNounMapping(noun, MappingKind.NAME, BenchmarkClaimant.INSTANCE, 0.5);
+        }
+        return textState;
+    }
+}
@@ -0,0 +1,100 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.kit.kastel.mcse.ardoco.core.benchmark.fixtures.BenchmarkFixture;
+import edu.kit.kastel.mcse.ardoco.core.benchmark.fixtures.SyntheticCorpus;
+import edu.kit.kastel.mcse.ardoco.core.common.util.wordsim.WordSimUtils;
+
+/**
+ * Benchmarks {@link WordSimUtils#areWordsSimilar(String, String)} with the configured default measures. The term pairs are a deterministic mix of random
+ * pairs (mostly dissimilar), pairs with a misspelling, and pairs that only differ in case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordSimBenchmark {
+
+    static final int PAIRS = 2048;
+    private static final int TERMS = 512;
+
+    @Param({ "SYNTHETIC", "TEASTORE" })
+    public BenchmarkFixture fixture;
+
+    /**
+     * Whether the verdicts that {@link WordSimUtils} memoizes are kept across invocations. If not, the cache is cleared before every invocation, so
+     * that the similarity measures are measured instead of the lookups of the cache.
+     */
+    @Param({ "false", "true" })
+    public boolean cached;
+
+    private String[] firstTerms;
+    private String[] secondTerms;
+
+    @Setup
+    public void setUp() {
+        List<String> terms = fixture.loadTerms(TERMS);
+        Random random = new Random(SyntheticCorpus.DEFAULT_SEED);
+        List<String> firsts = new ArrayList<>(PAIRS);
+        List<String> seconds = new ArrayList<>(PAIRS);
+        for (int i = 0; i < PAIRS; i++) {
+            String first = terms.get(random.nextInt(terms.size()));
+            String second = switch (i % 4) {
+            case 0 -> misspell(first, random);
+            case 1 -> first.toUpperCase(Locale.ROOT);
+            default -> terms.get(random.nextInt(terms.size()));
+            };
+            firsts.add(first);
+            seconds.add(second);
+        }
+        firstTerms = firsts.toArray(String[]::new);
+        secondTerms = seconds.toArray(String[]::new);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        if (!cached) {
+            WordSimUtils.clearCache();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAIRS)
+    public void areWordsSimilar(Blackhole blackhole) {
+        for (int i = 0; i < PAIRS; i++) {
+            blackhole.consume(WordSimUtils.areWordsSimilar(firstTerms[i], secondTerms[i]));
+        }
+    }
+
+    private static String misspell(String term, Random random) {
+        if (term.length() < 3) {
+            return term + "s";
+        }
+        char[] chars = term.toCharArray();
+        chars[1 + random.nextInt(chars.length - 2)] = (char) ('a' + random.nextInt(26));
+        return new String(chars);
+    }
+}
@@ -0,0 +1,134 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.benchmark.fixtures;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.ArchitectureModel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.CodeModel;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.architecture.ArchitectureComponent;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.architecture.ArchitectureItem;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.code.CodeCompilationUnit;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.code.CodeItemRepository;
+import edu.kit.kastel.mcse.ardoco.core.api.models.arcotl.code.ProgrammingLanguage;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
+import edu.kit.kastel.mcse.ardoco.core.models.connectors.generators.architecture.pcm.PcmExtractor;
+import edu.kit.kastel.mcse.ardoco.core.models.connectors.generators.code.CodeExtractor;
+import edu.kit.kastel.mcse.ardoco.core.tests.eval.CodeProject;
+
+/**
+ * The inputs the benchmarks can run on. {@link #SYNTHETIC} is generated by {@link SyntheticCorpus} with a fixed seed, all other fixtures are derived from the
+ * benchmark projects that are shipped with the tests-base module (documentation text, PCM architecture model, and code model).
+ */
+public enum BenchmarkFixture {
+    SYNTHETIC(null), //
+    MEDIASTORE(CodeProject.MEDIASTORE), //
+    TEASTORE(CodeProject.TEASTORE), //
+    TEAMMATES(CodeProject.TEAMMATES), //
+    BIGBLUEBUTTON(CodeProject.BIGBLUEBUTTON), //
+    JABREF(CodeProject.JABREF);
+
+    private static final int SYNTHETIC_SENTENCES = 400;
+    private static final int SYNTHETIC_COMPONENTS = 25;
+    private static final int SYNTHETIC_UNITS_PER_COMPONENT = 40;
+
+    private final CodeProject codeProject;
+
+    BenchmarkFixture(CodeProject codeProject) {
+        this.codeProject = codeProject;
+    }
+
+    /**
+     * Returns the raw documentation text of this fixture.
+     *
+     * @return the raw text
+     */
+    public String loadRawText() {
+        if (codeProject == null) {
+            return new SyntheticCorpus(SyntheticCorpus.DEFAULT_SEED).text(SYNTHETIC_SENTENCES);
+        }
+        return read(codeProject.getProject().getTextFile());
+    }
+
+    /**
+     * Returns the annotated documentation text of this fixture. See {@link FixtureTexts} for the (approximated) annotations.
+     *
+     * @return the annotated text
+     */
+    public Text loadText() {
+        return FixtureTexts.toText(loadRawText());
+    }
+
+    /**
+     * Returns the distinct terms that occur in this fixture. For {@link #SYNTHETIC}, the terms are generated directly.
+     *
+     * @param maximum the maximum number of terms
+     * @return the terms
+     */
+    public List<String> loadTerms(int maximum) {
+        if (codeProject == null) {
+            return new SyntheticCorpus(SyntheticCorpus.DEFAULT_SEED).terms(maximum);
+        }
+        List<String> vocabulary = FixtureTexts.vocabulary(loadRawText());
+        return new ArrayList<>(vocabulary.subList(0, Math.min(maximum, vocabulary.size())));
+    }
+
+    /**
+     * Returns the architecture model of this fixture.
+     *
+     * @return the architecture model
+     */
+    public ArchitectureModel loadArchitectureModel() {
+        if (codeProject == null) {
+            List<ArchitectureItem> components = new ArrayList<>();
+            List<String> names = new SyntheticCorpus(SyntheticCorpus.DEFAULT_SEED).componentNames(SYNTHETIC_COMPONENTS);
+            for (int i = 0; i < names.size(); i++) {
+                components.add(new ArchitectureComponent(names.get(i), "synthetic-component-" + i, new TreeSet<>(), new TreeSet<>(), new TreeSet<>(),
+                        "BasicComponent"));
+            }
+            return new ArchitectureModel(components);
+        }
+        return new PcmExtractor(codeProject.getProject().getModelFile().getAbsolutePath()).extractModel();
+    }
+
+    /**
+     * Returns the code model of this fixture.
+     *
+     * @return the code model
+     */
+    public CodeModel loadCodeModel() {
+        if (codeProject == null) {
+            CodeItemRepository repository = new CodeItemRepository();
+            SortedSet<CodeCompilationUnit> units = new TreeSet<>();
+            List<String> names = new SyntheticCorpus(SyntheticCorpus.DEFAULT_SEED).componentNames(SYNTHETIC_COMPONENTS);
+            for (String name : names) {
+                String packageName = name.toLowerCase(Locale.ROOT);
+                for (int i = 0; i < SYNTHETIC_UNITS_PER_COMPONENT; i++) {
+                    units.add(new CodeCompilationUnit(repository, name + "Part" + i, new TreeSet<>(), List.of("src", packageName), "java",
+                            ProgrammingLanguage.JAVA));
+                }
+            }
+            return new CodeModel(repository, units);
+        }
+        CodeModel codeModel = CodeExtractor.readInCodeModel(new File(codeProject.getCodeModelDirectory(), "codeModel.acm"));
+        if (codeModel == null) {
+            throw new IllegalStateException("Could not load the code model of " + this);
+        }
+        return codeModel;
+    }
+
+    private static String read(File file) {
+        try {
+            return Files.readString(file.toPath());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.benchmark.fixtures;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import edu.kit.kastel.mcse.ardoco.core.api.text.POSTag;
+import edu.kit.kastel.mcse.ardoco.core.api.text.Text;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.converter.DtoToObjectConverter;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.SentenceDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.TextDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.dto.WordDto;
+import edu.kit.kastel.mcse.ardoco.core.textproviderjson.error.NotConvertableException;
+
+/**
+ * Creates annotated {@link Text Texts} for the benchmarks without running CoreNLP. The annotation is a cheap approximation: tokens are split with a regular
+ * expression, part-of-speech tags are guessed from a list of function words, and consecutive nouns form a noun phrase. This is sufficient to exercise the
+ * text state and similarity code with realistic vocabulary while keeping the fixture creation fast and independent of the NLP models.
+ */
+public final class FixtureTexts {
+
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+(?:[-_'.][\\p{L}\\p{N}]+)*|[^\\s\\p{L}\\p{N}()\\[\\]{}]");
+
+    private static final Set<String> FUNCTION_WORDS = Set.of("a", "an", "the", "this", "that", "these", "those", "and", "or", "but", "if", "then", "of", "to",
+            "in", "on", "at", "by", "for", "from", "with", "into", "as", "is", "are", "was", "were", "be", "been", "it", "its", "which", "who", "can", "will",
+            "also", "not", "all", "each", "via", "uses", "use", "used", "sends", "calls", "provides", "stores", "requests", "manages", "forwards", "has", "have");
+
+    private FixtureTexts() {
+        throw new IllegalAccessError();
+    }
+
+    /**
+     * Converts the given raw text into an annotated {@link Text}.
+     *
+     * @param rawText the raw text
+     * @return the annotated text
+     */
+    public static Text toText(String rawText) {
+        try {
+            return new DtoToObjectConverter().convertText(toTextDto(rawText));
+        } catch (NotConvertableException e) {
+            throw new IllegalStateException("Could not convert fixture text", e);
+        }
+    }
+
+    /**
+     * Converts the given raw text into a {@link TextDto}.
+     *
+     * @param rawText the raw text
+     * @return the text DTO
+     */
+    public static TextDto toTextDto(String rawText) {
+        List<SentenceDto> sentences = new ArrayList<>();
+        long wordId = 1;
+        for (List<String> tokens : sentences(rawText)) {
+            long sentenceNo = sentences.size() + 1L;
+            List<WordDto> words = new ArrayList<>();
+            StringBuilder tree = new StringBuilder("(ROOT (S");
+            boolean inNounPhrase = false;
+            for (int i = 0; i < tokens.size(); i++) {
+                String token = tokens.get(i);
+                POSTag posTag = guessPosTag(token, i == 0);
+                boolean noun = posTag.isNoun();
+                if (noun && !inNounPhrase) {
+                    tree.append(" (NP");
+                } else if (!noun && inNounPhrase) {
+                    tree.append(")");
+                }
+                inNounPhrase = noun;
+                tree.append(" (").append(posTag.getTag()).append(" ").append(token).append(")");
+
+                WordDto word = new WordDto();
+                word.setId(wordId++);
+                word.setSentenceNo(sentenceNo);
+                word.setText(token);
+                word.setLemma(token.toLowerCase(Locale.ROOT));
+                word.setPosTag(posTag);
+                words.add(word);
+            }
+            if (inNounPhrase) {
+                tree.append(")");
+            }
+            tree.append("))");
+
+            SentenceDto sentence = new SentenceDto();
+            sentence.setSentenceNo(sentenceNo);
+            sentence.setText(String.join(" ", tokens));
+            sentence.setWords(words);
+            sentence.setConstituencyTree(tree.toString());
+            sentences.add(sentence);
+        }
+        TextDto text = new TextDto();
+        text.setSentences(sentences);
+        return text;
+    }
+
+    /**
+     * Returns the distinct alphabetic tokens of the given raw text in the order of their first occurrence.
+     *
+     * @param rawText the raw text
+     * @return the vocabulary of the text
+     */
+    public static List<String> vocabulary(String rawText) {
+        Set<String> vocabulary = new LinkedHashSet<>();
+        for (List<String> sentence : sentences(rawText)) {
+            for (String token : sentence) {
+                if (token.length() > 1 && Character.isLetter(token.charAt(0))) {
+                    vocabulary.add(token);
+                }
+            }
+        }
+        return new ArrayList<>(vocabulary);
+    }
+
+    private static List<List<String>> sentences(String rawText) {
+        List<List<String>> sentences = new ArrayList<>();
+        for (String line : rawText.split("\\R")) {
+            List<String> current = new ArrayList<>();
+            Matcher matcher = TOKEN.matcher(line);
+            while (matcher.find()) {
+                String token = matcher.group();
+                current.add(token);
+                if (token.equals(".") || token.equals("!") || token.equals("?")) {
+                    sentences.add(current);
+                    current = new ArrayList<>();
+                }
+            }
+            if (!current.isEmpty()) {
+                sentences.add(current);
+            }
+        }
+        return sentences;
+    }
+
+    private static POSTag guessPosTag(String token, boolean sentenceStart) {
+        char first = token.charAt(0);
+        if (!Character.isLetterOrDigit(first)) {
+            return switch (token) {
+            case ".", "!", "?" -> POSTag.CLOSER;
+            case "," -> POSTag.COMMA;
+            case ":", ";" -> POSTag.COLON;
+            default -> POSTag.SYMBOL;
+            };
+        }
+        if (Character.isDigit(first)) {
+            return POSTag.CARDINAL_NUMBER;
+        }
+        String lowerCase = token.toLowerCase(Locale.ROOT);
+        if (FUNCTION_WORDS.contains(lowerCase) || token.length() < 3) {
+            return POSTag.DETERMINER;
+        }
+        if (Character.isUpperCase(first) && !sentenceStart) {
+            return POSTag.NOUN_PROPER_SINGULAR;
+        }
+        return lowerCase.endsWith("s") ? POSTag.NOUN_PLURAL : POSTag.NOUN;
+    }
+}
@@ -0,0 +1,124 @@
+/* Licensed under MIT 2023. */
+package edu.kit.kastel.mcse.ardoco.core.benchmark.fixtures;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generates reproducible synthetic input for the benchmarks. The generated terms resemble the vocabulary of software architecture documentation (compound
+ * identifiers, multi-word names, and slightly misspelled variants), so that the similarity measures take both their positive and negative paths. All output
+ * only depends on the given seed.
+ */
+public final class SyntheticCorpus {
+
+    /**
+     * The seed that is used by the fixtures if nothing else is specified.
+     */
+    public static final long DEFAULT_SEED = 42L;
+
+    private static final String[] STEMS = { "user", "order", "cache", "service", "store", "auth", "image", "provider", "registry", "web", "persistence",
+            "recommender", "database", "controller", "manager", "handler", "client", "server", "queue", "session", "payment", "catalog", "product", "gateway",
+            "logger", "scheduler", "presenter", "renderer", "parser", "validator", "repository", "adapter", "connector", "broker", "monitor", "storage", "index",
+            "search", "mail", "notification" };
+
+    private static final String[] FILLERS = { "the", "a", "uses", "sends", "requests", "to", "from", "and", "stores", "provides", "calls", "with", "of",
+            "manages", "forwards" };
+
+    private final Random random;
+
+    /**
+     * Creates a new corpus that uses the given seed.
+     *
+     * @param seed the seed
+     */
+    public SyntheticCorpus(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Creates a list of terms. Roughly a quarter of the terms are compounds (e.g., "UserCache"), a quarter are multi-word names (e.g., "order service"), a
+     * quarter are misspelled variants of earlier terms, and the rest are single stems.
+     *
+     * @param count the number of terms
+     * @return the terms
+     */
+    public List<String> terms(int count) {
+        List<String> terms = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int kind = random.nextInt(4);
+            if (kind == 0) {
+                terms.add(capitalize(stem()) + capitalize(stem()));
+            } else if (kind == 1) {
+                terms.add(stem() + " " + stem());
+            } else if (kind == 2 && !terms.isEmpty()) {
+                terms.add(misspell(terms.get(random.nextInt(terms.size()))));
+            } else {
+                terms.add(stem());
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Creates a text with the given number of sentences. Each sentence mentions two to three components in a simple clause.
+     *
+     * @param sentences the number of sentences
+     * @return the text
+     */
+    public String text(int sentences) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            int length = 6 + random.nextInt(8);
+            List<String> words = new ArrayList<>(length);
+            words.add(capitalize(FILLERS[random.nextInt(2)]));
+            for (int j = 1; j < length; j++) {
+                if (random.nextInt(3) == 0) {
+                    words.add(FILLERS[random.nextInt(FILLERS.length)]);
+                } else if (random.nextInt(4) == 0) {
+                    words.add(capitalize(stem()) + capitalize(stem()));
+                } else {
+                    words.add(stem());
+                }
+            }
+            text.append(String.join(" ", words)).append(". ");
+        }
+        return text.toString().strip();
+    }
+
+    /**
+     * Creates the given number of component names.
+     *
+     * @param count the number of names
+     * @return the component names
+     */
+    public List<String> componentNames(int count) {
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(capitalize(stem()) + capitalize(stem()) + (i < STEMS.length ? "" : String.valueOf(i)));
+        }
+        return names;
+    }
+
+    private String stem() {
+        return STEMS[random.nextInt(STEMS.length)];
+    }
+
+    private String misspell(String term) {
+        if (term.length() < 3) {
+            return term;
+        }
+        char[] chars = term.toCharArray();
+        int position = 1 + random.nextInt(chars.length - 2);
+        if (chars[position] == ' ') {
+            return term;
+        }
+        chars[position] = (char) ('a' + random.nextInt(26));
+        return new String(chars);
+    }
+
+    private static String capitalize(String word) {
+        return word.substring(0, 1).toUpperCase(Locale.ROOT) + word.substring(1);
+    }
+}